@@ -23,7 +23,8 @@ CREATE TABLE users (
     -- Client specific fields (NULL for non-clients)
     receives_market_updates BOOLEAN NULL DEFAULT FALSE, -- Making NULL default, as FALSE might imply opted-out specifically
 
-    PRIMARY KEY (user_id)
+    PRIMARY KEY (user_id),
+    INDEX idx_users_updated_at (updated_at)            -- Change feed polling
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- ---
@@ -53,6 +54,8 @@ CREATE TABLE properties (
     INDEX idx_properties_price (price),
     INDEX idx_properties_type (property_type),
     INDEX idx_properties_active_listed (is_active, date_listed),
+    INDEX idx_properties_created_id (created_at, property_id), -- Keyset pagination in findPropertiesPage
+    INDEX idx_properties_updated_at (updated_at),      -- ActiveListingsSnapshot refresh and change feed polling
 
     CONSTRAINT fk_properties_landlord
         FOREIGN KEY (landlord_id)
@@ -78,6 +81,8 @@ CREATE TABLE bids (
     INDEX idx_bids_property_id (property_id),
     INDEX idx_bids_client_id (client_id),
     INDEX idx_bids_status (status),
+    INDEX idx_bids_updated_at (updated_at),            -- Change feed polling
+    INDEX idx_bids_property_status_time (property_id, status, bid_timestamp), -- Landlord bid list: status filter and date order per property
 
     CONSTRAINT fk_bids_property
         FOREIGN KEY (property_id)
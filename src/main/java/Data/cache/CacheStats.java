@@ -0,0 +1,51 @@
+package Data.cache;
+
+/**
+ * Point-in-time counters of a cache.
+ */
+public class CacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long expirations;
+    private final int size;
+
+    public CacheStats(long hits, long misses, long evictions, long expirations, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+        this.size = size;
+    }
+
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    /** Entries dropped because the cache was full. */
+    public long getEvictions() { return evictions; }
+    /** Entries dropped because their time-to-live had passed. */
+    public long getExpirations() { return expirations; }
+    public int getSize() { return size; }
+
+    public long getRequests() {
+        return hits + misses;
+    }
+
+    /** Fraction of lookups served from the cache; 0 if there were none. */
+    public double getHitRatio() {
+        long requests = getRequests();
+        return (requests == 0) ? 0.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "hits=" + hits +
+                ", misses=" + misses +
+                ", hitRatio=" + String.format("%.3f", getHitRatio()) +
+                ", evictions=" + evictions +
+                ", expirations=" + expirations +
+                ", size=" + size +
+                '}';
+    }
+}
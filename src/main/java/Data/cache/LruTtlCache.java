@@ -0,0 +1,165 @@
+package Data.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bounded in-memory cache with least-recently-used eviction and a time-to-live per entry.
+ * <p>
+ * Reads and writes move an entry to the most-recently-used end; once the cache is over capacity
+ * the least recently used entries are evicted. Capacity is a number of entries, or, with a weigher,
+ * a total weight (e.g. rows across cached result lists); a value heavier than the whole capacity is
+ * not stored. Entries older than their TTL are treated as misses and dropped when next read. All
+ * operations are synchronized, which is fine for the small hot sets this is meant for. Null values
+ * are not stored.
+ */
+public class LruTtlCache<K, V> {
+
+    private final long maxWeight;
+    private final ToIntFunction<? super V> weigher;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long totalWeight;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    public LruTtlCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, value -> 1, System::nanoTime);
+    }
+
+    /** Cache bounded by the total weight of its values rather than their number. */
+    public LruTtlCache(long maxWeight, Duration ttl, ToIntFunction<? super V> weigher) {
+        this(maxWeight, ttl, weigher, System::nanoTime);
+    }
+
+    /** @param clock nanosecond time source; tests pass a fake one. */
+    LruTtlCache(int maxEntries, Duration ttl, LongSupplier clock) {
+        this(maxEntries, ttl, value -> 1, clock);
+    }
+
+    LruTtlCache(long maxWeight, Duration ttl, ToIntFunction<? super V> weigher, LongSupplier clock) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Maximum entries must be positive.");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTL must be positive.");
+        }
+        if (weigher == null) {
+            throw new IllegalArgumentException("Weigher cannot be null.");
+        }
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /** Returns the cached value, or null if absent or expired. */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (isExpired(entry)) {
+            remove(key);
+            expirations++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value;
+    }
+
+    /** Like {@link #get} but not counted in the stats; for bookkeeping such as invalidation. */
+    public synchronized V peek(K key) {
+        Entry<V> entry = entries.get(key);
+        return (entry == null || isExpired(entry)) ? null : entry.value;
+    }
+
+    /** Stores the value with a fresh TTL; a null value removes the key instead. */
+    public void put(K key, V value) {
+        putWithTtl(key, value, ttlNanos);
+    }
+
+    /** Stores the value with its own TTL, e.g. a shorter one for negative entries. */
+    public void put(K key, V value, Duration ttl) {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTL must be positive.");
+        }
+        putWithTtl(key, value, ttl.toNanos());
+    }
+
+    private synchronized void putWithTtl(K key, V value, long entryTtlNanos) {
+        remove(key);
+        if (value == null) {
+            return;
+        }
+        int weight = weigher.applyAsInt(value);
+        if (weight > maxWeight) {
+            return; // Would evict everything else and still not fit
+        }
+        entries.put(key, new Entry<>(value, weight, clock.getAsLong() + entryTtlNanos));
+        totalWeight += weight;
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (totalWeight > maxWeight) {
+            totalWeight -= eldest.next().getValue().weight;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        totalWeight = 0;
+    }
+
+    /** Number of stored entries, including expired ones not yet read. */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /** Total weight of the stored entries; equals {@link #size()} without a weigher. */
+    public synchronized long weight() {
+        return totalWeight;
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits, misses, evictions, expirations, entries.size());
+    }
+
+    private void remove(K key) {
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            totalWeight -= removed.weight;
+        }
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        return clock.getAsLong() - entry.expiresAt >= 0;
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final int weight;
+        private final long expiresAt;
+
+        private Entry(V value, int weight, long expiresAt) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package Data.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Caches whole search results, keyed by a normalized description of the query (see {@link SearchKeys}).
+ * <p>
+ * Memory is bounded by the total number of cached rows rather than the number of queries, and
+ * entries live only briefly. Membership of a result can change with any write, so
+ * {@link #invalidateAll()} drops everything; a result loaded while an invalidation happened is
+ * returned to its caller but not stored, so a search racing a write cannot re-cache stale rows.
+ *
+ * @param <V> row type; mutable rows are copied in and out through the copier.
+ */
+public class QueryResultCache<V> {
+
+    public static final long DEFAULT_MAX_ROWS = 20_000;
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+    private final LruTtlCache<String, List<V>> results;
+    private final UnaryOperator<V> copier;
+    private long generation; // Bumped by every invalidation; guarded by this
+
+    public QueryResultCache() {
+        this(UnaryOperator.identity());
+    }
+
+    /** @param copier copies a row, e.g. {@code Property::new}; identity for immutable rows. */
+    public QueryResultCache(UnaryOperator<V> copier) {
+        this(new LruTtlCache<>(DEFAULT_MAX_ROWS, DEFAULT_TTL, QueryResultCache::weigh), copier);
+    }
+
+    public QueryResultCache(LruTtlCache<String, List<V>> results, UnaryOperator<V> copier) {
+        if (results == null || copier == null) {
+            throw new IllegalArgumentException("Cache and copier cannot be null.");
+        }
+        this.results = results;
+        this.copier = copier;
+    }
+
+    /**
+     * Returns the cached result for the key, or runs the loader and caches what it returns.
+     * The caller always gets its own list, which it may modify.
+     */
+    public List<V> getOrLoad(String key, Supplier<List<V>> loader) {
+        List<V> cached = results.get(key);
+        if (cached != null) {
+            return copy(cached);
+        }
+        long startedAt;
+        synchronized (this) {
+            startedAt = generation;
+        }
+        List<V> loaded = loader.get();
+        if (loaded == null) {
+            return null;
+        }
+        List<V> stored = Collections.unmodifiableList(copy(loaded));
+        synchronized (this) {
+            if (generation == startedAt) {
+                results.put(key, stored);
+            }
+        }
+        return loaded;
+    }
+
+    /** Drops every cached result, e.g. after a property write. */
+    public synchronized void invalidateAll() {
+        generation++;
+        results.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return results.stats();
+    }
+
+    /** Number of rows held across all cached results. */
+    public long cachedRows() {
+        return results.weight();
+    }
+
+    private List<V> copy(List<V> rows) {
+        List<V> copy = new ArrayList<>(rows.size());
+        for (V row : rows) {
+            copy.add(row == null ? null : copier.apply(row));
+        }
+        return copy;
+    }
+
+    /** An empty result still costs an entry. */
+    static int weigh(List<?> rows) {
+        return Math.max(1, rows.size());
+    }
+}
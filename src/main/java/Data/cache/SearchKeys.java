@@ -0,0 +1,95 @@
+package Data.cache;
+
+import Data.domain.Filter;
+import Data.domain.SortDirection;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * Builds {@link QueryResultCache} keys, so equivalent searches share one entry.
+ * <p>
+ * Criteria the queries ignore (null or blank text) are left out, text is lowercased because the
+ * properties table compares case-insensitively, and numbers are written without trailing zeros
+ * (400000, 400000.0 and 4E+5 give the same key). Filter text is trimmed, as {@link Filter#normalized()}
+ * does before the query binds it; searchProperties text is not, since its LIKE patterns are not
+ * either. Each key starts with the query it describes, so one cache can serve several queries.
+ */
+public final class SearchKeys {
+
+    private SearchKeys() {
+    }
+
+    /** Key for an unpaged Filter search; {@code query} names the result shape, e.g. "properties". */
+    public static String forFilter(String query, Filter filter) {
+        StringBuilder key = new StringBuilder(query);
+        if (filter == null) {
+            return key.toString();
+        }
+        filter = filter.normalized();
+        text(key, "location", filter.getLocation());
+        text(key, "type", filter.getPropertyType());
+        number(key, "minPrice", filter.getMinPrice());
+        number(key, "maxPrice", filter.getMaxPrice());
+        number(key, "minBeds", filter.getMinBedrooms() == null ? null : BigDecimal.valueOf(filter.getMinBedrooms()));
+        number(key, "minBaths", filter.getMinBathrooms() == null ? null : BigDecimal.valueOf(filter.getMinBathrooms()));
+        text(key, "keywords", filter.getKeywords());
+        if (filter.getMustBeActive() != null) {
+            key.append("|active=").append(filter.getMustBeActive());
+        }
+        sort(key, filter.getSortBy(), filter.getSortDirection(), filter.getLimit());
+        return key.toString();
+    }
+
+    /** Key for a sorted, limited searchProperties-style search. */
+    public static String forSearch(String query, String type, Double minPrice, Double maxPrice, String location,
+                                   Filter.SortField sortBy, SortDirection direction, Integer limit) {
+        StringBuilder key = new StringBuilder(forSearch(query, type, minPrice, maxPrice, location));
+        sortBy = sortBy != null ? sortBy : Filter.SortField.CREATED_AT;
+        sort(key, sortBy, direction != null ? direction : sortBy.defaultDirection(),
+                limit != null && limit > 0 ? limit : null);
+        return key.toString();
+    }
+
+    /** Key for the {@code searchProperties(type, minPrice, maxPrice, location)} style of search. */
+    public static String forSearch(String query, String type, Double minPrice, Double maxPrice, String location) {
+        StringBuilder key = new StringBuilder(query);
+        if (type != null) {
+            append(key, "type", type); // An empty type still filters
+        }
+        number(key, "minPrice", minPrice == null ? null : BigDecimal.valueOf(minPrice));
+        number(key, "maxPrice", maxPrice == null ? null : BigDecimal.valueOf(maxPrice));
+        if (location != null && !location.isEmpty()) {
+            append(key, "location", location);
+        }
+        return key.toString();
+    }
+
+    /** Left out for the default order (newest first, no limit), so those keys stay as they were. */
+    private static void sort(StringBuilder key, Filter.SortField sortBy, SortDirection direction, Integer limit) {
+        if (sortBy != Filter.SortField.CREATED_AT || direction != SortDirection.DESC) {
+            key.append("|sort=").append(sortBy).append(':').append(direction);
+        }
+        if (limit != null) {
+            key.append("|limit=").append(limit);
+        }
+    }
+
+    private static void text(StringBuilder key, String name, String value) {
+        if (value != null && !value.trim().isEmpty()) {
+            append(key, name, value);
+        }
+    }
+
+    /** Length-prefixed, so a value containing '|' cannot pass for another criterion. */
+    private static void append(StringBuilder key, String name, String value) {
+        String lower = value.toLowerCase(Locale.ROOT);
+        key.append('|').append(name).append('=').append(lower.length()).append(':').append(lower);
+    }
+
+    private static void number(StringBuilder key, String name, BigDecimal value) {
+        if (value != null) {
+            key.append('|').append(name).append('=').append(value.stripTrailingZeros().toPlainString());
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package Data.connector;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decorator around an IDatabaseConnector that tracks every borrowed connection.
+ * Each borrow records its timestamp and (optionally) the borrowing stack trace; connections held
+ * longer than the leak threshold are reported and can be forcibly reclaimed so a forgotten
+ * connection cannot starve a {@link PooledDatabaseConnector}.
+ */
+public class LeakDetectingConnector implements IDatabaseConnector {
+
+    private final IDatabaseConnector delegate;
+    private final long leakThresholdMillis;
+    private final boolean captureStackTraces;
+
+    private final Map<Connection, BorrowRecord> borrowed = new ConcurrentHashMap<>();
+    private final AtomicLong reclaimedCount = new AtomicLong();
+    private ScheduledExecutorService monitor;
+
+    public LeakDetectingConnector(IDatabaseConnector delegate, long leakThresholdMillis) {
+        this(delegate, leakThresholdMillis, true);
+    }
+
+    public LeakDetectingConnector(IDatabaseConnector delegate, long leakThresholdMillis, boolean captureStackTraces) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate connector cannot be null.");
+        }
+        if (leakThresholdMillis <= 0) {
+            throw new IllegalArgumentException("Leak threshold must be positive.");
+        }
+        this.delegate = delegate;
+        this.leakThresholdMillis = leakThresholdMillis;
+        this.captureStackTraces = captureStackTraces;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The returned connection is tracked until it is closed or passed to {@link #closeConnection(Connection)}.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection target = delegate.getConnection();
+        BorrowRecord record = new BorrowRecord(
+                Thread.currentThread().getName(),
+                System.currentTimeMillis(),
+                captureStackTraces ? new Throwable("Connection borrowed here") : null);
+        TrackedConnection handler = new TrackedConnection(target, record);
+        Connection tracked = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                handler);
+        handler.self = tracked;
+        borrowed.put(tracked, record);
+        return tracked;
+    }
+
+    @Override
+    public void closeConnection(Connection conn) throws SQLException {
+        if (conn == null) {
+            return;
+        }
+        if (Proxy.isProxyClass(conn.getClass()) && Proxy.getInvocationHandler(conn) instanceof TrackedConnection) {
+            conn.close();
+        } else {
+            delegate.closeConnection(conn);
+        }
+    }
+
+    /**
+     * Flags connections that have been held longer than the threshold.
+     * Each leak is reported to stderr once, including the borrow site when stack capture is enabled.
+     * @return snapshots of all connections currently considered leaked.
+     */
+    public List<BorrowRecord> detectLeaks() {
+        long now = System.currentTimeMillis();
+        List<BorrowRecord> leaks = new ArrayList<>();
+        for (BorrowRecord record : borrowed.values()) {
+            if (record.getHeldMillis(now) >= leakThresholdMillis) {
+                if (!record.flagged) {
+                    record.flagged = true;
+                    reportLeak(record, now);
+                }
+                leaks.add(record);
+            }
+        }
+        return leaks;
+    }
+
+    /**
+     * Forcibly reclaims every leaked connection. The physical connection is aborted rather than
+     * returned for reuse, since its holder may still be running a statement on it; a pooled
+     * delegate discards it and frees its slot. The holder's handle is invalidated, so any later
+     * use fails with an SQLException.
+     * @return the number of connections reclaimed.
+     */
+    public int reclaimLeakedConnections() {
+        detectLeaks();
+        int reclaimed = 0;
+        for (Map.Entry<Connection, BorrowRecord> entry : borrowed.entrySet()) {
+            if (!entry.getValue().flagged) {
+                continue;
+            }
+            TrackedConnection handler = (TrackedConnection) Proxy.getInvocationHandler(entry.getKey());
+            if (handler.release(true)) {
+                reclaimed++;
+            }
+        }
+        reclaimedCount.addAndGet(reclaimed);
+        return reclaimed;
+    }
+
+    /**
+     * Starts a daemon thread that reclaims leaked connections at a fixed interval.
+     */
+    public synchronized void startMonitor(long periodMillis) {
+        if (monitor != null) {
+            return;
+        }
+        monitor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "connection-leak-monitor");
+            t.setDaemon(true);
+            return t;
+        });
+        monitor.scheduleAtFixedRate(this::reclaimLeakedConnections, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stopMonitor() {
+        if (monitor != null) {
+            monitor.shutdownNow();
+            monitor = null;
+        }
+    }
+
+    // --- Statistics ---
+
+    /** Connections currently handed out through this connector. */
+    public int getBorrowedCount() {
+        return borrowed.size();
+    }
+
+    /** Idle connections in the underlying pool, or 0 when the delegate does not pool. */
+    public int getIdleCount() {
+        return (delegate instanceof PooledDatabaseConnector) ? ((PooledDatabaseConnector) delegate).getIdleCount() : 0;
+    }
+
+    /** Borrowed connections that have exceeded the leak threshold and are still held. */
+    public int getLeakedCount() {
+        return detectLeaks().size();
+    }
+
+    /** Total connections forcibly reclaimed since creation. */
+    public long getReclaimedCount() {
+        return reclaimedCount.get();
+    }
+
+    public long getLeakThresholdMillis() {
+        return leakThresholdMillis;
+    }
+
+    // --- Helper Methods ---
+
+    private void reportLeak(BorrowRecord record, long now) {
+        System.err.println("WARNING possible connection leak: connection borrowed by thread '" + record.getThreadName()
+                + "' at " + Instant.ofEpochMilli(record.getBorrowedAtMillis())
+                + " has been held for " + record.getHeldMillis(now) + " ms.");
+        if (record.getBorrowSite() != null) {
+            record.getBorrowSite().printStackTrace();
+        }
+    }
+
+    /**
+     * Snapshot of a single borrow: who took the connection, when, and from where.
+     */
+    public static final class BorrowRecord {
+        private final String threadName;
+        private final long borrowedAtMillis;
+        private final Throwable borrowSite;
+        private volatile boolean flagged;
+
+        private BorrowRecord(String threadName, long borrowedAtMillis, Throwable borrowSite) {
+            this.threadName = threadName;
+            this.borrowedAtMillis = borrowedAtMillis;
+            this.borrowSite = borrowSite;
+        }
+
+        public String getThreadName() { return threadName; }
+        public long getBorrowedAtMillis() { return borrowedAtMillis; }
+        public Throwable getBorrowSite() { return borrowSite; }
+        public long getHeldMillis(long nowMillis) { return nowMillis - borrowedAtMillis; }
+
+        @Override
+        public String toString() {
+            return "BorrowRecord{" +
+                    "threadName='" + threadName + '\'' +
+                    ", borrowedAt=" + Instant.ofEpochMilli(borrowedAtMillis) +
+                    '}';
+        }
+    }
+
+    /** Proxy handler that untracks the connection when the borrower closes it. */
+    private final class TrackedConnection implements InvocationHandler {
+        private final Connection target;
+        private final BorrowRecord record;
+        private Connection self;
+        private boolean closed;
+        private boolean reclaimed;
+
+        private TrackedConnection(Connection target, BorrowRecord record) {
+            this.target = target;
+            this.record = record;
+        }
+
+        /**
+         * Untracks and returns the connection, aborting it first when forced so it is never
+         * handed to another borrower; false if it had already been released.
+         */
+        private synchronized boolean release(boolean forced) {
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            reclaimed = forced;
+            borrowed.remove(self);
+            if (forced) {
+                try {
+                    target.abort(Runnable::run);
+                } catch (SQLException | RuntimeException e) {
+                    System.err.println("ERROR aborting reclaimed connection: " + e.getMessage());
+                }
+            }
+            try {
+                delegate.closeConnection(target);
+            } catch (SQLException e) {
+                System.err.println("ERROR returning tracked connection: " + e.getMessage());
+            }
+            return true;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    release(false);
+                    return null;
+                case "isClosed":
+                    return closed || target.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "TrackedConnection[" + target + ", " + record + "]";
+                default:
+                    if (closed) {
+                        throw new SQLException(reclaimed
+                                ? "Connection was reclaimed by leak detection after exceeding " + leakThresholdMillis + " ms."
+                                : "Connection is closed.");
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package Data.connector;
+
+/**
+ * Sizing and timeout settings for {@link PooledDatabaseConnector}.
+ * Defaults are suitable for a single desktop/application instance.
+ */
+public class PoolConfig {
+
+    private int minSize = 2;
+    private int maxSize = 10;
+    private long idleTimeoutMillis = 5 * 60 * 1000L;   // Idle connections above minSize are closed after this
+    private long acquireTimeoutMillis = 5 * 1000L;     // How long getConnection() waits for a free connection
+    private int validationTimeoutSeconds = 2;          // Passed to Connection.isValid() on borrow
+    private int statementCacheSize = 32;               // Prepared statements kept per connection; 0 disables caching
+
+    // Default constructor
+    public PoolConfig() {
+    }
+
+    // --- Getters and Setters ---
+
+    public int getMinSize() { return minSize; }
+    public void setMinSize(int minSize) { this.minSize = minSize; }
+    public int getMaxSize() { return maxSize; }
+    public void setMaxSize(int maxSize) { this.maxSize = maxSize; }
+    public long getIdleTimeoutMillis() { return idleTimeoutMillis; }
+    public void setIdleTimeoutMillis(long idleTimeoutMillis) { this.idleTimeoutMillis = idleTimeoutMillis; }
+    public long getAcquireTimeoutMillis() { return acquireTimeoutMillis; }
+    public void setAcquireTimeoutMillis(long acquireTimeoutMillis) { this.acquireTimeoutMillis = acquireTimeoutMillis; }
+    public int getValidationTimeoutSeconds() { return validationTimeoutSeconds; }
+    public void setValidationTimeoutSeconds(int validationTimeoutSeconds) { this.validationTimeoutSeconds = validationTimeoutSeconds; }
+    public int getStatementCacheSize() { return statementCacheSize; }
+    public void setStatementCacheSize(int statementCacheSize) { this.statementCacheSize = statementCacheSize; }
+
+    /**
+     * Checks that the settings are consistent.
+     * @throws IllegalArgumentException if any value is out of range.
+     */
+    void validate() {
+        if (minSize < 0 || maxSize <= 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Pool sizes must satisfy 0 <= minSize <= maxSize and maxSize > 0.");
+        }
+        if (idleTimeoutMillis <= 0 || acquireTimeoutMillis < 0 || validationTimeoutSeconds < 0) {
+            throw new IllegalArgumentException("Pool timeouts must not be negative.");
+        }
+        if (statementCacheSize < 0) {
+            throw new IllegalArgumentException("Statement cache size must not be negative.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PoolConfig{" +
+                "minSize=" + minSize +
+                ", maxSize=" + maxSize +
+                ", idleTimeoutMillis=" + idleTimeoutMillis +
+                ", acquireTimeoutMillis=" + acquireTimeoutMillis +
+                ", validationTimeoutSeconds=" + validationTimeoutSeconds +
+                ", statementCacheSize=" + statementCacheSize +
+                '}';
+    }
+}
@@ -0,0 +1,389 @@
+package Data.connector;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded connection pool implementing IDatabaseConnector.
+ * Physical connections are opened through a delegate connector (normally a DatabaseConnectorImpl)
+ * and reused across calls, so repositories and services avoid a full MySQL handshake per query.
+ * <p>
+ * Connections handed out by {@link #getConnection()} are lightweight handles: calling
+ * {@code close()} on them (directly or via try-with-resources) or passing them to
+ * {@link #closeConnection(Connection)} returns the underlying connection to the pool.
+ * Calling {@code abort(executor)} on a handle instead discards the physical connection and
+ * frees its slot, for callers that cannot know whether it is still in use.
+ * <p>
+ * Each pooled connection also keeps an LRU cache of prepared statements (see {@link StatementCache}),
+ * so repeated {@code prepareStatement(sql)} calls for the same SQL reuse the already-prepared statement.
+ */
+public class PooledDatabaseConnector implements IDatabaseConnector {
+
+    private final IDatabaseConnector source;
+    private final PoolConfig config;
+
+    private final Object lock = new Object();
+    private final Deque<PooledConnection> idle = new ArrayDeque<>(); // Most recently returned first
+    private final Semaphore permits;                                  // One permit per borrowable connection
+    private int totalCount;                                           // Idle + borrowed, guarded by lock
+    private volatile boolean shutdown;
+
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+
+    public PooledDatabaseConnector(IDatabaseConnector source) {
+        this(source, new PoolConfig());
+    }
+
+    public PooledDatabaseConnector(IDatabaseConnector source, PoolConfig config) {
+        if (source == null || config == null) {
+            throw new IllegalArgumentException("Connection source and pool config cannot be null.");
+        }
+        config.validate();
+        this.source = source;
+        this.config = config;
+        this.permits = new Semaphore(config.getMaxSize(), true);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Borrows an idle connection (validating it first) or opens a new one if the pool is below
+     * its maximum size. Waits up to the configured acquire timeout when all connections are in use.
+     * @throws SQLTimeoutException if no connection became available in time.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (shutdown) {
+            throw new SQLException("Connection pool has been shut down.");
+        }
+        try {
+            if (!permits.tryAcquire(config.getAcquireTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTimeoutException("Timed out after " + config.getAcquireTimeoutMillis()
+                        + " ms waiting for a pooled connection.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a pooled connection.", e);
+        }
+
+        try {
+            evictIdleConnections();
+            PooledConnection pooled;
+            while ((pooled = pollIdle()) != null) {
+                if (isUsable(pooled)) {
+                    return pooled.checkout();
+                }
+                destroy(pooled);
+            }
+            return openConnection().checkout();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a pooled connection to the pool. Connections that did not come from this pool
+     * are closed directly.
+     */
+    @Override
+    public void closeConnection(Connection conn) throws SQLException {
+        if (conn == null) {
+            return;
+        }
+        if (Proxy.isProxyClass(conn.getClass()) && Proxy.getInvocationHandler(conn) instanceof ConnectionHandle) {
+            conn.close(); // Handle.close() returns the physical connection to its pool
+        } else if (!conn.isClosed()) {
+            conn.close();
+        }
+    }
+
+    /**
+     * Opens connections until the pool holds at least {@code minSize} of them.
+     * Optional; the pool otherwise grows lazily on demand. Connections are opened outside the
+     * pool lock, so borrowers are not held up by the connects; if one fails, those already opened
+     * are closed and the failure is rethrown.
+     */
+    public void warmUp() throws SQLException {
+        int missing;
+        synchronized (lock) {
+            missing = Math.max(0, config.getMinSize() - totalCount);
+            totalCount += missing; // Reserved up front so concurrent warm-ups do not overshoot
+        }
+        List<PooledConnection> opened = new ArrayList<>(missing);
+        try {
+            for (int i = 0; i < missing; i++) {
+                opened.add(new PooledConnection(openPhysical()));
+            }
+        } catch (SQLException | RuntimeException e) {
+            synchronized (lock) {
+                totalCount -= missing - opened.size(); // Reservations that never got a connection
+            }
+            opened.forEach(this::destroy);
+            throw e;
+        }
+        List<PooledConnection> rejected = new ArrayList<>();
+        synchronized (lock) {
+            for (PooledConnection pooled : opened) {
+                if (shutdown) {
+                    rejected.add(pooled);
+                } else {
+                    pooled.lastReturnedNanos = System.nanoTime();
+                    idle.addLast(pooled);
+                }
+            }
+        }
+        rejected.forEach(this::destroy);
+    }
+
+    /**
+     * Closes idle connections that have been unused for longer than the idle timeout,
+     * never shrinking the pool below {@code minSize}.
+     * @return the number of connections closed.
+     */
+    public int evictIdleConnections() {
+        List<PooledConnection> evicted = new ArrayList<>();
+        long cutoff = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(config.getIdleTimeoutMillis());
+        synchronized (lock) {
+            // Oldest idle connections sit at the tail of the deque
+            Iterator<PooledConnection> it = idle.descendingIterator();
+            while (it.hasNext() && totalCount - evicted.size() > config.getMinSize()) {
+                PooledConnection pooled = it.next();
+                if (pooled.lastReturnedNanos - cutoff > 0) {
+                    break;
+                }
+                it.remove();
+                evicted.add(pooled);
+            }
+        }
+        evicted.forEach(this::destroy);
+        return evicted.size();
+    }
+
+    /**
+     * Closes all idle connections and rejects further borrowing.
+     * Connections still in use are closed when they are returned.
+     */
+    public void shutdown() {
+        List<PooledConnection> toClose;
+        synchronized (lock) {
+            shutdown = true;
+            toClose = new ArrayList<>(idle);
+            idle.clear();
+        }
+        toClose.forEach(this::destroy);
+    }
+
+    // --- Statistics ---
+
+    public int getTotalCount() {
+        synchronized (lock) {
+            return totalCount;
+        }
+    }
+
+    public int getIdleCount() {
+        synchronized (lock) {
+            return idle.size();
+        }
+    }
+
+    public int getActiveCount() {
+        synchronized (lock) {
+            return totalCount - idle.size();
+        }
+    }
+
+    public long getStatementCacheHits() {
+        return statementCacheHits.get();
+    }
+
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.get();
+    }
+
+    public PoolConfig getConfig() {
+        return config;
+    }
+
+    // --- Helper Methods ---
+
+    private PooledConnection pollIdle() {
+        synchronized (lock) {
+            return idle.pollFirst();
+        }
+    }
+
+    private PooledConnection openConnection() throws SQLException {
+        Connection physical = openPhysical();
+        synchronized (lock) {
+            totalCount++;
+        }
+        return new PooledConnection(physical);
+    }
+
+    private Connection openPhysical() throws SQLException {
+        Connection physical = source.getConnection();
+        if (physical == null) {
+            throw new SQLException("Connection source returned no connection.");
+        }
+        return physical;
+    }
+
+    private boolean isUsable(PooledConnection pooled) {
+        try {
+            return !pooled.physical.isClosed() && pooled.physical.isValid(config.getValidationTimeoutSeconds());
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /** Called when a borrower closes its handle. */
+    private void release(PooledConnection pooled) {
+        try {
+            if (pooled.statementCache != null) {
+                pooled.statementCache.releaseAll();
+            }
+            boolean reusable = !shutdown && resetState(pooled.physical);
+            if (reusable) {
+                synchronized (lock) {
+                    pooled.lastReturnedNanos = System.nanoTime();
+                    idle.addFirst(pooled);
+                }
+            } else {
+                destroy(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /** Called when a borrower aborts its handle: the physical connection is never reused. */
+    private void discard(PooledConnection pooled, Executor executor) {
+        try {
+            pooled.physical.abort(executor);
+        } catch (SQLException | RuntimeException e) {
+            System.err.println("ERROR aborting pooled connection: " + e.getMessage());
+        }
+        try {
+            destroy(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /** Rolls back any open transaction so the next borrower starts clean. */
+    private boolean resetState(Connection physical) {
+        try {
+            if (physical.isClosed()) {
+                return false;
+            }
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Discarding pooled connection that could not be reset: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void destroy(PooledConnection pooled) {
+        synchronized (lock) {
+            totalCount--;
+        }
+        if (pooled.statementCache != null) {
+            pooled.statementCache.closeAll();
+        }
+        try {
+            source.closeConnection(pooled.physical);
+        } catch (SQLException e) {
+            System.err.println("ERROR closing pooled connection: " + e.getMessage());
+        }
+    }
+
+    /** A physical connection owned by the pool. */
+    private final class PooledConnection {
+        private final Connection physical;
+        private final StatementCache statementCache; // null when caching is disabled
+        private long lastReturnedNanos;
+
+        private PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.statementCache = config.getStatementCacheSize() > 0
+                    ? new StatementCache(physical, config.getStatementCacheSize(), statementCacheHits, statementCacheMisses)
+                    : null;
+        }
+
+        /** Creates a fresh handle so a stale reference from a previous borrower cannot reuse it. */
+        private Connection checkout() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new ConnectionHandle(this));
+        }
+    }
+
+    /** Per-borrow view of a pooled connection; close() returns it to the pool instead of closing it. */
+    private final class ConnectionHandle implements InvocationHandler {
+        private final PooledConnection pooled;
+        private boolean closed;
+
+        private ConnectionHandle(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        release(pooled);
+                    }
+                    return null;
+                case "abort":
+                    if (!closed) {
+                        closed = true;
+                        discard(pooled, (Executor) args[0]);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + pooled.physical + (closed ? ", returned" : "") + "]";
+                default:
+                    if (closed) {
+                        throw new SQLException("Connection has already been returned to the pool.");
+                    }
+                    if (pooled.statementCache != null && "prepareStatement".equals(method.getName()) && args.length == 1) {
+                        return pooled.statementCache.prepare((String) args[0]);
+                    }
+                    try {
+                        return method.invoke(pooled.physical, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
@@ -0,0 +1,415 @@
+package Data.connector;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * IDatabaseConnector that sends reads to replica connectors and everything else to the primary.
+ * <p>
+ * Connections returned by {@link #getConnection()} are bound lazily: the first statement decides
+ * where the connection goes. Plain SELECTs run on a replica (chosen round-robin or by fewest
+ * in-flight connections); writes, locking reads and anything inside a transaction
+ * ({@code setAutoCommit(false)}) run on the primary. Repositories therefore need no changes.
+ * <p>
+ * An optional read-your-writes window keeps a thread's reads on the primary for a short time
+ * after it has written, hiding replication lag from the session that made the change.
+ */
+public class ReadWriteRoutingConnector implements IDatabaseConnector {
+
+    /** Row-locking clauses, with any whitespace (spaces, tabs, newlines) between the words. */
+    private static final Pattern LOCKING_READ = Pattern.compile("\\b(FOR\\s+(UPDATE|SHARE)|LOCK\\s+IN\\s+SHARE\\s+MODE)\\b");
+
+    /** How a replica is chosen for a read. */
+    public enum ReplicaSelection { ROUND_ROBIN, LEAST_LOADED }
+
+    private final IDatabaseConnector primary;
+    private final List<IDatabaseConnector> replicas;
+    private final ReplicaSelection selection;
+    private final AtomicInteger[] inFlight;          // Open connections per replica
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private volatile long readYourWritesWindowMillis; // 0 = disabled
+    private final ThreadLocal<Long> lastWriteMillis = new ThreadLocal<>();
+
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong primaryReads = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+
+    public ReadWriteRoutingConnector(IDatabaseConnector primary, List<IDatabaseConnector> replicas) {
+        this(primary, replicas, ReplicaSelection.ROUND_ROBIN);
+    }
+
+    public ReadWriteRoutingConnector(IDatabaseConnector primary, List<IDatabaseConnector> replicas, ReplicaSelection selection) {
+        if (primary == null || replicas == null || selection == null || replicas.stream().anyMatch(r -> r == null)) {
+            throw new IllegalArgumentException("Primary connector, replica connectors and selection cannot be null.");
+        }
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicas);
+        this.selection = selection;
+        this.inFlight = new AtomicInteger[replicas.size()];
+        for (int i = 0; i < inFlight.length; i++) {
+            inFlight[i] = new AtomicInteger();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Returns a lazily-bound connection that picks primary or replica on its first statement.
+     */
+    @Override
+    public Connection getConnection() {
+        return newRoutingConnection(new RoutingConnection());
+    }
+
+    /**
+     * Borrows a connection already bound to a replica, for callers that know they only read.
+     * A write issued on it still goes to the primary.
+     */
+    public Connection getReadConnection() throws SQLException {
+        RoutingConnection handler = new RoutingConnection();
+        handler.replicaTarget = openTarget(true);
+        return newRoutingConnection(handler);
+    }
+
+    /** Borrows a primary connection directly. */
+    public Connection getWriteConnection() throws SQLException {
+        return primary.getConnection();
+    }
+
+    @Override
+    public void closeConnection(Connection conn) throws SQLException {
+        if (conn == null) {
+            return;
+        }
+        if (Proxy.isProxyClass(conn.getClass()) && Proxy.getInvocationHandler(conn) instanceof RoutingConnection) {
+            conn.close();
+        } else {
+            primary.closeConnection(conn);
+        }
+    }
+
+    /**
+     * Keeps a thread's reads on the primary for this long after its last write.
+     * @param windowMillis window length; 0 disables read-your-writes routing.
+     */
+    public void setReadYourWritesWindowMillis(long windowMillis) {
+        if (windowMillis < 0) {
+            throw new IllegalArgumentException("Read-your-writes window must not be negative.");
+        }
+        this.readYourWritesWindowMillis = windowMillis;
+    }
+
+    public long getReadYourWritesWindowMillis() {
+        return readYourWritesWindowMillis;
+    }
+
+    // --- Statistics ---
+
+    public long getReplicaReadCount() { return replicaReads.get(); }
+    public long getPrimaryReadCount() { return primaryReads.get(); }
+    public long getWriteCount() { return writes.get(); }
+
+    // --- Helper Methods ---
+
+    /**
+     * True for statements that can safely run on a replica: SELECT/SHOW/EXPLAIN/DESCRIBE without
+     * row locks. Leading whitespace, comments and parentheses are ignored.
+     */
+    static boolean isReadOnlySql(String sql) {
+        if (sql == null) {
+            return false;
+        }
+        String s = sql.trim();
+        while (true) {
+            if (s.startsWith("(")) {
+                s = s.substring(1).trim();
+            } else if (s.startsWith("/*") && s.contains("*/")) {
+                s = s.substring(s.indexOf("*/") + 2).trim();
+            } else if (s.startsWith("--") || s.startsWith("#")) {
+                int eol = s.indexOf('\n');
+                s = eol < 0 ? "" : s.substring(eol + 1).trim();
+            } else {
+                break;
+            }
+        }
+        String upper = s.toUpperCase(Locale.ROOT);
+        if (upper.startsWith("SELECT")) {
+            return !LOCKING_READ.matcher(upper).find();
+        }
+        return upper.startsWith("SHOW") || upper.startsWith("EXPLAIN") || upper.startsWith("DESCRIBE");
+    }
+
+    private boolean withinReadYourWritesWindow() {
+        Long last = lastWriteMillis.get();
+        return last != null && readYourWritesWindowMillis > 0
+                && System.currentTimeMillis() - last < readYourWritesWindowMillis;
+    }
+
+    private Connection newRoutingConnection(RoutingConnection handler) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                handler);
+    }
+
+    /** Picks where a statement runs and opens a connection there. */
+    private Target openTarget(boolean read) throws SQLException {
+        if (!read) {
+            writes.incrementAndGet();
+            lastWriteMillis.set(System.currentTimeMillis());
+            return new Target(primary.getConnection(), -1);
+        }
+        if (replicas.isEmpty() || withinReadYourWritesWindow()) {
+            return openPrimaryForRead();
+        }
+        int index = chooseReplica();
+        try {
+            Connection conn = replicas.get(index).getConnection();
+            inFlight[index].incrementAndGet();
+            replicaReads.incrementAndGet();
+            return new Target(conn, index);
+        } catch (SQLException e) {
+            System.err.println("Replica " + index + " unavailable, reading from primary: " + e.getMessage());
+            return openPrimaryForRead();
+        }
+    }
+
+    private Target openPrimaryForRead() throws SQLException {
+        primaryReads.incrementAndGet();
+        return new Target(primary.getConnection(), -1);
+    }
+
+    private int chooseReplica() {
+        if (selection == ReplicaSelection.LEAST_LOADED) {
+            int best = 0;
+            for (int i = 1; i < inFlight.length; i++) {
+                if (inFlight[i].get() < inFlight[best].get()) {
+                    best = i;
+                }
+            }
+            return best;
+        }
+        return Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+    }
+
+    private void closeTarget(Target target) throws SQLException {
+        if (target.replicaIndex >= 0) {
+            inFlight[target.replicaIndex].decrementAndGet();
+            replicas.get(target.replicaIndex).closeConnection(target.connection);
+        } else {
+            primary.closeConnection(target.connection);
+        }
+    }
+
+    private static Object invokeOn(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** A physical connection and where it came from (-1 for the primary). */
+    private static final class Target {
+        private final Connection connection;
+        private final int replicaIndex;
+
+        private Target(Connection connection, int replicaIndex) {
+            this.connection = connection;
+            this.replicaIndex = replicaIndex;
+        }
+    }
+
+    /**
+     * Lazily-bound connection. Holds at most one replica and one primary connection; once a
+     * primary connection exists, all later statements use it so the borrower sees its own writes.
+     */
+    private final class RoutingConnection implements InvocationHandler {
+        private Target replicaTarget;
+        private Target primaryTarget;
+        private boolean autoCommit = true;
+        private boolean closed;
+
+        /** Connection for a statement of the given kind. */
+        private Connection resolve(boolean read) throws SQLException {
+            if (primaryTarget != null) {
+                return primaryTarget.connection;
+            }
+            if (read && autoCommit) {
+                if (replicaTarget == null) {
+                    replicaTarget = openTarget(true);
+                }
+                return replicaTarget.connection;
+            }
+            primaryTarget = read ? openPrimaryForRead() : openTarget(false);
+            if (!autoCommit) {
+                primaryTarget.connection.setAutoCommit(false);
+            }
+            return primaryTarget.connection;
+        }
+
+        private Connection anyTarget() throws SQLException {
+            if (primaryTarget != null) {
+                return primaryTarget.connection;
+            }
+            if (replicaTarget != null) {
+                return replicaTarget.connection;
+            }
+            primaryTarget = openPrimaryForRead();
+            return primaryTarget.connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        if (replicaTarget != null) {
+                            closeTarget(replicaTarget);
+                        }
+                        if (primaryTarget != null) {
+                            closeTarget(primaryTarget);
+                        }
+                    }
+                    return null;
+                case "isClosed":
+                    return closed;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "RoutingConnection[read=" + (replicaTarget != null) + ", write=" + (primaryTarget != null) + "]";
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("Connection is closed.");
+            }
+            switch (name) {
+                case "getAutoCommit":
+                    return primaryTarget != null ? primaryTarget.connection.getAutoCommit() : autoCommit;
+                case "setAutoCommit":
+                    autoCommit = (Boolean) args[0];
+                    if (primaryTarget != null) {
+                        primaryTarget.connection.setAutoCommit(autoCommit);
+                    } else if (!autoCommit) {
+                        resolve(true); // Transactions always run on the primary
+                    }
+                    return null;
+                case "commit":
+                case "rollback":
+                    if (primaryTarget == null) {
+                        return null; // Nothing was written through this connection
+                    }
+                    return invokeOn(primaryTarget.connection, method, args);
+                case "prepareStatement":
+                case "prepareCall":
+                case "nativeSQL":
+                    return invokeOn(resolve(isReadOnlySql((String) args[0])), method, args);
+                case "createStatement":
+                    if (primaryTarget != null) {
+                        return invokeOn(primaryTarget.connection, method, args);
+                    }
+                    return Proxy.newProxyInstance(
+                            Statement.class.getClassLoader(),
+                            new Class<?>[]{Statement.class},
+                            new RoutingStatement(this, method, args));
+                case "isValid":
+                    if (replicaTarget == null && primaryTarget == null) {
+                        return true; // Nothing borrowed yet; validity is checked when a target is opened
+                    }
+                    return invokeOn(anyTarget(), method, args);
+                default:
+                    return invokeOn(anyTarget(), method, args);
+            }
+        }
+    }
+
+    /**
+     * Statement from {@code createStatement()}: the SQL is only known at execute time, so the
+     * physical statement is created then. Configuration calls made earlier are replayed on it.
+     */
+    private final class RoutingStatement implements InvocationHandler {
+        private final RoutingConnection owner;
+        private final Method createMethod;
+        private final Object[] createArgs;
+        private final List<Object[]> pendingCalls = new ArrayList<>(); // {Method, Object[] args}
+        private Statement target;
+        private boolean targetIsWrite;
+        private boolean closed;
+
+        private RoutingStatement(RoutingConnection owner, Method createMethod, Object[] createArgs) {
+            this.owner = owner;
+            this.createMethod = createMethod;
+            this.createArgs = createArgs;
+        }
+
+        private Statement bind(boolean read) throws Throwable {
+            if (target != null && (read || targetIsWrite)) {
+                return target;
+            }
+            if (target != null) {
+                target.close(); // Bound to a replica but now asked to write
+            }
+            Connection conn = owner.resolve(read);
+            target = (Statement) invokeOn(conn, createMethod, createArgs);
+            targetIsWrite = conn == (owner.primaryTarget != null ? owner.primaryTarget.connection : null);
+            for (Object[] call : pendingCalls) {
+                invokeOn(target, (Method) call[0], (Object[]) call[1]);
+            }
+            return target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        if (target != null) {
+                            target.close();
+                        }
+                    }
+                    return null;
+                case "isClosed":
+                    return closed;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "RoutingStatement[" + target + "]";
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("Statement is closed.");
+            }
+            if ((name.startsWith("execute") || name.equals("addBatch")) && args != null && args[0] instanceof String) {
+                return invokeOn(bind(isReadOnlySql((String) args[0])), method, args);
+            }
+            if (target == null && name.startsWith("set")) {
+                pendingCalls.add(new Object[]{method, args});
+                return null;
+            }
+            if (target == null) {
+                bind(false);
+            }
+            return invokeOn(target, method, args);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package Data.connector;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LRU cache of PreparedStatements for a single physical connection, keyed by SQL text.
+ * Used by {@link PooledDatabaseConnector} so the constant SQL in the repositories is parsed
+ * (client side, and server side when {@code useServerPrepStmts=true}) once per connection
+ * instead of once per call.
+ * <p>
+ * Returning a statement closes the result sets it produced and clears its parameters and any
+ * queued batch. A borrower that changed a statement setting (max rows, fetch size, query timeout
+ * and the like) gets the statement closed on return instead of cached, so the next borrower of the
+ * same SQL starts from the driver defaults.
+ * <p>
+ * A connection is only used by one borrower at a time, so the cache itself is not thread-safe.
+ */
+class StatementCache {
+
+    /** Setters whose effect would otherwise carry over to the next borrower. */
+    private static final Set<String> SETTINGS = Set.of(
+            "setMaxRows", "setLargeMaxRows", "setMaxFieldSize", "setFetchSize", "setFetchDirection",
+            "setQueryTimeout", "setEscapeProcessing", "setPoolable", "setCursorName", "closeOnCompletion");
+
+    private final Connection physical;
+    private final int maxSize;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+
+    // Access-ordered: least recently used entries come first
+    private final LinkedHashMap<String, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+    StatementCache(Connection physical, int maxSize, AtomicLong hits, AtomicLong misses) {
+        this.physical = physical;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    /**
+     * Returns a statement handle for the SQL, reusing a cached statement when one is free.
+     * Closing the handle clears its parameters and makes it available again.
+     */
+    PreparedStatement prepare(String sql) throws SQLException {
+        CachedStatement cached = statements.get(sql);
+        if (cached != null && !cached.inUse) {
+            hits.incrementAndGet();
+            return cached.checkout();
+        }
+        misses.incrementAndGet();
+        PreparedStatement statement = physical.prepareStatement(sql);
+        if (cached != null) {
+            // Same SQL is already open by this borrower (nested use); hand out an uncached statement
+            return statement;
+        }
+        CachedStatement created = new CachedStatement(sql, statement);
+        statements.put(sql, created);
+        evictOverflow();
+        return created.checkout();
+    }
+
+    /** Makes every statement available again; called when the connection goes back to the pool. */
+    void releaseAll() {
+        Iterator<CachedStatement> it = statements.values().iterator();
+        while (it.hasNext()) {
+            CachedStatement cached = it.next();
+            if (cached.inUse && !cached.checkin()) {
+                it.remove();
+                closeQuietly(cached.statement);
+            }
+        }
+    }
+
+    /** Physically closes all cached statements; called before the connection itself is closed. */
+    void closeAll() {
+        for (CachedStatement cached : statements.values()) {
+            closeQuietly(cached.statement);
+        }
+        statements.clear();
+    }
+
+    int size() {
+        return statements.size();
+    }
+
+    private void evictOverflow() {
+        Iterator<CachedStatement> it = statements.values().iterator();
+        List<CachedStatement> evicted = new ArrayList<>();
+        while (statements.size() - evicted.size() > maxSize && it.hasNext()) {
+            CachedStatement eldest = it.next();
+            if (!eldest.inUse) {
+                it.remove();
+                evicted.add(eldest);
+            }
+        }
+        evicted.forEach(c -> closeQuietly(c.statement));
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            System.err.println("ERROR closing cached statement: " + e.getMessage());
+        }
+    }
+
+    /** Called when a borrower closes its handle; drops the statement if it cannot be reused. */
+    private void checkin(CachedStatement cached) {
+        if (!cached.checkin() && statements.get(cached.sql) == cached) {
+            statements.remove(cached.sql);
+            closeQuietly(cached.statement);
+        }
+    }
+
+    /** A physical statement owned by the cache. */
+    private final class CachedStatement {
+        private final String sql;
+        private final PreparedStatement statement;
+        private final List<ResultSet> results = new ArrayList<>(1); // Opened by the current borrower
+        private boolean inUse;
+        private boolean settingsChanged;
+        private StatementHandle currentHandle;
+
+        private CachedStatement(String sql, PreparedStatement statement) {
+            this.sql = sql;
+            this.statement = statement;
+        }
+
+        private PreparedStatement checkout() {
+            inUse = true;
+            currentHandle = new StatementHandle(this);
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    currentHandle);
+        }
+
+        /** Resets the statement for the next borrower; false if it must be closed instead. */
+        private boolean checkin() {
+            if (currentHandle != null) {
+                currentHandle.closed = true;
+                currentHandle = null;
+            }
+            inUse = false;
+            boolean reusable = !settingsChanged;
+            for (ResultSet result : results) {
+                try {
+                    result.close();
+                } catch (SQLException e) {
+                    reusable = false;
+                }
+            }
+            results.clear();
+            try {
+                statement.clearParameters();
+                statement.clearBatch(); // A batch abandoned before executeBatch must not replay
+            } catch (SQLException e) {
+                System.err.println("ERROR resetting cached statement: " + e.getMessage());
+                reusable = false;
+            }
+            return reusable;
+        }
+    }
+
+    /** Per-checkout view of a cached statement; close() returns it to the cache. */
+    private final class StatementHandle implements InvocationHandler {
+        private final CachedStatement cached;
+        private boolean closed;
+
+        private StatementHandle(CachedStatement cached) {
+            this.cached = cached;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        checkin(cached);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || cached.statement.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "CachedStatement[" + cached.statement + "]";
+                default:
+                    if (closed) {
+                        throw new SQLException("Statement is closed.");
+                    }
+                    if (SETTINGS.contains(method.getName())) {
+                        cached.settingsChanged = true;
+                    }
+                    Object result;
+                    try {
+                        result = method.invoke(cached.statement, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (result instanceof ResultSet) {
+                        cached.results.add((ResultSet) result);
+                    }
+                    return result;
+            }
+        }
+    }
+}
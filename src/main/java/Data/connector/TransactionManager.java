@@ -0,0 +1,210 @@
+package Data.connector;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit-of-work support for repositories and services.
+ * <p>
+ * Inside {@link #inTransaction(UnitOfWork)} one connection is bound to the current thread and every
+ * {@link #getConnection()} call returns it, so repositories built on this connector join the same
+ * transaction without code changes; their {@code close()} calls are ignored until the unit of work
+ * ends with a single commit (or rollback on exception). Outside a unit of work this connector simply
+ * delegates.
+ * <p>
+ * Bindings are keyed by the underlying connector, so separate TransactionManagers wrapping the same
+ * connector (e.g. one per service) share the scope. Nested units of work join the outer one.
+ */
+public class TransactionManager implements IDatabaseConnector {
+
+    /** Work to run inside a transaction. */
+    @FunctionalInterface
+    public interface UnitOfWork<T> {
+        T execute() throws SQLException;
+    }
+
+    private static final ThreadLocal<Map<IDatabaseConnector, Scope>> SCOPES =
+            ThreadLocal.withInitial(IdentityHashMap::new);
+
+    private final IDatabaseConnector delegate;
+
+    public TransactionManager(IDatabaseConnector delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate connector cannot be null.");
+        }
+        this.delegate = delegate;
+    }
+
+    /** Returns the connector itself if it is already a TransactionManager, otherwise wraps it. */
+    public static TransactionManager of(IDatabaseConnector connector) {
+        return (connector instanceof TransactionManager) ? (TransactionManager) connector : new TransactionManager(connector);
+    }
+
+    /**
+     * Runs the work on one connection and commits once at the end.
+     * Any exception rolls the transaction back and is rethrown. If a unit of work is already active
+     * for the same underlying connector on this thread, the work simply joins it.
+     */
+    public <T> T inTransaction(UnitOfWork<T> work) throws SQLException {
+        Map<IDatabaseConnector, Scope> scopes = SCOPES.get();
+        if (scopes.containsKey(delegate)) {
+            return work.execute();
+        }
+
+        Connection conn = delegate.getConnection();
+        boolean previousAutoCommit;
+        try {
+            previousAutoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+        } catch (SQLException | RuntimeException e) {
+            // Nothing was bound yet, so just hand the connection back before giving up
+            delegate.closeConnection(conn);
+            throw e;
+        }
+        Scope scope = new Scope(conn);
+        scopes.put(delegate, scope);
+        try {
+            T result = work.execute();
+            if (scope.rollbackOnly) {
+                conn.rollback();
+            } else {
+                conn.commit();
+            }
+            return result;
+        } catch (SQLException | RuntimeException | Error e) {
+            try {
+                conn.rollback();
+            } catch (SQLException rollbackError) {
+                e.addSuppressed(rollbackError);
+            }
+            throw e;
+        } finally {
+            scopes.remove(delegate);
+            if (scopes.isEmpty()) {
+                SCOPES.remove();
+            }
+            try {
+                conn.setAutoCommit(previousAutoCommit);
+            } catch (SQLException e) {
+                System.err.println("ERROR restoring auto-commit: " + e.getMessage());
+            }
+            delegate.closeConnection(conn);
+            for (Runnable action : scope.afterCompletion) {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    System.err.println("ERROR in after-completion action: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /** True if the current thread is inside a unit of work on this connector. */
+    public boolean isInTransaction() {
+        return SCOPES.get().containsKey(delegate);
+    }
+
+    /**
+     * Marks the current unit of work so it rolls back instead of committing.
+     * Useful when a repository reports failure by returning false rather than throwing.
+     * @throws IllegalStateException if no unit of work is active.
+     */
+    public void setRollbackOnly() {
+        Scope scope = SCOPES.get().get(delegate);
+        if (scope == null) {
+            throw new IllegalStateException("No active transaction to mark as rollback-only.");
+        }
+        scope.rollbackOnly = true;
+    }
+
+    /**
+     * Runs the action once the current unit of work has committed or rolled back, or immediately if
+     * there is none. Used for side effects such as cache invalidation that must not be observed
+     * before the transaction's changes are visible.
+     */
+    public void afterCompletion(Runnable action) {
+        Scope scope = SCOPES.get().get(delegate);
+        if (scope == null) {
+            action.run();
+        } else {
+            scope.afterCompletion.add(action);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Inside a unit of work, returns the bound connection; closing it has no effect.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        Scope scope = SCOPES.get().get(delegate);
+        return (scope != null) ? scope.participant : delegate.getConnection();
+    }
+
+    @Override
+    public void closeConnection(Connection conn) throws SQLException {
+        if (conn == null) {
+            return;
+        }
+        if (Proxy.isProxyClass(conn.getClass()) && Proxy.getInvocationHandler(conn) instanceof Participant) {
+            return; // The unit of work closes the real connection when it ends
+        }
+        delegate.closeConnection(conn);
+    }
+
+    /** Connection and state of one active unit of work. */
+    private static final class Scope {
+        private final Connection participant;
+        private final List<Runnable> afterCompletion = new ArrayList<>();
+        private boolean rollbackOnly;
+
+        private Scope(Connection physical) {
+            this.participant = (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new Participant(physical));
+        }
+    }
+
+    /** View of the bound connection handed to repositories; transaction control stays with the manager. */
+    private static final class Participant implements InvocationHandler {
+        private final Connection physical;
+
+        private Participant(Connection physical) {
+            this.physical = physical;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    return null;
+                case "commit":
+                case "rollback":
+                case "setAutoCommit":
+                    throw new SQLException("Transaction is managed by TransactionManager; "
+                            + method.getName() + "() is not allowed inside a unit of work.");
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "TransactionParticipant[" + physical + "]";
+                default:
+                    try {
+                        return method.invoke(physical, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package Data.domain;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Per-row outcome of a batch insert. Row {@code i} of the result corresponds to element {@code i}
+ * of the list passed to the batch method.
+ */
+public class BatchResult {
+
+    public enum Outcome {
+        INSERTED,
+        SKIPPED_INVALID, // Failed validation and was never sent to the database
+        FAILED           // Rejected by the database (e.g. duplicate key) or lost to a connection error
+    }
+
+    private final Outcome[] outcomes;
+
+    public BatchResult(int size) {
+        this.outcomes = new Outcome[size];
+        Arrays.fill(outcomes, Outcome.FAILED);
+    }
+
+    public void setOutcome(int index, Outcome outcome) {
+        outcomes[index] = outcome;
+    }
+
+    public Outcome getOutcome(int index) {
+        return outcomes[index];
+    }
+
+    public List<Outcome> getOutcomes() {
+        return Collections.unmodifiableList(Arrays.asList(outcomes));
+    }
+
+    public int size() {
+        return outcomes.length;
+    }
+
+    public int getInsertedCount() {
+        return count(Outcome.INSERTED);
+    }
+
+    public int getSkippedCount() {
+        return count(Outcome.SKIPPED_INVALID);
+    }
+
+    public int getFailedCount() {
+        return count(Outcome.FAILED);
+    }
+
+    public boolean isAllInserted() {
+        return getInsertedCount() == outcomes.length;
+    }
+
+    private int count(Outcome outcome) {
+        int count = 0;
+        for (Outcome o : outcomes) {
+            if (o == outcome) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult{" +
+                "size=" + outcomes.length +
+                ", inserted=" + getInsertedCount() +
+                ", skipped=" + getSkippedCount() +
+                ", failed=" + getFailedCount() +
+                '}';
+    }
+}
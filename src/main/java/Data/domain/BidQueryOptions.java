@@ -0,0 +1,40 @@
+package Data.domain;
+
+/**
+ * Status filter, sort order and row limit for a bid listing, applied by the query rather than
+ * after loading every bid. Does not map directly to a database table.
+ */
+public class BidQueryOptions {
+
+    public enum SortField { BID_TIMESTAMP, AMOUNT }
+
+    private String status; // Null means every status
+    private SortField sortBy = SortField.BID_TIMESTAMP;
+    private SortDirection sortDirection = SortDirection.DESC;
+    private Integer limit; // Null means no limit
+
+    // Default constructor: every bid, newest first
+    public BidQueryOptions() {
+    }
+
+    // --- Getters and Setters ---
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public SortField getSortBy() { return sortBy; }
+    public void setSortBy(SortField sortBy) { this.sortBy = sortBy != null ? sortBy : SortField.BID_TIMESTAMP; }
+    public SortDirection getSortDirection() { return sortDirection; }
+    public void setSortDirection(SortDirection sortDirection) { this.sortDirection = sortDirection != null ? sortDirection : SortDirection.DESC; }
+    public Integer getLimit() { return limit; }
+    public void setLimit(Integer limit) { this.limit = limit; }
+
+    @Override
+    public String toString() {
+        return "BidQueryOptions{" +
+                "status='" + status + '\'' +
+                ", sortBy=" + sortBy +
+                ", sortDirection=" + sortDirection +
+                ", limit=" + limit +
+                '}';
+    }
+}
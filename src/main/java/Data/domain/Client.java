@@ -19,6 +19,11 @@ public class Client extends User {
         this.receivesMarketUpdates = receivesMarketUpdates;
     }
 
+    public Client(Client other) {
+        super(other);
+        this.receivesMarketUpdates = other.receivesMarketUpdates;
+    }
+
     // --- Getter and Setter for specific field ---
 
     public boolean isReceivesMarketUpdates() {
@@ -1,6 +1,7 @@
 package Data.domain;
 
 import java.math.BigDecimal;
+import java.util.Locale;
 import java.util.Objects;
 
 /**
@@ -9,6 +10,27 @@ import java.util.Objects;
  */
 public class Filter {
 
+    // Bits of criteriaMask(), one per criterion that restricts the query
+    public static final int LOCATION = 1;
+    public static final int PROPERTY_TYPE = 1 << 1;
+    public static final int MIN_PRICE = 1 << 2;
+    public static final int MAX_PRICE = 1 << 3;
+    public static final int MIN_BEDROOMS = 1 << 4;
+    public static final int MIN_BATHROOMS = 1 << 5;
+    public static final int KEYWORDS = 1 << 6;
+    public static final int MUST_BE_ACTIVE = 1 << 7;
+
+    /** Columns results can be ordered by; both have an index the ORDER BY can walk. */
+    public enum SortField {
+        CREATED_AT, // idx_properties_created_id
+        PRICE;      // idx_properties_price
+
+        /** Newest first for dates, cheapest first for prices. */
+        public SortDirection defaultDirection() {
+            return this == CREATED_AT ? SortDirection.DESC : SortDirection.ASC;
+        }
+    }
+
     private String location; // City or Postal Code
     private String propertyType;
     private BigDecimal minPrice;
@@ -17,6 +39,11 @@ public class Filter {
     private Integer minBathrooms;
     private String keywords; // For searching description
     private Boolean mustBeActive; // Use Boolean wrapper to allow null (meaning "don't care")
+    private Integer pageSize; // Null means no paging
+    private String cursor; // Opaque continuation token from PropertyPage.getNextCursor(); null for the first page
+    private SortField sortBy; // Null means CREATED_AT
+    private SortDirection sortDirection; // Null means sortBy's default direction
+    private Integer limit; // Null means every matching row; ignored by paged searches
 
     // Default constructor
     public Filter() {
@@ -40,9 +67,109 @@ public class Filter {
     public void setKeywords(String keywords) { this.keywords = keywords; }
     public Boolean getMustBeActive() { return mustBeActive; }
     public void setMustBeActive(Boolean mustBeActive) { this.mustBeActive = mustBeActive; }
+    public Integer getPageSize() { return pageSize; }
+    public void setPageSize(Integer pageSize) { this.pageSize = pageSize; }
+    public String getCursor() { return cursor; }
+    public void setCursor(String cursor) { this.cursor = cursor; }
+    public SortField getSortBy() { return sortBy; }
+    public void setSortBy(SortField sortBy) { this.sortBy = sortBy; }
+    public SortDirection getSortDirection() { return sortDirection; }
+    public void setSortDirection(SortDirection sortDirection) { this.sortDirection = sortDirection; }
+    public Integer getLimit() { return limit; }
+    public void setLimit(Integer limit) { this.limit = limit; }
+
+
+    /**
+     * Returns the canonical form of this filter: text trimmed, blank text dropped, location
+     * lowercased, bedroom or bathroom minimums of 0 or less dropped, the sort spelled out
+     * (newest first unless set) and a limit of 0 or less dropped. Paging fields are copied unchanged.
+     * <p>
+     * Queries bind the canonical form, so equal canonical filters share a prepared statement and a
+     * cached result. Trimming is a deliberate change in matching: location and keywords
+     * {@code " pool "} and {@code "pool"} now find the same rows, where the untrimmed LIKE pattern
+     * used to require the spaces, and a padded property type now equals the unpadded one.
+     * Lowercasing the location does not change matching, since the columns use a case-insensitive
+     * collation.
+     */
+    public Filter normalized() {
+        Filter normalized = new Filter();
+        String trimmedLocation = trimToNull(location);
+        normalized.location = trimmedLocation == null ? null : trimmedLocation.toLowerCase(Locale.ROOT);
+        normalized.propertyType = trimToNull(propertyType);
+        normalized.minPrice = minPrice;
+        normalized.maxPrice = maxPrice;
+        normalized.minBedrooms = minBedrooms != null && minBedrooms > 0 ? minBedrooms : null;
+        normalized.minBathrooms = minBathrooms != null && minBathrooms > 0 ? minBathrooms : null;
+        normalized.keywords = trimToNull(keywords);
+        normalized.mustBeActive = mustBeActive;
+        normalized.pageSize = pageSize;
+        normalized.cursor = cursor;
+        normalized.sortBy = sortBy != null ? sortBy : SortField.CREATED_AT;
+        normalized.sortDirection = sortDirection != null ? sortDirection : normalized.sortBy.defaultDirection();
+        normalized.limit = limit != null && limit > 0 ? limit : null;
+        return normalized;
+    }
+
+    /**
+     * Bitmask of the criteria a query applies (see {@link #LOCATION} and the other bits), ignoring
+     * blank text and zero minimums like the queries do. Filters with the same mask share SQL text.
+     */
+    public int criteriaMask() {
+        int mask = 0;
+        if (location != null && !location.trim().isEmpty()) mask |= LOCATION;
+        if (propertyType != null && !propertyType.trim().isEmpty()) mask |= PROPERTY_TYPE;
+        if (minPrice != null) mask |= MIN_PRICE;
+        if (maxPrice != null) mask |= MAX_PRICE;
+        if (minBedrooms != null && minBedrooms > 0) mask |= MIN_BEDROOMS;
+        if (minBathrooms != null && minBathrooms > 0) mask |= MIN_BATHROOMS;
+        if (keywords != null && !keywords.trim().isEmpty()) mask |= KEYWORDS;
+        if (mustBeActive != null) mask |= MUST_BE_ACTIVE;
+        return mask;
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    // --- equals/hashCode (prices compare by value, so 400000 equals 400000.00) and toString ---
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Filter filter = (Filter) o;
+        return Objects.equals(location, filter.location)
+                && Objects.equals(propertyType, filter.propertyType)
+                && sameAmount(minPrice, filter.minPrice)
+                && sameAmount(maxPrice, filter.maxPrice)
+                && Objects.equals(minBedrooms, filter.minBedrooms)
+                && Objects.equals(minBathrooms, filter.minBathrooms)
+                && Objects.equals(keywords, filter.keywords)
+                && Objects.equals(mustBeActive, filter.mustBeActive)
+                && Objects.equals(pageSize, filter.pageSize)
+                && Objects.equals(cursor, filter.cursor)
+                && sortBy == filter.sortBy
+                && sortDirection == filter.sortDirection
+                && Objects.equals(limit, filter.limit);
+    }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(location, propertyType, amountHash(minPrice), amountHash(maxPrice), minBedrooms,
+                minBathrooms, keywords, mustBeActive, pageSize, cursor, sortBy, sortDirection, limit);
+    }
 
-    // --- toString (equals/hashCode might not be needed unless used in Sets/Maps) ---
+    private static boolean sameAmount(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+
+    private static int amountHash(BigDecimal amount) {
+        return amount == null ? 0 : amount.stripTrailingZeros().hashCode();
+    }
 
     @Override
     public String toString() {
@@ -20,6 +20,11 @@ public class Landlord extends User {
         this.agentLicenseNumber = agentLicenseNumber;
     }
 
+    public Landlord(Landlord other) {
+        super(other);
+        this.agentLicenseNumber = other.agentLicenseNumber;
+    }
+
     // --- Getter and Setter for specific field ---
 
     public String getAgentLicenseNumber() {
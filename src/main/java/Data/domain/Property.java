@@ -31,6 +31,26 @@ public class Property {
     public Property() {
     }
 
+    // Copy constructor; all fields are immutable values, so a shallow copy is independent of the original
+    public Property(Property other) {
+        this.propertyId = other.propertyId;
+        this.landlordId = other.landlordId;
+        this.address = other.address;
+        this.city = other.city;
+        this.postalCode = other.postalCode;
+        this.propertyType = other.propertyType;
+        this.description = other.description;
+        this.price = other.price;
+        this.squareFootage = other.squareFootage;
+        this.bedrooms = other.bedrooms;
+        this.bathrooms = other.bathrooms;
+        this.isActive = other.isActive;
+        this.isSold = other.isSold;
+        this.dateListed = other.dateListed;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+    }
+
     // --- Getters and Setters ---
     // (Generate standard getters and setters for all fields)
 
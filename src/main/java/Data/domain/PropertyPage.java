@@ -0,0 +1,32 @@
+package Data.domain;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of property search results.
+ * Pass {@link #getNextCursor()} back via {@link Filter#setCursor(String)} to fetch the next page.
+ */
+public class PropertyPage {
+
+    private final List<Property> properties;
+    private final String nextCursor;
+
+    public PropertyPage(List<Property> properties, String nextCursor) {
+        this.properties = (properties != null) ? Collections.unmodifiableList(properties) : Collections.emptyList();
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Property> getProperties() { return properties; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean hasMore() { return nextCursor != null; }
+    public int size() { return properties.size(); }
+
+    @Override
+    public String toString() {
+        return "PropertyPage{" +
+                "size=" + properties.size() +
+                ", hasMore=" + hasMore() +
+                '}';
+    }
+}
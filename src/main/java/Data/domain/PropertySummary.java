@@ -0,0 +1,61 @@
+package Data.domain;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * The columns a property list view shows. Loaded without the description TEXT column;
+ * fetch the full {@link Property} by id when a listing is opened.
+ */
+public class PropertySummary {
+
+    private final String propertyId;
+    private final String propertyType;
+    private final BigDecimal price;
+    private final String city;
+    private final Integer bedrooms;
+    private final Integer bathrooms;
+    private final BigDecimal squareFootage;
+
+    public PropertySummary(String propertyId, String propertyType, BigDecimal price, String city,
+                           Integer bedrooms, Integer bathrooms, BigDecimal squareFootage) {
+        this.propertyId = propertyId;
+        this.propertyType = propertyType;
+        this.price = price;
+        this.city = city;
+        this.bedrooms = bedrooms;
+        this.bathrooms = bathrooms;
+        this.squareFootage = squareFootage;
+    }
+
+    public String getPropertyId() { return propertyId; }
+    public String getPropertyType() { return propertyType; }
+    public BigDecimal getPrice() { return price; }
+    public String getCity() { return city; }
+    public Integer getBedrooms() { return bedrooms; }
+    public Integer getBathrooms() { return bathrooms; }
+    public BigDecimal getSquareFootage() { return squareFootage; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PropertySummary that = (PropertySummary) o;
+        return Objects.equals(propertyId, that.propertyId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(propertyId);
+    }
+
+    @Override
+    public String toString() {
+        return "PropertySummary{" +
+                "propertyId='" + propertyId + '\'' +
+                ", propertyType='" + propertyType + '\'' +
+                ", price=" + price +
+                ", city='" + city + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,9 @@
+package Data.domain;
+
+/**
+ * Direction of a server-side sort, for {@link Filter} and {@link BidQueryOptions}.
+ */
+public enum SortDirection {
+    ASC,
+    DESC
+}
@@ -30,6 +30,19 @@ public class User {
         this.role = role;
     }
 
+    // Copy constructor; subclasses copy their own fields on top
+    public User(User other) {
+        this.userId = other.userId;
+        this.name = other.name;
+        this.email = other.email;
+        this.passwordHash = other.passwordHash;
+        this.phoneNumber = other.phoneNumber;
+        this.role = other.role;
+        this.isVerified = other.isVerified;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+    }
+
     // --- Getters and Setters ---
 
     public String getUserId() {
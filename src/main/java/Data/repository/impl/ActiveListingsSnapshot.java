@@ -0,0 +1,275 @@
+package Data.repository.impl;
+
+import Data.connector.IDatabaseConnector;
+import Data.domain.Filter;
+import Data.domain.Property;
+import Data.domain.PropertySummary;
+import Data.repository.interfaces.PropertyWriteListener;
+import Data.repository.mapper.PropertyRowMapper;
+import Data.search.FilterPredicate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Process-wide in-memory copy of the active, unsold listings, shared by every window.
+ * <p>
+ * The first read loads all active listings. Later refreshes only read rows whose updated_at is at
+ * or after the newest one seen (minus a small overlap for rows committed late), adding or replacing
+ * listings that are still active and dropping the rest. A full reload runs now and then to bound
+ * any drift. Reads return the snapshot as long as it is younger than the configured staleness;
+ * otherwise, or after {@link #propertyWritten(String)}, they refresh first. {@link #start()}
+ * refreshes in the background so readers normally never wait. If a refresh fails, the previous
+ * snapshot keeps being served and the error is logged.
+ */
+public class ActiveListingsSnapshot implements PropertyWriteListener, AutoCloseable {
+
+    public static final Duration DEFAULT_MAX_STALENESS = Duration.ofSeconds(15);
+    public static final Duration DEFAULT_OVERLAP = Duration.ofSeconds(5);
+    public static final Duration FULL_RELOAD_INTERVAL = Duration.ofMinutes(10);
+
+    private static final String LOAD_ACTIVE_SQL =
+            "SELECT * FROM properties WHERE is_active = TRUE AND is_sold = FALSE";
+    private static final String LOAD_CHANGED_SQL =
+            "SELECT * FROM properties WHERE updated_at >= ?"; // Served by idx_properties_updated_at
+
+    private final IDatabaseConnector dbConnector;
+    private final long maxStalenessNanos;
+    private final Duration overlap;
+    private final LongSupplier clock;
+    private final Object refreshLock = new Object();
+
+    private volatile State state; // Null until the first load
+    private volatile boolean dirty;
+    private ScheduledExecutorService scheduler; // Guarded by refreshLock
+
+    public ActiveListingsSnapshot(IDatabaseConnector dbConnector) {
+        this(dbConnector, DEFAULT_MAX_STALENESS);
+    }
+
+    public ActiveListingsSnapshot(IDatabaseConnector dbConnector, Duration maxStaleness) {
+        this(dbConnector, maxStaleness, DEFAULT_OVERLAP, System::nanoTime);
+    }
+
+    /** @param clock nanosecond time source; tests pass a fake one. */
+    ActiveListingsSnapshot(IDatabaseConnector dbConnector, Duration maxStaleness, Duration overlap, LongSupplier clock) {
+        if (dbConnector == null) {
+            throw new IllegalArgumentException("Database connector cannot be null.");
+        }
+        if (maxStaleness == null || maxStaleness.isNegative() || maxStaleness.isZero()) {
+            throw new IllegalArgumentException("Maximum staleness must be positive.");
+        }
+        if (overlap == null || overlap.isNegative()) {
+            throw new IllegalArgumentException("Overlap cannot be negative.");
+        }
+        this.dbConnector = dbConnector;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.overlap = overlap;
+        this.clock = clock;
+    }
+
+    /** Active listings, in property id order. Each call returns fresh copies. */
+    public List<Property> getActiveProperties() {
+        State current = current();
+        List<Property> properties = new ArrayList<>(current.listings.size());
+        for (Property property : current.listings.values()) {
+            properties.add(new Property(property));
+        }
+        return properties;
+    }
+
+    /** Active listings matching the filter, in property id order, as fresh copies. Paging fields are ignored. */
+    public List<Property> getActiveProperties(Filter filter) {
+        FilterPredicate matches = FilterPredicate.compile(filter);
+        List<Property> properties = new ArrayList<>();
+        for (Property property : current().listings.values()) {
+            if (matches.test(property)) {
+                properties.add(new Property(property));
+            }
+        }
+        return properties;
+    }
+
+    /** List-view columns of the active listings, without touching the database. */
+    public List<PropertySummary> getActivePropertySummaries() {
+        State current = current();
+        List<PropertySummary> summaries = new ArrayList<>(current.listings.size());
+        for (Property property : current.listings.values()) {
+            summaries.add(new PropertySummary(property.getPropertyId(), property.getPropertyType(),
+                    property.getPrice(), property.getCity(), property.getBedrooms(), property.getBathrooms(),
+                    property.getSquareFootage()));
+        }
+        return summaries;
+    }
+
+    /** Brings the snapshot up to date now, regardless of its age. */
+    public void refreshNow() {
+        synchronized (refreshLock) {
+            try {
+                refresh();
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to refresh active listings", e);
+            }
+        }
+    }
+
+    /** The next read refreshes first, so a write is visible to the window that made it. */
+    @Override
+    public void propertyWritten(String propertyId) {
+        dirty = true;
+    }
+
+    /** Starts refreshing in the background, at half the maximum staleness. Does nothing if already started. */
+    public void start() {
+        synchronized (refreshLock) {
+            if (scheduler != null) {
+                return;
+            }
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "active-listings-refresh");
+                t.setDaemon(true);
+                return t;
+            });
+            long period = Math.max(1, maxStalenessNanos / 2);
+            scheduler.scheduleWithFixedDelay(this::refreshInBackground, 0, period, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (refreshLock) {
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+                scheduler = null;
+            }
+        }
+    }
+
+    /** Number of listings in the snapshot; 0 before the first load. */
+    public int size() {
+        State current = state;
+        return current == null ? 0 : current.listings.size();
+    }
+
+    private State current() {
+        State current = state;
+        if (current != null && !dirty && !isStale(current)) {
+            return current;
+        }
+        synchronized (refreshLock) {
+            current = state;
+            if (current != null && !dirty && !isStale(current)) {
+                return current; // Another reader refreshed while we waited
+            }
+            try {
+                refresh();
+            } catch (SQLException e) {
+                if (current == null) {
+                    throw new RuntimeException("Failed to load active listings", e);
+                }
+                System.err.println("Error refreshing active listings, serving previous snapshot: " + e.getMessage());
+                return current;
+            }
+            return state;
+        }
+    }
+
+    private void refreshInBackground() {
+        synchronized (refreshLock) {
+            try {
+                refresh();
+            } catch (SQLException | RuntimeException e) {
+                System.err.println("Error refreshing active listings: " + e.getMessage());
+            }
+        }
+    }
+
+    /** Caller holds refreshLock. */
+    private void refresh() throws SQLException {
+        dirty = false; // Cleared first: a write reported during the refresh triggers another one
+        State current = state;
+        long now = clock.getAsLong();
+        if (current == null || current.highWater == null || now - current.fullLoadAt >= FULL_RELOAD_INTERVAL.toNanos()) {
+            state = loadAll(now);
+        } else {
+            state = applyChanges(current, now);
+        }
+    }
+
+    private State loadAll(long now) throws SQLException {
+        Map<String, Property> listings = new TreeMap<>();
+        LocalDateTime highWater = null;
+        try (Connection conn = dbConnector.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(LOAD_ACTIVE_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            PropertyRowMapper mapper = new PropertyRowMapper();
+            while (rs.next()) {
+                Property property = mapper.mapRow(rs);
+                listings.put(property.getPropertyId(), property);
+                highWater = later(highWater, property.getUpdatedAt());
+            }
+        }
+        return new State(listings, highWater, now, now);
+    }
+
+    private State applyChanges(State current, long now) throws SQLException {
+        Map<String, Property> listings = new TreeMap<>(current.listings); // Readers keep the old map
+        LocalDateTime highWater = current.highWater;
+        try (Connection conn = dbConnector.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(LOAD_CHANGED_SQL)) {
+            pstmt.setTimestamp(1, Timestamp.valueOf(current.highWater.minus(overlap)));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                PropertyRowMapper mapper = new PropertyRowMapper();
+                while (rs.next()) {
+                    Property property = mapper.mapRow(rs);
+                    if (property.isActive() && !property.isSold()) {
+                        listings.put(property.getPropertyId(), property);
+                    } else {
+                        listings.remove(property.getPropertyId());
+                    }
+                    highWater = later(highWater, property.getUpdatedAt());
+                }
+            }
+        }
+        return new State(listings, highWater, now, current.fullLoadAt);
+    }
+
+    private boolean isStale(State current) {
+        return clock.getAsLong() - current.loadedAt >= maxStalenessNanos;
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return (b != null && b.isAfter(a)) ? b : a;
+    }
+
+    /** Immutable once published. */
+    private static final class State {
+        private final Map<String, Property> listings;
+        private final LocalDateTime highWater; // Newest updated_at seen, in database time
+        private final long loadedAt;
+        private final long fullLoadAt;
+
+        private State(Map<String, Property> listings, LocalDateTime highWater, long loadedAt, long fullLoadAt) {
+            this.listings = listings;
+            this.highWater = highWater;
+            this.loadedAt = loadedAt;
+            this.fullLoadAt = fullLoadAt;
+        }
+    }
+}
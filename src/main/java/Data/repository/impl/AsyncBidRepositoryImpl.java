@@ -0,0 +1,50 @@
+package Data.repository.impl;
+
+import Data.domain.Bid;
+import Data.repository.interfaces.IAsyncBidRepository;
+import Data.repository.interfaces.IBidRepository;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of IAsyncBidRepository that delegates to a blocking IBidRepository.
+ */
+public class AsyncBidRepositoryImpl implements IAsyncBidRepository {
+
+    private final IBidRepository repository;
+    private final RepositoryExecutor executor;
+
+    public AsyncBidRepositoryImpl(IBidRepository repository, RepositoryExecutor executor) {
+        if (repository == null || executor == null) {
+            throw new IllegalArgumentException("Repository and executor cannot be null.");
+        }
+        this.repository = repository;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> addBidAsync(Bid bid) {
+        return executor.submit(() -> repository.addBid(bid));
+    }
+
+    @Override
+    public CompletableFuture<Bid> getBidByIdAsync(String bidId) {
+        return executor.submit(() -> repository.getBidById(bidId));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> updateBidAsync(Bid bid) {
+        return executor.submit(() -> repository.updateBid(bid));
+    }
+
+    @Override
+    public CompletableFuture<List<Bid>> getBidsByPropertyIdAsync(String propertyId) {
+        return executor.submit(() -> repository.getBidsByPropertyId(propertyId));
+    }
+
+    @Override
+    public CompletableFuture<List<Bid>> getBidsByUserIdAsync(String userId) {
+        return executor.submit(() -> repository.getBidsByUserId(userId));
+    }
+}
@@ -0,0 +1,70 @@
+package Data.repository.impl;
+
+import Data.domain.Filter;
+import Data.domain.Property;
+import Data.domain.PropertyPage;
+import Data.domain.PropertySummary;
+import Data.repository.interfaces.IAsyncPropertyRepository;
+import Data.repository.interfaces.IPropertyRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of IAsyncPropertyRepository that delegates to a blocking IPropertyRepository.
+ */
+public class AsyncPropertyRepositoryImpl implements IAsyncPropertyRepository {
+
+    private final IPropertyRepository repository;
+    private final RepositoryExecutor executor;
+
+    public AsyncPropertyRepositoryImpl(IPropertyRepository repository, RepositoryExecutor executor) {
+        if (repository == null || executor == null) {
+            throw new IllegalArgumentException("Repository and executor cannot be null.");
+        }
+        this.repository = repository;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> addPropertyAsync(Property property) {
+        return executor.submit(() -> repository.addProperty(property));
+    }
+
+    @Override
+    public CompletableFuture<Property> getPropertyByIdAsync(String propertyId) {
+        return executor.submit(() -> repository.getPropertyById(propertyId));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Property>> getPropertiesByIdsAsync(Collection<String> propertyIds) {
+        return executor.submit(() -> repository.getPropertiesByIds(propertyIds));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> updatePropertyAsync(Property property) {
+        return executor.submit(() -> repository.updateProperty(property));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deactivatePropertyAsync(String propertyId) {
+        return executor.submit(() -> repository.deactivateProperty(propertyId));
+    }
+
+    @Override
+    public CompletableFuture<List<Property>> findPropertiesAsync(Filter filter) {
+        return executor.submit(() -> repository.findProperties(filter));
+    }
+
+    @Override
+    public CompletableFuture<PropertyPage> findPropertiesPageAsync(Filter filter) {
+        return executor.submit(() -> repository.findPropertiesPage(filter));
+    }
+
+    @Override
+    public CompletableFuture<List<PropertySummary>> findPropertySummariesAsync(Filter filter) {
+        return executor.submit(() -> repository.findPropertySummaries(filter));
+    }
+}
@@ -0,0 +1,70 @@
+package Data.repository.impl;
+
+import Data.domain.Client;
+import Data.domain.Landlord;
+import Data.domain.User;
+import Data.repository.interfaces.IAsyncUserRepository;
+import Data.repository.interfaces.IUserRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of IAsyncUserRepository that delegates to a blocking IUserRepository.
+ */
+public class AsyncUserRepositoryImpl implements IAsyncUserRepository {
+
+    private final IUserRepository repository;
+    private final RepositoryExecutor executor;
+
+    public AsyncUserRepositoryImpl(IUserRepository repository, RepositoryExecutor executor) {
+        if (repository == null || executor == null) {
+            throw new IllegalArgumentException("Repository and executor cannot be null.");
+        }
+        this.repository = repository;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> addUserAsync(User user) {
+        return executor.submit(() -> repository.addUser(user));
+    }
+
+    @Override
+    public CompletableFuture<Optional<User>> getUserByIdAsync(String userId) {
+        return executor.submit(() -> repository.getUserById(userId));
+    }
+
+    @Override
+    public CompletableFuture<Optional<User>> getUserByEmailAsync(String email) {
+        return executor.submit(() -> repository.getUserByEmail(email));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, User>> getUsersByIdsAsync(Collection<String> userIds) {
+        return executor.submit(() -> repository.getUsersByIds(userIds));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> updateUserAsync(User user) {
+        return executor.submit(() -> repository.updateUser(user));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteUserAsync(String userId) {
+        return executor.submit(() -> repository.deleteUser(userId));
+    }
+
+    @Override
+    public CompletableFuture<List<Landlord>> getAllLandlordsAsync() {
+        return executor.submit(repository::getAllLandlords);
+    }
+
+    @Override
+    public CompletableFuture<List<Client>> getAllClientsAsync() {
+        return executor.submit(repository::getAllClients);
+    }
+}
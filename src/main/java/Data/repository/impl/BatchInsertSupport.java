@@ -0,0 +1,130 @@
+package Data.repository.impl;
+
+import Data.connector.IDatabaseConnector;
+import Data.domain.BatchResult;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Shared JDBC batching for the repositories' bulk insert methods.
+ * <p>
+ * Rows are sent with addBatch/executeBatch in chunks on one connection and one statement. When the
+ * connection is in auto-commit mode each chunk is committed as a single transaction; inside a
+ * caller's unit of work the caller's transaction is left alone. For MySQL, add
+ * {@code rewriteBatchedStatements=true} to the JDBC URL so each chunk goes over the wire as one
+ * multi-row INSERT; the driver then reports {@link Statement#SUCCESS_NO_INFO}, which counts as inserted.
+ */
+final class BatchInsertSupport {
+
+    static final int DEFAULT_CHUNK_SIZE = 500;
+
+    /** Binds one row's values to the insert statement. */
+    @FunctionalInterface
+    interface RowBinder<T> {
+        void bind(PreparedStatement ps, T row) throws SQLException;
+    }
+
+    private BatchInsertSupport() {
+    }
+
+    static <T> BatchResult insertAll(IDatabaseConnector connector, String sql, List<T> rows, int chunkSize,
+                                     Predicate<T> isValid, RowBinder<T> binder, String entityName) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive.");
+        }
+        if (rows == null) {
+            System.err.println("Error adding " + entityName + " batch: list is null.");
+            return new BatchResult(0);
+        }
+
+        BatchResult result = new BatchResult(rows.size());
+        int[] chunkIndexes = new int[Math.min(chunkSize, Math.max(rows.size(), 1))];
+        int next = 0;
+
+        try (Connection conn = connector.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            boolean manageCommits = conn.getAutoCommit();
+            if (manageCommits) {
+                conn.setAutoCommit(false);
+            }
+            try {
+                while (next < rows.size()) {
+                    int pending = 0;
+                    while (next < rows.size() && pending < chunkSize) {
+                        T row = rows.get(next);
+                        if (row == null || !isValid.test(row)) {
+                            result.setOutcome(next, BatchResult.Outcome.SKIPPED_INVALID);
+                        } else {
+                            binder.bind(ps, row);
+                            ps.addBatch();
+                            chunkIndexes[pending++] = next;
+                        }
+                        next++;
+                    }
+                    if (pending > 0) {
+                        executeChunk(ps, chunkIndexes, pending, result, entityName);
+                        if (manageCommits) {
+                            commitChunk(conn, chunkIndexes, pending, result);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (manageCommits) {
+                    try {
+                        conn.rollback(); // Drop the uncommitted part of the current chunk
+                    } catch (SQLException rollbackError) {
+                        e.addSuppressed(rollbackError);
+                    }
+                }
+                throw e;
+            } finally {
+                if (manageCommits) {
+                    conn.setAutoCommit(true);
+                }
+            }
+        } catch (SQLException e) {
+            // Connection-level failure: rows not yet confirmed keep their FAILED default
+            System.err.println("Error adding " + entityName + " batch: " + e.getMessage());
+            e.printStackTrace();
+        }
+        return result;
+    }
+
+    private static void commitChunk(Connection conn, int[] chunkIndexes, int pending,
+                                    BatchResult result) throws SQLException {
+        try {
+            conn.commit();
+        } catch (SQLException e) {
+            for (int i = 0; i < pending; i++) {
+                result.setOutcome(chunkIndexes[i], BatchResult.Outcome.FAILED);
+            }
+            throw e;
+        }
+    }
+
+    private static void executeChunk(PreparedStatement ps, int[] chunkIndexes, int pending,
+                                     BatchResult result, String entityName) throws SQLException {
+        int[] counts;
+        try {
+            counts = ps.executeBatch();
+        } catch (BatchUpdateException e) {
+            // With a rewritten multi-row insert one bad row fails the whole chunk; otherwise the
+            // driver reports per-row counts and may stop early (missing entries count as failed)
+            System.err.println("Error in " + entityName + " batch: " + e.getMessage());
+            counts = e.getUpdateCounts() != null ? e.getUpdateCounts() : new int[0];
+            ps.clearBatch();
+        }
+        for (int i = 0; i < pending; i++) {
+            boolean inserted = i < counts.length
+                    && (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO);
+            result.setOutcome(chunkIndexes[i], inserted ? BatchResult.Outcome.INSERTED : BatchResult.Outcome.FAILED);
+        }
+    }
+}
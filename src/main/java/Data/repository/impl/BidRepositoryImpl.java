@@ -1,14 +1,18 @@
 package Data.repository.impl;
 
 import Data.connector.IDatabaseConnector;
+import Data.connector.TransactionManager;
+import Data.domain.BatchResult;
 import Data.domain.Bid;
 import Data.repository.interfaces.IBidRepository;
+import Data.repository.mapper.BidRowMapper;
 
 import java.math.BigDecimal;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class BidRepositoryImpl implements IBidRepository {
 
@@ -27,6 +31,8 @@ public class BidRepositoryImpl implements IBidRepository {
     private static final String SELECT_BIDS_BY_PROPERTY_ID_SQL = SELECT_BID_BASE_SQL + "WHERE property_id = ? ORDER BY bid_timestamp DESC";
     private static final String SELECT_BIDS_BY_CLIENT_ID_SQL = SELECT_BID_BASE_SQL + "WHERE client_id = ? ORDER BY bid_timestamp DESC";
 
+    private static final String SELECT_ALL_BIDS_SQL = SELECT_BID_BASE_SQL.trim();
+
     private static final String UPDATE_BID_SQL =
             "UPDATE bids SET property_id = ?, client_id = ?, amount = ?, status = ?, bid_timestamp = ?, updated_at = CURRENT_TIMESTAMP " +
             "WHERE bid_id = ?";
@@ -35,7 +41,7 @@ public class BidRepositoryImpl implements IBidRepository {
         if (connector == null) {
             throw new IllegalArgumentException("Database connector cannot be null.");
         }
-        this.connector = connector;
+        this.connector = TransactionManager.of(connector); // Joins the caller's unit of work, if one is active
     }
 
     @Override
@@ -48,13 +54,7 @@ public class BidRepositoryImpl implements IBidRepository {
         try (Connection conn = connector.getConnection();
              PreparedStatement ps = conn.prepareStatement(INSERT_BID_SQL)) {
 
-            ps.setString(1, bid.getBidId());
-            ps.setString(2, bid.getPropertyId());
-            ps.setString(3, bid.getClientId());
-            ps.setBigDecimal(4, bid.getAmount());
-            ps.setString(5, bid.getStatus()); // ENUM mapped to String
-            setNullableTimestamp(ps, 6, bid.getBidTimestamp());
-
+            bindInsert(ps, bid);
             return ps.executeUpdate() > 0;
 
         } catch (SQLException e) {
@@ -64,6 +64,22 @@ public class BidRepositoryImpl implements IBidRepository {
         }
     }
 
+    @Override
+    public BatchResult addBids(List<Bid> bids) {
+        return addBids(bids, BatchInsertSupport.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Inserts the bids with JDBC batching, {@code chunkSize} rows per executeBatch.
+     * Rows missing required IDs or status are skipped.
+     */
+    @Override
+    public BatchResult addBids(List<Bid> bids, int chunkSize) {
+        return BatchInsertSupport.insertAll(connector, INSERT_BID_SQL, bids, chunkSize,
+                b -> b.getBidId() != null && b.getPropertyId() != null && b.getClientId() != null && b.getStatus() != null,
+                this::bindInsert, "bid");
+    }
+
     @Override
     public Bid getBidById(String bidId) {
         if (bidId == null || bidId.trim().isEmpty()) {
@@ -127,7 +143,7 @@ public class BidRepositoryImpl implements IBidRepository {
 
             try (ResultSet rs = ps.executeQuery()) {
                 if (rs.next()) {
-                    return mapRowToBid(rs);
+                    return newRowMapper().mapRow(rs);
                 } else {
                     return null; // Not found
                 }
@@ -139,6 +155,21 @@ public class BidRepositoryImpl implements IBidRepository {
         }
     }
 
+    /**
+     * Streams every bid without loading them all into memory, e.g. for exports.
+     * The stream holds a connection until closed; use it in try-with-resources.
+     */
+    @Override
+    public Stream<Bid> streamBids() {
+        try {
+            return ResultSetStreams.stream(connector, SELECT_ALL_BIDS_SQL, List.of(), newRowMapper());
+        } catch (SQLException e) {
+            System.err.println("Error streaming bids: " + e.getMessage());
+            e.printStackTrace();
+            return Stream.empty();
+        }
+    }
+
     private List<Bid> getBidListBy(String sql, String parameter) {
         List<Bid> bids = new ArrayList<>();
         try (Connection conn = connector.getConnection();
@@ -147,8 +178,9 @@ public class BidRepositoryImpl implements IBidRepository {
             ps.setString(1, parameter);
 
             try (ResultSet rs = ps.executeQuery()) {
+                BidRowMapper mapper = newRowMapper();
                 while (rs.next()) {
-                    bids.add(mapRowToBid(rs));
+                    bids.add(mapper.mapRow(rs));
                 }
             }
         } catch (SQLException e) {
@@ -159,20 +191,18 @@ public class BidRepositoryImpl implements IBidRepository {
         return bids;
     }
 
-    /**
-     * Maps a row from the ResultSet to a Bid object.
-     */
-    private Bid mapRowToBid(ResultSet rs) throws SQLException {
-        Bid bid = new Bid();
-        bid.setBidId(rs.getString("bid_id"));
-        bid.setPropertyId(rs.getString("property_id"));
-        bid.setClientId(rs.getString("client_id"));
-        bid.setAmount(rs.getBigDecimal("amount"));
-        bid.setStatus(rs.getString("status")); // ENUM read as String
-        bid.setBidTimestamp(getNullableTimestamp(rs, "bid_timestamp"));
-        bid.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-        bid.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
-        return bid;
+    /** Creates a mapper for the bid SELECT list; mappers hold per-ResultSet state, so use one per query. */
+    private static BidRowMapper newRowMapper() {
+        return new BidRowMapper();
+    }
+
+    private void bindInsert(PreparedStatement ps, Bid bid) throws SQLException {
+        ps.setString(1, bid.getBidId());
+        ps.setString(2, bid.getPropertyId());
+        ps.setString(3, bid.getClientId());
+        ps.setBigDecimal(4, bid.getAmount());
+        ps.setString(5, bid.getStatus()); // ENUM mapped to String
+        setNullableTimestamp(ps, 6, bid.getBidTimestamp());
     }
 
     /** Helper to set nullable Timestamp in PreparedStatement from LocalDateTime */
@@ -183,10 +213,4 @@ public class BidRepositoryImpl implements IBidRepository {
             ps.setNull(index, Types.TIMESTAMP);
         }
     }
-
-     /** Helper to get nullable LocalDateTime from ResultSet */
-    private LocalDateTime getNullableTimestamp(ResultSet rs, String columnName) throws SQLException {
-        Timestamp ts = rs.getTimestamp(columnName);
-        return (ts != null) ? ts.toLocalDateTime() : null;
-    }
 }
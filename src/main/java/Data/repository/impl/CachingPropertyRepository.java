@@ -0,0 +1,271 @@
+package Data.repository.impl;
+
+import Data.cache.CacheStats;
+import Data.cache.LruTtlCache;
+import Data.cache.QueryResultCache;
+import Data.cache.SearchKeys;
+import Data.domain.BatchResult;
+import Data.domain.Filter;
+import Data.domain.Property;
+import Data.domain.PropertyPage;
+import Data.domain.PropertySummary;
+import Data.repository.interfaces.IPropertyRepository;
+import Data.repository.interfaces.PropertyWriteListener;
+import Data.search.PropertySearchEngine;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Read-through cache in front of an IPropertyRepository.
+ * <p>
+ * Lookups by id are served from a bounded LRU cache whose entries expire after a TTL; misses go to
+ * the delegate and are cached. Writes through this repository drop the affected entries. Writes made
+ * elsewhere (e.g. by PropertyManagement) must be reported through {@link #propertyWritten(String)};
+ * the TTL bounds how stale an entry can get if one is missed. A row loaded while an invalidation
+ * happened is returned but not cached, so a read racing a commit cannot re-cache the old row.
+ * Callers receive copies, so modifying a returned Property never alters the cache.
+ * <p>
+ * Unpaged findProperties and findPropertySummaries results are cached too, keyed by the normalized
+ * Filter, with a short TTL. Any write may change which rows match, so every write drops all cached
+ * results. Pages and streams always go to the delegate.
+ * <p>
+ * With a PropertySearchEngine, writes through this repository are passed on to it and unpaged
+ * searches run in two phases. Until {@link PropertySearchEngine#isLoaded()} turns true they go to
+ * the delegate (through the result cache) and keywords match as a SQL LIKE substring. From then on
+ * the engine answers them, and keywords match as stemmed whole words in any order (see
+ * {@link PropertySearchEngine#findProperties(Filter)}). A keyword search can therefore return
+ * different rows before and after the first load, and pages or streams with keywords keep the SQL
+ * behaviour.
+ */
+public class CachingPropertyRepository implements IPropertyRepository, PropertyWriteListener {
+
+    public static final int DEFAULT_MAX_ENTRIES = 1_000;
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    private final IPropertyRepository delegate;
+    private final LruTtlCache<String, Property> cache;
+    private final QueryResultCache<Property> propertyResults = new QueryResultCache<>(Property::new);
+    private final QueryResultCache<PropertySummary> summaryResults = new QueryResultCache<>();
+    private final PropertySearchEngine searchEngine; // May be null
+    private long generation; // Bumped by every invalidation of the id cache; guarded by this
+
+    public CachingPropertyRepository(IPropertyRepository delegate) {
+        this(delegate, new LruTtlCache<>(DEFAULT_MAX_ENTRIES, DEFAULT_TTL));
+    }
+
+    public CachingPropertyRepository(IPropertyRepository delegate, LruTtlCache<String, Property> cache) {
+        this(delegate, cache, null);
+    }
+
+    public CachingPropertyRepository(IPropertyRepository delegate, LruTtlCache<String, Property> cache,
+                                     PropertySearchEngine searchEngine) {
+        if (delegate == null || cache == null) {
+            throw new IllegalArgumentException("Delegate repository and cache cannot be null.");
+        }
+        this.delegate = delegate;
+        this.cache = cache;
+        this.searchEngine = searchEngine;
+    }
+
+    @Override
+    public Property getPropertyById(String propertyId) {
+        if (propertyId == null) {
+            return delegate.getPropertyById(null);
+        }
+        Property cached = cache.get(propertyId);
+        if (cached != null) {
+            return new Property(cached);
+        }
+        long startedAt = generation();
+        Property loaded = delegate.getPropertyById(propertyId);
+        if (loaded == null) {
+            return null; // Not found or failed; not cached
+        }
+        cacheLoaded(Map.of(propertyId, loaded), startedAt);
+        return loaded;
+    }
+
+    @Override
+    public Map<String, Property> getPropertiesByIds(Collection<String> propertyIds) {
+        return getPropertiesByIds(propertyIds, MultiGetSupport.DEFAULT_CHUNK_SIZE);
+    }
+
+    /** Serves cached ids directly and fetches only the misses from the delegate. */
+    @Override
+    public Map<String, Property> getPropertiesByIds(Collection<String> propertyIds, int chunkSize) {
+        if (propertyIds == null) {
+            return delegate.getPropertiesByIds(null, chunkSize);
+        }
+        Map<String, Property> found = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String id : propertyIds) {
+            Property cached = (id != null) ? cache.get(id) : null;
+            if (cached != null) {
+                found.put(id, new Property(cached));
+            } else if (id != null) {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            long startedAt = generation();
+            Map<String, Property> loaded = delegate.getPropertiesByIds(missing, chunkSize);
+            cacheLoaded(loaded, startedAt);
+            found.putAll(loaded);
+        }
+
+        Map<String, Property> ordered = new LinkedHashMap<>(); // Keep request order
+        for (String id : propertyIds) {
+            Property property = found.get(id);
+            if (property != null) {
+                ordered.putIfAbsent(id, property);
+            }
+        }
+        return ordered;
+    }
+
+    @Override
+    public boolean addProperty(Property property) {
+        boolean added = delegate.addProperty(property);
+        if (property != null) {
+            written(property.getPropertyId());
+        }
+        return added;
+    }
+
+    @Override
+    public BatchResult addProperties(List<Property> properties) {
+        return addProperties(properties, BatchInsertSupport.DEFAULT_CHUNK_SIZE);
+    }
+
+    @Override
+    public BatchResult addProperties(List<Property> properties, int chunkSize) {
+        BatchResult result = delegate.addProperties(properties, chunkSize);
+        if (properties != null) {
+            for (Property property : properties) {
+                if (property != null && property.getPropertyId() != null) {
+                    invalidate(property.getPropertyId());
+                    if (searchEngine != null) {
+                        searchEngine.propertyWritten(property.getPropertyId());
+                    }
+                }
+            }
+            invalidateResults();
+        }
+        return result;
+    }
+
+    @Override
+    public boolean updateProperty(Property property) {
+        boolean updated = delegate.updateProperty(property);
+        if (property != null) {
+            written(property.getPropertyId()); // Also on failure: the row's state is unknown
+        }
+        return updated;
+    }
+
+    @Override
+    public boolean deactivateProperty(String propertyId) {
+        boolean deactivated = delegate.deactivateProperty(propertyId);
+        written(propertyId);
+        return deactivated;
+    }
+
+    @Override
+    public List<Property> findProperties(Filter filter) {
+        if (filter == null || filter.getPageSize() != null) {
+            return delegate.findProperties(filter);
+        }
+        if (searchEngine != null && searchEngine.isLoaded()) {
+            return searchEngine.findProperties(filter);
+        }
+        return propertyResults.getOrLoad(SearchKeys.forFilter("properties", filter),
+                () -> delegate.findProperties(filter));
+    }
+
+    @Override
+    public PropertyPage findPropertiesPage(Filter filter) {
+        return delegate.findPropertiesPage(filter);
+    }
+
+    @Override
+    public List<PropertySummary> findPropertySummaries(Filter filter) {
+        if (filter == null || filter.getPageSize() != null) {
+            return delegate.findPropertySummaries(filter);
+        }
+        if (searchEngine != null && searchEngine.isLoaded()) {
+            return searchEngine.findPropertySummaries(filter);
+        }
+        return summaryResults.getOrLoad(SearchKeys.forFilter("summaries", filter),
+                () -> delegate.findPropertySummaries(filter));
+    }
+
+    @Override
+    public Stream<Property> streamProperties(Filter filter) {
+        return delegate.streamProperties(filter);
+    }
+
+    /** Drops the cached copy of a property written outside this repository, and all cached search results. */
+    @Override
+    public void propertyWritten(String propertyId) {
+        if (propertyId != null) {
+            invalidate(propertyId);
+        }
+        invalidateResults();
+    }
+
+    /** Drops every cached property and search result. */
+    public void invalidateAll() {
+        synchronized (this) {
+            generation++;
+            cache.invalidateAll();
+        }
+        invalidateResults();
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /** Counters of the findProperties result cache. */
+    public CacheStats getSearchStats() {
+        return propertyResults.stats();
+    }
+
+    /** A write through this repository; the search engine, if any, is not a listener of it. */
+    private void written(String propertyId) {
+        propertyWritten(propertyId);
+        if (searchEngine != null && propertyId != null) {
+            searchEngine.propertyWritten(propertyId);
+        }
+    }
+
+    private synchronized long generation() {
+        return generation;
+    }
+
+    /** Caches rows loaded since {@code startedAt}, unless an invalidation happened meanwhile. */
+    private synchronized void cacheLoaded(Map<String, Property> loaded, long startedAt) {
+        if (generation != startedAt) {
+            return; // The rows may predate the write that was invalidated
+        }
+        for (Map.Entry<String, Property> entry : loaded.entrySet()) {
+            cache.put(entry.getKey(), new Property(entry.getValue()));
+        }
+    }
+
+    private synchronized void invalidate(String propertyId) {
+        generation++;
+        cache.invalidate(propertyId);
+    }
+
+    private void invalidateResults() {
+        propertyResults.invalidateAll();
+        summaryResults.invalidateAll();
+    }
+}
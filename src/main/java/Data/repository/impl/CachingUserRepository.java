@@ -0,0 +1,290 @@
+package Data.repository.impl;
+
+import Data.cache.CacheStats;
+import Data.cache.LruTtlCache;
+import Data.domain.Client;
+import Data.domain.Landlord;
+import Data.domain.User;
+import Data.repository.interfaces.ChangeFeedListener;
+import Data.repository.interfaces.IUserRepository;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read-through cache in front of an IUserRepository, keyed by user id and by email.
+ * <p>
+ * Users are cached by id; emails map to the user id they resolved to. Lookups that find nothing
+ * are cached too (negative entries, with a shorter TTL), so repeated checks for unknown ids or
+ * not-yet-registered emails do not reach the database. addUser, updateUser and deleteUser drop
+ * the affected entries, including negative ones; so do users reported changed by the change feed.
+ * A lookup that ran while an invalidation happened is returned but not cached, so a read racing a
+ * write cannot re-cache the old row or a stale miss. Landlord and Client instances keep their type,
+ * and callers always receive copies.
+ * <p>
+ * The change feed does not see deletes made by other instances, so a deleted user keeps being
+ * served from here, login included, until the entry expires. The default TTL is kept short for
+ * that reason; updates are picked up by the feed and do not depend on it.
+ */
+public class CachingUserRepository implements IUserRepository, ChangeFeedListener {
+
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(1); // Bounds how long a user deleted elsewhere is served
+    public static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(30);
+
+    private final IUserRepository delegate;
+    private final LruTtlCache<String, Optional<User>> byId;
+    private final LruTtlCache<String, Optional<String>> idByEmail; // Normalized email -> user id
+    private final Duration negativeTtl;
+    private long generation; // Bumped by every invalidation; guarded by this
+
+    public CachingUserRepository(IUserRepository delegate) {
+        this(delegate, DEFAULT_MAX_ENTRIES, DEFAULT_TTL, DEFAULT_NEGATIVE_TTL);
+    }
+
+    public CachingUserRepository(IUserRepository delegate, int maxEntries, Duration ttl, Duration negativeTtl) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate repository cannot be null.");
+        }
+        if (negativeTtl == null || negativeTtl.isNegative() || negativeTtl.isZero()) {
+            throw new IllegalArgumentException("Negative TTL must be positive.");
+        }
+        this.delegate = delegate;
+        this.byId = new LruTtlCache<>(maxEntries, ttl);
+        this.idByEmail = new LruTtlCache<>(maxEntries, ttl);
+        this.negativeTtl = negativeTtl;
+    }
+
+    @Override
+    public Optional<User> getUserById(String userId) throws SQLException {
+        if (userId == null || userId.trim().isEmpty()) {
+            return delegate.getUserById(userId);
+        }
+        Optional<User> cached = byId.get(userId);
+        if (cached != null) {
+            return cached.map(CachingUserRepository::copyOf);
+        }
+        long startedAt = generation();
+        Optional<User> loaded = delegate.getUserById(userId);
+        synchronized (this) {
+            if (generation == startedAt) {
+                if (loaded.isPresent()) {
+                    remember(loaded.get());
+                } else {
+                    byId.put(userId, Optional.empty(), negativeTtl);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    @Override
+    public Optional<User> getUserByEmail(String email) throws SQLException {
+        String key = normalize(email);
+        if (key == null) {
+            return delegate.getUserByEmail(email);
+        }
+        Optional<String> userId = idByEmail.get(key);
+        if (userId != null) {
+            if (!userId.isPresent()) {
+                return Optional.empty();
+            }
+            Optional<User> cached = byId.get(userId.get());
+            // The id entry may have been reloaded after an email change; only trust it if it still matches
+            if (cached != null && cached.isPresent() && key.equals(normalize(cached.get().getEmail()))) {
+                return Optional.of(copyOf(cached.get()));
+            }
+        }
+        long startedAt = generation();
+        Optional<User> loaded = delegate.getUserByEmail(email);
+        synchronized (this) {
+            if (generation == startedAt) {
+                if (loaded.isPresent()) {
+                    remember(loaded.get());
+                } else {
+                    idByEmail.put(key, Optional.empty(), negativeTtl);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    @Override
+    public Map<String, User> getUsersByIds(Collection<String> userIds) throws SQLException {
+        return getUsersByIds(userIds, MultiGetSupport.DEFAULT_CHUNK_SIZE);
+    }
+
+    /** Serves cached ids (including known misses) directly and fetches only the rest from the delegate. */
+    @Override
+    public Map<String, User> getUsersByIds(Collection<String> userIds, int chunkSize) throws SQLException {
+        if (userIds == null) {
+            return delegate.getUsersByIds(null, chunkSize);
+        }
+        Map<String, User> found = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String id : userIds) {
+            Optional<User> cached = (id != null) ? byId.get(id) : null;
+            if (cached != null) {
+                cached.ifPresent(user -> found.put(id, copyOf(user)));
+            } else if (id != null) {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            long startedAt = generation();
+            Map<String, User> loaded = delegate.getUsersByIds(missing, chunkSize);
+            synchronized (this) {
+                boolean cacheable = generation == startedAt;
+                for (String id : missing) {
+                    User user = loaded.get(id);
+                    if (user != null) {
+                        if (cacheable) {
+                            remember(user);
+                        }
+                        found.put(id, user);
+                    } else if (cacheable && !id.trim().isEmpty()) {
+                        byId.put(id, Optional.empty(), negativeTtl);
+                    }
+                }
+            }
+        }
+
+        Map<String, User> ordered = new LinkedHashMap<>(); // Keep request order
+        for (String id : userIds) {
+            User user = found.get(id);
+            if (user != null) {
+                ordered.putIfAbsent(id, user);
+            }
+        }
+        return ordered;
+    }
+
+    @Override
+    public boolean addUser(User user) throws SQLException {
+        try {
+            return delegate.addUser(user);
+        } finally {
+            forget(user); // Drops negative entries for the new id and email
+        }
+    }
+
+    @Override
+    public boolean updateUser(User user) throws SQLException {
+        try {
+            return delegate.updateUser(user);
+        } finally {
+            forget(user);
+        }
+    }
+
+    @Override
+    public boolean deleteUser(String userId) throws SQLException {
+        try {
+            return delegate.deleteUser(userId);
+        } finally {
+            if (userId != null) {
+                forgetId(userId);
+            }
+        }
+    }
+
+    @Override
+    public List<Landlord> getAllLandlords() throws SQLException {
+        return delegate.getAllLandlords();
+    }
+
+    @Override
+    public List<Client> getAllClients() throws SQLException {
+        return delegate.getAllClients();
+    }
+
+    /** Drops users written by another instance, under both their previous and current email. */
+    @Override
+    public void usersChanged(List<User> users) {
+        for (User user : users) {
+            forget(user);
+        }
+    }
+
+    /** Drops every cached user and email. */
+    public synchronized void invalidateAll() {
+        generation++;
+        byId.invalidateAll();
+        idByEmail.invalidateAll();
+    }
+
+    public CacheStats getIdStats() {
+        return byId.stats();
+    }
+
+    public CacheStats getEmailStats() {
+        return idByEmail.stats();
+    }
+
+    private synchronized long generation() {
+        return generation;
+    }
+
+    /** Caches a loaded user; callers hold the lock and have checked the generation. */
+    private void remember(User user) {
+        if (user.getUserId() == null) {
+            return;
+        }
+        byId.put(user.getUserId(), Optional.of(copyOf(user)));
+        String key = normalize(user.getEmail());
+        if (key != null) {
+            idByEmail.put(key, Optional.of(user.getUserId()));
+        }
+    }
+
+    private synchronized void forget(User user) {
+        if (user == null) {
+            return;
+        }
+        generation++;
+        if (user.getUserId() != null) {
+            forgetId(user.getUserId()); // Also drops the previous email if it was cached
+        }
+        String key = normalize(user.getEmail());
+        if (key != null) {
+            idByEmail.invalidate(key);
+        }
+    }
+
+    private synchronized void forgetId(String userId) {
+        generation++;
+        Optional<User> cached = byId.peek(userId);
+        if (cached != null && cached.isPresent()) {
+            String previousEmail = normalize(cached.get().getEmail());
+            if (previousEmail != null) {
+                idByEmail.invalidate(previousEmail);
+            }
+        }
+        byId.invalidate(userId);
+    }
+
+    /** Emails are compared case-insensitively, like the users table's collation. */
+    private static String normalize(String email) {
+        if (email == null || email.trim().isEmpty()) {
+            return null;
+        }
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static User copyOf(User user) {
+        if (user instanceof Landlord) {
+            return new Landlord((Landlord) user);
+        }
+        if (user instanceof Client) {
+            return new Client((Client) user);
+        }
+        return new User(user);
+    }
+}
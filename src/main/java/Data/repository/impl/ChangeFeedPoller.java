@@ -0,0 +1,233 @@
+package Data.repository.impl;
+
+import Data.connector.IDatabaseConnector;
+import Data.domain.Bid;
+import Data.domain.Property;
+import Data.domain.User;
+import Data.repository.interfaces.ChangeFeedListener;
+import Data.repository.mapper.BidRowMapper;
+import Data.repository.mapper.PropertyRowMapper;
+import Data.repository.mapper.RowMapper;
+import Data.repository.mapper.UserRowMapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Change feed over the updated_at columns, so each application instance learns about rows written
+ * by the others and can drop or refresh its local caches.
+ * <p>
+ * For each of properties, bids and users the poller keeps a high-water mark, starting at the table's
+ * newest updated_at when it first runs (history is not replayed). Every poll reads the rows changed
+ * since then in batches, ordered by (updated_at, id) and resumed from the last row of the previous
+ * batch, which is an index range scan on the updated_at index. Each poll starts a little before the
+ * mark to catch rows whose transaction committed after a later timestamp was seen, so rows inside
+ * that overlap are delivered again. That is deliberate: updated_at has one-second precision, so a
+ * second write in the same second leaves it unchanged and could not be told apart from a repeat.
+ * Listeners must therefore be idempotent, which invalidating caches are. Lag is bounded by the poll
+ * interval plus the time to drain the changes.
+ * <p>
+ * Hard deletes leave no row to find, so the feed cannot report them: a user removed by
+ * UserRepositoryImpl.deleteUser (or a property or bid deleted outright) on another instance stays
+ * in this instance's caches until their TTL expires. Caches of rows that can be deleted must keep
+ * their TTL short enough to bound that, as {@link CachingUserRepository} does.
+ */
+public class ChangeFeedPoller implements AutoCloseable {
+
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(2);
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    public static final Duration DEFAULT_OVERLAP = Duration.ofSeconds(5);
+
+    private final IDatabaseConnector dbConnector;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final Duration overlap;
+    private final List<ChangeFeedListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<TableFeed<?>> feeds = new ArrayList<>();
+    private ScheduledExecutorService scheduler; // Guarded by this
+
+    public ChangeFeedPoller(IDatabaseConnector dbConnector) {
+        this(dbConnector, DEFAULT_POLL_INTERVAL, DEFAULT_BATCH_SIZE, DEFAULT_OVERLAP);
+    }
+
+    public ChangeFeedPoller(IDatabaseConnector dbConnector, Duration pollInterval, int batchSize, Duration overlap) {
+        if (dbConnector == null) {
+            throw new IllegalArgumentException("Database connector cannot be null.");
+        }
+        if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("Poll interval must be positive.");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive.");
+        }
+        if (overlap == null || overlap.isNegative()) {
+            throw new IllegalArgumentException("Overlap cannot be negative.");
+        }
+        this.dbConnector = dbConnector;
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+        this.overlap = overlap;
+        feeds.add(new TableFeed<>("properties", "property_id", PropertyRowMapper::new,
+                Property::getPropertyId, Property::getUpdatedAt, ChangeFeedListener::propertiesChanged));
+        feeds.add(new TableFeed<>("bids", "bid_id", BidRowMapper::new,
+                Bid::getBidId, Bid::getUpdatedAt, ChangeFeedListener::bidsChanged));
+        feeds.add(new TableFeed<>("users", "user_id", UserRowMapper::new,
+                User::getUserId, User::getUpdatedAt, ChangeFeedListener::usersChanged));
+    }
+
+    public void addListener(ChangeFeedListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Reads and delivers every change since the last poll.
+     * @return the number of changed rows delivered.
+     * @throws SQLException if a table cannot be read; tables polled before it keep their progress.
+     */
+    public synchronized int pollOnce() throws SQLException {
+        int delivered = 0;
+        for (TableFeed<?> feed : feeds) {
+            delivered += feed.poll();
+        }
+        return delivered;
+    }
+
+    /** Starts polling in the background. Does nothing if already started. */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "change-feed-poller");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                pollOnce();
+            } catch (SQLException | RuntimeException e) {
+                System.err.println("Error polling change feed: " + e.getMessage());
+            }
+        }, 0, pollInterval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /** Position of one table's feed. */
+    private final class TableFeed<T> {
+        private final String maxUpdatedSql;
+        private final String changedSql;
+        private final Supplier<RowMapper<T>> mappers;
+        private final Function<T, String> idOf;
+        private final Function<T, LocalDateTime> updatedAtOf;
+        private final BiConsumer<ChangeFeedListener, List<T>> dispatch;
+        private LocalDateTime highWater; // Null until the first poll
+
+        private TableFeed(String table, String idColumn, Supplier<RowMapper<T>> mappers, Function<T, String> idOf,
+                          Function<T, LocalDateTime> updatedAtOf, BiConsumer<ChangeFeedListener, List<T>> dispatch) {
+            this.maxUpdatedSql = "SELECT MAX(updated_at) FROM " + table;
+            this.changedSql = "SELECT * FROM " + table + " WHERE updated_at > ? OR (updated_at = ? AND "
+                    + idColumn + " > ?) ORDER BY updated_at, " + idColumn + " LIMIT ?";
+            this.mappers = mappers;
+            this.idOf = idOf;
+            this.updatedAtOf = updatedAtOf;
+            this.dispatch = dispatch;
+        }
+
+        private int poll() throws SQLException {
+            if (highWater == null) {
+                highWater = currentMax();
+                return 0;
+            }
+            LocalDateTime from = highWater.minus(overlap);
+            LocalDateTime position = from;
+            String positionId = "";
+            int deliveredRows = 0;
+            try (Connection conn = dbConnector.getConnection();
+                 PreparedStatement pstmt = conn.prepareStatement(changedSql)) {
+                while (true) {
+                    List<T> batch = readBatch(pstmt, position, positionId);
+                    if (batch.isEmpty()) {
+                        break;
+                    }
+                    T last = batch.get(batch.size() - 1);
+                    position = updatedAtOf.apply(last);
+                    positionId = idOf.apply(last);
+
+                    for (T row : batch) {
+                        LocalDateTime updatedAt = updatedAtOf.apply(row);
+                        if (updatedAt.isAfter(highWater)) {
+                            highWater = updatedAt;
+                        }
+                    }
+                    deliver(batch);
+                    deliveredRows += batch.size();
+                    if (batch.size() < batchSize) {
+                        break;
+                    }
+                }
+            }
+            return deliveredRows;
+        }
+
+        private List<T> readBatch(PreparedStatement pstmt, LocalDateTime position, String positionId)
+                throws SQLException {
+            Timestamp after = Timestamp.valueOf(position);
+            pstmt.setTimestamp(1, after);
+            pstmt.setTimestamp(2, after);
+            pstmt.setString(3, positionId);
+            pstmt.setInt(4, batchSize);
+            List<T> batch = new ArrayList<>();
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMapper<T> mapper = mappers.get();
+                while (rs.next()) {
+                    batch.add(mapper.mapRow(rs));
+                }
+            }
+            return batch;
+        }
+
+        private LocalDateTime currentMax() throws SQLException {
+            try (Connection conn = dbConnector.getConnection();
+                 PreparedStatement pstmt = conn.prepareStatement(maxUpdatedSql);
+                 ResultSet rs = pstmt.executeQuery()) {
+                Timestamp max = rs.next() ? rs.getTimestamp(1) : null;
+                return max != null ? max.toLocalDateTime() : LocalDateTime.of(1970, 1, 1, 0, 0, 1); // Empty table
+            }
+        }
+
+        private void deliver(List<T> changes) {
+            List<T> view = List.copyOf(changes);
+            for (ChangeFeedListener listener : listeners) {
+                try {
+                    dispatch.accept(listener, view);
+                } catch (RuntimeException e) {
+                    System.err.println("Change feed listener failed: " + e.getMessage()); // Others still hear about it
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package Data.repository.impl;
+
+import Data.connector.IDatabaseConnector;
+import Data.repository.mapper.RowMapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Shared JDBC lookup of many rows by primary key for the repositories' multi-get methods.
+ * <p>
+ * Ids are de-duplicated and sent as {@code IN (?, ?, ...)} lists of at most {@code chunkSize} ids,
+ * all on one connection, so looking up n ids costs ceil(n / chunkSize) queries instead of n.
+ * Every full chunk reuses the same prepared statement.
+ */
+final class MultiGetSupport {
+
+    static final int DEFAULT_CHUNK_SIZE = 200;
+
+    private MultiGetSupport() {
+    }
+
+    /**
+     * @param selectPrefix SELECT ending in {@code "WHERE <id column> IN "}; the placeholder list is appended
+     * @return found rows keyed by id, in the order the ids were first requested; missing ids are absent
+     */
+    static <T> Map<String, T> findAllByIds(IDatabaseConnector connector, String selectPrefix, Collection<String> ids,
+                                           int chunkSize, RowMapper<T> mapper, Function<T, String> idOf)
+            throws SQLException {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive.");
+        }
+        Set<String> distinct = new LinkedHashSet<>();
+        if (ids != null) {
+            for (String id : ids) {
+                if (id != null && !id.trim().isEmpty()) {
+                    distinct.add(id);
+                }
+            }
+        }
+        if (distinct.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<String> pending = new ArrayList<>(distinct);
+        Map<String, T> found = new HashMap<>();
+        try (Connection conn = connector.getConnection()) {
+            PreparedStatement fullChunk = null;
+            try {
+                for (int from = 0; from < pending.size(); from += chunkSize) {
+                    List<String> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+                    if (chunk.size() == chunkSize) {
+                        if (fullChunk == null) {
+                            fullChunk = conn.prepareStatement(selectPrefix + placeholders(chunkSize));
+                        }
+                        query(fullChunk, chunk, mapper, idOf, found);
+                    } else {
+                        try (PreparedStatement tail = conn.prepareStatement(selectPrefix + placeholders(chunk.size()))) {
+                            query(tail, chunk, mapper, idOf, found);
+                        }
+                    }
+                }
+            } finally {
+                if (fullChunk != null) {
+                    fullChunk.close();
+                }
+            }
+        }
+
+        Map<String, T> ordered = new LinkedHashMap<>();
+        for (String id : pending) {
+            T row = found.get(id);
+            if (row != null) {
+                ordered.put(id, row);
+            }
+        }
+        return ordered;
+    }
+
+    private static <T> void query(PreparedStatement ps, List<String> chunk, RowMapper<T> mapper,
+                                  Function<T, String> idOf, Map<String, T> found) throws SQLException {
+        for (int i = 0; i < chunk.size(); i++) {
+            ps.setString(i + 1, chunk.get(i));
+        }
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                T row = mapper.mapRow(rs);
+                found.put(idOf.apply(row), row);
+            }
+        }
+    }
+
+    static String placeholders(int count) {
+        StringBuilder sb = new StringBuilder(count * 3 + 1).append('(');
+        for (int i = 0; i < count; i++) {
+            sb.append(i == 0 ? "?" : ", ?");
+        }
+        return sb.append(')').toString();
+    }
+}
@@ -1,15 +1,31 @@
 package Data.repository.impl;
 
 import Data.connector.IDatabaseConnector;
+import Data.connector.TransactionManager;
+import Data.domain.BatchResult;
 import Data.domain.Filter;
 import Data.domain.Property;
+import Data.domain.PropertyPage;
+import Data.domain.PropertySummary;
+import Data.domain.SortDirection;
 import Data.repository.interfaces.IPropertyRepository;
+import Data.repository.mapper.PropertyRowMapper;
+import Data.repository.mapper.PropertySummaryRowMapper;
+import Data.repository.mapper.RowMapper;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 /**
  * Implementation of IPropertyRepository using JDBC.
@@ -23,11 +39,17 @@ public class PropertyRepositoryImpl implements IPropertyRepository {
             "INSERT INTO properties (property_id, landlord_id, address, city, postal_code, property_type, description, price, square_footage, bedrooms, bathrooms, is_active, date_listed, created_at, updated_at) " +
                     "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
 
+    private static final String[] SELECTED_COLUMNS = {
+            "property_id", "landlord_id", "address", "city", "postal_code", "property_type", "description", "price",
+            "square_footage", "bedrooms", "bathrooms", "is_active", "is_sold", "date_listed", "created_at", "updated_at"
+    };
+
     private static final String SELECT_PROPERTY_BASE_SQL =
-            "SELECT property_id, landlord_id, address, city, postal_code, property_type, description, price, square_footage, bedrooms, bathrooms, is_active, date_listed, created_at, updated_at " +
+            "SELECT " + String.join(", ", SELECTED_COLUMNS) + " " +
                     "FROM properties ";
 
     private static final String SELECT_PROPERTY_BY_ID_SQL = SELECT_PROPERTY_BASE_SQL + "WHERE property_id = ?";
+    private static final String SELECT_PROPERTIES_BY_IDS_SQL = SELECT_PROPERTY_BASE_SQL + "WHERE property_id IN ";
 
     private static final String UPDATE_PROPERTY_SQL =
             "UPDATE properties SET landlord_id = ?, address = ?, city = ?, postal_code = ?, property_type = ?, description = ?, price = ?, square_footage = ?, bedrooms = ?, bathrooms = ?, is_active = ?, date_listed = ?, updated_at = CURRENT_TIMESTAMP " +
@@ -38,13 +60,31 @@ public class PropertyRepositoryImpl implements IPropertyRepository {
 
     // Dynamic query base for findProperties
     private static final String FIND_PROPERTIES_BASE_SQL = SELECT_PROPERTY_BASE_SQL + "WHERE 1=1";
+    private static final String FIND_SUMMARIES_BASE_SQL =
+            "SELECT " + PropertySummaryRowMapper.SELECT_LIST + " FROM properties WHERE 1=1";
+
+    // Keyset pagination: rows strictly after the cursor in (created_at DESC, property_id DESC) order
+    private static final String KEYSET_AFTER_SQL = " AND (created_at < ? OR (created_at = ? AND property_id < ?))";
+
+    // Shape bits above Filter.criteriaMask(), for the parts of a filter query that are not criteria
+    private static final int SHAPE_SUMMARIES = 1 << 8;
+    private static final int SHAPE_AFTER_CURSOR = 1 << 9;
+    private static final int SHAPE_LIMIT = 1 << 10;
+    private static final int SHAPE_SORT_PRICE = 1 << 11;  // Otherwise created_at
+    private static final int SHAPE_ASCENDING = 1 << 12;   // Otherwise descending
+
+    // Filter query text per shape; each distinct combination of criteria is built (and prepared) as one statement text
+    private static final Map<Integer, String> FILTER_SQL_BY_SHAPE = new ConcurrentHashMap<>();
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
 
 
     public PropertyRepositoryImpl(IDatabaseConnector connector) {
         if (connector == null) {
             throw new IllegalArgumentException("Database connector cannot be null.");
         }
-        this.connector = connector;
+        this.connector = TransactionManager.of(connector); // Joins the caller's unit of work, if one is active
     }
 
     @Override
@@ -57,20 +97,7 @@ public class PropertyRepositoryImpl implements IPropertyRepository {
         try (Connection conn = connector.getConnection();
              PreparedStatement ps = conn.prepareStatement(INSERT_PROPERTY_SQL)) {
 
-            ps.setString(1, property.getPropertyId());
-            ps.setString(2, property.getLandlordId());
-            ps.setString(3, property.getAddress());
-            ps.setString(4, property.getCity());
-            ps.setString(5, property.getPostalCode());
-            ps.setString(6, property.getPropertyType());
-            ps.setString(7, property.getDescription());
-            ps.setBigDecimal(8, property.getPrice());
-            setNullableBigDecimal(ps, 9, property.getSquareFootage());
-            setNullableInteger(ps, 10, property.getBedrooms());
-            setNullableInteger(ps, 11, property.getBathrooms());
-            ps.setBoolean(12, property.isActive());
-            setNullableTimestamp(ps, 13, property.getDateListed());
-
+            bindInsert(ps, property);
             return ps.executeUpdate() > 0;
 
         } catch (SQLException e) {
@@ -81,6 +108,22 @@ public class PropertyRepositoryImpl implements IPropertyRepository {
         }
     }
 
+    @Override
+    public BatchResult addProperties(List<Property> properties) {
+        return addProperties(properties, BatchInsertSupport.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Inserts the properties with JDBC batching, {@code chunkSize} rows per executeBatch.
+     * Rows missing the property or landlord ID are skipped.
+     */
+    @Override
+    public BatchResult addProperties(List<Property> properties, int chunkSize) {
+        return BatchInsertSupport.insertAll(connector, INSERT_PROPERTY_SQL, properties, chunkSize,
+                p -> p.getPropertyId() != null && p.getLandlordId() != null,
+                this::bindInsert, "property");
+    }
+
     @Override
     public Property getPropertyById(String propertyId) {
         if (propertyId == null || propertyId.trim().isEmpty()) {
@@ -95,7 +138,7 @@ public class PropertyRepositoryImpl implements IPropertyRepository {
 
             try (ResultSet rs = ps.executeQuery()) {
                 if (rs.next()) {
-                    return mapRowToProperty(rs);
+                    return newRowMapper().mapRow(rs);
                 } else {
                     return null; // Not found
                 }
@@ -107,6 +150,27 @@ public class PropertyRepositoryImpl implements IPropertyRepository {
         }
     }
 
+    @Override
+    public Map<String, Property> getPropertiesByIds(Collection<String> propertyIds) {
+        return getPropertiesByIds(propertyIds, MultiGetSupport.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Looks up many properties with one {@code IN} query per {@code chunkSize} ids.
+     * Returns the found properties keyed by id; unknown ids are absent from the map.
+     */
+    @Override
+    public Map<String, Property> getPropertiesByIds(Collection<String> propertyIds, int chunkSize) {
+        try {
+            return MultiGetSupport.findAllByIds(connector, SELECT_PROPERTIES_BY_IDS_SQL, propertyIds, chunkSize,
+                    newRowMapper(), Property::getPropertyId);
+        } catch (SQLException e) {
+            System.err.println("Error getting properties by IDs: " + e.getMessage());
+            e.printStackTrace();
+            return Collections.emptyMap();
+        }
+    }
+
     @Override
     public boolean updateProperty(Property property) {
         if (property == null || property.getPropertyId() == null) {
@@ -159,54 +223,199 @@ public class PropertyRepositoryImpl implements IPropertyRepository {
         }
     }
 
+    /**
+     * Finds matching properties in the filter's sort order (newest first by default), up to its limit.
+     * The ORDER BY walks idx_properties_created_id or idx_properties_price, so a top-N query stops
+     * after N index entries instead of sorting every match.
+     * If the filter has a page size, only that page is returned (see {@link #findPropertiesPage(Filter)}).
+     */
     @Override
     public List<Property> findProperties(Filter filter) {
-        List<Property> properties = new ArrayList<>();
-        StringBuilder sqlBuilder = new StringBuilder(FIND_PROPERTIES_BASE_SQL);
+        if (filter != null && filter.getPageSize() != null) {
+            return findPropertiesPage(filter).getProperties();
+        }
+
+        Filter normalized = normalize(filter);
         List<Object> params = new ArrayList<>();
+        bindFilterCriteria(normalized, params);
 
-        // Build dynamic WHERE clause based on filter
-        if (filter != null) {
-            if (filter.getLocation() != null && !filter.getLocation().trim().isEmpty()) {
-                sqlBuilder.append(" AND (city LIKE ? OR postal_code LIKE ?)");
-                String locationParam = "%" + filter.getLocation() + "%";
-                params.add(locationParam);
-                params.add(locationParam);
-            }
-            if (filter.getPropertyType() != null && !filter.getPropertyType().trim().isEmpty()) {
-                sqlBuilder.append(" AND property_type = ?");
-                params.add(filter.getPropertyType());
-            }
-            if (filter.getMinPrice() != null) {
-                sqlBuilder.append(" AND price >= ?");
-                params.add(filter.getMinPrice());
-            }
-            if (filter.getMaxPrice() != null) {
-                sqlBuilder.append(" AND price <= ?");
-                params.add(filter.getMaxPrice());
-            }
-            if (filter.getMinBedrooms() != null && filter.getMinBedrooms() > 0) { // Ignore if 0 or null
-                sqlBuilder.append(" AND bedrooms >= ?");
-                params.add(filter.getMinBedrooms());
-            }
-            if (filter.getMinBathrooms() != null && filter.getMinBathrooms() > 0) { // Ignore if 0 or null
-                sqlBuilder.append(" AND bathrooms >= ?");
-                params.add(filter.getMinBathrooms());
-            }
-            if (filter.getKeywords() != null && !filter.getKeywords().trim().isEmpty()) {
-                sqlBuilder.append(" AND description LIKE ?");
-                params.add("%" + filter.getKeywords() + "%");
-            }
-            if (filter.getMustBeActive() != null) {
-                sqlBuilder.append(" AND is_active = ?");
-                params.add(filter.getMustBeActive());
-            }
+        return queryProperties(filterSql(orderedShape(normalized, params)), params, newRowMapper());
+    }
+
+    /**
+     * Finds matching properties as summaries, in the filter's sort order and up to its limit. Only the
+     * list-view columns are read, so the description TEXT column never leaves the server. Paging
+     * options on the filter are ignored.
+     */
+    @Override
+    public List<PropertySummary> findPropertySummaries(Filter filter) {
+        Filter normalized = normalize(filter);
+        List<Object> params = new ArrayList<>();
+        bindFilterCriteria(normalized, params);
+
+        return queryProperties(filterSql(orderedShape(normalized, params) | SHAPE_SUMMARIES), params,
+                new PropertySummaryRowMapper());
+    }
+
+    /**
+     * Returns one page of matching properties using keyset pagination on (created_at, property_id).
+     * The page size comes from the filter (default {@value #DEFAULT_PAGE_SIZE}, at most
+     * {@value #MAX_PAGE_SIZE}); the filter's cursor selects the page. Every page is an index range
+     * scan from the cursor position, so deep pages cost the same as the first. Pages are always
+     * newest first, and the filter's limit is ignored.
+     * @throws IllegalArgumentException if the cursor is not one produced by this method, or the
+     *                                  filter asks for another sort order.
+     */
+    @Override
+    public PropertyPage findPropertiesPage(Filter filter) {
+        int pageSize = resolvePageSize(filter);
+        Filter normalized = normalize(filter);
+        if (normalized.getSortBy() != Filter.SortField.CREATED_AT || normalized.getSortDirection() != SortDirection.DESC) {
+            throw new IllegalArgumentException("Paged searches are ordered newest first; use a limit for other sort orders.");
+        }
+        List<Object> params = new ArrayList<>();
+        bindFilterCriteria(normalized, params);
+        int shape = normalized.criteriaMask() | SHAPE_LIMIT;
+
+        if (normalized.getCursor() != null) {
+            String[] position = decodeCursor(normalized.getCursor());
+            Timestamp createdAt = Timestamp.valueOf(LocalDateTime.parse(position[0]));
+            shape |= SHAPE_AFTER_CURSOR;
+            params.add(createdAt);
+            params.add(createdAt);
+            params.add(position[1]);
+        }
+        params.add(pageSize + 1); // One extra row tells us whether another page exists
+
+        List<Property> properties = queryProperties(filterSql(shape), params, newRowMapper());
+        String nextCursor = null;
+        if (properties.size() > pageSize) {
+            properties.remove(pageSize);
+            Property last = properties.get(pageSize - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getPropertyId());
+        }
+        return new PropertyPage(properties, nextCursor);
+    }
+
+    /**
+     * Streams matching properties in the filter's sort order, without loading them all into memory.
+     * The stream holds a connection until closed; use it in try-with-resources.
+     */
+    @Override
+    public Stream<Property> streamProperties(Filter filter) {
+        Filter normalized = normalize(filter);
+        List<Object> params = new ArrayList<>();
+        bindFilterCriteria(normalized, params);
+
+        try {
+            return ResultSetStreams.stream(connector, filterSql(orderedShape(normalized, params)), params, newRowMapper());
+        } catch (SQLException e) {
+            System.err.println("Error streaming properties: " + e.getMessage());
+            e.printStackTrace();
+            return Stream.empty();
+        }
+    }
+
+    private static Filter normalize(Filter filter) {
+        return filter == null ? new Filter() : filter.normalized();
+    }
+
+    /** Shape of an unpaged query: criteria plus sort order, and a limit whose parameter is added last. */
+    private static int orderedShape(Filter normalized, List<Object> params) {
+        int shape = normalized.criteriaMask();
+        if (normalized.getSortBy() == Filter.SortField.PRICE) {
+            shape |= SHAPE_SORT_PRICE;
+        }
+        if (normalized.getSortDirection() == SortDirection.ASC) {
+            shape |= SHAPE_ASCENDING;
+        }
+        if (normalized.getLimit() != null) {
+            shape |= SHAPE_LIMIT;
+            params.add(normalized.getLimit());
         }
+        return shape;
+    }
+
+    /** SQL text for a shape: a criteria mask plus the SHAPE_ bits. Built once per shape. */
+    static String filterSql(int shape) {
+        return FILTER_SQL_BY_SHAPE.computeIfAbsent(shape, PropertyRepositoryImpl::buildFilterSql);
+    }
 
-        sqlBuilder.append(" ORDER BY created_at DESC"); // Default ordering
+    private static String buildFilterSql(int shape) {
+        StringBuilder sqlBuilder = new StringBuilder((shape & SHAPE_SUMMARIES) != 0
+                ? FIND_SUMMARIES_BASE_SQL : FIND_PROPERTIES_BASE_SQL);
+        if ((shape & Filter.LOCATION) != 0) {
+            sqlBuilder.append(" AND (city LIKE ? OR postal_code LIKE ?)");
+        }
+        if ((shape & Filter.PROPERTY_TYPE) != 0) {
+            sqlBuilder.append(" AND property_type = ?");
+        }
+        if ((shape & Filter.MIN_PRICE) != 0) {
+            sqlBuilder.append(" AND price >= ?");
+        }
+        if ((shape & Filter.MAX_PRICE) != 0) {
+            sqlBuilder.append(" AND price <= ?");
+        }
+        if ((shape & Filter.MIN_BEDROOMS) != 0) {
+            sqlBuilder.append(" AND bedrooms >= ?");
+        }
+        if ((shape & Filter.MIN_BATHROOMS) != 0) {
+            sqlBuilder.append(" AND bathrooms >= ?");
+        }
+        if ((shape & Filter.KEYWORDS) != 0) {
+            sqlBuilder.append(" AND description LIKE ?");
+        }
+        if ((shape & Filter.MUST_BE_ACTIVE) != 0) {
+            sqlBuilder.append(" AND is_active = ?");
+        }
+        if ((shape & SHAPE_AFTER_CURSOR) != 0) {
+            sqlBuilder.append(KEYSET_AFTER_SQL);
+        }
+        // property_id breaks ties; InnoDB secondary indexes end with the primary key, so the index order is kept
+        String column = (shape & SHAPE_SORT_PRICE) != 0 ? "price" : "created_at";
+        String direction = (shape & SHAPE_ASCENDING) != 0 ? "ASC" : "DESC";
+        sqlBuilder.append(" ORDER BY ").append(column).append(' ').append(direction)
+                .append(", property_id ").append(direction);
+        if ((shape & SHAPE_LIMIT) != 0) {
+            sqlBuilder.append(" LIMIT ?");
+        }
+        return sqlBuilder.toString();
+    }
 
+    /** Adds the parameters of a normalized filter's criteria, in the order buildFilterSql places them. */
+    private static void bindFilterCriteria(Filter filter, List<Object> params) {
+        if (filter.getLocation() != null) {
+            String locationParam = "%" + filter.getLocation() + "%";
+            params.add(locationParam);
+            params.add(locationParam);
+        }
+        if (filter.getPropertyType() != null) {
+            params.add(filter.getPropertyType());
+        }
+        if (filter.getMinPrice() != null) {
+            params.add(filter.getMinPrice());
+        }
+        if (filter.getMaxPrice() != null) {
+            params.add(filter.getMaxPrice());
+        }
+        if (filter.getMinBedrooms() != null) {
+            params.add(filter.getMinBedrooms());
+        }
+        if (filter.getMinBathrooms() != null) {
+            params.add(filter.getMinBathrooms());
+        }
+        if (filter.getKeywords() != null) {
+            params.add("%" + filter.getKeywords() + "%");
+        }
+        if (filter.getMustBeActive() != null) {
+            params.add(filter.getMustBeActive());
+        }
+    }
+
+    private <T> List<T> queryProperties(String sql, List<Object> params, RowMapper<T> mapper) {
+        List<T> rows = new ArrayList<>();
         try (Connection conn = connector.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sqlBuilder.toString())) {
+             PreparedStatement ps = conn.prepareStatement(sql)) {
 
             // Set parameters dynamically
             for (int i = 0; i < params.size(); i++) {
@@ -215,7 +424,7 @@ public class PropertyRepositoryImpl implements IPropertyRepository {
 
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    properties.add(mapRowToProperty(rs));
+                    rows.add(mapper.mapRow(rs));
                 }
             }
         } catch (SQLException e) {
@@ -223,35 +432,59 @@ public class PropertyRepositoryImpl implements IPropertyRepository {
             e.printStackTrace();
             // Return empty list in case of error
         }
-        return properties;
+        return rows;
+    }
+
+    private static int resolvePageSize(Filter filter) {
+        if (filter == null || filter.getPageSize() == null || filter.getPageSize() <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(filter.getPageSize(), MAX_PAGE_SIZE);
+    }
+
+    /** Encodes a (created_at, property_id) position as an opaque, URL-safe token. */
+    static String encodeCursor(LocalDateTime createdAt, String propertyId) {
+        String raw = createdAt + "|" + propertyId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Decodes a cursor into {created_at ISO string, property_id}. */
+    static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("Invalid page cursor.");
+            }
+            String createdAt = raw.substring(0, separator);
+            LocalDateTime.parse(createdAt); // Validate
+            return new String[]{createdAt, raw.substring(separator + 1)};
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid page cursor.", e);
+        }
     }
 
     // --- Helper Methods ---
 
-    /**
-     * Maps a row from the ResultSet to a Property object.
-     * @param rs The ResultSet containing property data.
-     * @return A populated Property object.
-     * @throws SQLException if a database access error occurs.
-     */
-    private Property mapRowToProperty(ResultSet rs) throws SQLException {
-        Property property = new Property();
-        property.setPropertyId(rs.getString("property_id"));
-        property.setLandlordId(rs.getString("landlord_id"));
-        property.setAddress(rs.getString("address"));
-        property.setCity(rs.getString("city"));
-        property.setPostalCode(rs.getString("postal_code"));
-        property.setPropertyType(rs.getString("property_type"));
-        property.setDescription(rs.getString("description"));
-        property.setPrice(rs.getBigDecimal("price"));
-        property.setSquareFootage(rs.getBigDecimal("square_footage"));
-        property.setBedrooms(getNullableInteger(rs, "bedrooms"));
-        property.setBathrooms(getNullableInteger(rs, "bathrooms"));
-        property.setActive(rs.getBoolean("is_active"));
-        property.setDateListed(getNullableTimestamp(rs, "date_listed"));
-        property.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-        property.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
-        return property;
+    /** Creates a mapper for this repository's SELECT list; mappers hold per-ResultSet state, so use one per query. */
+    private static PropertyRowMapper newRowMapper() {
+        return new PropertyRowMapper(SELECTED_COLUMNS);
+    }
+
+    private void bindInsert(PreparedStatement ps, Property property) throws SQLException {
+        ps.setString(1, property.getPropertyId());
+        ps.setString(2, property.getLandlordId());
+        ps.setString(3, property.getAddress());
+        ps.setString(4, property.getCity());
+        ps.setString(5, property.getPostalCode());
+        ps.setString(6, property.getPropertyType());
+        ps.setString(7, property.getDescription());
+        ps.setBigDecimal(8, property.getPrice());
+        setNullableBigDecimal(ps, 9, property.getSquareFootage());
+        setNullableInteger(ps, 10, property.getBedrooms());
+        setNullableInteger(ps, 11, property.getBathrooms());
+        ps.setBoolean(12, property.isActive());
+        setNullableTimestamp(ps, 13, property.getDateListed());
     }
 
     /** Helper to set nullable Integer in PreparedStatement */
@@ -281,16 +514,4 @@ public class PropertyRepositoryImpl implements IPropertyRepository {
         }
     }
 
-    /** Helper to get nullable Integer from ResultSet */
-    private Integer getNullableInteger(ResultSet rs, String columnName) throws SQLException {
-        int value = rs.getInt(columnName);
-        return rs.wasNull() ? null : value;
-    }
-
-     /** Helper to get nullable LocalDateTime from ResultSet */
-    private LocalDateTime getNullableTimestamp(ResultSet rs, String columnName) throws SQLException {
-        Timestamp ts = rs.getTimestamp(columnName);
-        return (ts != null) ? ts.toLocalDateTime() : null;
-    }
-
 } 
\ No newline at end of file
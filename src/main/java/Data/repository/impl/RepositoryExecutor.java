@@ -0,0 +1,104 @@
+package Data.repository.impl;
+
+import Data.connector.PooledDatabaseConnector;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor for asynchronous repository calls.
+ * Uses one virtual thread per task when the runtime supports them (Java 21+); on older runtimes it
+ * falls back to a fixed pool of daemon platform threads. Either way, at most {@code maxConcurrency}
+ * tasks run at once, which should match the connection pool size so async fan-out never waits
+ * on the pool while holding a thread.
+ */
+public class RepositoryExecutor implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;      // Only used with virtual threads; the fixed pool bounds itself
+    private final boolean virtualThreads;
+    private final int maxConcurrency;
+
+    public RepositoryExecutor(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive.");
+        }
+        this.maxConcurrency = maxConcurrency;
+        ExecutorService virtual = newVirtualThreadExecutor();
+        if (virtual != null) {
+            this.executor = virtual;
+            this.permits = new Semaphore(maxConcurrency);
+            this.virtualThreads = true;
+        } else {
+            AtomicInteger counter = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(maxConcurrency, r -> {
+                Thread t = new Thread(r, "repository-async-" + counter.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+            this.permits = null;
+            this.virtualThreads = false;
+        }
+    }
+
+    /** Creates an executor whose concurrency matches the pool's maximum size. */
+    public static RepositoryExecutor forPool(PooledDatabaseConnector pool) {
+        return new RepositoryExecutor(pool.getConfig().getMaxSize());
+    }
+
+    /**
+     * Runs the task asynchronously. If it throws, the future completes exceptionally with that
+     * exception (so {@code join()} raises a CompletionException whose cause is, e.g., the SQLException).
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            boolean acquired = false;
+            try {
+                if (permits != null) {
+                    permits.acquire();
+                    acquired = true;
+                }
+                future.complete(task.call());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.completeExceptionally(e);
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            } finally {
+                if (acquired) {
+                    permits.release();
+                }
+            }
+        });
+        return future;
+    }
+
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /** Executors.newVirtualThreadPerTaskExecutor() via reflection, or null before Java 21. */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
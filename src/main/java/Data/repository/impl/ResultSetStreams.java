@@ -0,0 +1,137 @@
+package Data.repository.impl;
+
+import Data.connector.IDatabaseConnector;
+import Data.repository.mapper.RowMapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily streams query results row by row.
+ * <p>
+ * The query runs on a forward-only, read-only result set with MySQL's streaming fetch size, so the
+ * driver hands rows over one at a time instead of buffering the whole result. Memory therefore stays
+ * constant no matter how many rows match. The connection is held until the stream is closed (or fully
+ * consumed), so callers must use try-with-resources. While a stream is open its connection cannot run
+ * other queries, which matters inside a unit of work.
+ */
+public final class ResultSetStreams {
+
+    /** Tells Connector/J to stream rows instead of reading the full result into memory. */
+    static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private ResultSetStreams() {
+    }
+
+    /**
+     * Executes the query and returns its rows as a lazy stream.
+     * SQLExceptions while reading rows are rethrown as RuntimeException.
+     * @throws SQLException if the query cannot be executed; no resources are left open in that case.
+     */
+    public static <T> Stream<T> stream(IDatabaseConnector connector, String sql, List<?> params,
+                                       RowMapper<T> mapper) throws SQLException {
+        Connection conn = connector.getConnection();
+        PreparedStatement ps = null;
+        ResultSet rs;
+        try {
+            ps = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAMING_FETCH_SIZE);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            rs = ps.executeQuery();
+        } catch (SQLException | RuntimeException e) {
+            closeQuietly(null, ps, conn);
+            throw e;
+        }
+
+        RowSpliterator<T> rows = new RowSpliterator<>(conn, ps, rs, mapper);
+        return StreamSupport.stream(rows, false).onClose(rows::close);
+    }
+
+    /** Closes the result set, statement and connection in that order, each even if an earlier close fails. */
+    private static void closeQuietly(ResultSet rs, PreparedStatement ps, Connection conn) {
+        SQLException failure = null;
+        try {
+            if (rs != null) {
+                rs.close();
+            }
+        } catch (SQLException e) {
+            failure = e;
+        }
+        try {
+            if (ps != null) {
+                ps.close();
+            }
+        } catch (SQLException e) {
+            failure = suppress(failure, e);
+        }
+        try {
+            if (conn != null) {
+                conn.close();
+            }
+        } catch (SQLException e) {
+            failure = suppress(failure, e);
+        }
+        if (failure != null) {
+            System.err.println("Error closing streamed result: " + failure.getMessage());
+        }
+    }
+
+    private static SQLException suppress(SQLException first, SQLException next) {
+        if (first == null) {
+            return next;
+        }
+        first.addSuppressed(next);
+        return first;
+    }
+
+    private static final class RowSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+        private final Connection conn;
+        private final PreparedStatement ps;
+        private final ResultSet rs;
+        private final RowMapper<T> mapper;
+        private boolean closed;
+
+        private RowSpliterator(Connection conn, PreparedStatement ps, ResultSet rs, RowMapper<T> mapper) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.conn = conn;
+            this.ps = ps;
+            this.rs = rs;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!rs.next()) {
+                    close(); // Release the connection as soon as the scan is exhausted
+                    return false;
+                }
+                action.accept(mapper.mapRow(rs));
+                return true;
+            } catch (SQLException e) {
+                close();
+                throw new RuntimeException("Failed to read streamed row", e);
+            }
+        }
+
+        private void close() {
+            if (!closed) {
+                closed = true;
+                closeQuietly(rs, ps, conn);
+            }
+        }
+    }
+}
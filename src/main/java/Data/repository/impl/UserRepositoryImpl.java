@@ -1,14 +1,18 @@
 package Data.repository.impl;
 
 import Data.connector.IDatabaseConnector;
+import Data.connector.TransactionManager;
 import Data.domain.Client;
 import Data.domain.Landlord;
 import Data.domain.User;
 import Data.repository.interfaces.IUserRepository;
+import Data.repository.mapper.UserRowMapper;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -28,6 +32,7 @@ public class UserRepositoryImpl implements IUserRepository {
                     "FROM users ";
     private static final String SELECT_USER_BY_ID_SQL    = SELECT_USER_BASE_SQL + "WHERE user_id = ?";
     private static final String SELECT_USER_BY_EMAIL_SQL = SELECT_USER_BASE_SQL + "WHERE email = ?";
+    private static final String SELECT_USERS_BY_IDS_SQL  = SELECT_USER_BASE_SQL + "WHERE user_id IN ";
     private static final String SELECT_LANDLORDS_SQL     = SELECT_USER_BASE_SQL + "WHERE role = 'LANDLORD'";
     private static final String SELECT_CLIENTS_SQL       = SELECT_USER_BASE_SQL + "WHERE role = 'CLIENT'";
     private static final String UPDATE_USER_SQL =
@@ -39,7 +44,7 @@ public class UserRepositoryImpl implements IUserRepository {
         if (connector == null) {
             throw new IllegalArgumentException("Database connector cannot be null.");
         }
-        this.connector = connector;
+        this.connector = TransactionManager.of(connector); // Joins the caller's unit of work, if one is active
     }
 
     @Override
@@ -90,6 +95,21 @@ public class UserRepositoryImpl implements IUserRepository {
         return getUserBy(SELECT_USER_BY_EMAIL_SQL, email);
     }
 
+    @Override
+    public Map<String, User> getUsersByIds(Collection<String> userIds) throws SQLException {
+        return getUsersByIds(userIds, MultiGetSupport.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Looks up many users with one {@code IN} query per {@code chunkSize} ids.
+     * Returns the found users (as Landlord/Client where applicable) keyed by id; unknown ids are absent.
+     */
+    @Override
+    public Map<String, User> getUsersByIds(Collection<String> userIds, int chunkSize) throws SQLException {
+        return MultiGetSupport.findAllByIds(connector, SELECT_USERS_BY_IDS_SQL, userIds, chunkSize,
+                new UserRowMapper(), User::getUserId);
+    }
+
     private Optional<User> getUserBy(String sql, String parameter) throws SQLException {
         try (Connection conn = connector.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
@@ -101,32 +121,7 @@ public class UserRepositoryImpl implements IUserRepository {
                     return Optional.empty();
                 }
 
-                String role = rs.getString("role");
-                User user;
-                if ("LANDLORD".equalsIgnoreCase(role)) {
-                    Landlord landlord = new Landlord();
-                    landlord.setAgentLicenseNumber(rs.getString("agent_license_number"));
-                    user = landlord;
-                } else if ("CLIENT".equalsIgnoreCase(role)) {
-                    Client client = new Client();
-                    boolean receives = rs.getBoolean("receives_market_updates");
-                    client.setReceivesMarketUpdates(!rs.wasNull() && receives);
-                    user = client;
-                } else {
-                    user = new User();
-                }
-
-                user.setUserId(rs.getString("user_id"));
-                user.setName(rs.getString("name"));
-                user.setEmail(rs.getString("email"));
-                user.setPasswordHash(rs.getString("password_hash"));
-                user.setPhoneNumber(rs.getString("phone_number"));
-                user.setRole(role);
-                user.setVerified(rs.getBoolean("is_verified"));
-                user.setCreatedAt(rs.getTimestamp("created_at"));
-                user.setUpdatedAt(rs.getTimestamp("updated_at"));
-
-                return Optional.of(user);
+                return Optional.of(new UserRowMapper().mapRow(rs));
             }
         }
     }
@@ -183,19 +178,9 @@ public class UserRepositoryImpl implements IUserRepository {
              PreparedStatement ps = conn.prepareStatement(SELECT_LANDLORDS_SQL);
              ResultSet rs = ps.executeQuery()) {
 
+            UserRowMapper mapper = new UserRowMapper();
             while (rs.next()) {
-                Landlord l = new Landlord();
-                l.setUserId(rs.getString("user_id"));
-                l.setName(rs.getString("name"));
-                l.setEmail(rs.getString("email"));
-                l.setPasswordHash(rs.getString("password_hash"));
-                l.setPhoneNumber(rs.getString("phone_number"));
-                l.setRole(rs.getString("role"));
-                l.setVerified(rs.getBoolean("is_verified"));
-                l.setAgentLicenseNumber(rs.getString("agent_license_number"));
-                l.setCreatedAt(rs.getTimestamp("created_at"));
-                l.setUpdatedAt(rs.getTimestamp("updated_at"));
-                landlords.add(l);
+                landlords.add(mapper.mapLandlord(rs));
             }
         }
         return landlords;
@@ -208,20 +193,9 @@ public class UserRepositoryImpl implements IUserRepository {
              PreparedStatement ps = conn.prepareStatement(SELECT_CLIENTS_SQL);
              ResultSet rs = ps.executeQuery()) {
 
+            UserRowMapper mapper = new UserRowMapper();
             while (rs.next()) {
-                Client c = new Client();
-                c.setUserId(rs.getString("user_id"));
-                c.setName(rs.getString("name"));
-                c.setEmail(rs.getString("email"));
-                c.setPasswordHash(rs.getString("password_hash"));
-                c.setPhoneNumber(rs.getString("phone_number"));
-                c.setRole(rs.getString("role"));
-                c.setVerified(rs.getBoolean("is_verified"));
-                boolean receives = rs.getBoolean("receives_market_updates");
-                c.setReceivesMarketUpdates(!rs.wasNull() && receives);
-                c.setCreatedAt(rs.getTimestamp("created_at"));
-                c.setUpdatedAt(rs.getTimestamp("updated_at"));
-                clients.add(c);
+                clients.add(mapper.mapClient(rs));
             }
         }
         return clients;
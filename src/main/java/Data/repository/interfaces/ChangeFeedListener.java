@@ -0,0 +1,38 @@
+package Data.repository.interfaces;
+
+import Data.domain.Bid;
+import Data.domain.Property;
+import Data.domain.User;
+
+import java.util.List;
+
+/**
+ * Receives rows changed in the database by any application instance, as found by the change feed.
+ * Each call carries one batch of rows, oldest change first. Implement only the tables of interest.
+ */
+public interface ChangeFeedListener {
+
+    default void propertiesChanged(List<Property> properties) {
+    }
+
+    default void bidsChanged(List<Bid> bids) {
+    }
+
+    default void usersChanged(List<User> users) {
+    }
+
+    /** Adapts a PropertyWriteListener, e.g. a cache, so it also hears about other instances' writes. */
+    static ChangeFeedListener invalidating(PropertyWriteListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        return new ChangeFeedListener() {
+            @Override
+            public void propertiesChanged(List<Property> properties) {
+                for (Property property : properties) {
+                    listener.propertyWritten(property.getPropertyId());
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package Data.repository.interfaces;
+
+import Data.domain.Bid;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of IBidRepository.
+ * Each method runs the corresponding blocking call on a RepositoryExecutor.
+ */
+public interface IAsyncBidRepository {
+    CompletableFuture<Boolean> addBidAsync(Bid bid);
+    CompletableFuture<Bid> getBidByIdAsync(String bidId);
+    CompletableFuture<Boolean> updateBidAsync(Bid bid);
+    CompletableFuture<List<Bid>> getBidsByPropertyIdAsync(String propertyId);
+    CompletableFuture<List<Bid>> getBidsByUserIdAsync(String userId);
+}
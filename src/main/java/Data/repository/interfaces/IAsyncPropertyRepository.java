@@ -0,0 +1,26 @@
+package Data.repository.interfaces;
+
+import Data.domain.Filter;
+import Data.domain.Property;
+import Data.domain.PropertyPage;
+import Data.domain.PropertySummary;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of IPropertyRepository.
+ * Each method runs the corresponding blocking call on a RepositoryExecutor.
+ */
+public interface IAsyncPropertyRepository {
+    CompletableFuture<Boolean> addPropertyAsync(Property property);
+    CompletableFuture<Property> getPropertyByIdAsync(String propertyId);
+    CompletableFuture<Map<String, Property>> getPropertiesByIdsAsync(Collection<String> propertyIds);
+    CompletableFuture<Boolean> updatePropertyAsync(Property property);
+    CompletableFuture<Boolean> deactivatePropertyAsync(String propertyId);
+    CompletableFuture<List<Property>> findPropertiesAsync(Filter filter);
+    CompletableFuture<PropertyPage> findPropertiesPageAsync(Filter filter);
+    CompletableFuture<List<PropertySummary>> findPropertySummariesAsync(Filter filter);
+}
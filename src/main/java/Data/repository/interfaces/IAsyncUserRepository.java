@@ -0,0 +1,26 @@
+package Data.repository.interfaces;
+
+import Data.domain.Client;
+import Data.domain.Landlord;
+import Data.domain.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of IUserRepository.
+ * SQLExceptions from the blocking repository complete the returned future exceptionally.
+ */
+public interface IAsyncUserRepository {
+    CompletableFuture<Boolean> addUserAsync(User user);
+    CompletableFuture<Optional<User>> getUserByIdAsync(String userId);
+    CompletableFuture<Optional<User>> getUserByEmailAsync(String email);
+    CompletableFuture<Map<String, User>> getUsersByIdsAsync(Collection<String> userIds);
+    CompletableFuture<Boolean> updateUserAsync(User user);
+    CompletableFuture<Boolean> deleteUserAsync(String userId);
+    CompletableFuture<List<Landlord>> getAllLandlordsAsync();
+    CompletableFuture<List<Client>> getAllClientsAsync();
+}
@@ -1,13 +1,18 @@
 package Data.repository.interfaces;
 
+import Data.domain.BatchResult;
 import Data.domain.Bid;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface IBidRepository {
     boolean addBid(Bid bid);
+    BatchResult addBids(List<Bid> bids);
+    BatchResult addBids(List<Bid> bids, int chunkSize);
     Bid getBidById(String bidId);
     boolean updateBid(Bid bid);
     List<Bid> getBidsByPropertyId(String propertyId);
     List<Bid> getBidsByUserId(String userId);
+    Stream<Bid> streamBids();
 }
@@ -1,14 +1,27 @@
 package Data.repository.interfaces;
 
+import Data.domain.BatchResult;
 import Data.domain.Filter;
 import Data.domain.Property;
+import Data.domain.PropertyPage;
+import Data.domain.PropertySummary;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public interface IPropertyRepository {
     boolean addProperty(Property property);
+    BatchResult addProperties(List<Property> properties);
+    BatchResult addProperties(List<Property> properties, int chunkSize);
     Property getPropertyById(String propertyId);
+    Map<String, Property> getPropertiesByIds(Collection<String> propertyIds);
+    Map<String, Property> getPropertiesByIds(Collection<String> propertyIds, int chunkSize);
     boolean updateProperty(Property property);
     boolean deactivateProperty(String propertyId);
     List<Property> findProperties(Filter filter);
+    PropertyPage findPropertiesPage(Filter filter);
+    List<PropertySummary> findPropertySummaries(Filter filter);
+    Stream<Property> streamProperties(Filter filter);
 }
\ No newline at end of file
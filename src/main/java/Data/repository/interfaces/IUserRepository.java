@@ -5,7 +5,9 @@ import Data.domain.Landlord;
 import Data.domain.User;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional; // Import Optional
 
 /**
@@ -17,6 +19,8 @@ public interface IUserRepository {
     boolean addUser(User user) throws SQLException;
     Optional<User> getUserById(String userId) throws SQLException;
     Optional<User> getUserByEmail(String email) throws SQLException;
+    Map<String, User> getUsersByIds(Collection<String> userIds) throws SQLException;
+    Map<String, User> getUsersByIds(Collection<String> userIds, int chunkSize) throws SQLException;
     boolean updateUser(User user) throws SQLException;
     boolean deleteUser(String userId) throws SQLException;
     List<Landlord> getAllLandlords() throws SQLException;
@@ -0,0 +1,10 @@
+package Data.repository.interfaces;
+
+/**
+ * Notified after a property row has been written, so cached copies can be dropped.
+ * Inside a unit of work the notification is delivered once the transaction has completed.
+ */
+@FunctionalInterface
+public interface PropertyWriteListener {
+    void propertyWritten(String propertyId);
+}
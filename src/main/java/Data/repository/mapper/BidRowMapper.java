@@ -0,0 +1,43 @@
+package Data.repository.mapper;
+
+import Data.domain.Bid;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps rows of the bids table to Bid objects, reading columns by ordinal.
+ * Create one instance per query.
+ */
+public class BidRowMapper extends OrdinalRowMapper<Bid> {
+
+    private static final String[] COLUMNS = {
+            "bid_id", "property_id", "client_id", "amount", "status", "bid_timestamp", "created_at", "updated_at"
+    };
+    private static final int BID_ID = 0, PROPERTY_ID = 1, CLIENT_ID = 2, AMOUNT = 3, STATUS = 4,
+            BID_TIMESTAMP = 5, CREATED_AT = 6, UPDATED_AT = 7;
+
+    /** Mapper for queries that select every bid column (e.g. {@code SELECT *}). */
+    public BidRowMapper() {
+        super(COLUMNS);
+    }
+
+    /** Mapper for queries that select only the given columns. */
+    public BidRowMapper(String... selectedColumns) {
+        super(COLUMNS, selectedColumns);
+    }
+
+    @Override
+    protected Bid map(ResultSet rs) throws SQLException {
+        Bid bid = new Bid();
+        bid.setBidId(getString(rs, BID_ID));
+        bid.setPropertyId(getString(rs, PROPERTY_ID));
+        bid.setClientId(getString(rs, CLIENT_ID));
+        bid.setAmount(getBigDecimal(rs, AMOUNT));
+        bid.setStatus(getString(rs, STATUS)); // ENUM read as String
+        bid.setBidTimestamp(getTimestamp(rs, BID_TIMESTAMP));
+        bid.setCreatedAt(getTimestamp(rs, CREATED_AT));
+        bid.setUpdatedAt(getTimestamp(rs, UPDATED_AT));
+        return bid;
+    }
+}
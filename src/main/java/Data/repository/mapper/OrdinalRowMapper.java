@@ -0,0 +1,123 @@
+package Data.repository.mapper;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Base for row mappers that read columns by ordinal.
+ * <p>
+ * Looking a column up by name costs a case-insensitive map lookup in the driver for every field of
+ * every row. Instead, the first time a mapper sees a ResultSet it resolves each known column's
+ * ordinal from the metadata and then reads by index for the rest of that ResultSet. Columns the
+ * query did not select are skipped. When no metadata is available (e.g. a mocked ResultSet) the
+ * mapper falls back to reading the selected columns by name.
+ * <p>
+ * Mappers keep per-ResultSet state, so create one per query rather than sharing across threads.
+ */
+abstract class OrdinalRowMapper<T> implements RowMapper<T> {
+
+    private final String[] columns;       // Every column this mapper knows, indexed by the subclass's constants
+    private final boolean[] selected;     // Name-mode fallback: which columns the query selects
+    private ResultSet boundTo;
+    private int[] ordinals;               // 1-based ordinal per column, 0 if absent; null in name mode
+
+    /**
+     * @param columns         every column the mapper can read, in the order of the subclass's index constants
+     * @param selectedColumns columns the query selects, used only when metadata is unavailable;
+     *                        empty means all of {@code columns}
+     */
+    OrdinalRowMapper(String[] columns, String... selectedColumns) {
+        this.columns = columns;
+        this.selected = new boolean[columns.length];
+        if (selectedColumns.length == 0) {
+            Arrays.fill(selected, true);
+        } else {
+            for (String name : selectedColumns) {
+                int index = Arrays.asList(columns).indexOf(name.toLowerCase(Locale.ROOT));
+                if (index < 0) {
+                    throw new IllegalArgumentException("Unknown column: " + name);
+                }
+                selected[index] = true;
+            }
+        }
+    }
+
+    @Override
+    public final T mapRow(ResultSet rs) throws SQLException {
+        ensureBound(rs);
+        return map(rs);
+    }
+
+    /** Resolves ordinals if {@code rs} is not the ResultSet this mapper last read from. */
+    protected final void ensureBound(ResultSet rs) throws SQLException {
+        if (rs != boundTo) {
+            bind(rs);
+        }
+    }
+
+    /** Maps the current row; use the typed getters below with the subclass's column constants. */
+    protected abstract T map(ResultSet rs) throws SQLException;
+
+    private void bind(ResultSet rs) throws SQLException {
+        boundTo = rs;
+        ResultSetMetaData metaData = rs.getMetaData();
+        if (metaData == null) {
+            ordinals = null;
+            return;
+        }
+        Map<String, Integer> byLabel = new HashMap<>();
+        for (int i = metaData.getColumnCount(); i >= 1; i--) {
+            byLabel.put(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT), i); // First occurrence wins
+        }
+        ordinals = new int[columns.length];
+        for (int c = 0; c < columns.length; c++) {
+            ordinals[c] = byLabel.getOrDefault(columns[c], 0);
+        }
+    }
+
+    /** True if the current ResultSet has the column. */
+    protected final boolean has(int column) {
+        return (ordinals != null) ? ordinals[column] > 0 : selected[column];
+    }
+
+    protected final String getString(ResultSet rs, int column) throws SQLException {
+        if (!has(column)) return null;
+        return (ordinals != null) ? rs.getString(ordinals[column]) : rs.getString(columns[column]);
+    }
+
+    protected final BigDecimal getBigDecimal(ResultSet rs, int column) throws SQLException {
+        if (!has(column)) return null;
+        return (ordinals != null) ? rs.getBigDecimal(ordinals[column]) : rs.getBigDecimal(columns[column]);
+    }
+
+    protected final boolean getBoolean(ResultSet rs, int column) throws SQLException {
+        if (!has(column)) return false;
+        return (ordinals != null) ? rs.getBoolean(ordinals[column]) : rs.getBoolean(columns[column]);
+    }
+
+    /** Reads a BOOLEAN column, returning null for SQL NULL. */
+    protected final Boolean getNullableBoolean(ResultSet rs, int column) throws SQLException {
+        if (!has(column)) return null;
+        boolean value = (ordinals != null) ? rs.getBoolean(ordinals[column]) : rs.getBoolean(columns[column]);
+        return rs.wasNull() ? null : value;
+    }
+
+    /** Reads an integer column, returning null for SQL NULL. */
+    protected final Integer getNullableInteger(ResultSet rs, int column) throws SQLException {
+        if (!has(column)) return null;
+        int value = (ordinals != null) ? rs.getInt(ordinals[column]) : rs.getInt(columns[column]);
+        return rs.wasNull() ? null : value;
+    }
+
+    protected final Timestamp getTimestamp(ResultSet rs, int column) throws SQLException {
+        if (!has(column)) return null;
+        return (ordinals != null) ? rs.getTimestamp(ordinals[column]) : rs.getTimestamp(columns[column]);
+    }
+}
@@ -0,0 +1,54 @@
+package Data.repository.mapper;
+
+import Data.domain.Property;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps rows of the properties table to Property objects, reading columns by ordinal.
+ * Create one instance per query.
+ */
+public class PropertyRowMapper extends OrdinalRowMapper<Property> {
+
+    private static final String[] COLUMNS = {
+            "property_id", "landlord_id", "address", "city", "postal_code", "property_type", "description",
+            "price", "square_footage", "bedrooms", "bathrooms", "is_active", "is_sold", "date_listed",
+            "created_at", "updated_at"
+    };
+    private static final int PROPERTY_ID = 0, LANDLORD_ID = 1, ADDRESS = 2, CITY = 3, POSTAL_CODE = 4,
+            PROPERTY_TYPE = 5, DESCRIPTION = 6, PRICE = 7, SQUARE_FOOTAGE = 8, BEDROOMS = 9, BATHROOMS = 10,
+            IS_ACTIVE = 11, IS_SOLD = 12, DATE_LISTED = 13, CREATED_AT = 14, UPDATED_AT = 15;
+
+    /** Mapper for queries that select every property column (e.g. {@code SELECT *}). */
+    public PropertyRowMapper() {
+        super(COLUMNS);
+    }
+
+    /** Mapper for queries that select only the given columns. */
+    public PropertyRowMapper(String... selectedColumns) {
+        super(COLUMNS, selectedColumns);
+    }
+
+    @Override
+    protected Property map(ResultSet rs) throws SQLException {
+        Property property = new Property();
+        property.setPropertyId(getString(rs, PROPERTY_ID));
+        property.setLandlordId(getString(rs, LANDLORD_ID));
+        property.setAddress(getString(rs, ADDRESS));
+        property.setCity(getString(rs, CITY));
+        property.setPostalCode(getString(rs, POSTAL_CODE));
+        property.setPropertyType(getString(rs, PROPERTY_TYPE));
+        property.setDescription(getString(rs, DESCRIPTION));
+        property.setPrice(getBigDecimal(rs, PRICE));
+        property.setSquareFootage(getBigDecimal(rs, SQUARE_FOOTAGE));
+        property.setBedrooms(getNullableInteger(rs, BEDROOMS));
+        property.setBathrooms(getNullableInteger(rs, BATHROOMS));
+        property.setActive(getBoolean(rs, IS_ACTIVE));
+        property.setSold(getBoolean(rs, IS_SOLD));
+        property.setDateListed(getTimestamp(rs, DATE_LISTED));
+        property.setCreatedAt(getTimestamp(rs, CREATED_AT));
+        property.setUpdatedAt(getTimestamp(rs, UPDATED_AT));
+        return property;
+    }
+}
@@ -0,0 +1,38 @@
+package Data.repository.mapper;
+
+import Data.domain.PropertySummary;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps summary projections of the properties table to PropertySummary objects.
+ * Queries should select {@link #SELECT_LIST}. Create one instance per query.
+ */
+public class PropertySummaryRowMapper extends OrdinalRowMapper<PropertySummary> {
+
+    private static final String[] COLUMNS = {
+            "property_id", "property_type", "price", "city", "bedrooms", "bathrooms", "square_footage"
+    };
+    private static final int PROPERTY_ID = 0, PROPERTY_TYPE = 1, PRICE = 2, CITY = 3, BEDROOMS = 4,
+            BATHROOMS = 5, SQUARE_FOOTAGE = 6;
+
+    /** Column list for summary queries; leaves out description and the other detail-only columns. */
+    public static final String SELECT_LIST = String.join(", ", COLUMNS);
+
+    public PropertySummaryRowMapper() {
+        super(COLUMNS);
+    }
+
+    @Override
+    protected PropertySummary map(ResultSet rs) throws SQLException {
+        return new PropertySummary(
+                getString(rs, PROPERTY_ID),
+                getString(rs, PROPERTY_TYPE),
+                getBigDecimal(rs, PRICE),
+                getString(rs, CITY),
+                getNullableInteger(rs, BEDROOMS),
+                getNullableInteger(rs, BATHROOMS),
+                getBigDecimal(rs, SQUARE_FOOTAGE));
+    }
+}
@@ -0,0 +1,78 @@
+package Data.repository.mapper;
+
+import Data.domain.Client;
+import Data.domain.Landlord;
+import Data.domain.User;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps rows of the users table to User objects, reading columns by ordinal.
+ * {@link #mapRow} returns a Landlord or Client according to the role column.
+ * Create one instance per query.
+ */
+public class UserRowMapper extends OrdinalRowMapper<User> {
+
+    private static final String[] COLUMNS = {
+            "user_id", "name", "email", "password_hash", "phone_number", "role", "is_verified",
+            "created_at", "updated_at", "agent_license_number", "receives_market_updates"
+    };
+    private static final int USER_ID = 0, NAME = 1, EMAIL = 2, PASSWORD_HASH = 3, PHONE_NUMBER = 4, ROLE = 5,
+            IS_VERIFIED = 6, CREATED_AT = 7, UPDATED_AT = 8, AGENT_LICENSE_NUMBER = 9, RECEIVES_MARKET_UPDATES = 10;
+
+    /** Mapper for queries that select every user column (e.g. {@code SELECT *}). */
+    public UserRowMapper() {
+        super(COLUMNS);
+    }
+
+    /** Mapper for queries that select only the given columns. */
+    public UserRowMapper(String... selectedColumns) {
+        super(COLUMNS, selectedColumns);
+    }
+
+    /** Maps the current row as a Landlord regardless of its role column. */
+    public Landlord mapLandlord(ResultSet rs) throws SQLException {
+        ensureBound(rs);
+        return (Landlord) mapAs(rs, new Landlord(), getString(rs, ROLE));
+    }
+
+    /** Maps the current row as a Client regardless of its role column. */
+    public Client mapClient(ResultSet rs) throws SQLException {
+        ensureBound(rs);
+        return (Client) mapAs(rs, new Client(), getString(rs, ROLE));
+    }
+
+    @Override
+    protected User map(ResultSet rs) throws SQLException {
+        String role = getString(rs, ROLE);
+        User user;
+        if ("LANDLORD".equalsIgnoreCase(role)) {
+            user = new Landlord();
+        } else if ("CLIENT".equalsIgnoreCase(role)) {
+            user = new Client();
+        } else {
+            user = new User();
+        }
+        return mapAs(rs, user, role);
+    }
+
+    private User mapAs(ResultSet rs, User user, String role) throws SQLException {
+        if (user instanceof Landlord) {
+            ((Landlord) user).setAgentLicenseNumber(getString(rs, AGENT_LICENSE_NUMBER));
+        } else if (user instanceof Client) {
+            Boolean receives = getNullableBoolean(rs, RECEIVES_MARKET_UPDATES);
+            ((Client) user).setReceivesMarketUpdates(receives != null && receives);
+        }
+        user.setUserId(getString(rs, USER_ID));
+        user.setName(getString(rs, NAME));
+        user.setEmail(getString(rs, EMAIL));
+        user.setPasswordHash(getString(rs, PASSWORD_HASH));
+        user.setPhoneNumber(getString(rs, PHONE_NUMBER));
+        user.setRole(role);
+        user.setVerified(getBoolean(rs, IS_VERIFIED));
+        user.setCreatedAt(getTimestamp(rs, CREATED_AT));
+        user.setUpdatedAt(getTimestamp(rs, UPDATED_AT));
+        return user;
+    }
+}
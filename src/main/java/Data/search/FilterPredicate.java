@@ -0,0 +1,111 @@
+package Data.search;
+
+import Data.domain.Filter;
+import Data.domain.Property;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A Filter compiled into a test on a single Property, with the same meaning as the WHERE clause
+ * PropertyRepositoryImpl builds for it: text criteria match case-insensitively, location is a
+ * substring of the city or postal code, keywords a substring of the description, and a null column
+ * never satisfies a criterion on it. Paging fields are ignored.
+ * <p>
+ * Only the criteria the filter sets are checked, cheapest and most selective first (flags and
+ * exact matches, then numeric bounds, then substrings, description last), stopping at the first
+ * one that fails. Everything a check needs is computed at compile time, so {@link #test} allocates
+ * nothing. The predicate does not see later changes to the Filter; compile it again instead.
+ */
+public final class FilterPredicate implements Predicate<Property> {
+
+    private static final FilterPredicate MATCH_ALL = new FilterPredicate(new Criterion[0]);
+
+    private final Criterion[] criteria;
+
+    private FilterPredicate(Criterion[] criteria) {
+        this.criteria = criteria;
+    }
+
+    /** Compiles the filter; a null filter matches every property. */
+    public static FilterPredicate compile(Filter filter) {
+        if (filter == null) {
+            return MATCH_ALL;
+        }
+        filter = filter.normalized(); // Text trimmed, as the query binds it
+        List<Criterion> criteria = new ArrayList<>();
+        if (filter.getMustBeActive() != null) {
+            boolean mustBeActive = filter.getMustBeActive();
+            criteria.add(p -> p.isActive() == mustBeActive);
+        }
+        if (isSet(filter.getPropertyType())) {
+            String type = filter.getPropertyType();
+            criteria.add(p -> type.equalsIgnoreCase(p.getPropertyType()));
+        }
+        if (filter.getMinBedrooms() != null && filter.getMinBedrooms() > 0) { // Ignored if 0, like the SQL
+            int minBedrooms = filter.getMinBedrooms();
+            criteria.add(p -> p.getBedrooms() != null && p.getBedrooms() >= minBedrooms);
+        }
+        if (filter.getMinBathrooms() != null && filter.getMinBathrooms() > 0) {
+            int minBathrooms = filter.getMinBathrooms();
+            criteria.add(p -> p.getBathrooms() != null && p.getBathrooms() >= minBathrooms);
+        }
+        if (filter.getMinPrice() != null) {
+            BigDecimal minPrice = filter.getMinPrice();
+            criteria.add(p -> p.getPrice() != null && p.getPrice().compareTo(minPrice) >= 0);
+        }
+        if (filter.getMaxPrice() != null) {
+            BigDecimal maxPrice = filter.getMaxPrice();
+            criteria.add(p -> p.getPrice() != null && p.getPrice().compareTo(maxPrice) <= 0);
+        }
+        if (isSet(filter.getLocation())) {
+            String location = filter.getLocation();
+            criteria.add(p -> containsIgnoreCase(p.getCity(), location) || containsIgnoreCase(p.getPostalCode(), location));
+        }
+        if (isSet(filter.getKeywords())) {
+            String keywords = filter.getKeywords();
+            criteria.add(p -> containsIgnoreCase(p.getDescription(), keywords));
+        }
+        return criteria.isEmpty() ? MATCH_ALL : new FilterPredicate(criteria.toArray(new Criterion[0]));
+    }
+
+    @Override
+    public boolean test(Property property) {
+        for (Criterion criterion : criteria) {
+            if (!criterion.test(property)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Number of criteria checked; 0 if every property matches. */
+    public int criteriaCount() {
+        return criteria.length;
+    }
+
+    /** Like {@code text LIKE '%needle%'} under a case-insensitive collation, without lowercasing copies. */
+    static boolean containsIgnoreCase(String text, String needle) {
+        if (text == null) {
+            return false;
+        }
+        for (int i = 0, last = text.length() - needle.length(); i <= last; i++) {
+            if (text.regionMatches(true, i, needle, 0, needle.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSet(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    /** One compiled criterion. */
+    @FunctionalInterface
+    private interface Criterion {
+        boolean test(Property property);
+    }
+}
@@ -0,0 +1,192 @@
+package Data.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index from words to the documents containing them, for keyword search over descriptions.
+ * <p>
+ * Text is split into runs of letters and digits and lowercased; with stemming on, common English
+ * suffixes are stripped too, so "parks", "parking" and "parked" all index as "park". Each term maps
+ * to a sorted array of document ids. An AND query walks the shortest posting list and binary
+ * searches the others; an OR query unions them. Not thread-safe; PropertySearchEngine guards it.
+ */
+final class InvertedIndex {
+
+    private final boolean stemming;
+    private final Map<String, Postings> postings = new HashMap<>();
+    private String[][] termsByDoc = new String[16][]; // For removal
+
+    InvertedIndex(boolean stemming) {
+        this.stemming = stemming;
+    }
+
+    /** Indexes the document's text, replacing whatever was indexed for it before. */
+    void add(int doc, String text) {
+        remove(doc);
+        List<String> terms = terms(text);
+        if (terms.isEmpty()) {
+            return;
+        }
+        if (doc >= termsByDoc.length) {
+            termsByDoc = Arrays.copyOf(termsByDoc, Math.max(doc + 1, termsByDoc.length * 2));
+        }
+        termsByDoc[doc] = terms.toArray(new String[0]);
+        for (String term : terms) {
+            postings.computeIfAbsent(term, t -> new Postings()).add(doc);
+        }
+    }
+
+    void remove(int doc) {
+        if (doc >= termsByDoc.length || termsByDoc[doc] == null) {
+            return;
+        }
+        for (String term : termsByDoc[doc]) {
+            Postings list = postings.get(term);
+            list.remove(doc);
+            if (list.size == 0) {
+                postings.remove(term);
+            }
+        }
+        termsByDoc[doc] = null;
+    }
+
+    /** Documents containing every term of the query; null if the query has no terms. */
+    BitSet matchAll(String query) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        List<Postings> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Postings list = postings.get(term);
+            if (list == null) {
+                return new BitSet(); // A missing term empties the intersection
+            }
+            lists.add(list);
+        }
+        lists.sort((a, b) -> Integer.compare(a.size, b.size));
+        Postings shortest = lists.get(0);
+        BitSet result = new BitSet();
+        candidates:
+        for (int i = 0; i < shortest.size; i++) {
+            int doc = shortest.docs[i];
+            for (int l = 1; l < lists.size(); l++) {
+                if (!lists.get(l).contains(doc)) {
+                    continue candidates;
+                }
+            }
+            result.set(doc);
+        }
+        return result;
+    }
+
+    /** Documents containing at least one term of the query; null if the query has no terms. */
+    BitSet matchAny(String query) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        BitSet result = new BitSet();
+        for (String term : terms) {
+            Postings list = postings.get(term);
+            if (list != null) {
+                for (int i = 0; i < list.size; i++) {
+                    result.set(list.docs[i]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /** Distinct terms of the text, in order of first occurrence, as they are indexed. */
+    List<String> terms(String text) {
+        return terms(text, stemming);
+    }
+
+    /** Distinct lowercased words of the text, stemmed if asked, in order of first occurrence. */
+    static List<String> terms(String text, boolean stemming) {
+        if (text == null) {
+            return List.of();
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String word = text.substring(start, i).toLowerCase(Locale.ROOT);
+                terms.add(stemming ? stem(word) : word);
+                start = -1;
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+
+    int termCount() {
+        return postings.size();
+    }
+
+    void clear() {
+        postings.clear();
+        Arrays.fill(termsByDoc, null);
+    }
+
+    /** Light suffix stripping; both documents and queries go through it, so it only needs to be consistent. */
+    static String stem(String word) {
+        int length = word.length();
+        if (length > 4 && word.endsWith("ies")) {
+            return word.substring(0, length - 3) + "y";
+        }
+        if (length > 5 && word.endsWith("ing")) {
+            return word.substring(0, length - 3);
+        }
+        if (length > 4 && word.endsWith("ed")) {
+            return word.substring(0, length - 2);
+        }
+        if (length > 3 && word.endsWith("s") && !word.endsWith("ss")) {
+            return word.substring(0, length - 1);
+        }
+        return word;
+    }
+
+    /** Sorted, duplicate-free document ids. */
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        private void add(int doc) {
+            int at = Arrays.binarySearch(docs, 0, size, doc);
+            if (at >= 0) {
+                return;
+            }
+            at = -at - 1;
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            System.arraycopy(docs, at, docs, at + 1, size - at);
+            docs[at] = doc;
+            size++;
+        }
+
+        private void remove(int doc) {
+            int at = Arrays.binarySearch(docs, 0, size, doc);
+            if (at >= 0) {
+                System.arraycopy(docs, at + 1, docs, at, size - at - 1);
+                size--;
+            }
+        }
+
+        private boolean contains(int doc) {
+            return Arrays.binarySearch(docs, 0, size, doc) >= 0;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package Data.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Location lookups over city, postal code and street address: substring matching for location
+ * filters and prefix matching for type-ahead suggestions.
+ * <p>
+ * Each field maps its distinct lowercased values to the documents holding them, and every value is
+ * indexed by its trigrams. A substring query of three or more characters only checks the values
+ * sharing its rarest trigram, so matching is exactly {@code LIKE '%x%'} without a scan; shorter
+ * queries check each distinct value. Suggestions (city names, postal codes and street names) live
+ * in a sorted map keyed by the full suggestion and by each of its later words, so "bos" finds
+ * both "Boston" and "South Boston". Not thread-safe; PropertySearchEngine guards it.
+ */
+final class LocationIndex {
+
+    enum Field { CITY, POSTAL_CODE, ADDRESS }
+
+    private static final int GRAM = 3;
+
+    private final Map<Field, FieldValues> fields = new EnumMap<>(Field.class);
+    private final TreeMap<String, Set<Suggestion>> suggestionsByPrefixKey = new TreeMap<>();
+    private final Map<String, Suggestion> suggestions = new HashMap<>(); // By kind and normalized text
+    private final Map<Integer, String[]> valuesByDoc = new HashMap<>(); // As given, for removal
+
+    LocationIndex() {
+        for (Field field : Field.values()) {
+            fields.put(field, new FieldValues());
+        }
+    }
+
+    /** Indexes the document's location, replacing whatever was indexed for it before. */
+    void add(int doc, String city, String postalCode, String address) {
+        remove(doc);
+        String[] values = {city, postalCode, address};
+        valuesByDoc.put(doc, values);
+        for (Field field : Field.values()) {
+            String value = values[field.ordinal()];
+            if (value != null) {
+                fields.get(field).add(value.toLowerCase(Locale.ROOT), doc);
+            }
+        }
+        addSuggestion(Field.CITY, city);
+        addSuggestion(Field.POSTAL_CODE, postalCode);
+        addSuggestion(Field.ADDRESS, streetName(address));
+    }
+
+    void remove(int doc) {
+        String[] values = valuesByDoc.remove(doc);
+        if (values == null) {
+            return;
+        }
+        for (Field field : Field.values()) {
+            String value = values[field.ordinal()];
+            if (value != null) {
+                fields.get(field).remove(value.toLowerCase(Locale.ROOT), doc);
+            }
+        }
+        removeSuggestion(Field.CITY, values[0]);
+        removeSuggestion(Field.POSTAL_CODE, values[1]);
+        removeSuggestion(Field.ADDRESS, streetName(values[2]));
+    }
+
+    /** Documents where any of the fields contains the text, ignoring case. The result may be modified. */
+    BitSet containing(String text, Field... searched) {
+        String needle = text.toLowerCase(Locale.ROOT);
+        BitSet result = new BitSet();
+        for (Field field : searched) {
+            fields.get(field).collectContaining(needle, result);
+        }
+        return result;
+    }
+
+    /**
+     * Up to {@code limit} locations with a word starting with the prefix, most listings first:
+     * city names, postal codes and street names as they were last written.
+     */
+    List<String> suggest(String prefix, int limit) {
+        String key = normalizeSuggestion(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Set<Suggestion> found = new HashSet<>();
+        for (Set<Suggestion> matches : suggestionsByPrefixKey.subMap(key, key + Character.MAX_VALUE).values()) {
+            found.addAll(matches);
+        }
+        return found.stream()
+                .sorted(Comparator.comparingInt((Suggestion s) -> -s.count).thenComparing(s -> s.text))
+                .limit(limit)
+                .map(s -> s.text)
+                .toList();
+    }
+
+    int distinctValues(Field field) {
+        return fields.get(field).docsByValue.size();
+    }
+
+    void clear() {
+        for (FieldValues values : fields.values()) {
+            values.docsByValue.clear();
+            values.valuesByGram.clear();
+        }
+        suggestionsByPrefixKey.clear();
+        suggestions.clear();
+        valuesByDoc.clear();
+    }
+
+    /** "12 Harbor Street, Apt 3" becomes "Harbor Street": the house number and unit are dropped. */
+    static String streetName(String address) {
+        if (address == null) {
+            return null;
+        }
+        String street = address.split(",", 2)[0].trim();
+        int start = 0;
+        while (start < street.length() && (Character.isDigit(street.charAt(start))
+                || street.charAt(start) == '-' || Character.isWhitespace(street.charAt(start)))) {
+            start++;
+        }
+        return street.substring(start);
+    }
+
+    private void addSuggestion(Field kind, String text) {
+        String normalized = normalizeSuggestion(text);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        Suggestion suggestion = suggestions.computeIfAbsent(kind + ":" + normalized, k -> new Suggestion());
+        suggestion.text = text.trim();
+        if (suggestion.count++ == 0) {
+            for (String key : prefixKeys(normalized)) {
+                suggestionsByPrefixKey.computeIfAbsent(key, k -> new HashSet<>()).add(suggestion);
+            }
+        }
+    }
+
+    private void removeSuggestion(Field kind, String text) {
+        String normalized = normalizeSuggestion(text);
+        Suggestion suggestion = suggestions.get(kind + ":" + normalized);
+        if (suggestion == null || --suggestion.count > 0) {
+            return;
+        }
+        suggestions.remove(kind + ":" + normalized);
+        for (String key : prefixKeys(normalized)) {
+            Set<Suggestion> matches = suggestionsByPrefixKey.get(key);
+            matches.remove(suggestion);
+            if (matches.isEmpty()) {
+                suggestionsByPrefixKey.remove(key);
+            }
+        }
+    }
+
+    /** The whole text and the text from each later word on: "south boston" and "boston". */
+    private static List<String> prefixKeys(String normalized) {
+        List<String> keys = new ArrayList<>();
+        keys.add(normalized);
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(normalized.substring(i + 1));
+        }
+        return keys;
+    }
+
+    /** Lowercased, trimmed and with whitespace runs collapsed; "" for null. */
+    private static String normalizeSuggestion(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Suggestion {
+        private String text;
+        private int count; // Documents with this location
+    }
+
+    /** One field's distinct values, with their documents and a trigram index over them. */
+    private static final class FieldValues {
+        private final Map<String, BitSet> docsByValue = new HashMap<>();
+        private final Map<String, Set<String>> valuesByGram = new HashMap<>();
+
+        private void add(String value, int doc) {
+            BitSet docs = docsByValue.get(value);
+            if (docs == null) {
+                docs = new BitSet();
+                docsByValue.put(value, docs);
+                for (int i = 0; i + GRAM <= value.length(); i++) {
+                    valuesByGram.computeIfAbsent(value.substring(i, i + GRAM), g -> new HashSet<>()).add(value);
+                }
+            }
+            docs.set(doc);
+        }
+
+        private void remove(String value, int doc) {
+            BitSet docs = docsByValue.get(value);
+            if (docs == null) {
+                return;
+            }
+            docs.clear(doc);
+            if (docs.isEmpty()) {
+                docsByValue.remove(value);
+                for (int i = 0; i + GRAM <= value.length(); i++) {
+                    String gram = value.substring(i, i + GRAM);
+                    Set<String> values = valuesByGram.get(gram);
+                    values.remove(value);
+                    if (values.isEmpty()) {
+                        valuesByGram.remove(gram);
+                    }
+                }
+            }
+        }
+
+        private void collectContaining(String needle, BitSet result) {
+            if (needle.length() < GRAM) {
+                docsByValue.forEach((value, docs) -> {
+                    if (value.contains(needle)) {
+                        result.or(docs);
+                    }
+                });
+                return;
+            }
+            Set<String> rarest = null;
+            for (int i = 0; i + GRAM <= needle.length(); i++) {
+                Set<String> values = valuesByGram.get(needle.substring(i, i + GRAM));
+                if (values == null) {
+                    return; // Some trigram occurs in no value
+                }
+                if (rarest == null || values.size() < rarest.size()) {
+                    rarest = values;
+                }
+            }
+            for (String value : rarest) {
+                if (value.contains(needle)) {
+                    result.or(docsByValue.get(value));
+                }
+            }
+        }
+    }
+}
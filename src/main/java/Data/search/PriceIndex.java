@@ -0,0 +1,174 @@
+package Data.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
+/**
+ * Documents sorted by price, for range queries in O(log n) plus the size of the result.
+ * <p>
+ * Entries are (price in cents, document) pairs kept in two parallel arrays, ordered by price and
+ * then document. Inserting or removing one entry is a binary search plus an array shift. Appends
+ * made while loading are sorted once, by {@link #sort()} or the next time the index is used.
+ * Not thread-safe, and reads may sort: PropertySearchEngine sorts under its write lock.
+ */
+final class PriceIndex {
+
+    private long[] prices = new long[16];
+    private int[] docs = new int[16];
+    private int size;
+    private boolean sorted = true;
+
+    /** Adds an entry without keeping the order; for bulk loads. */
+    void append(long priceCents, int doc) {
+        ensureCapacity(size + 1);
+        prices[size] = priceCents;
+        docs[size] = doc;
+        size++;
+        sorted = false;
+    }
+
+    void insert(long priceCents, int doc) {
+        ensureSorted();
+        int at = position(priceCents, doc);
+        ensureCapacity(size + 1);
+        System.arraycopy(prices, at, prices, at + 1, size - at);
+        System.arraycopy(docs, at, docs, at + 1, size - at);
+        prices[at] = priceCents;
+        docs[at] = doc;
+        size++;
+    }
+
+    /** Removes the entry; {@code priceCents} must be the price it was added with. */
+    boolean remove(long priceCents, int doc) {
+        ensureSorted();
+        int at = position(priceCents, doc);
+        if (at == size || prices[at] != priceCents || docs[at] != doc) {
+            return false;
+        }
+        System.arraycopy(prices, at + 1, prices, at, size - at - 1);
+        System.arraycopy(docs, at + 1, docs, at, size - at - 1);
+        size--;
+        return true;
+    }
+
+    /** Moves a document to a new price. */
+    void update(long oldPriceCents, long newPriceCents, int doc) {
+        if (oldPriceCents != newPriceCents) {
+            remove(oldPriceCents, doc);
+            insert(newPriceCents, doc);
+        }
+    }
+
+    /** Documents priced within [minCents, maxCents], both inclusive. */
+    BitSet range(long minCents, long maxCents) {
+        BitSet result = new BitSet();
+        if (minCents > maxCents) {
+            return result;
+        }
+        ensureSorted();
+        for (int i = lowerBound(minCents), end = upperBound(maxCents); i < end; i++) {
+            result.set(docs[i]);
+        }
+        return result;
+    }
+
+    /** Number of documents priced within [minCents, maxCents], without collecting them. */
+    int count(long minCents, long maxCents) {
+        if (minCents > maxCents) {
+            return 0;
+        }
+        ensureSorted();
+        return upperBound(maxCents) - lowerBound(minCents);
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        size = 0;
+        sorted = true;
+    }
+
+    /** First entry with a price >= priceCents. */
+    private int lowerBound(long priceCents) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prices[mid] < priceCents) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** First entry with a price > priceCents. */
+    private int upperBound(long priceCents) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prices[mid] <= priceCents) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** First entry not ordered before (priceCents, doc). */
+    private int position(long priceCents, int doc) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prices[mid] < priceCents || (prices[mid] == priceCents && docs[mid] < doc)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Sorts pending appends now rather than on the next read. */
+    void sort() {
+        ensureSorted();
+    }
+
+    private void ensureSorted() {
+        if (sorted) {
+            return;
+        }
+        long[] oldPrices = prices;
+        int[] oldDocs = docs;
+        int[] order = IntStream.range(0, size).boxed()
+                .sorted((a, b) -> oldPrices[a] != oldPrices[b]
+                        ? Long.compare(oldPrices[a], oldPrices[b])
+                        : Integer.compare(oldDocs[a], oldDocs[b]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        long[] sortedPrices = new long[prices.length];
+        int[] sortedDocs = new int[docs.length];
+        for (int i = 0; i < size; i++) {
+            sortedPrices[i] = oldPrices[order[i]];
+            sortedDocs[i] = oldDocs[order[i]];
+        }
+        prices = sortedPrices;
+        docs = sortedDocs;
+        sorted = true;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > prices.length) {
+            int newLength = Math.max(capacity, prices.length * 2);
+            prices = Arrays.copyOf(prices, newLength);
+            docs = Arrays.copyOf(docs, newLength);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package Data.search;
+
+import Data.domain.Filter;
+import Data.domain.Property;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Orders search results by relevance to the Filter that found them, keeping only the best K.
+ * <p>
+ * Each candidate gets a score in [0, 1], a weighted average of the parts that apply to the filter:
+ * keyword strength (the whole phrase in the description, or else the share of its words found
+ * there, both sides stemmed as in the keyword index), price closeness to the middle of the
+ * filter's price range, bedroom fit (the requested number scores best, each extra bedroom a
+ * little less) and recency (halving every {@value #RECENCY_HALF_LIFE_DAYS} days). Parts the filter says nothing about are left out, so
+ * with an empty filter the ranking is by recency alone.
+ * <p>
+ * Candidates go through a min-heap of size K, so ranking n candidates costs O(n log K) and never
+ * sorts the whole result. The latency budget is checked every {@value #BUDGET_CHECK_INTERVAL}
+ * candidates; once it is spent, the best K seen so far are returned and the ranking is marked
+ * incomplete. Candidates are not checked against the filter; pass the rows a search returned.
+ * Thread-safe: a ranker holds no per-call state.
+ */
+public class PropertyRanker {
+
+    public static final Duration DEFAULT_BUDGET = Duration.ofMillis(50);
+    public static final double KEYWORD_WEIGHT = 0.4;
+    public static final double PRICE_WEIGHT = 0.25;
+    public static final double BEDROOM_WEIGHT = 0.15;
+    public static final double RECENCY_WEIGHT = 0.2;
+
+    static final int RECENCY_HALF_LIFE_DAYS = 30;
+    static final int BUDGET_CHECK_INTERVAL = 64;
+    private static final double ONE_BOUND_SCALE = 0.25; // With one price bound, 25% away from it scores 0
+
+    private final Duration budget;
+    private final LongSupplier nanoClock;
+    private final Supplier<LocalDateTime> now;
+
+    public PropertyRanker() {
+        this(DEFAULT_BUDGET);
+    }
+
+    public PropertyRanker(Duration budget) {
+        this(budget, System::nanoTime, LocalDateTime::now);
+    }
+
+    /** @param nanoClock times the budget; @param now ages listings for recency. Tests pass fakes. */
+    PropertyRanker(Duration budget, LongSupplier nanoClock, Supplier<LocalDateTime> now) {
+        if (budget == null || budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("Budget must be positive.");
+        }
+        this.budget = budget;
+        this.nanoClock = nanoClock;
+        this.now = now;
+    }
+
+    /** Result of a ranking: the best properties, best first, and whether every candidate was scored. */
+    public static final class Ranking {
+        private final List<Property> properties;
+        private final int examined;
+        private final boolean complete;
+
+        Ranking(List<Property> properties, int examined, boolean complete) {
+            this.properties = Collections.unmodifiableList(properties);
+            this.examined = examined;
+            this.complete = complete;
+        }
+
+        public List<Property> getProperties() { return properties; }
+        public int getExamined() { return examined; }
+        /** False if the budget ran out before every candidate was scored. */
+        public boolean isComplete() { return complete; }
+    }
+
+    /**
+     * Ranks the stream and then closes it, even if the budget stopped the ranking early, so a stream
+     * over an open result set (IPropertyRepository.streamProperties) releases its connection.
+     */
+    public Ranking rank(Filter filter, Stream<Property> candidates, int k) {
+        try (Stream<Property> stream = candidates) {
+            return rank(filter, stream.iterator(), k);
+        }
+    }
+
+    public Ranking rank(Filter filter, Iterable<Property> candidates, int k) {
+        return rank(filter, candidates.iterator(), k);
+    }
+
+    /** The best {@code k} candidates for the filter, best first. */
+    public Ranking rank(Filter filter, Iterator<Property> candidates, int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive.");
+        }
+        long deadline = nanoClock.getAsLong() + budget.toNanos();
+        Scorer scorer = new Scorer(filter == null ? new Filter().normalized() : filter.normalized(), now.get());
+        PriorityQueue<Scored> best = new PriorityQueue<>(k + 1, BETTER_LAST);
+        int examined = 0;
+        boolean complete = true;
+        while (candidates.hasNext()) {
+            if (examined > 0 && examined % BUDGET_CHECK_INTERVAL == 0 && nanoClock.getAsLong() - deadline > 0) {
+                complete = false;
+                break;
+            }
+            Property property = candidates.next();
+            examined++;
+            Scored scored = new Scored(property, scorer.score(property));
+            if (best.size() < k) {
+                best.add(scored);
+            } else if (BETTER_LAST.compare(scored, best.peek()) > 0) {
+                best.poll();
+                best.add(scored);
+            }
+        }
+        List<Property> ranked = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ranked.add(best.poll().property);
+        }
+        Collections.reverse(ranked);
+        return new Ranking(ranked, examined, complete);
+    }
+
+    /** Score of one property for the filter, in [0, 1]. */
+    public double score(Filter filter, Property property) {
+        return new Scorer(filter == null ? new Filter().normalized() : filter.normalized(), now.get()).score(property);
+    }
+
+    /** Lowest score first; ties go to the newer listing, then the higher id, as in the default sort. */
+    private static final Comparator<Scored> BETTER_LAST = Comparator
+            .comparingDouble((Scored s) -> s.score)
+            .thenComparing(s -> s.property.getCreatedAt(), Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(s -> s.property.getPropertyId(), Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private static final class Scored {
+        private final Property property;
+        private final double score;
+
+        private Scored(Property property, double score) {
+            this.property = property;
+            this.score = score;
+        }
+    }
+
+    /** Everything taken from the filter once per ranking, so scoring a candidate stays cheap. */
+    private static final class Scorer {
+        private final String phrase;          // Null without keywords
+        private final List<String> terms;
+        private final double priceTarget;     // NaN without price bounds
+        private final double priceScale;
+        private final int minBedrooms;        // 0 if not set
+        private final LocalDateTime now;
+
+        private Scorer(Filter filter, LocalDateTime now) {
+            this.phrase = filter.getKeywords();
+            this.terms = phrase == null ? List.of() : InvertedIndex.terms(phrase, true);
+            BigDecimal min = filter.getMinPrice();
+            BigDecimal max = filter.getMaxPrice();
+            if (min != null && max != null) {
+                priceTarget = (min.doubleValue() + max.doubleValue()) / 2;
+                priceScale = Math.max((max.doubleValue() - min.doubleValue()) / 2, 1);
+            } else if (min != null || max != null) {
+                priceTarget = (min != null ? min : max).doubleValue();
+                priceScale = Math.max(Math.abs(priceTarget) * ONE_BOUND_SCALE, 1);
+            } else {
+                priceTarget = Double.NaN;
+                priceScale = 1;
+            }
+            this.minBedrooms = filter.getMinBedrooms() != null ? filter.getMinBedrooms() : 0;
+            this.now = now;
+        }
+
+        private double score(Property property) {
+            double total = 0;
+            double weights = 0;
+            if (phrase != null) {
+                total += KEYWORD_WEIGHT * keywordScore(property.getDescription());
+                weights += KEYWORD_WEIGHT;
+            }
+            if (!Double.isNaN(priceTarget)) {
+                total += PRICE_WEIGHT * priceScore(property.getPrice());
+                weights += PRICE_WEIGHT;
+            }
+            if (minBedrooms > 0) {
+                total += BEDROOM_WEIGHT * bedroomScore(property.getBedrooms());
+                weights += BEDROOM_WEIGHT;
+            }
+            total += RECENCY_WEIGHT * recencyScore(property.getCreatedAt());
+            weights += RECENCY_WEIGHT;
+            return total / weights;
+        }
+
+        /** 1 for the whole phrase, otherwise the share of its words found, both sides stemmed. */
+        private double keywordScore(String description) {
+            if (description == null) {
+                return 0;
+            }
+            if (FilterPredicate.containsIgnoreCase(description, phrase)) {
+                return 1;
+            }
+            if (terms.isEmpty()) {
+                return 0;
+            }
+            Set<String> words = new HashSet<>(InvertedIndex.terms(description, true));
+            int found = 0;
+            for (String term : terms) {
+                if (words.contains(term)) {
+                    found++;
+                }
+            }
+            return 0.9 * found / terms.size(); // Below a phrase match
+        }
+
+        private double priceScore(BigDecimal price) {
+            if (price == null) {
+                return 0;
+            }
+            return Math.max(0, 1 - Math.abs(price.doubleValue() - priceTarget) / priceScale);
+        }
+
+        private double bedroomScore(Integer bedrooms) {
+            if (bedrooms == null || bedrooms < minBedrooms) {
+                return 0;
+            }
+            return Math.max(0, 1 - 0.25 * (bedrooms - minBedrooms));
+        }
+
+        private double recencyScore(LocalDateTime createdAt) {
+            if (createdAt == null) {
+                return 0;
+            }
+            double ageDays = Math.max(0, Duration.between(createdAt, now).toMinutes() / (24.0 * 60));
+            return Math.pow(0.5, ageDays / RECENCY_HALF_LIFE_DAYS);
+        }
+    }
+}
@@ -0,0 +1,542 @@
+package Data.search;
+
+import Data.domain.Filter;
+import Data.domain.Property;
+import Data.domain.PropertySummary;
+import Data.domain.SortDirection;
+import Data.repository.interfaces.ChangeFeedListener;
+import Data.repository.interfaces.IPropertyRepository;
+import Data.repository.interfaces.PropertyWriteListener;
+import Data.search.LocationIndex.Field;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-process search over the property catalogue, answering findProperties and searchProperties
+ * without a database round trip.
+ * <p>
+ * Every property is a document with an int id. The searchable fields live in column arrays indexed
+ * by document (price as long cents, bedrooms and bathrooms as unsigned bytes, square footage as
+ * int, creation time as epoch millis) and property type is dictionary encoded. Type, is_active and
+ * is_sold have per-value bitmaps, a sorted {@link PriceIndex} turns a price range into a candidate
+ * set by binary search and a {@link LocationIndex} answers location substrings over city, postal
+ * code and address without scanning. A search starts
+ * from the price range (or from every document), intersects the bitmaps and only checks the
+ * remaining criteria on the surviving documents. Filter keywords are looked up in an
+ * {@link InvertedIndex} over descriptions: every word must occur, after stemming, rather than the
+ * exact substring the SQL LIKE looks for. Other text matching lowercases both sides, approximating
+ * the table's case-insensitive collation; LIKE wildcards in the search text are matched literally.
+ * <p>
+ * The engine is filled by {@link #reload()} and kept current through {@link #propertyWritten} (for
+ * this instance's writes, re-read from the source) and {@link #propertiesChanged} (for rows from
+ * the change feed). Until the first load completes {@link #isLoaded()} is false and callers should
+ * query the database instead. Writes reported before then may be missed by a load query that is
+ * already running, so their ids are kept and re-read from the source once the load completes.
+ * Reads run concurrently; writes take an exclusive lock.
+ */
+public class PropertySearchEngine implements PropertyWriteListener, ChangeFeedListener {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long NO_PRICE = Long.MIN_VALUE;
+
+    private final IPropertyRepository source;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Columns, indexed by document
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private long[] priceCents = new long[INITIAL_CAPACITY];
+    private byte[] bedrooms = new byte[INITIAL_CAPACITY];     // Unsigned; see hasBedrooms
+    private byte[] bathrooms = new byte[INITIAL_CAPACITY];    // Unsigned; see hasBathrooms
+    private int[] squareFootage = new int[INITIAL_CAPACITY];
+    private long[] createdAt = new long[INITIAL_CAPACITY];
+    private int[] typeCodes = new int[INITIAL_CAPACITY];
+    private Property[] rows = new Property[INITIAL_CAPACITY];     // Returned as copies
+
+    private final BitSet live = new BitSet();
+    private final BitSet active = new BitSet();
+    private final BitSet sold = new BitSet();
+    private final BitSet hasBedrooms = new BitSet();
+    private final BitSet hasBathrooms = new BitSet();
+    private ValueDictionary types = new ValueDictionary();
+    private final PriceIndex priceIndex = new PriceIndex();
+    private final InvertedIndex keywordIndex = new InvertedIndex(true); // Over descriptions
+    private final LocationIndex locationIndex = new LocationIndex();
+
+    private final Map<String, Integer> docById = new HashMap<>();
+    private final Deque<Integer> freeDocs = new ArrayDeque<>();
+    private int docLimit; // Documents below this have been used
+    private boolean bulkLoading; // Prices are appended unsorted and sorted once at the end
+    private volatile boolean loaded;                                       // Set under writtenBeforeLoad
+    private final Set<String> writtenBeforeLoad = new LinkedHashSet<>(); // Guarded by itself
+
+    /** @param source read by {@link #reload()} and {@link #propertyWritten}; typically a PropertyRepositoryImpl. */
+    public PropertySearchEngine(IPropertyRepository source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source repository cannot be null.");
+        }
+        this.source = source;
+    }
+
+    /** Replaces the contents with every property in the source. */
+    public void reload() {
+        try (Stream<Property> all = source.streamProperties(new Filter())) {
+            load(all);
+        }
+    }
+
+    /**
+     * Replaces the contents with the given properties, then re-reads any property reported written
+     * before the first load completed.
+     */
+    public void load(Stream<Property> properties) {
+        List<String> replay;
+        lock.writeLock().lock();
+        try {
+            clear();
+            bulkLoading = true;
+            try {
+                properties.forEach(this::upsertLocked);
+            } finally {
+                bulkLoading = false;
+                priceIndex.sort(); // Never left to a reader, which only holds the read lock
+            }
+            synchronized (writtenBeforeLoad) {
+                loaded = true;
+                replay = new ArrayList<>(writtenBeforeLoad);
+                writtenBeforeLoad.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        replay.forEach(this::propertyWritten);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /** Adds the property, or replaces the indexed version with the same id. */
+    public void upsert(Property property) {
+        if (property == null || property.getPropertyId() == null) {
+            throw new IllegalArgumentException("Property and property ID cannot be null.");
+        }
+        lock.writeLock().lock();
+        try {
+            upsertLocked(property);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(String propertyId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docById.remove(propertyId);
+            if (doc == null) {
+                return false;
+            }
+            unindex(doc);
+            freeDocs.push(doc);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Re-reads a property written by this instance; drops it if it no longer exists. */
+    @Override
+    public void propertyWritten(String propertyId) {
+        if (propertyId == null || deferredUntilLoaded(List.of(propertyId))) {
+            return;
+        }
+        Property current = source.getPropertyById(propertyId);
+        if (current != null) {
+            upsert(current);
+        } else {
+            remove(propertyId);
+        }
+    }
+
+    /** Applies rows written by other instances. */
+    @Override
+    public void propertiesChanged(List<Property> properties) {
+        List<String> propertyIds = new ArrayList<>(properties.size());
+        for (Property property : properties) {
+            propertyIds.add(property.getPropertyId());
+        }
+        if (deferredUntilLoaded(propertyIds)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (Property property : properties) {
+                upsertLocked(property);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Before the first load completes, remembers the ids for it to re-read and returns true. */
+    private boolean deferredUntilLoaded(List<String> propertyIds) {
+        if (loaded) {
+            return false;
+        }
+        synchronized (writtenBeforeLoad) {
+            if (loaded) {
+                return false;
+            }
+            writtenBeforeLoad.addAll(propertyIds);
+            return true;
+        }
+    }
+
+    /**
+     * Counterpart of IPropertyRepository.findProperties with the same order and limit; paging fields
+     * are ignored. The rows can differ when keywords are set: each keyword word must occur in the
+     * description as a whole word after stemming, in any order, where the SQL LIKE wants the exact
+     * keyword text as a substring. So "pools garden" finds "garden with a pool" here but not in the
+     * database, and "pool" no longer finds "whirlpool". Keywords without a single word are matched
+     * as a substring, like the SQL.
+     */
+    public List<Property> findProperties(Filter filter) {
+        Filter normalized = filter == null ? new Filter().normalized() : filter.normalized();
+        lock.readLock().lock();
+        try {
+            return materialize(sort(matchFilter(normalized), normalized.getSortBy(), normalized.getSortDirection(),
+                    normalized.getLimit()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Summaries of the rows {@link #findProperties(Filter)} returns. */
+    public List<PropertySummary> findPropertySummaries(Filter filter) {
+        Filter normalized = filter == null ? new Filter().normalized() : filter.normalized();
+        lock.readLock().lock();
+        try {
+            return summarize(sort(matchFilter(normalized), normalized.getSortBy(), normalized.getSortDirection(),
+                    normalized.getLimit()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Same rows as PropertyManagement.searchProperties: active, unsold listings matching the arguments. */
+    public List<Property> searchProperties(String type, Double minPrice, Double maxPrice, String location) {
+        lock.readLock().lock();
+        try {
+            return materialize(sortNewestFirst(matchSearch(type, minPrice, maxPrice, location)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Same rows, order and limit as PropertyManagement's sorted searchProperties. */
+    public List<Property> searchProperties(String type, Double minPrice, Double maxPrice, String location,
+                                           Filter.SortField sortBy, SortDirection direction, Integer limit) {
+        Filter.SortField field = sortBy != null ? sortBy : Filter.SortField.CREATED_AT;
+        lock.readLock().lock();
+        try {
+            return materialize(sort(matchSearch(type, minPrice, maxPrice, location), field,
+                    direction != null ? direction : field.defaultDirection(), limit != null && limit > 0 ? limit : null));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<PropertySummary> searchPropertySummaries(String type, Double minPrice, Double maxPrice, String location) {
+        lock.readLock().lock();
+        try {
+            return summarize(sortNewestFirst(matchSearch(type, minPrice, maxPrice, location)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Properties whose description contains all (or, if {@code matchAllTerms} is false, any) of the
+     * query's words, newest first. Words match after stemming, so "parks" finds "parking".
+     */
+    public List<Property> findByKeywords(String query, boolean matchAllTerms) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = matchAllTerms ? keywordIndex.matchAll(query) : keywordIndex.matchAny(query);
+            return materialize(sortNewestFirst(matches != null ? matches : new BitSet()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Type-ahead completions for a location field: up to {@code limit} city names, postal codes and
+     * street names with a word starting with the prefix, ignoring case, most listings first.
+     */
+    public List<String> suggestLocations(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            return locationIndex.suggest(prefix, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The {@code k} matches of the filter that {@code ranker} scores best, best first, without
+     * sorting every match; the filter's sort order and limit are not used. Returns copies.
+     */
+    public PropertyRanker.Ranking rankProperties(Filter filter, int k, PropertyRanker ranker) {
+        Filter normalized = filter == null ? new Filter().normalized() : filter.normalized();
+        PropertyRanker.Ranking ranking;
+        lock.readLock().lock();
+        try {
+            BitSet matches = matchFilter(normalized);
+            ranking = ranker.rank(normalized, matches.stream().mapToObj(doc -> rows[doc]), k);
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Property> copies = new ArrayList<>(ranking.getProperties().size());
+        for (Property property : ranking.getProperties()) {
+            copies.add(new Property(property));
+        }
+        return new PropertyRanker.Ranking(copies, ranking.getExamined(), ranking.isComplete());
+    }
+
+    /** Number of indexed properties. */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // --- Matching; callers hold the read lock ---
+
+    /** {@code filter} is normalized, so its text is trimmed as the query binds it. */
+    private BitSet matchFilter(Filter filter) {
+        long minCents = filter.getMinPrice() != null ? toCents(filter.getMinPrice(), RoundingMode.CEILING) : Long.MIN_VALUE;
+        long maxCents = filter.getMaxPrice() != null ? toCents(filter.getMaxPrice(), RoundingMode.FLOOR) : Long.MAX_VALUE;
+        BitSet candidates = (filter.getMinPrice() != null || filter.getMaxPrice() != null)
+                ? priceIndex.range(minCents, maxCents)
+                : (BitSet) live.clone();
+        if (isSet(filter.getPropertyType())) {
+            candidates.and(types.documentsWith(normalize(filter.getPropertyType())));
+        }
+        if (isSet(filter.getLocation())) {
+            candidates.and(locationIndex.containing(filter.getLocation(), Field.CITY, Field.POSTAL_CODE));
+        }
+        if (filter.getMustBeActive() != null) {
+            if (filter.getMustBeActive()) {
+                candidates.and(active);
+            } else {
+                candidates.andNot(active);
+            }
+        }
+        if (filter.getMinBedrooms() != null && filter.getMinBedrooms() > 0) { // Ignored if 0, like the SQL
+            candidates.and(hasBedrooms);
+        }
+        if (filter.getMinBathrooms() != null && filter.getMinBathrooms() > 0) {
+            candidates.and(hasBathrooms);
+        }
+        String unindexedKeywords = null; // Keywords without a single word, e.g. "#1"; matched as a substring
+        if (isSet(filter.getKeywords())) {
+            BitSet matches = keywordIndex.matchAll(filter.getKeywords());
+            if (matches != null) {
+                candidates.and(matches);
+            } else {
+                unindexedKeywords = filter.getKeywords();
+            }
+        }
+
+        int minBeds = filter.getMinBedrooms() != null ? filter.getMinBedrooms() : 0;
+        int minBaths = filter.getMinBathrooms() != null ? filter.getMinBathrooms() : 0;
+        for (int doc = candidates.nextSetBit(0); doc >= 0; doc = candidates.nextSetBit(doc + 1)) {
+            if ((bedrooms[doc] & 0xFF) < minBeds || (bathrooms[doc] & 0xFF) < minBaths
+                    || (unindexedKeywords != null && !FilterPredicate.containsIgnoreCase(rows[doc].getDescription(), unindexedKeywords))) {
+                candidates.clear(doc);
+            }
+        }
+        return candidates;
+    }
+
+    private BitSet matchSearch(String type, Double minPrice, Double maxPrice, String location) {
+        BitSet candidates = (minPrice != null || maxPrice != null)
+                ? priceIndex.range(
+                        minPrice != null ? toCents(BigDecimal.valueOf(minPrice), RoundingMode.CEILING) : Long.MIN_VALUE,
+                        maxPrice != null ? toCents(BigDecimal.valueOf(maxPrice), RoundingMode.FLOOR) : Long.MAX_VALUE)
+                : (BitSet) live.clone();
+        candidates.and(active);
+        candidates.andNot(sold);
+        if (type != null) {
+            candidates.and(types.documentsWith(type.toLowerCase(Locale.ROOT))); // An empty type still filters
+        }
+        if (location != null && !location.isEmpty()) {
+            candidates.and(locationIndex.containing(location, Field.CITY, Field.ADDRESS));
+        }
+        return candidates;
+    }
+
+    /** Document ids ordered like {@code ORDER BY created_at DESC, property_id DESC}. */
+    private int[] sortNewestFirst(BitSet matches) {
+        return sort(matches, Filter.SortField.CREATED_AT, SortDirection.DESC, null);
+    }
+
+    /**
+     * Document ids ordered like {@code ORDER BY column direction, property_id direction LIMIT limit};
+     * a null price sorts below every other, as in MySQL. {@code limit} may be null.
+     */
+    private int[] sort(BitSet matches, Filter.SortField sortBy, SortDirection direction, Integer limit) {
+        long[] keys = sortBy == Filter.SortField.PRICE ? priceCents : createdAt;
+        boolean descending = direction == SortDirection.DESC;
+        Integer[] docs = matches.stream().boxed().toArray(Integer[]::new);
+        Arrays.sort(docs, (a, b) -> {
+            int byKey = Long.compare(keys[a], keys[b]);
+            int order = byKey != 0 ? byKey : ids[a].compareTo(ids[b]);
+            return descending ? -order : order;
+        });
+        int[] ordered = new int[limit != null ? Math.min(limit, docs.length) : docs.length];
+        for (int i = 0; i < ordered.length; i++) {
+            ordered[i] = docs[i];
+        }
+        return ordered;
+    }
+
+    private List<Property> materialize(int[] docs) {
+        List<Property> properties = new ArrayList<>(docs.length);
+        for (int doc : docs) {
+            properties.add(new Property(rows[doc]));
+        }
+        return properties;
+    }
+
+    private List<PropertySummary> summarize(int[] docs) {
+        List<PropertySummary> summaries = new ArrayList<>(docs.length);
+        for (int doc : docs) {
+            Property row = rows[doc];
+            summaries.add(new PropertySummary(row.getPropertyId(), row.getPropertyType(), row.getPrice(),
+                    row.getCity(), row.getBedrooms(), row.getBathrooms(), row.getSquareFootage()));
+        }
+        return summaries;
+    }
+
+    // --- Maintenance; callers hold the write lock ---
+
+    private void upsertLocked(Property property) {
+        Integer existing = docById.get(property.getPropertyId());
+        int doc;
+        if (existing != null) {
+            doc = existing;
+            unindex(doc);
+        } else {
+            doc = freeDocs.isEmpty() ? docLimit++ : freeDocs.pop();
+            ensureCapacity(doc + 1);
+            docById.put(property.getPropertyId(), doc);
+        }
+        index(doc, new Property(property));
+    }
+
+    private void index(int doc, Property row) {
+        rows[doc] = row;
+        ids[doc] = row.getPropertyId();
+        priceCents[doc] = row.getPrice() != null ? toCents(row.getPrice(), RoundingMode.HALF_UP) : NO_PRICE;
+        bedrooms[doc] = (byte) (row.getBedrooms() != null ? row.getBedrooms() : 0);
+        bathrooms[doc] = (byte) (row.getBathrooms() != null ? row.getBathrooms() : 0);
+        squareFootage[doc] = row.getSquareFootage() != null ? row.getSquareFootage().intValue() : 0;
+        createdAt[doc] = row.getCreatedAt() != null ? row.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+        typeCodes[doc] = types.encode(normalize(row.getPropertyType()));
+        locationIndex.add(doc, row.getCity(), row.getPostalCode(), row.getAddress());
+        keywordIndex.add(doc, row.getDescription());
+
+        if (priceCents[doc] != NO_PRICE) { // Like SQL, a null price is outside every price range
+            if (bulkLoading) {
+                priceIndex.append(priceCents[doc], doc);
+            } else {
+                priceIndex.insert(priceCents[doc], doc);
+            }
+        }
+        types.add(typeCodes[doc], doc);
+        live.set(doc);
+        active.set(doc, row.isActive());
+        sold.set(doc, row.isSold());
+        hasBedrooms.set(doc, row.getBedrooms() != null);
+        hasBathrooms.set(doc, row.getBathrooms() != null);
+    }
+
+    private void unindex(int doc) {
+        if (priceCents[doc] != NO_PRICE) {
+            priceIndex.remove(priceCents[doc], doc);
+        }
+        types.remove(typeCodes[doc], doc);
+        live.clear(doc);
+        active.clear(doc);
+        sold.clear(doc);
+        hasBedrooms.clear(doc);
+        hasBathrooms.clear(doc);
+        rows[doc] = null;
+        ids[doc] = null;
+        keywordIndex.remove(doc);
+        locationIndex.remove(doc);
+    }
+
+    private void clear() {
+        Arrays.fill(rows, null);
+        Arrays.fill(ids, null);
+        keywordIndex.clear();
+        locationIndex.clear();
+        live.clear();
+        active.clear();
+        sold.clear();
+        hasBedrooms.clear();
+        hasBathrooms.clear();
+        types = new ValueDictionary();
+        priceIndex.clear();
+        docById.clear();
+        freeDocs.clear();
+        docLimit = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newLength = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, newLength);
+        priceCents = Arrays.copyOf(priceCents, newLength);
+        bedrooms = Arrays.copyOf(bedrooms, newLength);
+        bathrooms = Arrays.copyOf(bathrooms, newLength);
+        squareFootage = Arrays.copyOf(squareFootage, newLength);
+        createdAt = Arrays.copyOf(createdAt, newLength);
+        typeCodes = Arrays.copyOf(typeCodes, newLength);
+        rows = Arrays.copyOf(rows, newLength);
+    }
+
+    private static boolean isSet(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    private static String normalize(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    /** DECIMAL(12, 2) prices fit a long of cents exactly. */
+    private static long toCents(BigDecimal amount, RoundingMode rounding) {
+        return amount.movePointRight(2).setScale(0, rounding).longValue();
+    }
+}
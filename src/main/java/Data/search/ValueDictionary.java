@@ -0,0 +1,63 @@
+package Data.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary encoding of a low-cardinality text column such as property type, with one bitmap
+ * of documents per distinct value. Values are stored as given; callers normalize them first.
+ * Codes are never reused, which is fine for columns with a few thousand distinct values at most.
+ * Not thread-safe; PropertySearchEngine guards it.
+ */
+final class ValueDictionary {
+
+    static final int NO_VALUE = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+    private final List<BitSet> bitmaps = new ArrayList<>();
+
+    /** Returns the value's code, assigning one if the value is new; {@link #NO_VALUE} for null. */
+    int encode(String value) {
+        if (value == null) {
+            return NO_VALUE;
+        }
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            codes.put(value, code);
+            values.add(value);
+            bitmaps.add(new BitSet());
+        }
+        return code;
+    }
+
+    void add(int code, int doc) {
+        if (code != NO_VALUE) {
+            bitmaps.get(code).set(doc);
+        }
+    }
+
+    void remove(int code, int doc) {
+        if (code != NO_VALUE) {
+            bitmaps.get(code).clear(doc);
+        }
+    }
+
+    String value(int code) {
+        return code == NO_VALUE ? null : values.get(code);
+    }
+
+    /** Documents with exactly this value; an empty bitmap if the value never occurred. The result may be modified. */
+    BitSet documentsWith(String value) {
+        Integer code = codes.get(value);
+        return code == null ? new BitSet() : (BitSet) bitmaps.get(code).clone();
+    }
+
+    int distinctValues() {
+        return values.size();
+    }
+}
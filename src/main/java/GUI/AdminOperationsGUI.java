@@ -14,7 +14,9 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 import java.awt.print.*;
 import javax.print.*;
 import javax.print.attribute.*;
@@ -112,8 +114,9 @@ public class AdminOperationsGUI extends JFrame {
 
         JButton refreshBtn = new JButton("Refresh Properties");
         refreshBtn.addActionListener(e -> {
-            List<Property> properties = adminService.monitorProperties();
-            outputArea.setText(formatPropertiesList(properties));
+            try (Stream<Property> properties = adminService.streamProperties()) {
+                outputArea.setText(formatPropertiesList(properties.iterator()));
+            }
         });
 
         panel.add(refreshBtn, BorderLayout.NORTH);
@@ -129,8 +132,9 @@ public class AdminOperationsGUI extends JFrame {
 
         JButton refreshBtn = new JButton("Refresh Bids");
         refreshBtn.addActionListener(e -> {
-            List<Bid> bids = adminService.monitorBids();
-            outputArea.setText(formatBidsList(bids));
+            try (Stream<Bid> bids = adminService.streamBids()) {
+                outputArea.setText(formatBidsList(bids.iterator()));
+            }
         });
 
         panel.add(refreshBtn, BorderLayout.NORTH);
@@ -345,11 +349,12 @@ public class AdminOperationsGUI extends JFrame {
         return sb.toString();
     }
 
-    private String formatPropertiesList(List<Property> properties) {
-        if (properties.isEmpty()) return "No properties found";
+    private String formatPropertiesList(Iterator<Property> properties) {
+        if (!properties.hasNext()) return "No properties found";
 
         StringBuilder sb = new StringBuilder("All Properties:\n\n");
-        for (Property p : properties) {
+        while (properties.hasNext()) {
+            Property p = properties.next();
             sb.append("ID: ").append(p.getPropertyId()).append("\n");
             sb.append("Address: ").append(p.getAddress()).append(", ").append(p.getCity()).append("\n");
             sb.append("Type: ").append(p.getPropertyType()).append(" | Price: $").append(p.getPrice()).append("\n");
@@ -358,11 +363,12 @@ public class AdminOperationsGUI extends JFrame {
         return sb.toString();
     }
 
-    private String formatBidsList(List<Bid> bids) {
-        if (bids.isEmpty()) return "No bids found";
+    private String formatBidsList(Iterator<Bid> bids) {
+        if (!bids.hasNext()) return "No bids found";
 
         StringBuilder sb = new StringBuilder("All Bids:\n\n");
-        for (Bid b : bids) {
+        while (bids.hasNext()) {
+            Bid b = bids.next();
             sb.append("ID: ").append(b.getBidId()).append("\n");
             sb.append("Property: ").append(b.getPropertyId()).append("\n");
             sb.append("Client: ").append(b.getClientId()).append("\n");
@@ -3,11 +3,15 @@ package GUI;
 import UserOperations.IBidManagement;
 import UserOperations.IPropertyManagement;
 import Data.domain.Property;
+import Data.domain.PropertySummary;
 
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
 import java.util.List;
 
 public class ClientBidGUI extends JFrame {
@@ -17,6 +21,7 @@ public class ClientBidGUI extends JFrame {
 
     private JTable propertiesTable;
     private DefaultTableModel propertiesTableModel;
+    private List<PropertySummary> displayedProperties = new ArrayList<>(); // Rows of propertiesTable, in order
     private JTable bidsTable;
     private DefaultTableModel bidsTableModel;
     private JComboBox<String> bidIdCombo;
@@ -104,10 +109,23 @@ public class ClientBidGUI extends JFrame {
 
         // Event Handlers
         refreshBtn.addActionListener(e -> {
-            List<Property> activeProperties = propertyService.getActiveProperties();
+            List<PropertySummary> activeProperties = propertyService.getActivePropertySummaries();
             updatePropertiesDisplay(activeProperties);
         });
 
+        // Opening a listing is the only place the full property, including its description, is loaded
+        propertiesTable.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int row = propertiesTable.getSelectedRow();
+                if (e.getClickCount() == 2 && row >= 0 && row < displayedProperties.size()) {
+                    String propertyId = displayedProperties.get(row).getPropertyId();
+                    propertyIdField.setText(propertyId);
+                    showPropertyDetails(propertyId);
+                }
+            }
+        });
+
         placeBidBtn.addActionListener(e -> {
             try {
                 String name = nameField.getText().trim();
@@ -302,7 +320,7 @@ public class ClientBidGUI extends JFrame {
             Double maxPrice = parseDoubleOrNull(maxPriceField.getText());
             String location = locationField.getText().trim();
 
-            List<Property> filtered = propertyService.searchProperties(
+            List<PropertySummary> filtered = propertyService.searchPropertySummaries(
                     "Any".equals(type) ? null : type, minPrice, maxPrice, location);
 
             updatePropertiesDisplay(filtered);
@@ -311,9 +329,10 @@ public class ClientBidGUI extends JFrame {
         return container;
     }
 
-    private void updatePropertiesDisplay(List<Property> properties) {
+    private void updatePropertiesDisplay(List<PropertySummary> properties) {
         propertiesTableModel.setRowCount(0); // clear previous data
-        for (Property p : properties) {
+        displayedProperties = properties;
+        for (PropertySummary p : properties) {
             propertiesTableModel.addRow(new Object[]{
                     p.getPropertyId().substring(0, Math.min(8, p.getPropertyId().length())),
                     p.getPropertyType(),
@@ -326,6 +345,26 @@ public class ClientBidGUI extends JFrame {
         }
     }
 
+    private void showPropertyDetails(String propertyId) {
+        try {
+            Property property = propertyService.getPropertyById(propertyId);
+            if (property == null) {
+                JOptionPane.showMessageDialog(this, "This property is no longer available.", "Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+            JOptionPane.showMessageDialog(this,
+                    String.format("Address: %s, %s %s\nType: %s\nPrice: $%.2f\nBed/Bath: %s/%s\nSize (sqft): %s\n\n%s",
+                            property.getAddress(), property.getCity(), property.getPostalCode(),
+                            property.getPropertyType(), property.getPrice(),
+                            property.getBedrooms(), property.getBathrooms(), property.getSquareFootage(),
+                            property.getDescription() != null ? property.getDescription() : ""),
+                    "Property " + propertyId,
+                    JOptionPane.INFORMATION_MESSAGE);
+        } catch (Exception ex) {
+            JOptionPane.showMessageDialog(this, "Error loading property: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
     private Double parseDoubleOrNull(String text) {
         try {
             return text.isEmpty() ? null : Double.parseDouble(text);
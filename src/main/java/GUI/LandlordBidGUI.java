@@ -4,6 +4,8 @@ import Data.domain.Property;
 import UserOperations.IBidManagement;
 import UserOperations.IPropertyManagement;
 import Data.domain.Bid;
+import Data.domain.BidQueryOptions;
+import Data.domain.SortDirection;
 
 import javax.swing.*;
 import java.awt.*;
@@ -33,7 +35,7 @@ public class LandlordBidGUI extends JFrame {
 
         // Tab 1: Property Management
         JPanel propertyPanel = new JPanel(new BorderLayout());
-        PropertyManagementGUI propertyManagementGUI = new PropertyManagementGUI(landlordId);
+        PropertyManagementGUI propertyManagementGUI = new PropertyManagementGUI(propertyService, bidService, landlordId);
         propertyPanel.add(propertyManagementGUI.getContentPane(), BorderLayout.CENTER);
         tabbedPane.addTab("My Properties", propertyPanel);
 
@@ -128,22 +130,17 @@ public class LandlordBidGUI extends JFrame {
 
         // Refresh and filter logic
         refreshBtn.addActionListener(e -> {
-            List<Bid> bids = bidService.getBidsByLandlord(landlordId);
-
-            // Filter
+            // Filter and sort in the query, so only the bids shown are loaded
+            BidQueryOptions options = new BidQueryOptions();
             String selectedStatus = (String) filterStatusCombo.getSelectedItem();
             if (!"ALL".equals(selectedStatus)) {
-                bids.removeIf(bid -> !bid.getStatus().equalsIgnoreCase(selectedStatus));
+                options.setStatus(selectedStatus);
             }
-
-            // Sort
             String sortBy = (String) sortCombo.getSelectedItem();
-            switch (sortBy) {
-                case "Date ↑" -> bids.sort((a, b) -> a.getBidTimestamp().compareTo(b.getBidTimestamp()));
-                case "Date ↓" -> bids.sort((a, b) -> b.getBidTimestamp().compareTo(a.getBidTimestamp()));
-                case "Amount ↑" -> bids.sort((a, b) -> a.getAmount().compareTo(b.getAmount()));
-                case "Amount ↓" -> bids.sort((a, b) -> b.getAmount().compareTo(a.getAmount()));
-            }
+            options.setSortBy(sortBy.startsWith("Amount") ? BidQueryOptions.SortField.AMOUNT : BidQueryOptions.SortField.BID_TIMESTAMP);
+            options.setSortDirection(sortBy.endsWith("↑") ? SortDirection.ASC : SortDirection.DESC);
+
+            List<Bid> bids = bidService.getBidsByLandlord(landlordId, options);
 
             // Update UI
             bidArea.setText(formatBids(bids));
@@ -161,8 +158,10 @@ public class LandlordBidGUI extends JFrame {
 
             String newStatus = (String) statusCombo.getSelectedItem();
             try {
-                boolean success = bidService.updateBidStatus(
-                        selectedBid.getBidId(), newStatus, landlordId);
+                // Accepting also rejects the competing bids and marks the property sold
+                boolean success = "ACCEPTED".equals(newStatus)
+                        ? bidService.acceptBid(selectedBid.getBidId(), landlordId)
+                        : bidService.updateBidStatus(selectedBid.getBidId(), newStatus, landlordId);
 
                 if (success) {
                     JOptionPane.showMessageDialog(this, "Bid status updated successfully!");
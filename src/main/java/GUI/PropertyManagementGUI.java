@@ -21,7 +21,16 @@ public class PropertyManagementGUI extends JFrame {
 
         DatabaseConnectorImpl dbConnector = new DatabaseConnectorImpl(url, user, password);
         this.propertyService = new PropertyManagement(dbConnector);
-        this.bidservice = new BidManagement(dbConnector);
+        this.bidservice = new BidManagement(dbConnector, propertyService);
+        this.landlordId = landlordId;
+
+        initComponents();
+    }
+
+    // Uses the caller's services, so edits reach the shared connection pool and property cache
+    public PropertyManagementGUI(IPropertyManagement propertyService, IBidManagement bidService, String landlordId) {
+        this.propertyService = propertyService;
+        this.bidservice = bidService;
         this.landlordId = landlordId;
 
         initComponents();
@@ -1,27 +1,50 @@
 package GUI;
 
 import UserOperations.BidManagement;
+import UserOperations.CachingPropertyManagement;
 import UserOperations.IBidManagement;
 import UserOperations.IPropertyManagement;
 import UserOperations.PropertyManagement;
 import Data.connector.DatabaseConnectorImpl;
+import Data.connector.IDatabaseConnector;
+import Data.connector.PooledDatabaseConnector;
+import Data.repository.impl.ActiveListingsSnapshot;
+import Data.domain.User;
+import Data.repository.impl.CachingPropertyRepository;
+import Data.repository.impl.CachingUserRepository;
+import Data.repository.impl.ChangeFeedPoller;
+import Data.repository.impl.PropertyRepositoryImpl;
+import Data.repository.impl.UserRepositoryImpl;
+import Data.repository.interfaces.ChangeFeedListener;
+import Data.search.PropertySearchEngine;
 import javax.swing.*;
 import java.awt.*;
 import java.sql.*;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class UserOperations extends JFrame {
     private final IBidManagement bidService;
     private final IPropertyManagement propertyManagement;
-    private final DatabaseConnectorImpl connector;
+    private final CachingUserRepository users;
+
+    // Shared by every window opened from this screen so logging out and back in reuses connections
+    private static PooledDatabaseConnector sharedConnector;
+    private static CachingPropertyRepository sharedPropertyCache;
+    private static CachingUserRepository sharedUserCache;
+    private static ActiveListingsSnapshot sharedActiveListings;
+    private static ChangeFeedPoller sharedChangeFeed;
+    private static PropertySearchEngine sharedSearchEngine;
+    private static CachingPropertyManagement sharedPropertyService;
 
     public UserOperations() {
-        this.connector = new DatabaseConnectorImpl(
-                "jdbc:mysql://localhost:3306/relsdb",
-                "admin",
-                "adminpass");
+        IDatabaseConnector connector = getSharedConnector();
+        this.users = getSharedUserCache(connector);
 
-        this.bidService = new BidManagement(connector);
-        this.propertyManagement = new PropertyManagement(connector);
+        CachingPropertyManagement cachedSearches = getSharedPropertyService(connector);
+        getSharedChangeFeed(connector);
+        this.propertyManagement = cachedSearches;
+        this.bidService = new BidManagement(connector, cachedSearches, users);
 
         setTitle("User Role Selection");
         setSize(350, 250);
@@ -98,23 +121,83 @@ public class UserOperations extends JFrame {
         }
     }
 
+    /** Resolved through the shared user cache, so repeated logins do not reach the database. */
     private boolean validateCredentials(String role, String username, String password) throws SQLException {
-        String sql = "SELECT COUNT(*) FROM users WHERE user_id = ? AND password_hash = ? AND role = ?";
+        Optional<User> user = users.getUserById(username);
+        return user.isPresent()
+                && password.equals(user.get().getPasswordHash())
+                && role.equals(user.get().getRole());
+    }
 
-        try (Connection conn = connector.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+    private static synchronized PooledDatabaseConnector getSharedConnector() {
+        if (sharedConnector == null) {
+            sharedConnector = new PooledDatabaseConnector(new DatabaseConnectorImpl(
+                    "jdbc:mysql://localhost:3306/relsdb?rewriteBatchedStatements=true",
+                    "admin",
+                    "adminpass"));
+        }
+        return sharedConnector;
+    }
 
-            pstmt.setString(1, username);
-            pstmt.setString(2, password);
-            pstmt.setString(3, role);
+    private static synchronized CachingPropertyRepository getSharedPropertyCache(IDatabaseConnector connector) {
+        if (sharedPropertyCache == null) {
+            sharedPropertyCache = new CachingPropertyRepository(new PropertyRepositoryImpl(connector));
+        }
+        return sharedPropertyCache;
+    }
 
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt(1) > 0;
-                }
-            }
+    private static synchronized CachingUserRepository getSharedUserCache(IDatabaseConnector connector) {
+        if (sharedUserCache == null) {
+            sharedUserCache = new CachingUserRepository(new UserRepositoryImpl(connector));
+        }
+        return sharedUserCache;
+    }
+
+    private static synchronized ActiveListingsSnapshot getSharedActiveListings(IDatabaseConnector connector) {
+        if (sharedActiveListings == null) {
+            sharedActiveListings = new ActiveListingsSnapshot(connector);
+            sharedActiveListings.start();
+        }
+        return sharedActiveListings;
+    }
+
+    /** Loads in the background; searches go to the database until it is ready. */
+    private static synchronized PropertySearchEngine getSharedSearchEngine(IDatabaseConnector connector) {
+        if (sharedSearchEngine == null) {
+            sharedSearchEngine = new PropertySearchEngine(new PropertyRepositoryImpl(connector));
+            CompletableFuture.runAsync(sharedSearchEngine::reload);
+        }
+        return sharedSearchEngine;
+    }
+
+    /** One service graph for every window, so its caches are registered with the change feed only once. */
+    private static synchronized CachingPropertyManagement getSharedPropertyService(IDatabaseConnector connector) {
+        if (sharedPropertyService == null) {
+            CachingPropertyRepository propertyCache = getSharedPropertyCache(connector);
+            ActiveListingsSnapshot activeListings = getSharedActiveListings(connector);
+            PropertyManagement propertyManagement = new PropertyManagement(connector, propertyCache, activeListings);
+            propertyManagement.addWriteListener(propertyCache);
+            propertyManagement.addWriteListener(activeListings);
+            PropertySearchEngine searchEngine = getSharedSearchEngine(connector);
+            propertyManagement.addWriteListener(searchEngine);
+            sharedPropertyService = new CachingPropertyManagement(propertyManagement, searchEngine);
+            propertyManagement.addWriteListener(sharedPropertyService);
+        }
+        return sharedPropertyService;
+    }
+
+    /** Keeps the shared caches in step with writes made by other instances of the application. */
+    private static synchronized ChangeFeedPoller getSharedChangeFeed(IDatabaseConnector connector) {
+        if (sharedChangeFeed == null) {
+            sharedChangeFeed = new ChangeFeedPoller(connector);
+            sharedChangeFeed.addListener(ChangeFeedListener.invalidating(getSharedPropertyCache(connector)));
+            sharedChangeFeed.addListener(ChangeFeedListener.invalidating(getSharedActiveListings(connector)));
+            sharedChangeFeed.addListener(getSharedSearchEngine(connector));
+            sharedChangeFeed.addListener(getSharedUserCache(connector));
+            sharedChangeFeed.addListener(ChangeFeedListener.invalidating(getSharedPropertyService(connector)));
+            sharedChangeFeed.start();
         }
-        return false;
+        return sharedChangeFeed;
     }
 
     public static void main(String[] args) {
@@ -3,21 +3,29 @@ package UserOperations;
 import Data.domain.Landlord;
 import Data.domain.Property;
 import Data.domain.Bid;
-import Data.connector.DatabaseConnectorImpl;
+import Data.connector.IDatabaseConnector;
+import Data.repository.impl.ResultSetStreams;
+import Data.repository.mapper.BidRowMapper;
+import Data.repository.mapper.PropertyRowMapper;
+import Data.repository.mapper.UserRowMapper;
 
 import java.sql.*;
         import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class AdminOperations implements IAdminOperations {
-    private final Connection conn;
+    private static final String MONITOR_PROPERTIES_SQL = "SELECT * FROM properties";
+    private static final String MONITOR_BIDS_SQL = "SELECT * FROM bids";
 
-    public AdminOperations(DatabaseConnectorImpl connector) {
-        try {
-            this.conn = connector.getConnection();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to connect to database", e);
+    private final IDatabaseConnector connector;
+
+    public AdminOperations(IDatabaseConnector connector) {
+        if (connector == null) {
+            throw new IllegalArgumentException("Database connector cannot be null.");
         }
+        // Connections are borrowed per operation so a pooled connector is never pinned by this service
+        this.connector = connector;
     }
 
     @Override
@@ -25,7 +33,8 @@ public class AdminOperations implements IAdminOperations {
         String sql = "INSERT INTO users(user_id, name, email, password_hash, role, agent_license_number) " +
                 "VALUES (?, ?, ?, ?, 'LANDLORD', ?)";
 
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = connector.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, landlord.getUserId());
             pstmt.setString(2, landlord.getName());
             pstmt.setString(3, landlord.getEmail());
@@ -43,7 +52,8 @@ public class AdminOperations implements IAdminOperations {
         String sql = "UPDATE users SET name = ?, email = ?, password_hash = ?, agent_license_number = ? " +
                 "WHERE user_id = ? AND role = 'LANDLORD'";
 
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (Connection conn = connector.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, landlord.getName());
             pstmt.setString(2, landlord.getEmail());
             pstmt.setString(3, landlord.getPasswordHash());
@@ -58,27 +68,16 @@ public class AdminOperations implements IAdminOperations {
 
     @Override
     public List<Property> monitorProperties() {
-        String sql = "SELECT * FROM properties";
+        String sql = MONITOR_PROPERTIES_SQL;
         List<Property> properties = new ArrayList<>();
 
-        try (Statement stmt = conn.createStatement();
+        try (Connection conn = connector.getConnection();
+             Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
+            PropertyRowMapper mapper = new PropertyRowMapper();
             while (rs.next()) {
-                Property property = new Property();
-                property.setPropertyId(rs.getString("property_id"));
-                property.setLandlordId(rs.getString("landlord_id"));
-                property.setAddress(rs.getString("address"));
-                property.setCity(rs.getString("city"));
-                property.setPostalCode(rs.getString("postal_code"));
-                property.setPropertyType(rs.getString("property_type"));
-                property.setDescription(rs.getString("description"));
-                property.setPrice(rs.getBigDecimal("price"));
-                property.setSquareFootage(rs.getBigDecimal("square_footage"));
-                property.setBedrooms(rs.getInt("bedrooms"));
-                property.setBathrooms(rs.getInt("bathrooms"));
-                property.setActive(rs.getBoolean("is_active"));
-                properties.add(property);
+                properties.add(mapper.mapRow(rs));
             }
         } catch (SQLException e) {
             throw new RuntimeException("Failed to fetch properties", e);
@@ -88,21 +87,16 @@ public class AdminOperations implements IAdminOperations {
 
     @Override
     public List<Bid> monitorBids() {
-        String sql = "SELECT * FROM bids";
+        String sql = MONITOR_BIDS_SQL;
         List<Bid> bids = new ArrayList<>();
 
-        try (Statement stmt = conn.createStatement();
+        try (Connection conn = connector.getConnection();
+             Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
+            BidRowMapper mapper = new BidRowMapper();
             while (rs.next()) {
-                Bid bid = new Bid();
-                bid.setBidId(rs.getString("bid_id"));
-                bid.setPropertyId(rs.getString("property_id"));
-                bid.setClientId(rs.getString("client_id"));
-                bid.setAmount(rs.getBigDecimal("amount"));
-                bid.setStatus(rs.getString("status"));
-                bid.setBidTimestamp(rs.getTimestamp("bid_timestamp").toLocalDateTime());
-                bids.add(bid);
+                bids.add(mapper.mapRow(rs));
             }
         } catch (SQLException e) {
             throw new RuntimeException("Failed to fetch bids", e);
@@ -110,6 +104,32 @@ public class AdminOperations implements IAdminOperations {
         return bids;
     }
 
+    /**
+     * Streams all properties row by row so large scans run in constant memory.
+     * The stream holds a connection until closed; use it in try-with-resources.
+     */
+    @Override
+    public Stream<Property> streamProperties() {
+        try {
+            return ResultSetStreams.stream(connector, MONITOR_PROPERTIES_SQL, List.of(), new PropertyRowMapper());
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to stream properties", e);
+        }
+    }
+
+    /**
+     * Streams all bids row by row so large scans run in constant memory.
+     * The stream holds a connection until closed; use it in try-with-resources.
+     */
+    @Override
+    public Stream<Bid> streamBids() {
+        try {
+            return ResultSetStreams.stream(connector, MONITOR_BIDS_SQL, List.of(), new BidRowMapper());
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to stream bids", e);
+        }
+    }
+
     @Override
     public String generateReports() {
         StringBuilder report = new StringBuilder();
@@ -139,17 +159,13 @@ public class AdminOperations implements IAdminOperations {
         String sql = "SELECT * FROM users WHERE role = 'LANDLORD'";
         List<Landlord> landlords = new ArrayList<>();
 
-        try (Statement stmt = conn.createStatement();
+        try (Connection conn = connector.getConnection();
+             Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
+            UserRowMapper mapper = new UserRowMapper();
             while (rs.next()) {
-                Landlord landlord = new Landlord();
-                landlord.setUserId(rs.getString("user_id"));
-                landlord.setName(rs.getString("name"));
-                landlord.setEmail(rs.getString("email"));
-                landlord.setPasswordHash(rs.getString("password_hash"));
-                landlord.setAgentLicenseNumber(rs.getString("agent_license_number"));
-                landlords.add(landlord);
+                landlords.add(mapper.mapLandlord(rs));
             }
         } catch (SQLException e) {
             throw new RuntimeException("Failed to fetch landlords", e);
@@ -158,7 +174,8 @@ public class AdminOperations implements IAdminOperations {
     }
 
     private int countRecords(String sql) {
-        try (Statement stmt = conn.createStatement();
+        try (Connection conn = connector.getConnection();
+             Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             return rs.next() ? rs.getInt(1) : 0;
         } catch (SQLException e) {
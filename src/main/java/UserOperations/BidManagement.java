@@ -1,7 +1,11 @@
 package UserOperations;
 
 import Data.domain.Bid;
-import Data.connector.DatabaseConnectorImpl;
+import Data.domain.BidQueryOptions;
+import Data.connector.IDatabaseConnector;
+import Data.connector.TransactionManager;
+import Data.repository.interfaces.IUserRepository;
+import Data.repository.mapper.BidRowMapper;
 import java.math.BigDecimal;
 import java.sql.*;
 import java.time.LocalDateTime;
@@ -10,14 +14,43 @@ import java.util.List;
 import java.util.UUID;
 
 public class BidManagement implements IBidManagement {
-    private final DatabaseConnectorImpl dbConnector;
+    private static final String FIND_BID_PROPERTY_SQL =
+            "SELECT property_id, status FROM bids WHERE bid_id = ? FOR UPDATE";
+    private static final String REJECT_COMPETING_BIDS_SQL =
+            "UPDATE bids SET status = 'REJECTED', updated_at = CURRENT_TIMESTAMP " +
+            "WHERE property_id = ? AND bid_id <> ? AND status = 'PENDING'";
+
+    private final TransactionManager dbConnector;
+    private final IPropertyManagement propertyService;
+    private final IUserRepository userRepository; // May be null
+
+    public BidManagement(IDatabaseConnector dbConnector) {
+        this(dbConnector, null);
+    }
+
+    /**
+     * @param propertyService used by {@link #acceptBid} to mark the property as sold; if null, a
+     *                        PropertyManagement on the same connector is used.
+     */
+    public BidManagement(IDatabaseConnector dbConnector, IPropertyManagement propertyService) {
+        this(dbConnector, propertyService, null);
+    }
 
-    public BidManagement(DatabaseConnectorImpl dbConnector) {
-        this.dbConnector = dbConnector;
+    /**
+     * @param userRepository used by {@link #createBid} to check that the client exists before
+     *                       inserting, normally a CachingUserRepository; if null, the check is left
+     *                       to the foreign key.
+     */
+    public BidManagement(IDatabaseConnector dbConnector, IPropertyManagement propertyService,
+                         IUserRepository userRepository) {
+        this.dbConnector = TransactionManager.of(dbConnector);
+        this.propertyService = (propertyService != null) ? propertyService : new PropertyManagement(dbConnector);
+        this.userRepository = userRepository;
     }
 
     @Override
     public String createBid(String propertyId, String clientId, double amount) {
+        requireClient(clientId);
         String bidId = getNextBidId();  // Get the next sequential bid ID
         String sql = "INSERT INTO bids (bid_id, property_id, client_id, amount, status, bid_timestamp) " +
                 "VALUES (?, ?, ?, ?, 'PENDING', ?)";
@@ -38,6 +71,19 @@ public class BidManagement implements IBidManagement {
         }
     }
 
+    private void requireClient(String clientId) {
+        if (userRepository == null) {
+            return;
+        }
+        try {
+            if (!userRepository.getUserById(clientId).isPresent()) {
+                throw new RuntimeException("Client not found: " + clientId);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to create bid", e);
+        }
+    }
+
     private String getNextBidId() {
         String sql = "SELECT MAX(CAST(SUBSTRING(bid_id, 4) AS UNSIGNED)) FROM bids";
 
@@ -148,15 +194,55 @@ public class BidManagement implements IBidManagement {
 
             pstmt.setString(1, landlordId);
             try (ResultSet rs = pstmt.executeQuery()) {
+                BidRowMapper mapper = new BidRowMapper();
                 while (rs.next()) {
-                    Bid bid = new Bid();
-                    bid.setBidId(rs.getString("bid_id"));
-                    bid.setPropertyId(rs.getString("property_id"));
-                    bid.setClientId(rs.getString("client_id"));
-                    bid.setAmount(rs.getBigDecimal("amount"));
-                    bid.setStatus(rs.getString("status"));
-                    bid.setBidTimestamp(rs.getTimestamp("bid_timestamp").toLocalDateTime());
-                    bids.add(bid);
+                    bids.add(mapper.mapRow(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to fetch bids by landlord", e);
+        }
+        return bids;
+    }
+
+    /**
+     * The landlord's bids with the status filter, order and limit applied by the query, so only the
+     * rows shown are read. bid_id breaks ties, giving a stable order across refreshes.
+     */
+    @Override
+    public List<Bid> getBidsByLandlord(String landlordId, BidQueryOptions options) {
+        BidQueryOptions resolved = options != null ? options : new BidQueryOptions();
+        StringBuilder sql = new StringBuilder("SELECT b.* FROM bids b " +
+                "JOIN properties p ON b.property_id = p.property_id " +
+                "WHERE p.landlord_id = ?");
+        boolean byStatus = resolved.getStatus() != null && !resolved.getStatus().trim().isEmpty();
+        if (byStatus) {
+            sql.append(" AND b.status = ?");
+        }
+        String column = resolved.getSortBy() == BidQueryOptions.SortField.AMOUNT ? "b.amount" : "b.bid_timestamp";
+        sql.append(" ORDER BY ").append(column).append(' ').append(resolved.getSortDirection())
+                .append(", b.bid_id ").append(resolved.getSortDirection());
+        boolean limited = resolved.getLimit() != null && resolved.getLimit() > 0;
+        if (limited) {
+            sql.append(" LIMIT ?");
+        }
+
+        List<Bid> bids = new ArrayList<>();
+        try (Connection conn = dbConnector.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+
+            int index = 1;
+            pstmt.setString(index++, landlordId);
+            if (byStatus) {
+                pstmt.setString(index++, resolved.getStatus().trim());
+            }
+            if (limited) {
+                pstmt.setInt(index, resolved.getLimit());
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                BidRowMapper mapper = new BidRowMapper();
+                while (rs.next()) {
+                    bids.add(mapper.mapRow(rs));
                 }
             }
         } catch (SQLException e) {
@@ -189,6 +275,54 @@ public class BidManagement implements IBidManagement {
         }
     }
 
+    /**
+     * Accepts a bid, rejects the other pending bids on the same property and marks the property as
+     * sold, all in one transaction. Only a pending bid can be accepted; nothing is changed if the
+     * bid is no longer pending or any step fails.
+     */
+    @Override
+    public boolean acceptBid(String bidId, String landlordId) {
+        try {
+            return dbConnector.inTransaction(() -> {
+                String propertyId = findPropertyIdForPendingBid(bidId);
+                updateBidStatus(bidId, "ACCEPTED", landlordId);
+                rejectCompetingBids(propertyId, bidId);
+                propertyService.markPropertyAsSold(propertyId, landlordId);
+                return true;
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to accept bid", e);
+        }
+    }
+
+    /** Locks the bid row and returns its property; throws unless the bid is still pending. */
+    private String findPropertyIdForPendingBid(String bidId) throws SQLException {
+        try (Connection conn = dbConnector.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(FIND_BID_PROPERTY_SQL)) {
+
+            pstmt.setString(1, bidId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) {
+                    throw new RuntimeException("Bid not found: " + bidId);
+                }
+                String status = rs.getString("status");
+                if (!"PENDING".equals(status)) {
+                    throw new RuntimeException("Bid " + bidId + " is no longer pending (" + status + ")");
+                }
+                return rs.getString("property_id");
+            }
+        }
+    }
+
+    private int rejectCompetingBids(String propertyId, String acceptedBidId) throws SQLException {
+        try (Connection conn = dbConnector.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(REJECT_COMPETING_BIDS_SQL)) {
+
+            pstmt.setString(1, propertyId);
+            pstmt.setString(2, acceptedBidId);
+            return pstmt.executeUpdate();
+        }
+    }
 
     public List<Bid> generateReports(String landlordId) {
         String sql = "SELECT b.* FROM bids b " +
@@ -201,15 +335,9 @@ public class BidManagement implements IBidManagement {
 
             pstmt.setString(1, landlordId);
             try (ResultSet rs = pstmt.executeQuery()) {
+                BidRowMapper mapper = new BidRowMapper();
                 while (rs.next()) {
-                    Bid bid = new Bid();
-                    bid.setBidId(rs.getString("bid_id"));
-                    bid.setPropertyId(rs.getString("property_id"));
-                    bid.setClientId(rs.getString("client_id"));
-                    bid.setAmount(rs.getBigDecimal("amount"));
-                    bid.setStatus(rs.getString("status"));
-                    bid.setBidTimestamp(rs.getTimestamp("bid_timestamp").toLocalDateTime());
-                    bids.add(bid);
+                    bids.add(mapper.mapRow(rs));
                 }
             }
         } catch (SQLException e) {
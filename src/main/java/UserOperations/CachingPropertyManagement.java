@@ -0,0 +1,158 @@
+package UserOperations;
+
+import Data.cache.CacheStats;
+import Data.cache.QueryResultCache;
+import Data.cache.SearchKeys;
+import Data.domain.Filter;
+import Data.domain.Property;
+import Data.domain.PropertySummary;
+import Data.domain.SortDirection;
+import Data.repository.interfaces.PropertyWriteListener;
+import Data.search.PropertySearchEngine;
+
+import java.util.List;
+
+/**
+ * IPropertyManagement that serves repeated searches of active listings from memory.
+ * <p>
+ * searchProperties, searchPropertySummaries and the active-listing lists are cached by their
+ * normalized arguments for a short TTL; everything else goes straight to the delegate. Any property
+ * write drops all cached results, both writes made through this class and those reported through
+ * {@link #propertyWritten(String)}, so register it with {@link PropertyManagement#addWriteListener}.
+ * With a loaded PropertySearchEngine, searches are answered by the engine instead.
+ */
+public class CachingPropertyManagement implements IPropertyManagement, PropertyWriteListener {
+
+    private final IPropertyManagement delegate;
+    private final QueryResultCache<Property> propertyResults;
+    private final QueryResultCache<PropertySummary> summaryResults;
+    private final PropertySearchEngine searchEngine; // May be null
+
+    public CachingPropertyManagement(IPropertyManagement delegate) {
+        this(delegate, null);
+    }
+
+    public CachingPropertyManagement(IPropertyManagement delegate, PropertySearchEngine searchEngine) {
+        this(delegate, new QueryResultCache<>(Property::new), new QueryResultCache<>(), searchEngine);
+    }
+
+    public CachingPropertyManagement(IPropertyManagement delegate, QueryResultCache<Property> propertyResults,
+                                     QueryResultCache<PropertySummary> summaryResults, PropertySearchEngine searchEngine) {
+        if (delegate == null || propertyResults == null || summaryResults == null) {
+            throw new IllegalArgumentException("Delegate and caches cannot be null.");
+        }
+        this.delegate = delegate;
+        this.propertyResults = propertyResults;
+        this.summaryResults = summaryResults;
+        this.searchEngine = searchEngine;
+    }
+
+    @Override
+    public void addProperty(Property property) {
+        try {
+            delegate.addProperty(property);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void editProperty(Property property, String landlordId) {
+        try {
+            delegate.editProperty(property, landlordId);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void deactivateProperty(String propertyId, String landlordID) {
+        try {
+            delegate.deactivateProperty(propertyId, landlordID);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void markPropertyAsSold(String propertyId, String landlordID) {
+        try {
+            delegate.markPropertyAsSold(propertyId, landlordID);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public List<Property> getProperties() {
+        return propertyResults.getOrLoad("properties", delegate::getProperties);
+    }
+
+    @Override
+    public List<Property> getActiveProperties() {
+        return propertyResults.getOrLoad("activeProperties", delegate::getActiveProperties);
+    }
+
+    @Override
+    public List<Property> getPropertiesByLandlord(String landlordId) {
+        return delegate.getPropertiesByLandlord(landlordId);
+    }
+
+    @Override
+    public List<Property> searchProperties(String type, Double minPrice, Double maxPrice, String location) {
+        if (searchEngine != null && searchEngine.isLoaded()) {
+            return searchEngine.searchProperties(type, minPrice, maxPrice, location);
+        }
+        return propertyResults.getOrLoad(SearchKeys.forSearch("search", type, minPrice, maxPrice, location),
+                () -> delegate.searchProperties(type, minPrice, maxPrice, location));
+    }
+
+    @Override
+    public List<Property> searchProperties(String type, Double minPrice, Double maxPrice, String location,
+                                           Filter.SortField sortBy, SortDirection direction, Integer limit) {
+        if (searchEngine != null && searchEngine.isLoaded()) {
+            return searchEngine.searchProperties(type, minPrice, maxPrice, location, sortBy, direction, limit);
+        }
+        return propertyResults.getOrLoad(
+                SearchKeys.forSearch("sortedSearch", type, minPrice, maxPrice, location, sortBy, direction, limit),
+                () -> delegate.searchProperties(type, minPrice, maxPrice, location, sortBy, direction, limit));
+    }
+
+    @Override
+    public Property getPropertyById(String propertyId) {
+        return delegate.getPropertyById(propertyId);
+    }
+
+    @Override
+    public List<PropertySummary> getActivePropertySummaries() {
+        return summaryResults.getOrLoad("activeSummaries", delegate::getActivePropertySummaries);
+    }
+
+    @Override
+    public List<PropertySummary> searchPropertySummaries(String type, Double minPrice, Double maxPrice, String location) {
+        if (searchEngine != null && searchEngine.isLoaded()) {
+            return searchEngine.searchPropertySummaries(type, minPrice, maxPrice, location);
+        }
+        return summaryResults.getOrLoad(SearchKeys.forSearch("searchSummaries", type, minPrice, maxPrice, location),
+                () -> delegate.searchPropertySummaries(type, minPrice, maxPrice, location));
+    }
+
+    /** Any write may add a listing to, or drop one from, a cached result. */
+    @Override
+    public void propertyWritten(String propertyId) {
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        propertyResults.invalidateAll();
+        summaryResults.invalidateAll();
+    }
+
+    public CacheStats getSearchStats() {
+        return propertyResults.stats();
+    }
+
+    public CacheStats getSummaryStats() {
+        return summaryResults.stats();
+    }
+}
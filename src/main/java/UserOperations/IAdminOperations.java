@@ -4,12 +4,15 @@ import Data.domain.Landlord;
 import Data.domain.Property;
 import Data.domain.Bid;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface IAdminOperations {
     boolean addLandlord(Landlord landlord);
     boolean editLandlord(Landlord landlord);
     List<Property> monitorProperties();
     List<Bid> monitorBids();
+    Stream<Property> streamProperties();
+    Stream<Bid> streamBids();
     String generateReports();
     public List<Landlord> getAllLandlords();
 
@@ -1,6 +1,7 @@
 package UserOperations;
 
 import Data.domain.Bid;
+import Data.domain.BidQueryOptions;
 
 import java.util.List;
 
@@ -11,7 +12,9 @@ public interface IBidManagement {
     List<String> listBidsByProperty(String propertyId);
     List<String> listBidsByClient(String clientId);
     List<Bid> getBidsByLandlord(String landlordId);
+    List<Bid> getBidsByLandlord(String landlordId, BidQueryOptions options);
     boolean updateBidStatus(String bidId, String newStatus, String landlordId);
+    boolean acceptBid(String bidId, String landlordId);
 
     List<Bid> generateReports(String landlordId);
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package UserOperations;
 import java.util.List;
+import Data.domain.Filter;
 import Data.domain.Property;
+import Data.domain.PropertySummary;
+import Data.domain.SortDirection;
 
 public interface IPropertyManagement {
     void addProperty(Property property);
@@ -10,6 +13,11 @@ public interface IPropertyManagement {
     List<Property> getActiveProperties();
     List<Property> getPropertiesByLandlord(String landlordId);
     public List<Property> searchProperties(String type, Double minPrice, Double maxPrice, String location);
+    List<Property> searchProperties(String type, Double minPrice, Double maxPrice, String location,
+                                    Filter.SortField sortBy, SortDirection direction, Integer limit);
     void markPropertyAsSold(String propertyId, String landlordID);
+    Property getPropertyById(String propertyId);
+    List<PropertySummary> getActivePropertySummaries();
+    List<PropertySummary> searchPropertySummaries(String type, Double minPrice, Double maxPrice, String location);
 
 }
@@ -1,16 +1,61 @@
 package UserOperations;
 
-import Data.connector.DatabaseConnectorImpl;
+import Data.connector.IDatabaseConnector;
+import Data.connector.TransactionManager;
+import Data.domain.Filter;
 import Data.domain.Property;
+import Data.domain.PropertySummary;
+import Data.domain.SortDirection;
+import Data.repository.impl.ActiveListingsSnapshot;
+import Data.repository.interfaces.IPropertyRepository;
+import Data.repository.interfaces.PropertyWriteListener;
+import Data.repository.mapper.PropertyRowMapper;
+import Data.repository.mapper.PropertySummaryRowMapper;
+import Data.repository.mapper.RowMapper;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class PropertyManagement implements IPropertyManagement {
-    private final DatabaseConnectorImpl dbConnector;
+    private static final String SELECT_ACTIVE_SUMMARIES_SQL =
+            "SELECT " + PropertySummaryRowMapper.SELECT_LIST + " FROM properties WHERE is_active = TRUE AND is_sold = FALSE";
 
-    public PropertyManagement(DatabaseConnectorImpl dbConnector) {
-        this.dbConnector = dbConnector;
+    private final TransactionManager dbConnector;
+    private final IPropertyRepository propertyReader;
+    private final ActiveListingsSnapshot activeListings;
+    private final List<PropertyWriteListener> writeListeners = new CopyOnWriteArrayList<>();
+
+    public PropertyManagement(IDatabaseConnector dbConnector) {
+        this(dbConnector, null);
+    }
+
+    /**
+     * @param propertyReader serves {@link #getPropertyById}, typically a CachingPropertyRepository;
+     *                       if null, the property is read directly.
+     */
+    public PropertyManagement(IDatabaseConnector dbConnector, IPropertyRepository propertyReader) {
+        this(dbConnector, propertyReader, null);
+    }
+
+    /**
+     * @param activeListings serves {@link #getProperties}, {@link #getActiveProperties} and
+     *                       {@link #getActivePropertySummaries} from memory; register it with
+     *                       {@link #addWriteListener} so writes show up on the next read.
+     */
+    public PropertyManagement(IDatabaseConnector dbConnector, IPropertyRepository propertyReader,
+                              ActiveListingsSnapshot activeListings) {
+        this.dbConnector = TransactionManager.of(dbConnector); // Joins the caller's unit of work, if one is active
+        this.propertyReader = propertyReader;
+        this.activeListings = activeListings;
+    }
+
+    /** Registers a listener told about every property this service writes, e.g. to invalidate a cache. */
+    public void addWriteListener(PropertyWriteListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        writeListeners.add(listener);
     }
 
     @Override
@@ -40,6 +85,7 @@ public class PropertyManagement implements IPropertyManagement {
         } catch (SQLException e) {
             throw new RuntimeException("Failed to add property", e);
         }
+        notifyWritten(property.getPropertyId());
     }
 
     @Override
@@ -74,6 +120,7 @@ public class PropertyManagement implements IPropertyManagement {
         } catch (SQLException e) {
             throw new RuntimeException("Failed to update property", e);
         }
+        notifyWritten(property.getPropertyId());
     }
 
     @Override
@@ -90,6 +137,7 @@ public class PropertyManagement implements IPropertyManagement {
         } catch (SQLException e) {
             throw new RuntimeException("Failed to deactivate property as it was not found or does not belong to you", e);
         }
+        notifyWritten(propertyId);
     }
 
     @Override
@@ -106,10 +154,14 @@ public class PropertyManagement implements IPropertyManagement {
         } catch (SQLException e) {
             throw new RuntimeException("Failed to mark property as sold", e);
         }
+        notifyWritten(propertyId);
     }
 
     @Override
     public List<Property> getProperties() {
+        if (activeListings != null) {
+            return activeListings.getActiveProperties();
+        }
         String sql = "SELECT * FROM properties WHERE is_active = TRUE AND is_sold = FALSE";
         List<Property> properties = new ArrayList<>();
 
@@ -117,8 +169,10 @@ public class PropertyManagement implements IPropertyManagement {
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
+            PropertyRowMapper mapper = new PropertyRowMapper();
+
             while (rs.next()) {
-                Property property = mapResultSetToProperty(rs);
+                Property property = mapper.mapRow(rs);
                 properties.add(property);
             }
         } catch (SQLException e) {
@@ -128,6 +182,9 @@ public class PropertyManagement implements IPropertyManagement {
     }
 
     public List<Property> getActiveProperties() {
+        if (activeListings != null) {
+            return activeListings.getActiveProperties();
+        }
         String sql = "SELECT * FROM properties WHERE is_active = TRUE AND is_sold = FALSE";
         List<Property> properties = new ArrayList<>();
 
@@ -139,8 +196,10 @@ public class PropertyManagement implements IPropertyManagement {
                 throw new SQLException("Database connection is invalid");
             }
 
+            PropertyRowMapper mapper = new PropertyRowMapper();
+
             while (rs.next()) {
-                Property property = mapResultSetToProperty(rs);
+                Property property = mapper.mapRow(rs);
                 properties.add(property);
             }
         } catch (SQLException e) {
@@ -162,8 +221,9 @@ public class PropertyManagement implements IPropertyManagement {
 
             pstmt.setString(1, landlordId);
             try (ResultSet rs = pstmt.executeQuery()) {
+                PropertyRowMapper mapper = new PropertyRowMapper();
                 while (rs.next()) {
-                    Property property = mapResultSetToProperty(rs);
+                    Property property = mapper.mapRow(rs);
                     properties.add(property);
                 }
             }
@@ -173,30 +233,85 @@ public class PropertyManagement implements IPropertyManagement {
         return properties;
     }
 
-    private Property mapResultSetToProperty(ResultSet rs) throws SQLException {
-        Property property = new Property();
-        property.setPropertyId(rs.getString("property_id"));
-        property.setLandlordId(rs.getString("landlord_id"));
-        property.setAddress(rs.getString("address"));
-        property.setCity(rs.getString("city"));
-        property.setPostalCode(rs.getString("postal_code"));
-        property.setPropertyType(rs.getString("property_type"));
-        property.setDescription(rs.getString("description"));
-        property.setPrice(rs.getBigDecimal("price"));
-        property.setSquareFootage(rs.getBigDecimal("square_footage"));
-        property.setBedrooms(rs.getInt("bedrooms"));
-        property.setBathrooms(rs.getInt("bathrooms"));
-        property.setActive(rs.getBoolean("is_active"));
-        property.setSold(rs.getBoolean("is_sold"));  // Add this line
-        property.setDateListed(rs.getTimestamp("date_listed"));
-        return property;
+    /** Active, unsold listings matching the arguments, newest first. */
+    @Override
+    public List<Property> searchProperties(String type, Double minPrice, Double maxPrice, String location) {
+        return searchProperties(type, minPrice, maxPrice, location, null, null, null);
     }
 
+    /**
+     * Like {@link #searchProperties(String, Double, Double, String)}, ordered and limited by the
+     * query: {@code sortBy} defaults to CREATED_AT and {@code direction} to the field's default, and a
+     * null or non-positive {@code limit} returns every match. Price order walks idx_properties_price.
+     */
     @Override
-    public List<Property> searchProperties(String type, Double minPrice, Double maxPrice, String location) {
-        StringBuilder sql = new StringBuilder(
-                "SELECT * FROM properties WHERE is_active = TRUE AND is_sold = FALSE");
+    public List<Property> searchProperties(String type, Double minPrice, Double maxPrice, String location,
+                                           Filter.SortField sortBy, SortDirection direction, Integer limit) {
+        String sql = "SELECT * FROM properties WHERE is_active = TRUE AND is_sold = FALSE";
+        return search(sql, type, minPrice, maxPrice, location, orderBy(sortBy, direction),
+                limit != null && limit > 0 ? limit : null, new PropertyRowMapper());
+    }
 
+    /** Like {@link #getActiveProperties()} but reads only the list-view columns. */
+    @Override
+    public List<PropertySummary> getActivePropertySummaries() {
+        if (activeListings != null) {
+            return activeListings.getActivePropertySummaries();
+        }
+        return search(SELECT_ACTIVE_SUMMARIES_SQL, null, null, null, null, null, null, new PropertySummaryRowMapper());
+    }
+
+    /** Like {@link #searchProperties} but reads only the list-view columns; newest first, as there. */
+    @Override
+    public List<PropertySummary> searchPropertySummaries(String type, Double minPrice, Double maxPrice, String location) {
+        return search(SELECT_ACTIVE_SUMMARIES_SQL, type, minPrice, maxPrice, location, orderBy(null, null), null,
+                new PropertySummaryRowMapper());
+    }
+
+    /** Fetches the full listing, e.g. when a summary row is opened. Returns null if there is no such property. */
+    @Override
+    public Property getPropertyById(String propertyId) {
+        if (propertyReader != null) {
+            return propertyReader.getPropertyById(propertyId);
+        }
+        String sql = "SELECT * FROM properties WHERE property_id = ?";
+
+        try (Connection conn = dbConnector.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, propertyId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? new PropertyRowMapper().mapRow(rs) : null;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to fetch property", e);
+        }
+    }
+
+    /** Tells listeners about the write once it is visible, i.e. after the caller's unit of work completes. */
+    private void notifyWritten(String propertyId) {
+        if (writeListeners.isEmpty() || propertyId == null) {
+            return;
+        }
+        dbConnector.afterCompletion(() -> {
+            for (PropertyWriteListener listener : writeListeners) {
+                listener.propertyWritten(propertyId);
+            }
+        });
+    }
+
+    /** ORDER BY clause with property_id as the tie-breaker, which keeps the order index-backed. */
+    private static String orderBy(Filter.SortField sortBy, SortDirection direction) {
+        Filter.SortField field = sortBy != null ? sortBy : Filter.SortField.CREATED_AT;
+        SortDirection resolved = direction != null ? direction : field.defaultDirection();
+        String column = field == Filter.SortField.PRICE ? "price" : "created_at";
+        return " ORDER BY " + column + " " + resolved + ", property_id " + resolved;
+    }
+
+    /** {@code orderBy} and {@code limit} may be null for an unordered, unlimited search. */
+    private <T> List<T> search(String baseSql, String type, Double minPrice, Double maxPrice, String location,
+                               String orderBy, Integer limit, RowMapper<T> mapper) {
+        StringBuilder sql = new StringBuilder(baseSql);
         List<Object> params = new ArrayList<>();
 
         if (type != null) {
@@ -216,6 +331,13 @@ public class PropertyManagement implements IPropertyManagement {
             params.add("%" + location + "%");
             params.add("%" + location + "%");
         }
+        if (orderBy != null) {
+            sql.append(orderBy);
+        }
+        if (limit != null) {
+            sql.append(" LIMIT ?");
+            params.add(limit);
+        }
 
         try (Connection conn = dbConnector.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
@@ -226,16 +348,18 @@ public class PropertyManagement implements IPropertyManagement {
                     pstmt.setString(i + 1, (String) param);
                 } else if (param instanceof Double) {
                     pstmt.setDouble(i + 1, (Double) param);
+                } else if (param instanceof Integer) {
+                    pstmt.setInt(i + 1, (Integer) param);
                 }
             }
 
-            List<Property> properties = new ArrayList<>();
+            List<T> results = new ArrayList<>();
             try (ResultSet rs = pstmt.executeQuery()) {
                 while (rs.next()) {
-                    properties.add(mapResultSetToProperty(rs));
+                    results.add(mapper.mapRow(rs));
                 }
             }
-            return properties;
+            return results;
         } catch (SQLException e) {
             throw new RuntimeException("Failed to search properties", e);
         }
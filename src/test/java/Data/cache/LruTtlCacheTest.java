@@ -0,0 +1,169 @@
+package Data.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+// Unit tests for LruTtlCache using a fake clock.
+class LruTtlCacheTest {
+
+    private long now;
+    private LruTtlCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        now = 0;
+        cache = new LruTtlCache<>(2, Duration.ofSeconds(10), () -> now);
+    }
+
+    @Test
+    void testGet_HitAndMissAreCounted() {
+        // Arrange
+        cache.put("a", "A");
+
+        // Act
+        String hit = cache.get("a");
+        String miss = cache.get("b");
+
+        // Assert
+        assertEquals("A", hit);
+        assertNull(miss);
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(0.5, stats.getHitRatio(), 1e-9);
+    }
+
+    @Test
+    void testPut_OverCapacity_EvictsLeastRecentlyUsed() {
+        // Arrange
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.get("a"); // "b" is now least recently used
+
+        // Act
+        cache.put("c", "C");
+
+        // Assert
+        assertEquals("A", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("C", cache.get("c"));
+        assertEquals(1, cache.stats().getEvictions());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testGet_AfterTtl_ExpiresEntry() {
+        // Arrange
+        cache.put("a", "A");
+
+        // Act
+        now += Duration.ofSeconds(9).toNanos();
+        String beforeExpiry = cache.get("a");
+        now += Duration.ofSeconds(1).toNanos();
+        String afterExpiry = cache.get("a");
+
+        // Assert
+        assertEquals("A", beforeExpiry);
+        assertNull(afterExpiry);
+        assertEquals(1, cache.stats().getExpirations());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testPut_RefreshesTtl() {
+        cache.put("a", "A");
+        now += Duration.ofSeconds(8).toNanos();
+        cache.put("a", "A2");
+        now += Duration.ofSeconds(8).toNanos();
+        assertEquals("A2", cache.get("a"));
+    }
+
+    @Test
+    void testPut_WithOwnTtl_ExpiresEarlier() {
+        cache.put("short", "S", Duration.ofSeconds(1));
+        cache.put("long", "L");
+        now += Duration.ofSeconds(2).toNanos();
+        assertNull(cache.get("short"));
+        assertEquals("L", cache.get("long"));
+    }
+
+    @Test
+    void testPeek_NotCountedInStats() {
+        cache.put("a", "A");
+        assertEquals("A", cache.peek("a"));
+        assertNull(cache.peek("b"));
+        assertEquals(0, cache.stats().getRequests());
+    }
+
+    @Test
+    void testInvalidate_RemovesEntries() {
+        cache.put("a", "A");
+        cache.put("b", "B");
+
+        cache.invalidate("a");
+        assertNull(cache.get("a"));
+        assertEquals("B", cache.get("b"));
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testPut_NullValue_RemovesKey() {
+        cache.put("a", "A");
+        cache.put("a", null);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testStats_NoRequests_ZeroHitRatio() {
+        assertEquals(0.0, cache.stats().getHitRatio());
+    }
+
+    @Test
+    void testPut_Weighted_EvictsUntilUnderMaxWeight() {
+        // Arrange
+        LruTtlCache<String, String> weighted = new LruTtlCache<>(5L, Duration.ofSeconds(10), String::length, () -> now);
+        weighted.put("a", "aa");
+        weighted.put("b", "bb");
+
+        // Act
+        weighted.put("c", "ccc");
+
+        // Assert
+        assertNull(weighted.get("a"));
+        assertEquals("bb", weighted.get("b"));
+        assertEquals(5, weighted.weight());
+        assertEquals(1, weighted.stats().getEvictions());
+    }
+
+    @Test
+    void testPut_Weighted_TooHeavyValueNotStored() {
+        LruTtlCache<String, String> weighted = new LruTtlCache<>(3L, Duration.ofSeconds(10), String::length, () -> now);
+        weighted.put("a", "a");
+        weighted.put("big", "bigger");
+        assertNull(weighted.get("big"));
+        assertEquals("a", weighted.get("a"));
+    }
+
+    @Test
+    void testWeight_TracksReplaceAndInvalidate() {
+        LruTtlCache<String, String> weighted = new LruTtlCache<>(10L, Duration.ofSeconds(10), String::length, () -> now);
+        weighted.put("a", "aaaa");
+        weighted.put("a", "aa");
+        assertEquals(2, weighted.weight());
+        weighted.invalidate("a");
+        assertEquals(0, weighted.weight());
+    }
+
+    @Test
+    void testConstructor_InvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new LruTtlCache<String, String>(0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new LruTtlCache<String, String>(1, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new LruTtlCache<String, String>(1, null));
+        assertThrows(IllegalArgumentException.class, () -> new LruTtlCache<String, String>(1L, Duration.ofSeconds(1), null));
+    }
+}
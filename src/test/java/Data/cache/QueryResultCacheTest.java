@@ -0,0 +1,106 @@
+package Data.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Unit tests for QueryResultCache using a fake clock.
+class QueryResultCacheTest {
+
+    private long now;
+    private AtomicInteger loads;
+    private QueryResultCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        now = 0;
+        loads = new AtomicInteger();
+        cache = new QueryResultCache<>(
+                new LruTtlCache<>(5L, Duration.ofSeconds(30), QueryResultCache::weigh, () -> now), s -> s);
+    }
+
+    private List<String> load(String... rows) {
+        loads.incrementAndGet();
+        return new ArrayList<>(List.of(rows));
+    }
+
+    @Test
+    void testGetOrLoad_SecondCallServedFromCache() {
+        // Act
+        cache.getOrLoad("q", () -> load("a", "b"));
+        List<String> second = cache.getOrLoad("q", () -> load("a", "b"));
+
+        // Assert
+        assertEquals(List.of("a", "b"), second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().getHits());
+    }
+
+    @Test
+    void testGetOrLoad_ReturnedListIsCallersOwn() {
+        cache.getOrLoad("q", () -> load("a")).add("added");
+        cache.getOrLoad("q", () -> load("a")).clear();
+        assertEquals(List.of("a"), cache.getOrLoad("q", () -> load("a")));
+    }
+
+    @Test
+    void testGetOrLoad_AfterTtl_Reloads() {
+        cache.getOrLoad("q", () -> load("a"));
+        now += Duration.ofSeconds(30).toNanos();
+        cache.getOrLoad("q", () -> load("a"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testGetOrLoad_BoundedByRowCount() {
+        // Arrange
+        cache.getOrLoad("q1", () -> load("a", "b", "c"));
+
+        // Act
+        cache.getOrLoad("q2", () -> load("d", "e", "f"));
+
+        // Assert
+        assertEquals(3, cache.cachedRows());
+        cache.getOrLoad("q1", () -> load("a", "b", "c"));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testGetOrLoad_InvalidatedWhileLoading_ResultNotStored() {
+        // Act
+        List<String> racing = cache.getOrLoad("q", () -> {
+            cache.invalidateAll(); // A write lands while the query runs
+            return load("stale");
+        });
+        cache.getOrLoad("q", () -> load("fresh"));
+
+        // Assert
+        assertEquals(List.of("stale"), racing);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testInvalidateAll_DropsResults() {
+        cache.getOrLoad("q", () -> load("a"));
+        cache.invalidateAll();
+        cache.getOrLoad("q", () -> load("a"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testGetOrLoad_CopiesRows() {
+        QueryResultCache<StringBuilder> mutable = new QueryResultCache<>(StringBuilder::new);
+        mutable.getOrLoad("q", () -> List.of(new StringBuilder("a"))).get(0).append("changed");
+        assertEquals("a", mutable.getOrLoad("q", List::of).get(0).toString());
+    }
+
+    @Test
+    void testConstructor_NullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryResultCache<String>(null));
+    }
+}
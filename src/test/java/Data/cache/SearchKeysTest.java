@@ -0,0 +1,78 @@
+package Data.cache;
+
+import Data.domain.Filter;
+import Data.domain.SortDirection;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+// Unit tests for SearchKeys normalization.
+class SearchKeysTest {
+
+    @Test
+    void testForFilter_EquivalentFiltersShareKey() {
+        // Arrange
+        Filter a = new Filter();
+        a.setPropertyType("Apartment");
+        a.setLocation("Boston");
+        a.setMaxPrice(new BigDecimal("400000.00"));
+        a.setKeywords("  ");
+        Filter b = new Filter();
+        b.setPropertyType("apartment");
+        b.setLocation("BOSTON");
+        b.setMaxPrice(new BigDecimal("4E+5"));
+
+        // Act & Assert
+        assertEquals(SearchKeys.forFilter("properties", a), SearchKeys.forFilter("properties", b));
+    }
+
+    @Test
+    void testForFilter_DifferentCriteriaDifferentKeys() {
+        Filter min = new Filter();
+        min.setMinPrice(BigDecimal.TEN);
+        Filter max = new Filter();
+        max.setMaxPrice(BigDecimal.TEN);
+        assertNotEquals(SearchKeys.forFilter("properties", min), SearchKeys.forFilter("properties", max));
+        assertNotEquals(SearchKeys.forFilter("properties", min), SearchKeys.forFilter("summaries", min));
+    }
+
+    @Test
+    void testForFilter_SortAndLimitArePartOfTheKey() {
+        // Arrange
+        Filter newest = new Filter();
+        Filter explicitNewest = new Filter();
+        explicitNewest.setSortBy(Filter.SortField.CREATED_AT);
+        explicitNewest.setSortDirection(SortDirection.DESC);
+        Filter cheapest = new Filter();
+        cheapest.setSortBy(Filter.SortField.PRICE);
+        Filter limited = new Filter();
+        limited.setLimit(10);
+
+        // Act & Assert
+        assertEquals("properties", SearchKeys.forFilter("properties", newest));
+        assertEquals(SearchKeys.forFilter("properties", newest), SearchKeys.forFilter("properties", explicitNewest));
+        assertEquals("properties|sort=PRICE:ASC", SearchKeys.forFilter("properties", cheapest));
+        assertEquals("properties|limit=10", SearchKeys.forFilter("properties", limited));
+        assertEquals("search|sort=PRICE:ASC|limit=5",
+                SearchKeys.forSearch("search", null, null, null, null, Filter.SortField.PRICE, null, 5));
+    }
+
+    @Test
+    void testForFilter_ValueCannotImitateAnotherCriterion() {
+        Filter crafted = new Filter();
+        crafted.setLocation("x|type=apartment");
+        Filter plain = new Filter();
+        plain.setLocation("x");
+        plain.setPropertyType("apartment");
+        assertNotEquals(SearchKeys.forFilter("properties", crafted), SearchKeys.forFilter("properties", plain));
+    }
+
+    @Test
+    void testForSearch_NormalizesNumbersAndEmptyLocation() {
+        assertEquals(SearchKeys.forSearch("search", "House", 100000.0, null, ""),
+                SearchKeys.forSearch("search", "house", 1e5, null, null));
+        assertNotEquals(SearchKeys.forSearch("search", "", null, null, null),
+                SearchKeys.forSearch("search", null, null, null, null)); // An empty type still filters
+    }
+}
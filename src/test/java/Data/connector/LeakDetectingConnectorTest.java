@@ -0,0 +1,134 @@
+package Data.connector;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+// Unit tests for LeakDetectingConnector using a mocked delegate connector.
+class LeakDetectingConnectorTest {
+
+    private IDatabaseConnector mockDelegate;
+    private Connection mockConnection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        mockDelegate = mock(IDatabaseConnector.class);
+        mockConnection = mock(Connection.class);
+        when(mockDelegate.getConnection()).thenReturn(mockConnection);
+    }
+
+    @Test
+    void testConstructor_InvalidArgumentsThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new LeakDetectingConnector(null, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new LeakDetectingConnector(mockDelegate, 0));
+    }
+
+    @Test
+    void testGetConnection_TracksUntilClosed() throws SQLException {
+        // Arrange
+        LeakDetectingConnector connector = new LeakDetectingConnector(mockDelegate, 60_000);
+
+        // Act
+        Connection conn = connector.getConnection();
+        int borrowedWhileOpen = connector.getBorrowedCount();
+        conn.close();
+
+        // Assert
+        assertEquals(1, borrowedWhileOpen);
+        assertEquals(0, connector.getBorrowedCount());
+        verify(mockDelegate).closeConnection(mockConnection);
+    }
+
+    @Test
+    void testCloseConnection_UntracksConnection() throws SQLException {
+        // Arrange
+        LeakDetectingConnector connector = new LeakDetectingConnector(mockDelegate, 60_000);
+        Connection conn = connector.getConnection();
+
+        // Act
+        connector.closeConnection(conn);
+        connector.closeConnection(conn); // Second close is a no-op
+
+        // Assert
+        assertEquals(0, connector.getBorrowedCount());
+        verify(mockDelegate, times(1)).closeConnection(mockConnection);
+    }
+
+    @Test
+    void testDetectLeaks_FlagsConnectionsOverThreshold() throws Exception {
+        // Arrange
+        LeakDetectingConnector connector = new LeakDetectingConnector(mockDelegate, 5);
+        connector.getConnection();
+        Thread.sleep(20);
+
+        // Act
+        List<LeakDetectingConnector.BorrowRecord> leaks = connector.detectLeaks();
+
+        // Assert
+        assertEquals(1, leaks.size());
+        assertEquals(Thread.currentThread().getName(), leaks.get(0).getThreadName());
+        assertNotNull(leaks.get(0).getBorrowSite(), "Borrow stack should be captured by default");
+        assertEquals(1, connector.getLeakedCount());
+    }
+
+    @Test
+    void testDetectLeaks_IgnoresRecentBorrows() throws SQLException {
+        // Arrange
+        LeakDetectingConnector connector = new LeakDetectingConnector(mockDelegate, 60_000, false);
+        connector.getConnection();
+
+        // Act & Assert
+        assertTrue(connector.detectLeaks().isEmpty());
+    }
+
+    @Test
+    void testReclaimLeakedConnections_AbortsConnectionAndInvalidatesHandle() throws Exception {
+        // Arrange
+        LeakDetectingConnector connector = new LeakDetectingConnector(mockDelegate, 5, false);
+        Connection leaked = connector.getConnection();
+        Thread.sleep(20);
+
+        // Act
+        int reclaimed = connector.reclaimLeakedConnections();
+
+        // Assert
+        assertEquals(1, reclaimed);
+        assertEquals(1, connector.getReclaimedCount());
+        assertEquals(0, connector.getBorrowedCount());
+        verify(mockConnection).abort(any());
+        verify(mockDelegate).closeConnection(mockConnection);
+        SQLException ex = assertThrows(SQLException.class, leaked::createStatement);
+        assertTrue(ex.getMessage().contains("reclaimed"));
+    }
+
+    @Test
+    void testReclaim_DiscardsPhysicalConnectionAndFreesSlotInPool() throws Exception {
+        // Arrange
+        when(mockConnection.isValid(anyInt())).thenReturn(true);
+        when(mockConnection.getAutoCommit()).thenReturn(true);
+        PoolConfig config = new PoolConfig();
+        config.setMinSize(0);
+        config.setMaxSize(1);
+        config.setAcquireTimeoutMillis(10);
+        PooledDatabaseConnector pool = new PooledDatabaseConnector(mockDelegate, config);
+        LeakDetectingConnector connector = new LeakDetectingConnector(pool, 5, false);
+        connector.getConnection();
+        Thread.sleep(20);
+        assertThrows(SQLException.class, connector::getConnection, "Pool of one should be exhausted");
+
+        // Act
+        connector.reclaimLeakedConnections();
+
+        // Assert: the leaked connection is closed, not handed to the next borrower
+        verify(mockConnection).abort(any());
+        verify(mockDelegate).closeConnection(mockConnection);
+        assertEquals(0, connector.getIdleCount());
+        assertEquals(0, pool.getTotalCount());
+        assertNotNull(connector.getConnection());
+    }
+}
@@ -0,0 +1,314 @@
+package Data.connector;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+
+// Unit tests for PooledDatabaseConnector. The physical connection source is mocked,
+// so these tests exercise pooling behaviour only, not real MySQL connections.
+class PooledDatabaseConnectorTest {
+
+    private IDatabaseConnector mockSource;
+    private Connection mockPhysical;
+    private PoolConfig config;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        mockSource = mock(IDatabaseConnector.class);
+        mockPhysical = mockPhysicalConnection();
+        when(mockSource.getConnection()).thenReturn(mockPhysical);
+
+        config = new PoolConfig();
+        config.setMinSize(0);
+        config.setMaxSize(2);
+        config.setAcquireTimeoutMillis(50);
+    }
+
+    private Connection mockPhysicalConnection() throws SQLException {
+        Connection conn = mock(Connection.class);
+        when(conn.isValid(anyInt())).thenReturn(true);
+        when(conn.getAutoCommit()).thenReturn(true);
+        return conn;
+    }
+
+    // --- Constructor Tests ---
+
+    @Test
+    void testConstructor_NullSourceThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new PooledDatabaseConnector(null, config));
+    }
+
+    @Test
+    void testConstructor_InvalidSizesThrowException() {
+        // Arrange
+        config.setMinSize(5);
+        config.setMaxSize(2);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new PooledDatabaseConnector(mockSource, config),
+                "minSize greater than maxSize should be rejected");
+    }
+
+    // --- Borrow / Return Tests ---
+
+    @Test
+    void testClosingHandle_ReturnsConnectionToPool() throws SQLException {
+        // Arrange
+        PooledDatabaseConnector pool = new PooledDatabaseConnector(mockSource, config);
+
+        // Act
+        try (Connection first = pool.getConnection()) {
+            assertNotNull(first);
+            assertEquals(1, pool.getActiveCount());
+        }
+        try (Connection second = pool.getConnection()) {
+            assertNotNull(second);
+        }
+
+        // Assert
+        verify(mockSource, times(1)).getConnection(); // Second borrow reused the physical connection
+        verify(mockPhysical, never()).close();
+        assertEquals(1, pool.getIdleCount());
+        assertEquals(0, pool.getActiveCount());
+    }
+
+    @Test
+    void testCloseConnection_ReturnsConnectionToPool() throws SQLException {
+        // Arrange
+        PooledDatabaseConnector pool = new PooledDatabaseConnector(mockSource, config);
+        Connection conn = pool.getConnection();
+
+        // Act
+        pool.closeConnection(conn);
+
+        // Assert
+        assertTrue(conn.isClosed(), "Handle should report closed once returned");
+        assertEquals(1, pool.getIdleCount());
+        verify(mockPhysical, never()).close();
+    }
+
+    @Test
+    void testReturnedHandle_RejectsFurtherUse() throws SQLException {
+        // Arrange
+        PooledDatabaseConnector pool = new PooledDatabaseConnector(mockSource, config);
+        Connection conn = pool.getConnection();
+        conn.close();
+
+        // Act & Assert
+        assertThrows(SQLException.class, () -> conn.prepareStatement("SELECT 1"));
+    }
+
+    @Test
+    void testHandle_DelegatesToPhysicalConnection() throws SQLException {
+        // Arrange
+        PreparedStatement mockStatement = mock(PreparedStatement.class);
+        when(mockPhysical.prepareStatement("SELECT 1")).thenReturn(mockStatement);
+        config.setStatementCacheSize(0);
+        PooledDatabaseConnector pool = new PooledDatabaseConnector(mockSource, config);
+
+        // Act
+        try (Connection conn = pool.getConnection()) {
+            // Assert
+            assertSame(mockStatement, conn.prepareStatement("SELECT 1"));
+        }
+    }
+
+    @Test
+    void testAbort_DiscardsPhysicalConnectionInsteadOfReusingIt() throws SQLException {
+        // Arrange
+        PooledDatabaseConnector pool = new PooledDatabaseConnector(mockSource, config);
+        Connection conn = pool.getConnection();
+
+        // Act
+        conn.abort(Runnable::run);
+
+        // Assert
+        verify(mockPhysical).abort(any());
+        verify(mockSource).closeConnection(mockPhysical);
+        assertEquals(0, pool.getTotalCount());
+        assertEquals(0, pool.getIdleCount());
+        assertThrows(SQLException.class, conn::createStatement);
+    }
+
+    @Test
+    void testReturn_RollsBackOpenTransaction() throws SQLException {
+        // Arrange
+        PooledDatabaseConnector pool = new PooledDatabaseConnector(mockSource, config);
+        Connection conn = pool.getConnection();
+        when(mockPhysical.getAutoCommit()).thenReturn(false);
+
+        // Act
+        conn.close();
+
+        // Assert
+        verify(mockPhysical).rollback();
+        verify(mockPhysical).setAutoCommit(true);
+    }
+
+    // --- Statement Cache Tests ---
+
+    @Test
+    void testPrepareStatement_ReusedAcrossBorrows() throws SQLException {
+        // Arrange
+        PreparedStatement mockStatement = mock(PreparedStatement.class);
+        when(mockPhysical.prepareStatement("SELECT 1")).thenReturn(mockStatement);
+        PooledDatabaseConnector pool = new PooledDatabaseConnector(mockSource, config);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            try (Connection conn = pool.getConnection();
+                 PreparedStatement ps = conn.prepareStatement("SELECT 1")) {
+                ps.executeQuery();
+            }
+        }
+
+        // Assert
+        verify(mockPhysical, times(1)).prepareStatement("SELECT 1");
+        verify(mockStatement, times(3)).executeQuery();
+        verify(mockStatement, never()).close();
+        assertEquals(2, pool.getStatementCacheHits());
+        assertEquals(1, pool.getStatementCacheMisses());
+    }
+
+    @Test
+    void testDestroy_ClosesCachedStatements() throws SQLException {
+        // Arrange
+        PreparedStatement mockStatement = mock(PreparedStatement.class);
+        when(mockPhysical.prepareStatement("SELECT 1")).thenReturn(mockStatement);
+        PooledDatabaseConnector pool = new PooledDatabaseConnector(mockSource, config);
+        try (Connection conn = pool.getConnection()) {
+            conn.prepareStatement("SELECT 1").close();
+        }
+
+        // Act
+        pool.shutdown();
+
+        // Assert
+        verify(mockStatement).close();
+    }
+
+    // --- Validation Tests ---
+
+    @Test
+    void testBorrow_DiscardsInvalidIdleConnection() throws SQLException {
+        // Arrange
+        Connection stale = mockPhysicalConnection();
+        Connection fresh = mockPhysicalConnection();
+        when(mockSource.getConnection()).thenReturn(stale, fresh);
+        PooledDatabaseConnector pool = new PooledDatabaseConnector(mockSource, config);
+        pool.getConnection().close();
+        when(stale.isValid(anyInt())).thenReturn(false);
+
+        // Act
+        try (Connection conn = pool.getConnection()) {
+            conn.createStatement();
+        }
+
+        // Assert
+        verify(mockSource).closeConnection(stale);
+        verify(fresh).createStatement();
+        assertEquals(1, pool.getTotalCount());
+    }
+
+    // --- Bounds Tests ---
+
+    @Test
+    void testGetConnection_TimesOutWhenPoolExhausted() throws SQLException {
+        // Arrange
+        when(mockSource.getConnection()).thenAnswer(inv -> mockPhysicalConnection());
+        PooledDatabaseConnector pool = new PooledDatabaseConnector(mockSource, config);
+        pool.getConnection();
+        pool.getConnection();
+
+        // Act & Assert
+        assertThrows(SQLTimeoutException.class, pool::getConnection,
+                "Third borrow should time out when maxSize is 2");
+        assertEquals(2, pool.getTotalCount());
+    }
+
+    @Test
+    void testGetConnection_SourceFailureReleasesPermit() throws SQLException {
+        // Arrange
+        config.setMaxSize(1);
+        when(mockSource.getConnection()).thenThrow(new SQLException("down")).thenReturn(mockPhysical);
+        PooledDatabaseConnector pool = new PooledDatabaseConnector(mockSource, config);
+
+        // Act
+        assertThrows(SQLException.class, pool::getConnection);
+
+        // Assert
+        assertNotNull(pool.getConnection(), "Failed open must not leak the only permit");
+    }
+
+    // --- Eviction / Lifecycle Tests ---
+
+    @Test
+    void testEvictIdleConnections_RespectsMinSize() throws Exception {
+        // Arrange
+        config.setMinSize(1);
+        config.setIdleTimeoutMillis(1);
+        when(mockSource.getConnection()).thenAnswer(inv -> mockPhysicalConnection());
+        PooledDatabaseConnector pool = new PooledDatabaseConnector(mockSource, config);
+        Connection a = pool.getConnection();
+        Connection b = pool.getConnection();
+        a.close();
+        b.close();
+        Thread.sleep(5);
+
+        // Act
+        int evicted = pool.evictIdleConnections();
+
+        // Assert
+        assertEquals(1, evicted);
+        assertEquals(1, pool.getTotalCount());
+    }
+
+    @Test
+    void testWarmUp_OpensMinSizeConnections() throws SQLException {
+        // Arrange
+        config.setMinSize(2);
+        when(mockSource.getConnection()).thenAnswer(inv -> mockPhysicalConnection());
+        PooledDatabaseConnector pool = new PooledDatabaseConnector(mockSource, config);
+
+        // Act
+        pool.warmUp();
+
+        // Assert
+        assertEquals(2, pool.getIdleCount());
+    }
+
+    @Test
+    void testWarmUp_FailureClosesConnectionsAlreadyOpened() throws SQLException {
+        // Arrange
+        config.setMinSize(2);
+        when(mockSource.getConnection()).thenReturn(mockPhysical).thenThrow(new SQLException("down"));
+        PooledDatabaseConnector pool = new PooledDatabaseConnector(mockSource, config);
+
+        // Act & Assert
+        assertThrows(SQLException.class, pool::warmUp);
+        verify(mockSource).closeConnection(mockPhysical);
+        assertEquals(0, pool.getTotalCount());
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    void testShutdown_ClosesIdleAndRejectsBorrow() throws SQLException {
+        // Arrange
+        PooledDatabaseConnector pool = new PooledDatabaseConnector(mockSource, config);
+        pool.getConnection().close();
+
+        // Act
+        pool.shutdown();
+
+        // Assert
+        verify(mockSource).closeConnection(mockPhysical);
+        assertEquals(0, pool.getTotalCount());
+        assertThrows(SQLException.class, pool::getConnection);
+    }
+}
@@ -0,0 +1,249 @@
+package Data.connector;
+
+import Data.domain.Property;
+import Data.repository.impl.PropertyRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+// Unit tests for ReadWriteRoutingConnector. Primary and replica connectors are mocks standing in
+// for separate MySQL instances.
+class ReadWriteRoutingConnectorTest {
+
+    private IDatabaseConnector mockPrimary;
+    private IDatabaseConnector mockReplicaA;
+    private IDatabaseConnector mockReplicaB;
+    private Connection primaryConn;
+    private Connection replicaConnA;
+    private Connection replicaConnB;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        mockPrimary = mock(IDatabaseConnector.class);
+        mockReplicaA = mock(IDatabaseConnector.class);
+        mockReplicaB = mock(IDatabaseConnector.class);
+        primaryConn = mockConnection();
+        replicaConnA = mockConnection();
+        replicaConnB = mockConnection();
+        when(mockPrimary.getConnection()).thenReturn(primaryConn);
+        when(mockReplicaA.getConnection()).thenReturn(replicaConnA);
+        when(mockReplicaB.getConnection()).thenReturn(replicaConnB);
+    }
+
+    private Connection mockConnection() throws SQLException {
+        Connection conn = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        Statement stmt = mock(Statement.class);
+        when(conn.prepareStatement(anyString())).thenReturn(ps);
+        when(conn.createStatement()).thenReturn(stmt);
+        when(ps.executeQuery()).thenReturn(mock(ResultSet.class));
+        when(stmt.executeQuery(anyString())).thenReturn(mock(ResultSet.class));
+        return conn;
+    }
+
+    private ReadWriteRoutingConnector twoReplicas(ReadWriteRoutingConnector.ReplicaSelection selection) {
+        return new ReadWriteRoutingConnector(mockPrimary, List.of(mockReplicaA, mockReplicaB), selection);
+    }
+
+    // --- SQL classification ---
+
+    @Test
+    void testIsReadOnlySql() {
+        assertTrue(ReadWriteRoutingConnector.isReadOnlySql("SELECT * FROM properties"));
+        assertTrue(ReadWriteRoutingConnector.isReadOnlySql("  /* hint */ select 1"));
+        assertTrue(ReadWriteRoutingConnector.isReadOnlySql("(SELECT 1) UNION (SELECT 2)"));
+        assertFalse(ReadWriteRoutingConnector.isReadOnlySql("SELECT * FROM bids WHERE bid_id = ? FOR UPDATE"));
+        assertFalse(ReadWriteRoutingConnector.isReadOnlySql("SELECT * FROM bids WHERE bid_id = ?\nFOR UPDATE"));
+        assertFalse(ReadWriteRoutingConnector.isReadOnlySql("SELECT * FROM bids\tfor  share"));
+        assertFalse(ReadWriteRoutingConnector.isReadOnlySql("SELECT * FROM bids LOCK\nIN SHARE MODE"));
+        assertTrue(ReadWriteRoutingConnector.isReadOnlySql("SELECT for_update_count FROM stats"));
+        assertFalse(ReadWriteRoutingConnector.isReadOnlySql("UPDATE bids SET status = ?"));
+        assertFalse(ReadWriteRoutingConnector.isReadOnlySql("INSERT INTO bids VALUES (?)"));
+        assertFalse(ReadWriteRoutingConnector.isReadOnlySql(null));
+    }
+
+    // --- Routing ---
+
+    @Test
+    void testSelect_GoesToReplica() throws SQLException {
+        // Arrange
+        ReadWriteRoutingConnector connector = twoReplicas(ReadWriteRoutingConnector.ReplicaSelection.ROUND_ROBIN);
+
+        // Act
+        try (Connection conn = connector.getConnection()) {
+            conn.prepareStatement("SELECT * FROM properties").executeQuery();
+        }
+
+        // Assert
+        verify(replicaConnA).prepareStatement("SELECT * FROM properties");
+        verify(mockReplicaA).closeConnection(replicaConnA);
+        verifyNoInteractions(mockPrimary);
+        assertEquals(1, connector.getReplicaReadCount());
+    }
+
+    @Test
+    void testWrite_GoesToPrimary() throws SQLException {
+        // Arrange
+        ReadWriteRoutingConnector connector = twoReplicas(ReadWriteRoutingConnector.ReplicaSelection.ROUND_ROBIN);
+
+        // Act
+        try (Connection conn = connector.getConnection()) {
+            conn.prepareStatement("UPDATE bids SET status = ?").executeUpdate();
+        }
+
+        // Assert
+        verify(primaryConn).prepareStatement("UPDATE bids SET status = ?");
+        verify(mockPrimary).closeConnection(primaryConn);
+        verifyNoInteractions(mockReplicaA, mockReplicaB);
+        assertEquals(1, connector.getWriteCount());
+    }
+
+    @Test
+    void testCreateStatement_RoutedOnExecute() throws SQLException {
+        // Arrange
+        ReadWriteRoutingConnector connector = twoReplicas(ReadWriteRoutingConnector.ReplicaSelection.ROUND_ROBIN);
+
+        // Act
+        try (Connection conn = connector.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.setFetchSize(100);
+            stmt.executeQuery("SELECT * FROM properties WHERE is_active = TRUE");
+        }
+
+        // Assert
+        Statement replicaStmt = replicaConnA.createStatement();
+        verify(replicaStmt).setFetchSize(100);
+        verify(replicaStmt).executeQuery("SELECT * FROM properties WHERE is_active = TRUE");
+        verifyNoInteractions(mockPrimary);
+    }
+
+    @Test
+    void testTransaction_PinnedToPrimary() throws SQLException {
+        // Arrange
+        ReadWriteRoutingConnector connector = twoReplicas(ReadWriteRoutingConnector.ReplicaSelection.ROUND_ROBIN);
+
+        // Act
+        try (Connection conn = connector.getConnection()) {
+            conn.setAutoCommit(false);
+            conn.prepareStatement("SELECT status FROM bids WHERE bid_id = ?");
+            conn.commit();
+        }
+
+        // Assert
+        verify(primaryConn).setAutoCommit(false);
+        verify(primaryConn).prepareStatement("SELECT status FROM bids WHERE bid_id = ?");
+        verify(primaryConn).commit();
+        verifyNoInteractions(mockReplicaA, mockReplicaB);
+    }
+
+    @Test
+    void testReadAfterWriteOnSameConnection_StaysOnPrimary() throws SQLException {
+        // Arrange
+        ReadWriteRoutingConnector connector = twoReplicas(ReadWriteRoutingConnector.ReplicaSelection.ROUND_ROBIN);
+
+        // Act
+        try (Connection conn = connector.getConnection()) {
+            conn.prepareStatement("INSERT INTO bids VALUES (?)");
+            conn.prepareStatement("SELECT * FROM bids");
+        }
+
+        // Assert
+        verify(primaryConn).prepareStatement("SELECT * FROM bids");
+        verifyNoInteractions(mockReplicaA, mockReplicaB);
+    }
+
+    @Test
+    void testRoundRobin_AlternatesReplicas() throws SQLException {
+        // Arrange
+        ReadWriteRoutingConnector connector = twoReplicas(ReadWriteRoutingConnector.ReplicaSelection.ROUND_ROBIN);
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            try (Connection conn = connector.getConnection()) {
+                conn.prepareStatement("SELECT 1");
+            }
+        }
+
+        // Assert
+        verify(mockReplicaA, times(2)).getConnection();
+        verify(mockReplicaB, times(2)).getConnection();
+    }
+
+    @Test
+    void testLeastLoaded_PrefersIdleReplica() throws SQLException {
+        // Arrange
+        ReadWriteRoutingConnector connector = twoReplicas(ReadWriteRoutingConnector.ReplicaSelection.LEAST_LOADED);
+        Connection held = connector.getReadConnection(); // Occupies replica A
+
+        // Act
+        try (Connection conn = connector.getConnection()) {
+            conn.prepareStatement("SELECT 1");
+        }
+
+        // Assert
+        verify(replicaConnB).prepareStatement("SELECT 1");
+        held.close();
+        verify(mockReplicaA).closeConnection(replicaConnA);
+    }
+
+    @Test
+    void testReadYourWrites_ReadsFromPrimaryWithinWindow() throws SQLException {
+        // Arrange
+        ReadWriteRoutingConnector connector = twoReplicas(ReadWriteRoutingConnector.ReplicaSelection.ROUND_ROBIN);
+        connector.setReadYourWritesWindowMillis(60_000);
+        try (Connection conn = connector.getConnection()) {
+            conn.prepareStatement("UPDATE properties SET price = ?");
+        }
+
+        // Act
+        try (Connection conn = connector.getConnection()) {
+            conn.prepareStatement("SELECT * FROM properties");
+        }
+
+        // Assert
+        verify(primaryConn).prepareStatement("SELECT * FROM properties");
+        verifyNoInteractions(mockReplicaA, mockReplicaB);
+        assertEquals(1, connector.getPrimaryReadCount());
+    }
+
+    @Test
+    void testReplicaFailure_FallsBackToPrimary() throws SQLException {
+        // Arrange
+        when(mockReplicaA.getConnection()).thenThrow(new SQLException("replica down"));
+        ReadWriteRoutingConnector connector = new ReadWriteRoutingConnector(mockPrimary, List.of(mockReplicaA));
+
+        // Act
+        try (Connection conn = connector.getConnection()) {
+            conn.prepareStatement("SELECT 1");
+        }
+
+        // Assert
+        verify(primaryConn).prepareStatement("SELECT 1");
+    }
+
+    @Test
+    void testRepository_ReadsFromReplicaWritesToPrimary() throws SQLException {
+        // Arrange
+        ReadWriteRoutingConnector connector = twoReplicas(ReadWriteRoutingConnector.ReplicaSelection.ROUND_ROBIN);
+        PropertyRepositoryImpl repository = new PropertyRepositoryImpl(connector);
+        Property property = new Property();
+        property.setPropertyId("prop1");
+        property.setLandlordId("land1");
+
+        // Act
+        repository.getPropertyById("prop1");
+        repository.deactivateProperty("prop1");
+
+        // Assert
+        verify(mockReplicaA).getConnection();
+        verify(primaryConn).prepareStatement(startsWith("UPDATE properties"));
+    }
+}
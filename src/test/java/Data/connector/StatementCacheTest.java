@@ -0,0 +1,185 @@
+package Data.connector;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Unit tests for the per-connection StatementCache.
+class StatementCacheTest {
+
+    private Connection mockConnection;
+    private AtomicLong hits;
+    private AtomicLong misses;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        mockConnection = mock(Connection.class);
+        when(mockConnection.prepareStatement(anyString())).thenAnswer(inv -> mock(PreparedStatement.class));
+        hits = new AtomicLong();
+        misses = new AtomicLong();
+    }
+
+    @Test
+    void testPrepare_HitAfterHandleClosed() throws SQLException {
+        // Arrange
+        StatementCache cache = new StatementCache(mockConnection, 4, hits, misses);
+
+        // Act
+        cache.prepare("SELECT 1").close();
+        PreparedStatement second = cache.prepare("SELECT 1");
+
+        // Assert
+        assertFalse(second.isClosed());
+        assertEquals(1, hits.get());
+        assertEquals(1, misses.get());
+        verify(mockConnection, times(1)).prepareStatement("SELECT 1");
+    }
+
+    @Test
+    void testClose_ClearsParametersWithoutClosingStatement() throws SQLException {
+        // Arrange
+        PreparedStatement physical = mock(PreparedStatement.class);
+        when(mockConnection.prepareStatement("SELECT ?")).thenReturn(physical);
+        StatementCache cache = new StatementCache(mockConnection, 4, hits, misses);
+        PreparedStatement handle = cache.prepare("SELECT ?");
+
+        // Act
+        handle.setString(1, "x");
+        handle.close();
+
+        // Assert
+        verify(physical).setString(1, "x");
+        verify(physical).clearParameters();
+        verify(physical).clearBatch();
+        verify(physical, never()).close();
+        assertTrue(handle.isClosed());
+        assertThrows(SQLException.class, () -> handle.setString(1, "y"), "Closed handle must not reach the cached statement");
+    }
+
+    @Test
+    void testClose_ClosesResultSetsOpenedByBorrower() throws SQLException {
+        // Arrange
+        PreparedStatement physical = mock(PreparedStatement.class);
+        ResultSet results = mock(ResultSet.class);
+        when(physical.executeQuery()).thenReturn(results);
+        when(mockConnection.prepareStatement("SELECT 1")).thenReturn(physical);
+        StatementCache cache = new StatementCache(mockConnection, 4, hits, misses);
+        PreparedStatement handle = cache.prepare("SELECT 1");
+        handle.executeQuery();
+
+        // Act
+        handle.close();
+
+        // Assert
+        verify(results).close();
+        verify(physical, never()).close();
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testClose_BatchCannotBeClearedClosesStatementInsteadOfCachingIt() throws SQLException {
+        // Arrange
+        PreparedStatement physical = mock(PreparedStatement.class);
+        doThrow(new SQLException("broken")).when(physical).clearBatch();
+        when(mockConnection.prepareStatement("INSERT 1")).thenReturn(physical);
+        StatementCache cache = new StatementCache(mockConnection, 4, hits, misses);
+        PreparedStatement handle = cache.prepare("INSERT 1");
+        handle.addBatch();
+
+        // Act
+        handle.close();
+
+        // Assert
+        verify(physical).close();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testClose_ChangedSettingsCloseStatementInsteadOfCachingIt() throws SQLException {
+        // Arrange
+        PreparedStatement physical = mock(PreparedStatement.class);
+        when(mockConnection.prepareStatement("SELECT 1")).thenReturn(physical).thenReturn(mock(PreparedStatement.class));
+        StatementCache cache = new StatementCache(mockConnection, 4, hits, misses);
+        PreparedStatement handle = cache.prepare("SELECT 1");
+        handle.setMaxRows(1);
+
+        // Act
+        handle.close();
+        cache.prepare("SELECT 1");
+
+        // Assert
+        verify(physical).close();
+        assertEquals(0, hits.get(), "The next borrower must get a statement with default settings");
+        assertEquals(2, misses.get());
+    }
+
+    @Test
+    void testPrepare_NestedUseOfSameSqlGetsUncachedStatement() throws SQLException {
+        // Arrange
+        StatementCache cache = new StatementCache(mockConnection, 4, hits, misses);
+        PreparedStatement outer = cache.prepare("SELECT 1");
+
+        // Act
+        PreparedStatement inner = cache.prepare("SELECT 1");
+
+        // Assert
+        assertNotSame(outer, inner);
+        assertEquals(1, cache.size());
+        assertEquals(2, misses.get());
+    }
+
+    @Test
+    void testPrepare_EvictsLeastRecentlyUsed() throws SQLException {
+        // Arrange
+        PreparedStatement first = mock(PreparedStatement.class);
+        when(mockConnection.prepareStatement("SQL A")).thenReturn(first);
+        StatementCache cache = new StatementCache(mockConnection, 2, hits, misses);
+
+        // Act
+        cache.prepare("SQL A").close();
+        cache.prepare("SQL B").close();
+        cache.prepare("SQL C").close();
+
+        // Assert
+        assertEquals(2, cache.size());
+        verify(first).close();
+    }
+
+    @Test
+    void testReleaseAll_InvalidatesOutstandingHandles() throws SQLException {
+        // Arrange
+        StatementCache cache = new StatementCache(mockConnection, 4, hits, misses);
+        PreparedStatement forgotten = cache.prepare("SELECT 1");
+
+        // Act
+        cache.releaseAll();
+        cache.prepare("SELECT 1");
+
+        // Assert
+        assertTrue(forgotten.isClosed());
+        assertEquals(1, hits.get(), "Statement should be reusable once the connection is returned");
+    }
+
+    @Test
+    void testCloseAll_ClosesPhysicalStatements() throws SQLException {
+        // Arrange
+        PreparedStatement physical = mock(PreparedStatement.class);
+        when(mockConnection.prepareStatement("SELECT 1")).thenReturn(physical);
+        StatementCache cache = new StatementCache(mockConnection, 4, hits, misses);
+        cache.prepare("SELECT 1").close();
+
+        // Act
+        cache.closeAll();
+
+        // Assert
+        verify(physical).close();
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,256 @@
+package Data.connector;
+
+import Data.domain.Bid;
+import Data.repository.impl.BidRepositoryImpl;
+import Data.repository.impl.PropertyRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+// Unit tests for TransactionManager. The delegate connector and its connection are mocks.
+class TransactionManagerTest {
+
+    private IDatabaseConnector mockDelegate;
+    private Connection mockConnection;
+    private PreparedStatement mockPreparedStatement;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        mockDelegate = mock(IDatabaseConnector.class);
+        mockConnection = mock(Connection.class);
+        mockPreparedStatement = mock(PreparedStatement.class);
+        when(mockDelegate.getConnection()).thenReturn(mockConnection);
+        when(mockConnection.getAutoCommit()).thenReturn(true);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeUpdate()).thenReturn(1);
+    }
+
+    @Test
+    void testConstructor_NullDelegate() {
+        assertThrows(IllegalArgumentException.class, () -> new TransactionManager(null));
+    }
+
+    @Test
+    void testOf_ReturnsExistingManager() {
+        TransactionManager manager = new TransactionManager(mockDelegate);
+        assertSame(manager, TransactionManager.of(manager));
+    }
+
+    @Test
+    void testGetConnection_OutsideTransaction_Delegates() throws SQLException {
+        // Arrange
+        TransactionManager manager = new TransactionManager(mockDelegate);
+
+        // Act
+        Connection conn = manager.getConnection();
+
+        // Assert
+        assertSame(mockConnection, conn);
+        assertFalse(manager.isInTransaction());
+    }
+
+    @Test
+    void testInTransaction_DisablingAutoCommitFails_ClosesConnection() throws SQLException {
+        // Arrange
+        TransactionManager manager = new TransactionManager(mockDelegate);
+        doThrow(new SQLException("read-only")).when(mockConnection).setAutoCommit(false);
+
+        // Act
+        assertThrows(SQLException.class, () -> manager.inTransaction(() -> fail("Work must not run")));
+
+        // Assert
+        verify(mockDelegate).closeConnection(mockConnection);
+        assertFalse(manager.isInTransaction());
+    }
+
+    @Test
+    void testInTransaction_SharesOneConnectionAndCommitsOnce() throws SQLException {
+        // Arrange
+        TransactionManager manager = new TransactionManager(mockDelegate);
+
+        // Act
+        manager.inTransaction(() -> {
+            try (Connection first = manager.getConnection()) {
+                first.prepareStatement("UPDATE bids SET status = ?").executeUpdate();
+            }
+            try (Connection second = manager.getConnection()) {
+                second.prepareStatement("UPDATE properties SET is_sold = TRUE").executeUpdate();
+            }
+            assertTrue(manager.isInTransaction());
+            return null;
+        });
+
+        // Assert
+        verify(mockDelegate, times(1)).getConnection();
+        InOrder inOrder = inOrder(mockConnection);
+        inOrder.verify(mockConnection).setAutoCommit(false);
+        inOrder.verify(mockConnection, times(2)).prepareStatement(anyString());
+        inOrder.verify(mockConnection).commit();
+        inOrder.verify(mockConnection).setAutoCommit(true);
+        verify(mockConnection, never()).rollback();
+        verify(mockConnection, never()).close();
+        verify(mockDelegate).closeConnection(mockConnection);
+        assertFalse(manager.isInTransaction());
+    }
+
+    @Test
+    void testInTransaction_RollsBackOnException() throws SQLException {
+        // Arrange
+        TransactionManager manager = new TransactionManager(mockDelegate);
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> manager.inTransaction(() -> {
+            manager.getConnection().prepareStatement("UPDATE bids SET status = ?").executeUpdate();
+            throw new IllegalStateException("step failed");
+        }));
+
+        // Assert
+        verify(mockConnection).rollback();
+        verify(mockConnection, never()).commit();
+        verify(mockConnection).setAutoCommit(true);
+        verify(mockDelegate).closeConnection(mockConnection);
+    }
+
+    @Test
+    void testInTransaction_RollbackOnly() throws SQLException {
+        // Arrange
+        TransactionManager manager = new TransactionManager(mockDelegate);
+
+        // Act
+        manager.inTransaction(() -> {
+            manager.setRollbackOnly();
+            return null;
+        });
+
+        // Assert
+        verify(mockConnection).rollback();
+        verify(mockConnection, never()).commit();
+    }
+
+    @Test
+    void testSetRollbackOnly_OutsideTransaction() {
+        TransactionManager manager = new TransactionManager(mockDelegate);
+        assertThrows(IllegalStateException.class, manager::setRollbackOnly);
+    }
+
+    @Test
+    void testNestedAndSiblingManagers_JoinOuterTransaction() throws SQLException {
+        // Arrange
+        TransactionManager outer = new TransactionManager(mockDelegate);
+        TransactionManager sibling = new TransactionManager(mockDelegate); // e.g. owned by another service
+
+        // Act
+        outer.inTransaction(() -> sibling.inTransaction(() -> {
+            assertTrue(sibling.isInTransaction());
+            return sibling.getConnection();
+        }));
+
+        // Assert
+        verify(mockDelegate, times(1)).getConnection();
+        verify(mockConnection, times(1)).commit();
+    }
+
+    @Test
+    void testAfterCompletion_OutsideTransaction_RunsImmediately() {
+        // Arrange
+        TransactionManager manager = new TransactionManager(mockDelegate);
+        boolean[] ran = {false};
+
+        // Act
+        manager.afterCompletion(() -> ran[0] = true);
+
+        // Assert
+        assertTrue(ran[0]);
+    }
+
+    @Test
+    void testAfterCompletion_InsideTransaction_RunsAfterCommit() throws SQLException {
+        // Arrange
+        TransactionManager manager = new TransactionManager(mockDelegate);
+        boolean[] ran = {false};
+
+        // Act
+        manager.inTransaction(() -> {
+            manager.afterCompletion(() -> {
+                ran[0] = true;
+                assertFalse(manager.isInTransaction());
+            });
+            assertFalse(ran[0]); // Deferred until the unit of work ends
+            return null;
+        });
+
+        // Assert
+        assertTrue(ran[0]);
+        InOrder order = inOrder(mockConnection, mockDelegate);
+        order.verify(mockConnection).commit();
+        order.verify(mockDelegate).closeConnection(mockConnection);
+    }
+
+    @Test
+    void testAfterCompletion_RunsAfterRollbackToo() {
+        // Arrange
+        TransactionManager manager = new TransactionManager(mockDelegate);
+        boolean[] ran = {false};
+
+        // Act
+        assertThrows(SQLException.class, () -> manager.inTransaction(() -> {
+            manager.afterCompletion(() -> ran[0] = true);
+            throw new SQLException("Deadlock");
+        }));
+
+        // Assert
+        assertTrue(ran[0]);
+    }
+
+    @Test
+    void testParticipant_CannotControlTransaction() throws SQLException {
+        // Arrange
+        TransactionManager manager = new TransactionManager(mockDelegate);
+
+        // Act & Assert
+        manager.inTransaction(() -> {
+            Connection conn = manager.getConnection();
+            assertThrows(SQLException.class, conn::commit);
+            assertThrows(SQLException.class, () -> conn.setAutoCommit(true));
+            manager.closeConnection(conn); // Ignored inside the unit of work
+            return null;
+        });
+        verify(mockConnection, times(1)).commit();
+        verify(mockDelegate, times(1)).closeConnection(mockConnection);
+    }
+
+    @Test
+    void testRepositories_JoinUnitOfWork() throws SQLException {
+        // Arrange
+        TransactionManager manager = new TransactionManager(mockDelegate);
+        BidRepositoryImpl bidRepository = new BidRepositoryImpl(mockDelegate);
+        PropertyRepositoryImpl propertyRepository = new PropertyRepositoryImpl(mockDelegate);
+        Bid bid = new Bid();
+        bid.setBidId("bid1");
+        bid.setPropertyId("prop1");
+        bid.setClientId("client1");
+        bid.setAmount(new BigDecimal("100000"));
+        bid.setStatus("ACCEPTED");
+        bid.setBidTimestamp(LocalDateTime.now());
+
+        // Act
+        manager.inTransaction(() -> {
+            bidRepository.updateBid(bid);
+            propertyRepository.deactivateProperty("prop1");
+            return null;
+        });
+
+        // Assert
+        verify(mockDelegate, times(1)).getConnection();
+        verify(mockConnection, times(1)).commit();
+        verify(mockConnection, never()).close();
+    }
+}
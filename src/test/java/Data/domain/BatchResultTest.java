@@ -0,0 +1,49 @@
+package Data.domain;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for the BatchResult data class.
+class BatchResultTest {
+
+    @Test
+    void testNewResult_DefaultsToFailed() {
+        // Arrange & Act
+        BatchResult result = new BatchResult(3);
+
+        // Assert
+        assertEquals(3, result.size());
+        assertEquals(3, result.getFailedCount());
+        assertFalse(result.isAllInserted());
+    }
+
+    @Test
+    void testCounts() {
+        // Arrange
+        BatchResult result = new BatchResult(4);
+
+        // Act
+        result.setOutcome(0, BatchResult.Outcome.INSERTED);
+        result.setOutcome(1, BatchResult.Outcome.INSERTED);
+        result.setOutcome(2, BatchResult.Outcome.SKIPPED_INVALID);
+
+        // Assert
+        assertEquals(2, result.getInsertedCount());
+        assertEquals(1, result.getSkippedCount());
+        assertEquals(1, result.getFailedCount());
+        assertEquals(BatchResult.Outcome.FAILED, result.getOutcome(3));
+        assertEquals("BatchResult{size=4, inserted=2, skipped=1, failed=1}", result.toString());
+    }
+
+    @Test
+    void testEmptyResult_IsAllInserted() {
+        assertTrue(new BatchResult(0).isAllInserted());
+    }
+
+    @Test
+    void testGetOutcomes_Unmodifiable() {
+        BatchResult result = new BatchResult(1);
+        assertThrows(UnsupportedOperationException.class,
+                () -> result.getOutcomes().set(0, BatchResult.Outcome.INSERTED));
+    }
+}
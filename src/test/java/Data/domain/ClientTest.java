@@ -227,4 +227,21 @@ class ClientTest {
         assertEquals(expectedToString, actualToString, "toString() output format should match expected");
         // Note: Testing toString() can be brittle if formatting changes slightly, or if User's toString changes.
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCopyConstructor_CopiesAllFields() {
+        // Arrange
+        Client original = new Client("c1", "Cem", "cem@example.com", "hash", true);
+        original.setVerified(true);
+
+        // Act
+        Client copy = new Client(original);
+        copy.setName("Changed");
+
+        // Assert
+        assertEquals(original, copy);
+        assertTrue(copy.isReceivesMarketUpdates());
+        assertTrue(copy.isVerified());
+        assertNotEquals("Changed", original.getName());
+    }
+}
@@ -4,11 +4,12 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.math.BigDecimal;
+import java.util.Set;
 
 // Unit tests for the Filter data class.
 // Focuses on constructor initialization and specific field get/set,
 // particularly for wrapper types that allow null.
-// Does NOT test equals/hashCode as they are not overridden and use default Object behavior.
+// equals/hashCode are tested together with normalized(), since canonical filters serve as cache keys.
 // toString test is commented out as it's often brittle.
 class FilterTest {
 
@@ -154,4 +155,67 @@ class FilterTest {
         // Note: Testing toString() can be brittle. If the format changes,
         // this test will fail even if the data in the object is correct.
     }
-}
\ No newline at end of file
+
+    // --- Tests for normalized(), criteriaMask() and equals/hashCode ---
+
+    @Test
+    void testNormalized_CanonicalForm() {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setLocation("  South BOSTON ");
+        filter.setPropertyType(" House ");
+        filter.setKeywords("   ");
+        filter.setMinBedrooms(0);
+        filter.setMinBathrooms(2);
+        filter.setPageSize(20);
+
+        // Act
+        Filter normalized = filter.normalized();
+
+        // Assert
+        assertEquals("south boston", normalized.getLocation());
+        assertEquals("House", normalized.getPropertyType());
+        assertNull(normalized.getKeywords(), "Blank keywords should be dropped");
+        assertNull(normalized.getMinBedrooms(), "A minimum of 0 should be dropped");
+        assertEquals(2, normalized.getMinBathrooms());
+        assertEquals(20, normalized.getPageSize());
+        assertEquals(Filter.SortField.CREATED_AT, normalized.getSortBy(), "Newest first unless set");
+        assertEquals(SortDirection.DESC, normalized.getSortDirection());
+        assertEquals("  South BOSTON ", filter.getLocation(), "The original filter should be unchanged");
+    }
+
+    @Test
+    void testCriteriaMask_OnlyCriteriaThatRestrict() {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setLocation(" ");
+        filter.setMinPrice(new BigDecimal("1000"));
+        filter.setMinBedrooms(0);
+        filter.setMustBeActive(false);
+
+        // Act & Assert
+        assertEquals(0, new Filter().criteriaMask());
+        assertEquals(Filter.MIN_PRICE | Filter.MUST_BE_ACTIVE, filter.criteriaMask());
+        assertEquals(filter.criteriaMask(), filter.normalized().criteriaMask());
+    }
+
+    @Test
+    void testEqualsAndHashCode_EquivalentFiltersNormalizeEqual() {
+        // Arrange
+        Filter a = new Filter();
+        a.setLocation("Boston ");
+        a.setMaxPrice(new BigDecimal("400000"));
+        a.setMinBedrooms(0);
+        Filter b = new Filter();
+        b.setLocation(" boston");
+        b.setMaxPrice(new BigDecimal("400000.00"));
+
+        // Act & Assert
+        assertNotEquals(a, b, "Raw filters differ");
+        assertEquals(a.normalized(), b.normalized());
+        assertEquals(a.normalized().hashCode(), b.normalized().hashCode());
+        assertEquals(1, Set.of(a.normalized()).size());
+        b.setMaxPrice(new BigDecimal("400000.01"));
+        assertNotEquals(a.normalized(), b.normalized());
+    }
+}
@@ -195,4 +195,21 @@ class LandlordTest {
         assertEquals(expectedToString, actualToString, "toString() output format should match expected");
         // Note: Testing toString() can be brittle if formatting changes slightly, or if User's toString changes.
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCopyConstructor_CopiesAllFields() {
+        // Arrange
+        Landlord original = new Landlord("l1", "Leyla", "leyla@example.com", "hash", "LIC-1");
+        original.setVerified(true);
+
+        // Act
+        Landlord copy = new Landlord(original);
+        copy.setName("Changed");
+
+        // Assert
+        assertEquals(original, copy);
+        assertEquals("LIC-1", copy.getAgentLicenseNumber());
+        assertTrue(copy.isVerified());
+        assertNotEquals("Changed", original.getName());
+    }
+}
@@ -0,0 +1,42 @@
+package Data.domain;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Unit tests for the PropertyPage data class.
+class PropertyPageTest {
+
+    @Test
+    void testLastPage_HasNoCursor() {
+        // Arrange & Act
+        PropertyPage page = new PropertyPage(List.of(new Property()), null);
+
+        // Assert
+        assertEquals(1, page.size());
+        assertFalse(page.hasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testPageWithCursor_HasMore() {
+        PropertyPage page = new PropertyPage(new ArrayList<>(), "abc");
+        assertTrue(page.hasMore());
+        assertEquals("abc", page.getNextCursor());
+    }
+
+    @Test
+    void testNullList_TreatedAsEmpty() {
+        PropertyPage page = new PropertyPage(null, null);
+        assertNotNull(page.getProperties());
+        assertEquals(0, page.size());
+    }
+
+    @Test
+    void testProperties_Unmodifiable() {
+        PropertyPage page = new PropertyPage(new ArrayList<>(List.of(new Property())), null);
+        assertThrows(UnsupportedOperationException.class, () -> page.getProperties().clear());
+    }
+}
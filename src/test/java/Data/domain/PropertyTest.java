@@ -307,6 +307,29 @@ class PropertyTest {
     }
 
 
+    @Test
+    void testCopyConstructor_CopiesAllFieldsIndependently() {
+        // Arrange
+        Property original = new Property();
+        original.setPropertyId("p1");
+        original.setCity("Anytown");
+        original.setBedrooms(3);
+        original.setSold(true);
+        original.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        // Act
+        Property copy = new Property(original);
+        copy.setCity("Othertown");
+
+        // Assert
+        assertEquals("p1", copy.getPropertyId());
+        assertEquals(3, copy.getBedrooms());
+        assertTrue(copy.isSold());
+        assertEquals(original.getCreatedAt(), copy.getCreatedAt());
+        assertEquals("Anytown", original.getCity());
+    }
+
+
     // --- Testing toString() (Optional, often brittle) ---
     @Test
     void testToString() {
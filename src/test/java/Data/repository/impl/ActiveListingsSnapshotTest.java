@@ -0,0 +1,213 @@
+package Data.repository.impl;
+
+import Data.connector.IDatabaseConnector;
+import Data.domain.Filter;
+import Data.domain.Property;
+import Data.domain.PropertySummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Unit tests for ActiveListingsSnapshot with a mocked connector and a fake clock.
+class ActiveListingsSnapshotTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    private IDatabaseConnector mockConnector;
+    private Connection mockConnection;
+    private PreparedStatement mockLoadAll;
+    private PreparedStatement mockLoadChanged;
+    private long now;
+    private ActiveListingsSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        mockConnector = mock(IDatabaseConnector.class);
+        mockConnection = mock(Connection.class);
+        mockLoadAll = mock(PreparedStatement.class);
+        mockLoadChanged = mock(PreparedStatement.class);
+        when(mockConnector.getConnection()).thenReturn(mockConnection);
+        when(mockConnection.prepareStatement(contains("is_active = TRUE"))).thenReturn(mockLoadAll);
+        when(mockConnection.prepareStatement(contains("updated_at >= ?"))).thenReturn(mockLoadChanged);
+        now = 0;
+        snapshot = new ActiveListingsSnapshot(mockConnector, Duration.ofSeconds(10), Duration.ofSeconds(5), () -> now);
+    }
+
+    /** Rows are {id, city, active, sold, updatedAt}. */
+    private static ResultSet rows(Object[]... rows) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        AtomicInteger index = new AtomicInteger(-1);
+        when(rs.next()).thenAnswer(inv -> index.incrementAndGet() < rows.length);
+        when(rs.getString("property_id")).thenAnswer(inv -> rows[index.get()][0]);
+        when(rs.getString("city")).thenAnswer(inv -> rows[index.get()][1]);
+        when(rs.getBoolean("is_active")).thenAnswer(inv -> rows[index.get()][2]);
+        when(rs.getBoolean("is_sold")).thenAnswer(inv -> rows[index.get()][3]);
+        when(rs.getTimestamp("updated_at")).thenAnswer(inv -> Timestamp.valueOf((LocalDateTime) rows[index.get()][4]));
+        return rs;
+    }
+
+    private static Object[] row(String id, String city, boolean active, boolean sold, LocalDateTime updatedAt) {
+        return new Object[]{id, city, active, sold, updatedAt};
+    }
+
+    private static List<String> ids(List<Property> properties) {
+        return properties.stream().map(Property::getPropertyId).toList();
+    }
+
+    @Test
+    void testGetActiveProperties_FirstReadLoadsAll_ThenServedFromMemory() throws SQLException {
+        // Arrange
+        ResultSet all = rows(row("p2", "Bursa", true, false, T0), row("p1", "Izmir", true, false, T0));
+        when(mockLoadAll.executeQuery()).thenReturn(all);
+
+        // Act
+        List<Property> first = snapshot.getActiveProperties();
+        now += Duration.ofSeconds(9).toNanos();
+        List<Property> second = snapshot.getActiveProperties();
+
+        // Assert
+        assertEquals(List.of("p1", "p2"), ids(first));
+        assertEquals(List.of("p1", "p2"), ids(second));
+        verify(mockLoadAll, times(1)).executeQuery();
+        verify(mockLoadChanged, never()).executeQuery();
+    }
+
+    @Test
+    void testGetActiveProperties_WhenStale_AppliesDeltaFromHighWaterMark() throws SQLException {
+        // Arrange
+        ResultSet all = rows(row("p1", "Izmir", true, false, T0), row("p2", "Bursa", true, false, T0.minusHours(1)));
+        ResultSet changed = rows(
+                row("p1", "Izmir", false, true, T0.plusSeconds(20)),   // Sold
+                row("p2", "Ankara", true, false, T0.plusSeconds(21)),  // Edited
+                row("p3", "Konya", true, false, T0.plusSeconds(22)));  // New
+        when(mockLoadAll.executeQuery()).thenReturn(all);
+        when(mockLoadChanged.executeQuery()).thenReturn(changed);
+        snapshot.getActiveProperties();
+
+        // Act
+        now += Duration.ofSeconds(10).toNanos();
+        List<Property> refreshed = snapshot.getActiveProperties();
+
+        // Assert
+        assertEquals(List.of("p2", "p3"), ids(refreshed));
+        assertEquals("Ankara", refreshed.get(0).getCity());
+        verify(mockLoadChanged).setTimestamp(1, Timestamp.valueOf(T0.minusSeconds(5)));
+        verify(mockLoadAll, times(1)).executeQuery();
+    }
+
+    @Test
+    void testPropertyWritten_NextReadRefreshes() throws SQLException {
+        // Arrange
+        ResultSet all = rows(row("p1", "Izmir", true, false, T0));
+        when(mockLoadAll.executeQuery()).thenReturn(all);
+        ResultSet changed = rows();
+        when(mockLoadChanged.executeQuery()).thenReturn(changed);
+        snapshot.getActiveProperties();
+
+        // Act
+        snapshot.propertyWritten("p1");
+        snapshot.getActiveProperties();
+        snapshot.getActiveProperties();
+
+        // Assert
+        verify(mockLoadChanged, times(1)).executeQuery();
+    }
+
+    @Test
+    void testRefreshNow_RefreshesRegardlessOfAge() throws SQLException {
+        ResultSet all = rows(row("p1", "Izmir", true, false, T0));
+        when(mockLoadAll.executeQuery()).thenReturn(all);
+        ResultSet changed = rows();
+        when(mockLoadChanged.executeQuery()).thenReturn(changed);
+        snapshot.getActiveProperties();
+
+        snapshot.refreshNow();
+
+        verify(mockLoadChanged, times(1)).executeQuery();
+    }
+
+    @Test
+    void testGetActiveProperties_AfterFullReloadInterval_ReloadsAll() throws SQLException {
+        ResultSet all = rows(row("p1", "Izmir", true, false, T0));
+        ResultSet reloaded = rows();
+        when(mockLoadAll.executeQuery()).thenReturn(all, reloaded);
+        snapshot.getActiveProperties();
+
+        now += ActiveListingsSnapshot.FULL_RELOAD_INTERVAL.toNanos();
+
+        assertTrue(snapshot.getActiveProperties().isEmpty());
+        verify(mockLoadChanged, never()).executeQuery();
+    }
+
+    @Test
+    void testGetActiveProperties_RefreshFails_ServesPreviousSnapshot() throws SQLException {
+        // Arrange
+        ResultSet all = rows(row("p1", "Izmir", true, false, T0));
+        when(mockLoadAll.executeQuery()).thenReturn(all);
+        when(mockLoadChanged.executeQuery()).thenThrow(new SQLException("Connection refused"));
+        snapshot.getActiveProperties();
+
+        // Act
+        now += Duration.ofSeconds(10).toNanos();
+        List<Property> served = snapshot.getActiveProperties();
+
+        // Assert
+        assertEquals(List.of("p1"), ids(served));
+    }
+
+    @Test
+    void testGetActiveProperties_FirstLoadFails_Throws() throws SQLException {
+        when(mockLoadAll.executeQuery()).thenThrow(new SQLException("Connection refused"));
+        RuntimeException ex = assertThrows(RuntimeException.class, () -> snapshot.getActiveProperties());
+        assertEquals("Failed to load active listings", ex.getMessage());
+    }
+
+    @Test
+    void testGetActiveProperties_ReturnsCopies() throws SQLException {
+        ResultSet all = rows(row("p1", "Izmir", true, false, T0));
+        when(mockLoadAll.executeQuery()).thenReturn(all);
+        snapshot.getActiveProperties().get(0).setCity("Changed");
+        assertEquals("Izmir", snapshot.getActiveProperties().get(0).getCity());
+    }
+
+    @Test
+    void testGetActivePropertySummaries_FromSnapshot() throws SQLException {
+        ResultSet all = rows(row("p1", "Izmir", true, false, T0));
+        when(mockLoadAll.executeQuery()).thenReturn(all);
+        List<PropertySummary> summaries = snapshot.getActivePropertySummaries();
+        assertEquals("Izmir", summaries.get(0).getCity());
+        assertEquals(1, snapshot.size());
+    }
+
+    @Test
+    void testGetActivePropertiesWithFilter_MatchesInMemory() throws SQLException {
+        // Arrange
+        ResultSet all = rows(row("p1", "Izmir", true, false, T0), row("p2", "Bursa", true, false, T0));
+        when(mockLoadAll.executeQuery()).thenReturn(all);
+        Filter filter = new Filter();
+        filter.setLocation("IZM");
+
+        // Act & Assert
+        assertEquals(List.of("p1"), ids(snapshot.getActiveProperties(filter)));
+        assertEquals(List.of("p1", "p2"), ids(snapshot.getActiveProperties((Filter) null)));
+        verify(mockLoadAll, times(1)).executeQuery();
+    }
+
+    @Test
+    void testConstructor_InvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ActiveListingsSnapshot(null));
+        assertThrows(IllegalArgumentException.class, () -> new ActiveListingsSnapshot(mockConnector, Duration.ZERO));
+    }
+}
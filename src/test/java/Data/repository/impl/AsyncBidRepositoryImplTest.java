@@ -0,0 +1,71 @@
+package Data.repository.impl;
+
+import Data.domain.Bid;
+import Data.repository.interfaces.IBidRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// Unit tests for AsyncBidRepositoryImpl with a mocked blocking repository.
+class AsyncBidRepositoryImplTest {
+
+    private IBidRepository mockRepository;
+    private RepositoryExecutor executor;
+    private AsyncBidRepositoryImpl asyncRepository;
+
+    @BeforeEach
+    void setUp() {
+        mockRepository = mock(IBidRepository.class);
+        executor = new RepositoryExecutor(4);
+        asyncRepository = new AsyncBidRepositoryImpl(mockRepository, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void testGetBidsByPropertyIdAsync() {
+        // Arrange
+        Bid bid = new Bid();
+        bid.setBidId("bid1");
+        when(mockRepository.getBidsByPropertyId("prop1")).thenReturn(List.of(bid));
+
+        // Act & Assert
+        assertEquals(List.of(bid), asyncRepository.getBidsByPropertyIdAsync("prop1").join());
+    }
+
+    @Test
+    void testFanOutLookups_CombineResults() {
+        // Arrange
+        Bid bid = new Bid();
+        when(mockRepository.getBidById("bid1")).thenReturn(bid);
+        when(mockRepository.getBidsByUserId("client1")).thenReturn(List.of(bid, bid));
+
+        // Act
+        CompletableFuture<Bid> single = asyncRepository.getBidByIdAsync("bid1");
+        CompletableFuture<List<Bid>> byUser = asyncRepository.getBidsByUserIdAsync("client1");
+        int total = single.thenCombine(byUser, (b, list) -> list.size() + 1).join();
+
+        // Assert
+        assertEquals(3, total);
+    }
+
+    @Test
+    void testWriteMethodsDelegate() {
+        // Arrange
+        Bid bid = new Bid();
+        when(mockRepository.addBid(bid)).thenReturn(true);
+        when(mockRepository.updateBid(bid)).thenReturn(false);
+
+        // Act & Assert
+        assertTrue(asyncRepository.addBidAsync(bid).join());
+        assertFalse(asyncRepository.updateBidAsync(bid).join());
+    }
+}
@@ -0,0 +1,109 @@
+package Data.repository.impl;
+
+import Data.domain.Filter;
+import Data.domain.Property;
+import Data.domain.PropertyPage;
+import Data.domain.PropertySummary;
+import Data.repository.interfaces.IPropertyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+// Unit tests for AsyncPropertyRepositoryImpl with a mocked blocking repository.
+class AsyncPropertyRepositoryImplTest {
+
+    private IPropertyRepository mockRepository;
+    private RepositoryExecutor executor;
+    private AsyncPropertyRepositoryImpl asyncRepository;
+
+    @BeforeEach
+    void setUp() {
+        mockRepository = mock(IPropertyRepository.class);
+        executor = new RepositoryExecutor(4);
+        asyncRepository = new AsyncPropertyRepositoryImpl(mockRepository, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void testConstructor_NullArgumentsThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncPropertyRepositoryImpl(null, executor));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncPropertyRepositoryImpl(mockRepository, null));
+    }
+
+    @Test
+    void testGetPropertyByIdAsync() {
+        // Arrange
+        Property property = new Property();
+        property.setPropertyId("prop1");
+        when(mockRepository.getPropertyById("prop1")).thenReturn(property);
+
+        // Act & Assert
+        assertSame(property, asyncRepository.getPropertyByIdAsync("prop1").join());
+    }
+
+    @Test
+    void testFindPropertiesAsync() {
+        // Arrange
+        Filter filter = new Filter();
+        Property property = new Property();
+        when(mockRepository.findProperties(filter)).thenReturn(List.of(property));
+
+        // Act & Assert
+        assertEquals(List.of(property), asyncRepository.findPropertiesAsync(filter).join());
+    }
+
+    @Test
+    void testFindPropertiesPageAsync_Delegates() {
+        // Arrange
+        Filter filter = new Filter();
+        PropertyPage page = new PropertyPage(List.of(new Property()), "next");
+        when(mockRepository.findPropertiesPage(filter)).thenReturn(page);
+
+        // Act & Assert
+        assertSame(page, asyncRepository.findPropertiesPageAsync(filter).join());
+    }
+
+    @Test
+    void testGetPropertiesByIdsAsync_Delegates() {
+        // Arrange
+        Map<String, Property> properties = Map.of("prop1", new Property());
+        when(mockRepository.getPropertiesByIds(List.of("prop1"))).thenReturn(properties);
+
+        // Act & Assert
+        assertSame(properties, asyncRepository.getPropertiesByIdsAsync(List.of("prop1")).join());
+    }
+
+    @Test
+    void testFindPropertySummariesAsync_Delegates() {
+        // Arrange
+        Filter filter = new Filter();
+        List<PropertySummary> summaries = List.of(new PropertySummary("prop1", "House", null, "Ankara", 3, 2, null));
+        when(mockRepository.findPropertySummaries(filter)).thenReturn(summaries);
+
+        // Act & Assert
+        assertSame(summaries, asyncRepository.findPropertySummariesAsync(filter).join());
+    }
+
+    @Test
+    void testWriteMethodsDelegate() {
+        // Arrange
+        Property property = new Property();
+        when(mockRepository.addProperty(property)).thenReturn(true);
+        when(mockRepository.updateProperty(property)).thenReturn(true);
+        when(mockRepository.deactivateProperty("prop1")).thenReturn(true);
+
+        // Act & Assert
+        assertTrue(asyncRepository.addPropertyAsync(property).join());
+        assertTrue(asyncRepository.updatePropertyAsync(property).join());
+        assertTrue(asyncRepository.deactivatePropertyAsync("prop1").join());
+    }
+}
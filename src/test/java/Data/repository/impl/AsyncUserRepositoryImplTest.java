@@ -0,0 +1,95 @@
+package Data.repository.impl;
+
+import Data.domain.Landlord;
+import Data.domain.User;
+import Data.repository.interfaces.IUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+
+// Unit tests for AsyncUserRepositoryImpl with a mocked blocking repository.
+class AsyncUserRepositoryImplTest {
+
+    private IUserRepository mockRepository;
+    private RepositoryExecutor executor;
+    private AsyncUserRepositoryImpl asyncRepository;
+
+    @BeforeEach
+    void setUp() {
+        mockRepository = mock(IUserRepository.class);
+        executor = new RepositoryExecutor(4);
+        asyncRepository = new AsyncUserRepositoryImpl(mockRepository, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void testGetUserByIdAsync_PreservesSubtype() throws SQLException {
+        // Arrange
+        Landlord landlord = new Landlord("land1", "Name", "a@b.com", "hash", "LIC");
+        when(mockRepository.getUserById("land1")).thenReturn(Optional.of(landlord));
+
+        // Act
+        Optional<User> result = asyncRepository.getUserByIdAsync("land1").join();
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertTrue(result.get() instanceof Landlord);
+    }
+
+    @Test
+    void testGetUsersByIdsAsync_Delegates() throws SQLException {
+        // Arrange
+        Map<String, User> users = Map.of("u1", new User());
+        when(mockRepository.getUsersByIds(List.of("u1"))).thenReturn(users);
+
+        // Act & Assert
+        assertSame(users, asyncRepository.getUsersByIdsAsync(List.of("u1")).join());
+    }
+
+    @Test
+    void testGetUserByEmailAsync_SQLExceptionCompletesExceptionally() throws SQLException {
+        // Arrange
+        when(mockRepository.getUserByEmail("a@b.com")).thenThrow(new SQLException("DB down"));
+
+        // Act & Assert
+        CompletionException ex = assertThrows(CompletionException.class,
+                () -> asyncRepository.getUserByEmailAsync("a@b.com").join());
+        assertTrue(ex.getCause() instanceof SQLException);
+    }
+
+    @Test
+    void testGetAllLandlordsAsync() throws SQLException {
+        // Arrange
+        Landlord landlord = new Landlord();
+        when(mockRepository.getAllLandlords()).thenReturn(List.of(landlord));
+
+        // Act & Assert
+        assertEquals(1, asyncRepository.getAllLandlordsAsync().join().size());
+    }
+
+    @Test
+    void testWriteMethodsDelegate() throws SQLException {
+        // Arrange
+        User user = new User();
+        when(mockRepository.addUser(user)).thenReturn(true);
+        when(mockRepository.updateUser(user)).thenReturn(true);
+        when(mockRepository.deleteUser("u1")).thenReturn(true);
+
+        // Act & Assert
+        assertTrue(asyncRepository.addUserAsync(user).join());
+        assertTrue(asyncRepository.updateUserAsync(user).join());
+        assertTrue(asyncRepository.deleteUserAsync("u1").join());
+    }
+}
@@ -1,6 +1,7 @@
 package Data.repository.impl;
 
 import Data.connector.IDatabaseConnector;
+import Data.domain.BatchResult;
 import Data.domain.Bid;
 import Data.repository.interfaces.IBidRepository;
 
@@ -14,6 +15,7 @@ import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 // Unit tests for BidRepositoryImpl using Mockito to mock the database connector and JDBC objects.
 class BidRepositoryImplTest {
@@ -226,6 +228,74 @@ class BidRepositoryImplTest {
     }
 
 
+    // --- addBids (batch) Tests ---
+
+    private Bid createBatchBid(String bidId) {
+        Bid bid = new Bid();
+        bid.setBidId(bidId);
+        bid.setPropertyId(TEST_PROPERTY_ID);
+        bid.setClientId(TEST_CLIENT_ID);
+        bid.setAmount(TEST_AMOUNT);
+        bid.setStatus(TEST_STATUS);
+        bid.setBidTimestamp(TEST_BID_TIMESTAMP);
+        return bid;
+    }
+
+    @Test
+    void testAddBids_Success() throws SQLException {
+        // Arrange
+        when(mockConnection.getAutoCommit()).thenReturn(true);
+        when(mockPreparedStatement.executeBatch()).thenReturn(new int[]{1, 1});
+
+        // Act
+        BatchResult result = bidRepository.addBids(List.of(createBatchBid("bid1"), createBatchBid("bid2")));
+
+        // Assert
+        assertEquals(2, result.getInsertedCount());
+        verify(mockPreparedStatement, times(2)).addBatch();
+        verify(mockPreparedStatement, times(1)).executeBatch();
+        verify(mockPreparedStatement, times(2)).setString(5, TEST_STATUS);
+        verify(mockConnection, times(1)).commit();
+    }
+
+    @Test
+    void testAddBids_InvalidRowSkipped() throws SQLException {
+        // Arrange
+        Bid invalid = createBatchBid("bid2");
+        invalid.setStatus(null);
+        when(mockPreparedStatement.executeBatch()).thenReturn(new int[]{1});
+
+        // Act
+        BatchResult result = bidRepository.addBids(List.of(createBatchBid("bid1"), invalid));
+
+        // Assert
+        assertEquals(BatchResult.Outcome.INSERTED, result.getOutcome(0));
+        assertEquals(BatchResult.Outcome.SKIPPED_INVALID, result.getOutcome(1));
+    }
+
+    @Test
+    void testAddBids_DriverStopsEarly_RemainingRowsFailed() throws SQLException {
+        // Arrange
+        when(mockPreparedStatement.executeBatch()).thenThrow(new BatchUpdateException("FK violation", new int[]{1}));
+
+        // Act
+        BatchResult result = bidRepository.addBids(List.of(createBatchBid("bid1"), createBatchBid("bid2")), 10);
+
+        // Assert
+        assertEquals(BatchResult.Outcome.INSERTED, result.getOutcome(0));
+        assertEquals(BatchResult.Outcome.FAILED, result.getOutcome(1));
+    }
+
+    @Test
+    void testAddBids_NullList() throws SQLException {
+        // Act
+        BatchResult result = bidRepository.addBids(null);
+
+        // Assert
+        assertEquals(0, result.size());
+        verify(mockConnector, never()).getConnection();
+    }
+
     // --- getBidById Tests ---
 
     @Test
@@ -757,6 +827,31 @@ class BidRepositoryImplTest {
     }
 
 
+    // --- streamBids Tests ---
+
+    @Test
+    void testStreamBids_StreamsAllBids() throws SQLException {
+        // Arrange
+        when(mockConnection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(mockPreparedStatement);
+        when(mockResultSet.next()).thenReturn(true, true, false);
+        when(mockResultSet.getString("bid_id")).thenReturn("bid1", "bid2");
+        when(mockResultSet.getTimestamp(anyString())).thenReturn(Timestamp.valueOf(TEST_BID_TIMESTAMP));
+
+        // Act
+        long count;
+        try (Stream<Bid> bids = bidRepository.streamBids()) {
+            count = bids.count();
+        }
+
+        // Assert
+        assertEquals(2, count);
+        verify(mockConnection).prepareStatement(startsWith("SELECT bid_id"),
+                eq(ResultSet.TYPE_FORWARD_ONLY), eq(ResultSet.CONCUR_READ_ONLY));
+        verify(mockPreparedStatement).setFetchSize(Integer.MIN_VALUE);
+        verify(mockResultSet).close();
+        verify(mockConnection).close();
+    }
+
     @Test
     void testGetBidsByUserId_NullOrEmptyId() throws SQLException {
         // Arrange
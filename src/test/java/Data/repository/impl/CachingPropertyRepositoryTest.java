@@ -0,0 +1,284 @@
+package Data.repository.impl;
+
+import Data.cache.LruTtlCache;
+import Data.connector.IDatabaseConnector;
+import Data.domain.Filter;
+import Data.domain.Property;
+import Data.repository.interfaces.IPropertyRepository;
+import Data.search.PropertySearchEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// Unit tests for CachingPropertyRepository with a mocked delegate repository.
+class CachingPropertyRepositoryTest {
+
+    private IPropertyRepository mockDelegate;
+    private CachingPropertyRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        mockDelegate = mock(IPropertyRepository.class);
+        repository = new CachingPropertyRepository(mockDelegate);
+    }
+
+    private static Property property(String id, String city) {
+        Property property = new Property();
+        property.setPropertyId(id);
+        property.setCity(city);
+        return property;
+    }
+
+    @Test
+    void testGetPropertyById_SecondReadServedFromCache() {
+        // Arrange
+        when(mockDelegate.getPropertyById("p1")).thenReturn(property("p1", "Izmir"));
+
+        // Act
+        Property first = repository.getPropertyById("p1");
+        Property second = repository.getPropertyById("p1");
+
+        // Assert
+        assertEquals("Izmir", first.getCity());
+        assertEquals("Izmir", second.getCity());
+        verify(mockDelegate, times(1)).getPropertyById("p1");
+        assertEquals(1, repository.getStats().getHits());
+        assertEquals(1, repository.getStats().getMisses());
+    }
+
+    @Test
+    void testGetPropertyById_ReturnsCopies() {
+        // Arrange
+        when(mockDelegate.getPropertyById("p1")).thenReturn(property("p1", "Izmir"));
+        repository.getPropertyById("p1").setCity("Changed");
+
+        // Act
+        Property cached = repository.getPropertyById("p1");
+        cached.setCity("Changed again");
+
+        // Assert
+        assertEquals("Izmir", repository.getPropertyById("p1").getCity());
+    }
+
+    @Test
+    void testGetPropertyById_NotFound_NotCached() {
+        // Arrange
+        when(mockDelegate.getPropertyById("missing")).thenReturn(null);
+
+        // Act
+        repository.getPropertyById("missing");
+        repository.getPropertyById("missing");
+
+        // Assert
+        verify(mockDelegate, times(2)).getPropertyById("missing");
+    }
+
+    @Test
+    void testUpdateProperty_InvalidatesEntry() {
+        // Arrange
+        when(mockDelegate.getPropertyById("p1")).thenReturn(property("p1", "Izmir"), property("p1", "Bursa"));
+        when(mockDelegate.updateProperty(any())).thenReturn(true);
+        repository.getPropertyById("p1");
+
+        // Act
+        repository.updateProperty(property("p1", "Bursa"));
+
+        // Assert
+        assertEquals("Bursa", repository.getPropertyById("p1").getCity());
+        verify(mockDelegate, times(2)).getPropertyById("p1");
+    }
+
+    @Test
+    void testDeactivateProperty_InvalidatesEntry() {
+        // Arrange
+        when(mockDelegate.getPropertyById("p1")).thenReturn(property("p1", "Izmir"));
+        repository.getPropertyById("p1");
+
+        // Act
+        repository.deactivateProperty("p1");
+        repository.getPropertyById("p1");
+
+        // Assert
+        verify(mockDelegate).deactivateProperty("p1");
+        verify(mockDelegate, times(2)).getPropertyById("p1");
+    }
+
+    @Test
+    void testPropertyWritten_InvalidatesEntry() {
+        // Arrange
+        when(mockDelegate.getPropertyById("p1")).thenReturn(property("p1", "Izmir"));
+        repository.getPropertyById("p1");
+
+        // Act
+        repository.propertyWritten("p1");
+        repository.getPropertyById("p1");
+
+        // Assert
+        verify(mockDelegate, times(2)).getPropertyById("p1");
+    }
+
+    @Test
+    void testGetPropertyById_WriteDuringLoad_OldRowNotCached() {
+        // Arrange: the write commits while the old row is being read
+        when(mockDelegate.getPropertyById("p1")).thenAnswer(inv -> {
+            repository.propertyWritten("p1");
+            return property("p1", "Izmir");
+        }).thenReturn(property("p1", "Ankara"));
+
+        // Act
+        Property racing = repository.getPropertyById("p1");
+        Property next = repository.getPropertyById("p1");
+
+        // Assert
+        assertEquals("Izmir", racing.getCity());
+        assertEquals("Ankara", next.getCity());
+        verify(mockDelegate, times(2)).getPropertyById("p1");
+    }
+
+    @Test
+    void testGetPropertiesByIds_WriteDuringLoad_OldRowsNotCached() {
+        // Arrange
+        when(mockDelegate.getPropertiesByIds(anyCollection(), anyInt())).thenAnswer(inv -> {
+            repository.propertyWritten("p1");
+            return Map.of("p1", property("p1", "Izmir"));
+        });
+
+        // Act
+        repository.getPropertiesByIds(List.of("p1"));
+        repository.getPropertiesByIds(List.of("p1"));
+
+        // Assert
+        verify(mockDelegate, times(2)).getPropertiesByIds(anyCollection(), anyInt());
+    }
+
+    @Test
+    void testGetPropertyById_OverRealRepository_KeepsSoldFlag() throws SQLException {
+        // Arrange: the uncached path reads is_sold, so the cached one must too
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true);
+        when(rs.getString("property_id")).thenReturn("p1");
+        when(rs.getBoolean("is_active")).thenReturn(true);
+        when(rs.getBoolean("is_sold")).thenReturn(true);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(ps.executeQuery()).thenReturn(rs);
+        Connection conn = mock(Connection.class);
+        when(conn.prepareStatement(anyString())).thenReturn(ps);
+        IDatabaseConnector connector = mock(IDatabaseConnector.class);
+        when(connector.getConnection()).thenReturn(conn);
+        CachingPropertyRepository cached = new CachingPropertyRepository(new PropertyRepositoryImpl(connector));
+
+        // Act
+        Property loaded = cached.getPropertyById("p1");
+        Property fromCache = cached.getPropertyById("p1");
+
+        // Assert
+        assertTrue(loaded.isSold());
+        assertTrue(fromCache.isSold());
+        verify(connector, times(1)).getConnection();
+    }
+
+    @Test
+    void testGetPropertiesByIds_FetchesOnlyMisses() {
+        // Arrange
+        when(mockDelegate.getPropertyById("p1")).thenReturn(property("p1", "Izmir"));
+        repository.getPropertyById("p1");
+        when(mockDelegate.getPropertiesByIds(List.of("p2", "p3"), 200)).thenReturn(Map.of("p2", property("p2", "Bursa")));
+
+        // Act
+        Map<String, Property> result = repository.getPropertiesByIds(List.of("p2", "p1", "p3"));
+
+        // Assert
+        assertEquals(List.of("p2", "p1"), new ArrayList<>(result.keySet()));
+        verify(mockDelegate).getPropertiesByIds(List.of("p2", "p3"), 200);
+        assertNotNull(repository.getPropertyById("p2"));
+        verify(mockDelegate, never()).getPropertyById("p2"); // Cached by the multi-get
+    }
+
+    @Test
+    void testFindProperties_EquivalentFilterServedFromCache() {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setLocation("Boston");
+        filter.setMaxPrice(new BigDecimal("400000.00"));
+        Filter sameSearch = new Filter();
+        sameSearch.setLocation("boston");
+        sameSearch.setMaxPrice(new BigDecimal("400000"));
+        when(mockDelegate.findProperties(filter)).thenReturn(List.of(property("p1", "Boston")));
+
+        // Act
+        repository.findProperties(filter).get(0).setCity("Changed");
+        List<Property> second = repository.findProperties(sameSearch);
+
+        // Assert
+        assertEquals("Boston", second.get(0).getCity());
+        verify(mockDelegate, times(1)).findProperties(any());
+        assertEquals(1, repository.getSearchStats().getHits());
+    }
+
+    @Test
+    void testFindProperties_PagedAlwaysDelegates() {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setPageSize(10);
+        when(mockDelegate.findProperties(filter)).thenReturn(List.of());
+
+        // Act
+        repository.findProperties(filter);
+        repository.findProperties(filter);
+
+        // Assert
+        verify(mockDelegate, times(2)).findProperties(filter);
+    }
+
+    @Test
+    void testPropertyWritten_DropsCachedSearches() {
+        // Arrange
+        Filter filter = new Filter();
+        when(mockDelegate.findPropertySummaries(filter)).thenReturn(List.of());
+        repository.findPropertySummaries(filter);
+
+        // Act
+        repository.propertyWritten("p9");
+        repository.findPropertySummaries(filter);
+
+        // Assert
+        verify(mockDelegate, times(2)).findPropertySummaries(filter);
+    }
+
+    @Test
+    void testFindProperties_LoadedEngine_AnswersAndSeesWrites() {
+        // Arrange
+        PropertySearchEngine engine = new PropertySearchEngine(mockDelegate);
+        engine.load(Stream.of(property("p1", "Izmir")));
+        CachingPropertyRepository withEngine =
+                new CachingPropertyRepository(mockDelegate, new LruTtlCache<>(10, Duration.ofMinutes(1)), engine);
+        when(mockDelegate.getPropertyById("p1")).thenReturn(property("p1", "Bursa"));
+        Filter bursa = new Filter();
+        bursa.setLocation("Bursa");
+
+        // Act
+        withEngine.updateProperty(property("p1", "Bursa"));
+        List<Property> result = withEngine.findProperties(bursa);
+
+        // Assert
+        assertEquals(1, result.size());
+        verify(mockDelegate, never()).findProperties(any());
+    }
+
+    @Test
+    void testConstructor_NullDelegate() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingPropertyRepository(null));
+    }
+}
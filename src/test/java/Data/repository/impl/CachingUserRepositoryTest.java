@@ -0,0 +1,212 @@
+package Data.repository.impl;
+
+import Data.domain.Client;
+import Data.domain.Landlord;
+import Data.domain.User;
+import Data.repository.interfaces.IUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Unit tests for CachingUserRepository with a mocked delegate repository.
+class CachingUserRepositoryTest {
+
+    private IUserRepository mockDelegate;
+    private CachingUserRepository repository;
+    private Landlord landlord;
+
+    @BeforeEach
+    void setUp() {
+        mockDelegate = mock(IUserRepository.class);
+        repository = new CachingUserRepository(mockDelegate);
+        landlord = new Landlord("l1", "Leyla", "leyla@example.com", "hash", "LIC-1");
+    }
+
+    @Test
+    void testGetUserById_CachesAndPreservesSubtype() throws SQLException {
+        // Arrange
+        when(mockDelegate.getUserById("l1")).thenReturn(Optional.of(landlord));
+
+        // Act
+        repository.getUserById("l1");
+        Optional<User> cached = repository.getUserById("l1");
+
+        // Assert
+        Landlord result = assertInstanceOf(Landlord.class, cached.orElseThrow());
+        assertEquals("LIC-1", result.getAgentLicenseNumber());
+        assertNotSame(landlord, result);
+        verify(mockDelegate, times(1)).getUserById("l1");
+        assertEquals(1, repository.getIdStats().getHits());
+    }
+
+    @Test
+    void testGetUserByEmail_ServedFromIdCache() throws SQLException {
+        // Arrange
+        when(mockDelegate.getUserById("l1")).thenReturn(Optional.of(landlord));
+        repository.getUserById("l1");
+
+        // Act
+        Optional<User> byEmail = repository.getUserByEmail("LEYLA@example.com ");
+
+        // Assert
+        assertEquals("l1", byEmail.orElseThrow().getUserId());
+        verify(mockDelegate, never()).getUserByEmail(anyString());
+    }
+
+    @Test
+    void testGetUserByEmail_Miss_CachedAsNegativeEntry() throws SQLException {
+        // Arrange
+        when(mockDelegate.getUserByEmail("new@example.com")).thenReturn(Optional.empty());
+
+        // Act
+        repository.getUserByEmail("new@example.com");
+        Optional<User> second = repository.getUserByEmail("new@example.com");
+
+        // Assert
+        assertFalse(second.isPresent());
+        verify(mockDelegate, times(1)).getUserByEmail("new@example.com");
+    }
+
+    @Test
+    void testGetUserById_Miss_CachedAsNegativeEntry() throws SQLException {
+        when(mockDelegate.getUserById("ghost")).thenReturn(Optional.empty());
+
+        repository.getUserById("ghost");
+        repository.getUserById("ghost");
+
+        verify(mockDelegate, times(1)).getUserById("ghost");
+    }
+
+    @Test
+    void testAddUser_ClearsNegativeEntries() throws SQLException {
+        // Arrange
+        Client client = new Client("c1", "Cem", "cem@example.com", "hash", true);
+        when(mockDelegate.getUserByEmail("cem@example.com")).thenReturn(Optional.empty()).thenReturn(Optional.of(client));
+        when(mockDelegate.addUser(client)).thenReturn(true);
+        repository.getUserByEmail("cem@example.com"); // Registration check
+
+        // Act
+        repository.addUser(client);
+        Optional<User> afterRegistration = repository.getUserByEmail("cem@example.com");
+
+        // Assert
+        assertInstanceOf(Client.class, afterRegistration.orElseThrow());
+        verify(mockDelegate, times(2)).getUserByEmail("cem@example.com");
+    }
+
+    @Test
+    void testGetUserByEmail_RegistrationDuringLookup_MissNotCached() throws SQLException {
+        // Arrange: the user registers while the miss is being read
+        Client client = new Client("c1", "Cem", "cem@example.com", "hash", true);
+        when(mockDelegate.getUserByEmail("cem@example.com")).thenAnswer(inv -> {
+            repository.usersChanged(List.of(client));
+            return Optional.empty();
+        }).thenReturn(Optional.of(client));
+
+        // Act
+        Optional<User> racing = repository.getUserByEmail("cem@example.com");
+        Optional<User> next = repository.getUserByEmail("cem@example.com");
+
+        // Assert
+        assertTrue(racing.isEmpty());
+        assertInstanceOf(Client.class, next.orElseThrow());
+    }
+
+    @Test
+    void testGetUserById_UpdateDuringLoad_OldRowNotCached() throws SQLException {
+        // Arrange
+        Landlord renamed = new Landlord("l1", "Leyla K", "leyla@example.com", "hash", "LIC-1");
+        when(mockDelegate.getUserById("l1")).thenAnswer(inv -> {
+            repository.usersChanged(List.of(renamed));
+            return Optional.of(landlord);
+        }).thenReturn(Optional.of(renamed));
+
+        // Act
+        repository.getUserById("l1");
+        Optional<User> next = repository.getUserById("l1");
+
+        // Assert
+        assertEquals("Leyla K", next.orElseThrow().getName());
+        verify(mockDelegate, times(2)).getUserById("l1");
+    }
+
+    @Test
+    void testUpdateUser_EmailChange_InvalidatesOldEmail() throws SQLException {
+        // Arrange
+        when(mockDelegate.getUserById("l1")).thenReturn(Optional.of(landlord));
+        repository.getUserById("l1");
+        Landlord updated = new Landlord(landlord);
+        updated.setEmail("leyla@new.example.com");
+        when(mockDelegate.updateUser(updated)).thenReturn(true);
+        when(mockDelegate.getUserByEmail("leyla@example.com")).thenReturn(Optional.empty());
+
+        // Act
+        repository.updateUser(updated);
+        Optional<User> byOldEmail = repository.getUserByEmail("leyla@example.com");
+
+        // Assert
+        assertFalse(byOldEmail.isPresent());
+        verify(mockDelegate).getUserByEmail("leyla@example.com");
+    }
+
+    @Test
+    void testDeleteUser_InvalidatesEntries() throws SQLException {
+        // Arrange
+        when(mockDelegate.getUserById("l1")).thenReturn(Optional.of(landlord)).thenReturn(Optional.empty());
+        when(mockDelegate.getUserByEmail("leyla@example.com")).thenReturn(Optional.empty());
+        repository.getUserById("l1");
+
+        // Act
+        repository.deleteUser("l1");
+
+        // Assert
+        assertFalse(repository.getUserById("l1").isPresent());
+        assertFalse(repository.getUserByEmail("leyla@example.com").isPresent());
+        verify(mockDelegate, times(2)).getUserById("l1");
+    }
+
+    @Test
+    void testGetUsersByIds_FetchesOnlyMisses() throws SQLException {
+        // Arrange
+        when(mockDelegate.getUserById("l1")).thenReturn(Optional.of(landlord));
+        repository.getUserById("l1");
+        Client client = new Client("c1", "Cem", "cem@example.com", "hash", false);
+        when(mockDelegate.getUsersByIds(List.of("c1", "ghost"), 200)).thenReturn(Map.of("c1", client));
+
+        // Act
+        Map<String, User> users = repository.getUsersByIds(List.of("c1", "l1", "ghost"));
+        repository.getUsersByIds(List.of("ghost")); // Known miss, not fetched again
+
+        // Assert
+        assertEquals(List.of("c1", "l1"), new ArrayList<>(users.keySet()));
+        assertInstanceOf(Landlord.class, users.get("l1"));
+        verify(mockDelegate, times(1)).getUsersByIds(anyCollection(), anyInt());
+    }
+
+    @Test
+    void testUsersChanged_InvalidatesEntries() throws SQLException {
+        // Arrange
+        when(mockDelegate.getUserById("l1")).thenReturn(Optional.of(landlord));
+        repository.getUserById("l1");
+
+        // Act
+        repository.usersChanged(List.of(landlord)); // Written by another instance
+        repository.getUserById("l1");
+
+        // Assert
+        verify(mockDelegate, times(2)).getUserById("l1");
+    }
+
+    @Test
+    void testDelegateException_Propagates() throws SQLException {
+        when(mockDelegate.getUserById("l1")).thenThrow(new SQLException("Connection refused"));
+        assertThrows(SQLException.class, () -> repository.getUserById("l1"));
+    }
+}
@@ -0,0 +1,191 @@
+package Data.repository.impl;
+
+import Data.connector.IDatabaseConnector;
+import Data.domain.Property;
+import Data.repository.interfaces.ChangeFeedListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Unit tests for ChangeFeedPoller with a mocked connector; only the properties table has changes.
+class ChangeFeedPollerTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    private Connection mockConnection;
+    private PreparedStatement mockPropertyChanges;
+    private ChangeFeedPoller poller;
+    private List<List<String>> deliveredBatches;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        IDatabaseConnector mockConnector = mock(IDatabaseConnector.class);
+        mockConnection = mock(Connection.class);
+        when(mockConnector.getConnection()).thenReturn(mockConnection);
+
+        PreparedStatement mockMax = mock(PreparedStatement.class);
+        when(mockConnection.prepareStatement(startsWith("SELECT MAX(updated_at)"))).thenReturn(mockMax);
+        when(mockMax.executeQuery()).thenAnswer(inv -> maxResult(T0));
+
+        PreparedStatement mockOtherChanges = mock(PreparedStatement.class);
+        when(mockConnection.prepareStatement(startsWith("SELECT * FROM bids"))).thenReturn(mockOtherChanges);
+        when(mockConnection.prepareStatement(startsWith("SELECT * FROM users"))).thenReturn(mockOtherChanges);
+        when(mockOtherChanges.executeQuery()).thenAnswer(inv -> rows());
+
+        mockPropertyChanges = mock(PreparedStatement.class);
+        when(mockConnection.prepareStatement(startsWith("SELECT * FROM properties"))).thenReturn(mockPropertyChanges);
+
+        poller = new ChangeFeedPoller(mockConnector, Duration.ofSeconds(1), 2, Duration.ofSeconds(5));
+        deliveredBatches = new ArrayList<>();
+        poller.addListener(new ChangeFeedListener() {
+            @Override
+            public void propertiesChanged(List<Property> properties) {
+                deliveredBatches.add(properties.stream().map(Property::getPropertyId).toList());
+            }
+        });
+    }
+
+    private static ResultSet maxResult(LocalDateTime max) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true, false);
+        when(rs.getTimestamp(1)).thenReturn(Timestamp.valueOf(max));
+        return rs;
+    }
+
+    /** Rows are {id, updatedAt}. */
+    private static ResultSet rows(Object[]... rows) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        AtomicInteger index = new AtomicInteger(-1);
+        when(rs.next()).thenAnswer(inv -> index.incrementAndGet() < rows.length);
+        when(rs.getString("property_id")).thenAnswer(inv -> rows[index.get()][0]);
+        when(rs.getTimestamp("updated_at")).thenAnswer(inv -> Timestamp.valueOf((LocalDateTime) rows[index.get()][1]));
+        return rs;
+    }
+
+    private static Object[] row(String id, LocalDateTime updatedAt) {
+        return new Object[]{id, updatedAt};
+    }
+
+    @Test
+    void testPollOnce_FirstPollOnlyRecordsHighWaterMark() throws SQLException {
+        // Act
+        int delivered = poller.pollOnce();
+
+        // Assert
+        assertEquals(0, delivered);
+        verify(mockPropertyChanges, never()).executeQuery();
+    }
+
+    @Test
+    void testPollOnce_DeliversChangesInBatchesResumingFromLastRow() throws SQLException {
+        // Arrange
+        poller.pollOnce();
+        ResultSet first = rows(row("p1", T0.plusSeconds(1)), row("p2", T0.plusSeconds(2)));
+        ResultSet second = rows(row("p3", T0.plusSeconds(2)));
+        when(mockPropertyChanges.executeQuery()).thenReturn(first, second);
+
+        // Act
+        int delivered = poller.pollOnce();
+
+        // Assert
+        assertEquals(3, delivered);
+        assertEquals(List.of(List.of("p1", "p2"), List.of("p3")), deliveredBatches);
+        verify(mockPropertyChanges).setTimestamp(1, Timestamp.valueOf(T0.minusSeconds(5)));
+        verify(mockPropertyChanges).setTimestamp(1, Timestamp.valueOf(T0.plusSeconds(2)));
+        verify(mockPropertyChanges).setString(3, "p2");
+        verify(mockPropertyChanges, times(2)).setInt(4, 2);
+    }
+
+    @Test
+    void testPollOnce_StartsBeforeHighWaterMarkAndRedeliversOverlap() throws SQLException {
+        // Arrange
+        poller.pollOnce();
+        ResultSet first = rows(row("p1", T0.plusSeconds(1)));
+        ResultSet overlapping = rows(row("p1", T0.plusSeconds(1)), row("p2", T0.plusSeconds(3)));
+        ResultSet last = rows();
+        when(mockPropertyChanges.executeQuery()).thenReturn(first, overlapping, last);
+        poller.pollOnce();
+
+        // Act
+        int delivered = poller.pollOnce();
+
+        // Assert: p1 is inside the overlap window, so it is delivered again
+        assertEquals(2, delivered);
+        assertEquals(List.of(List.of("p1"), List.of("p1", "p2")), deliveredBatches);
+        verify(mockPropertyChanges).setTimestamp(1, Timestamp.valueOf(T0.plusSeconds(1).minusSeconds(5)));
+    }
+
+    @Test
+    void testPollOnce_RowChangedAgainInSameSecond_DeliveredAgain() throws SQLException {
+        // updated_at has one-second precision, so the second write keeps the same value
+        poller.pollOnce();
+        ResultSet first = rows(row("p1", T0.plusSeconds(1)));
+        ResultSet again = rows(row("p1", T0.plusSeconds(1)));
+        when(mockPropertyChanges.executeQuery()).thenReturn(first, again);
+
+        poller.pollOnce();
+        poller.pollOnce();
+
+        assertEquals(List.of(List.of("p1"), List.of("p1")), deliveredBatches);
+    }
+
+    @Test
+    void testPollOnce_FailingListener_OthersStillNotified() throws SQLException {
+        // Arrange
+        PropertyWriteListenerSpy spy = new PropertyWriteListenerSpy();
+        poller.addListener(new ChangeFeedListener() {
+            @Override
+            public void propertiesChanged(List<Property> properties) {
+                throw new IllegalStateException("boom");
+            }
+        });
+        poller.addListener(ChangeFeedListener.invalidating(spy::propertyWritten));
+        poller.pollOnce();
+        ResultSet changed = rows(row("p1", T0.plusSeconds(1)));
+        when(mockPropertyChanges.executeQuery()).thenReturn(changed);
+
+        // Act
+        poller.pollOnce();
+
+        // Assert
+        assertEquals(List.of("p1"), spy.written);
+    }
+
+    @Test
+    void testPollOnce_SqlException_Propagates() throws SQLException {
+        poller.pollOnce();
+        when(mockPropertyChanges.executeQuery()).thenThrow(new SQLException("Connection refused"));
+        assertThrows(SQLException.class, () -> poller.pollOnce());
+    }
+
+    @Test
+    void testConstructor_InvalidArguments() {
+        IDatabaseConnector connector = mock(IDatabaseConnector.class);
+        assertThrows(IllegalArgumentException.class, () -> new ChangeFeedPoller(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChangeFeedPoller(connector, Duration.ZERO, 10, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChangeFeedPoller(connector, Duration.ofSeconds(1), 0, Duration.ZERO));
+    }
+
+    private static final class PropertyWriteListenerSpy {
+        private final List<String> written = new ArrayList<>();
+
+        private void propertyWritten(String propertyId) {
+            written.add(propertyId);
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package Data.repository.impl;
 
 import Data.connector.IDatabaseConnector;
+import Data.domain.BatchResult;
 import Data.domain.Filter;
 import Data.domain.Property;
+import Data.domain.PropertyPage;
+import Data.domain.PropertySummary;
 import Data.repository.interfaces.IPropertyRepository; // Assuming this interface exists
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*; // Import Mockito methods
 
@@ -14,7 +18,11 @@ import java.math.BigDecimal;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 // Comprehensive Unit tests for PropertyRepositoryImpl using Mockito to mock the database connector and JDBC objects.
 class PropertyRepositoryImplTest {
@@ -131,6 +139,7 @@ class PropertyRepositoryImplTest {
 
 
         when(mockResultSet.getBoolean("is_active")).thenReturn(p.isActive());
+        when(mockResultSet.getBoolean("is_sold")).thenReturn(p.isSold());
 
         // Handle nullable Timestamp (Date Listed) - mock value
         when(mockResultSet.getTimestamp("date_listed")).thenReturn(p.getDateListed() != null ? Timestamp.valueOf(p.getDateListed()) : null);
@@ -343,6 +352,105 @@ class PropertyRepositoryImplTest {
     }
 
 
+    // --- addProperties (batch) Tests ---
+
+    @Test
+    void testAddProperties_ChunksAndCommitsPerChunk() throws SQLException {
+        // Arrange
+        when(mockConnection.getAutoCommit()).thenReturn(true);
+        when(mockPreparedStatement.executeBatch())
+                .thenReturn(new int[]{1, 1})
+                .thenReturn(new int[]{Statement.SUCCESS_NO_INFO}); // Rewritten multi-row insert
+        Property second = createTestProperty();
+        second.setPropertyId("prop124");
+        Property third = createTestProperty();
+        third.setPropertyId("prop125");
+
+        // Act
+        BatchResult result = propertyRepository.addProperties(List.of(createTestProperty(), second, third), 2);
+
+        // Assert
+        assertTrue(result.isAllInserted());
+        verify(mockConnector, times(1)).getConnection();
+        verify(mockConnection, times(1)).prepareStatement(anyString());
+        verify(mockPreparedStatement, times(3)).addBatch();
+        verify(mockPreparedStatement, times(2)).executeBatch();
+        verify(mockConnection, times(2)).commit();
+        verify(mockConnection).setAutoCommit(true);
+        verify(mockPreparedStatement, never()).executeUpdate();
+    }
+
+    @Test
+    void testAddProperties_InvalidRowsSkipped() throws SQLException {
+        // Arrange
+        when(mockPreparedStatement.executeBatch()).thenReturn(new int[]{1});
+        Property invalid = createTestProperty();
+        invalid.setLandlordId(null);
+        List<Property> properties = new ArrayList<>();
+        properties.add(invalid);
+        properties.add(null);
+        properties.add(createTestProperty());
+
+        // Act
+        BatchResult result = propertyRepository.addProperties(properties);
+
+        // Assert
+        assertEquals(BatchResult.Outcome.SKIPPED_INVALID, result.getOutcome(0));
+        assertEquals(BatchResult.Outcome.SKIPPED_INVALID, result.getOutcome(1));
+        assertEquals(BatchResult.Outcome.INSERTED, result.getOutcome(2));
+        verify(mockPreparedStatement, times(1)).addBatch();
+    }
+
+    @Test
+    void testAddProperties_BatchUpdateExceptionGivesPerRowOutcomes() throws SQLException {
+        // Arrange
+        when(mockPreparedStatement.executeBatch()).thenThrow(
+                new BatchUpdateException("Duplicate entry", new int[]{1, Statement.EXECUTE_FAILED, 1}));
+        Property second = createTestProperty();
+        second.setPropertyId("prop124");
+        Property third = createTestProperty();
+        third.setPropertyId("prop125");
+
+        // Act
+        BatchResult result = propertyRepository.addProperties(List.of(createTestProperty(), second, third));
+
+        // Assert
+        assertEquals(List.of(BatchResult.Outcome.INSERTED, BatchResult.Outcome.FAILED, BatchResult.Outcome.INSERTED),
+                result.getOutcomes());
+    }
+
+    @Test
+    void testAddProperties_InsideTransaction_LeavesCommitToCaller() throws SQLException {
+        // Arrange: auto-commit already off, as inside a unit of work
+        when(mockConnection.getAutoCommit()).thenReturn(false);
+        when(mockPreparedStatement.executeBatch()).thenReturn(new int[]{1});
+
+        // Act
+        propertyRepository.addProperties(List.of(createTestProperty()));
+
+        // Assert
+        verify(mockConnection, never()).commit();
+        verify(mockConnection, never()).setAutoCommit(anyBoolean());
+    }
+
+    @Test
+    void testAddProperties_ConnectionFailure_AllFailed() throws SQLException {
+        // Arrange
+        when(mockConnector.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // Act
+        BatchResult result = propertyRepository.addProperties(List.of(createTestProperty()));
+
+        // Assert
+        assertEquals(1, result.getFailedCount());
+    }
+
+    @Test
+    void testAddProperties_InvalidChunkSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> propertyRepository.addProperties(List.of(createTestProperty()), 0));
+    }
+
     // --- getPropertyById Tests ---
 
     @Test
@@ -397,6 +505,7 @@ class PropertyRepositoryImplTest {
         // Fix #4: Verify wasNull() is called 2 times per row mapped (after getInt for bedrooms and bathrooms)
         verify(mockResultSet, times(2)).wasNull();
         verify(mockResultSet, times(1)).getBoolean("is_active");
+        verify(mockResultSet, times(1)).getBoolean("is_sold");
         verify(mockResultSet, times(1)).getTimestamp("date_listed");
         verify(mockResultSet, times(1)).getTimestamp("created_at");
         verify(mockResultSet, times(1)).getTimestamp("updated_at");
@@ -409,6 +518,7 @@ class PropertyRepositoryImplTest {
 
         // Fix #4: Move verifyNoMoreInteractions to the end
         verifyNoMoreInteractions(mockPreparedStatement);
+        verify(mockResultSet).getMetaData(); // Row mapper resolves column ordinals once per ResultSet
         verifyNoMoreInteractions(mockResultSet);
         verifyNoMoreInteractions(mockConnection);
     }
@@ -920,7 +1030,7 @@ class PropertyRepositoryImplTest {
         verify(mockConnection, times(1)).prepareStatement(anyString()); // Verify prepareStatement
         // Verify parameters: Location is set twice for city/postal_code LIKE clauses
         // We use setObject because that is what the SUT uses inside findProperties for parameters
-        verify(mockPreparedStatement, times(2)).setObject(anyInt(), eq("%" + location + "%"));
+        verify(mockPreparedStatement, times(2)).setObject(anyInt(), eq("%" + location.toLowerCase() + "%"));
 
         // Verify execution calls
         verify(mockPreparedStatement, times(1)).executeQuery();
@@ -941,6 +1051,7 @@ class PropertyRepositoryImplTest {
         // Fix #4: Verify wasNull() is called 4 times (after getInt for bedrooms and bathrooms, 2 rows)
         verify(mockResultSet, times(4)).wasNull();
         verify(mockResultSet, times(2)).getBoolean("is_active");
+        verify(mockResultSet, times(2)).getBoolean("is_sold");
         verify(mockResultSet, times(2)).getTimestamp("date_listed");
         verify(mockResultSet, times(2)).getTimestamp("created_at");
         verify(mockResultSet, times(2)).getTimestamp("updated_at");
@@ -953,6 +1064,7 @@ class PropertyRepositoryImplTest {
 
         // Fix #4: Move verifyNoMoreInteractions to the end
         verifyNoMoreInteractions(mockPreparedStatement);
+        verify(mockResultSet).getMetaData(); // Row mapper resolves column ordinals once per ResultSet
         verifyNoMoreInteractions(mockResultSet);
         verifyNoMoreInteractions(mockConnection);
     }
@@ -1017,6 +1129,7 @@ class PropertyRepositoryImplTest {
         // Fix #4: Verify wasNull() is called 2 times per row mapped (after getInt for bedrooms and bathrooms)
         verify(mockResultSet, times(2)).wasNull();
         verify(mockResultSet, times(1)).getBoolean("is_active");
+        verify(mockResultSet, times(1)).getBoolean("is_sold");
         verify(mockResultSet, times(1)).getTimestamp("date_listed");
         verify(mockResultSet, times(1)).getTimestamp("created_at");
         verify(mockResultSet, times(1)).getTimestamp("updated_at");
@@ -1029,6 +1142,7 @@ class PropertyRepositoryImplTest {
 
         // Fix #4: Move verifyNoMoreInteractions
         verifyNoMoreInteractions(mockPreparedStatement);
+        verify(mockResultSet).getMetaData(); // Row mapper resolves column ordinals once per ResultSet
         verifyNoMoreInteractions(mockResultSet);
         verifyNoMoreInteractions(mockConnection);
     }
@@ -1221,6 +1335,58 @@ class PropertyRepositoryImplTest {
     }
 
 
+    @Test
+    void testFindProperties_SameShapeReusesSqlText() throws SQLException {
+        // Arrange
+        Filter first = new Filter();
+        first.setLocation("Metropolis");
+        first.setMinBedrooms(0); // Ignored, so not part of the shape
+        Filter second = new Filter();
+        second.setLocation("  Gotham ");
+        when(mockResultSet.next()).thenReturn(false);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+
+        // Act
+        propertyRepository.findProperties(first);
+        propertyRepository.findProperties(second);
+
+        // Assert
+        verify(mockConnection, times(2)).prepareStatement(sql.capture());
+        assertSame(sql.getAllValues().get(0), sql.getAllValues().get(1), "Each shape's SQL should be built once");
+        assertFalse(sql.getValue().contains("bedrooms >="));
+        verify(mockPreparedStatement, times(2)).setObject(anyInt(), eq("%gotham%"));
+    }
+
+    @Test
+    void testFindProperties_SortByPriceWithLimit_OrdersAndLimitsInSql() throws SQLException {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setPropertyType("House");
+        filter.setSortBy(Filter.SortField.PRICE);
+        filter.setLimit(10);
+        when(mockResultSet.next()).thenReturn(false);
+
+        // Act
+        propertyRepository.findProperties(filter);
+
+        // Assert
+        verify(mockConnection).prepareStatement(endsWith(
+                "AND property_type = ? ORDER BY price ASC, property_id ASC LIMIT ?")); // Cheapest first by default
+        verify(mockPreparedStatement).setObject(1, "House");
+        verify(mockPreparedStatement).setObject(2, 10);
+    }
+
+    @Test
+    void testFindPropertiesPage_OtherSortOrder_Throws() {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setPageSize(10);
+        filter.setSortBy(Filter.SortField.PRICE);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> propertyRepository.findPropertiesPage(filter));
+    }
+
     @Test
     void testFindProperties_MultipleFiltersCombination() throws SQLException {
         // Arrange
@@ -1250,7 +1416,7 @@ class PropertyRepositoryImplTest {
         // Total parameters: 2 + 1 + 1 + 1 = 5
         // Order matters based on the if conditions in the SUT
         // Let's trace the parameter indices:
-        // Location: 1, 2 (city, postal_code LIKE)
+        // Location: 1, 2 (city, postal_code LIKE; lowercased by Filter.normalized())
         // MinPrice: 3 (price >= ?)
         // MaxPrice: (skipped)
         // MinBedrooms: (skipped)
@@ -1259,8 +1425,8 @@ class PropertyRepositoryImplTest {
         // MustBeActive: 5 (is_active = ?)
 
         // Verify using setObject as the SUT does
-        verify(mockPreparedStatement, times(1)).setObject(1, "%Metropolis%");
-        verify(mockPreparedStatement, times(1)).setObject(2, "%Metropolis%");
+        verify(mockPreparedStatement, times(1)).setObject(1, "%metropolis%");
+        verify(mockPreparedStatement, times(1)).setObject(2, "%metropolis%");
         verify(mockPreparedStatement, times(1)).setObject(3, new BigDecimal("100000"));
         verify(mockPreparedStatement, times(1)).setObject(4, "%pool%");
         verify(mockPreparedStatement, times(1)).setObject(5, true);
@@ -1317,6 +1483,247 @@ class PropertyRepositoryImplTest {
         verifyNoMoreInteractions(mockConnection);
     }
 
+    // --- findPropertiesPage (keyset pagination) Tests ---
+
+    // The mock ignores LIMIT, so callers pass exactly the rows the database would return
+    private void configureMockResultSetForPageRows(String... propertyIds) throws SQLException {
+        Boolean[] more = new Boolean[propertyIds.length];
+        Arrays.fill(more, true);
+        more[more.length - 1] = false;
+        when(mockResultSet.next()).thenReturn(true, more);
+        when(mockResultSet.getString("property_id")).thenReturn(propertyIds[0],
+                Arrays.copyOfRange(propertyIds, 1, propertyIds.length));
+        when(mockResultSet.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(TEST_CREATED_AT));
+        when(mockResultSet.getTimestamp("updated_at")).thenReturn(Timestamp.valueOf(TEST_UPDATED_AT));
+    }
+
+    @Test
+    void testFindPropertiesPage_FirstPage_FetchesOneExtraRow() throws SQLException {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setPageSize(2);
+        configureMockResultSetForPageRows("prop3", "prop2", "prop1");
+
+        // Act
+        PropertyPage page = propertyRepository.findPropertiesPage(filter);
+
+        // Assert
+        assertEquals(2, page.size());
+        assertEquals("prop3", page.getProperties().get(0).getPropertyId());
+        assertTrue(page.hasMore());
+        verify(mockConnection).prepareStatement(argThat((String sql) ->
+                sql.endsWith("ORDER BY created_at DESC, property_id DESC LIMIT ?") && !sql.contains("created_at < ?")));
+        verify(mockPreparedStatement).setObject(1, 3);
+
+        String[] position = PropertyRepositoryImpl.decodeCursor(page.getNextCursor());
+        assertEquals(TEST_CREATED_AT.toString(), position[0]);
+        assertEquals("prop2", position[1]);
+    }
+
+    @Test
+    void testFindPropertiesPage_WithCursor_AddsKeysetPredicate() throws SQLException {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setPropertyType(TEST_PROPERTY_TYPE);
+        filter.setPageSize(2);
+        filter.setCursor(PropertyRepositoryImpl.encodeCursor(TEST_CREATED_AT, "prop2"));
+        configureMockResultSetForPageRows("prop1");
+
+        // Act
+        PropertyPage page = propertyRepository.findPropertiesPage(filter);
+
+        // Assert
+        assertEquals(1, page.size());
+        assertFalse(page.hasMore());
+        assertNull(page.getNextCursor());
+        verify(mockConnection).prepareStatement(contains("AND (created_at < ? OR (created_at = ? AND property_id < ?))"));
+        verify(mockPreparedStatement).setObject(1, TEST_PROPERTY_TYPE);
+        verify(mockPreparedStatement).setObject(2, Timestamp.valueOf(TEST_CREATED_AT));
+        verify(mockPreparedStatement).setObject(3, Timestamp.valueOf(TEST_CREATED_AT));
+        verify(mockPreparedStatement).setObject(4, "prop2");
+        verify(mockPreparedStatement).setObject(5, 3);
+    }
+
+    @Test
+    void testFindPropertiesPage_PageSizeClampedToMaximum() throws SQLException {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setPageSize(1_000_000);
+        when(mockResultSet.next()).thenReturn(false);
+
+        // Act
+        propertyRepository.findPropertiesPage(filter);
+
+        // Assert
+        verify(mockPreparedStatement).setObject(1, 501);
+    }
+
+    @Test
+    void testFindPropertiesPage_InvalidCursor() {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setCursor("not-a-cursor");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> propertyRepository.findPropertiesPage(filter));
+    }
+
+    @Test
+    void testFindProperties_WithPageSize_ReturnsSinglePage() throws SQLException {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setPageSize(1);
+        configureMockResultSetForPageRows("prop2", "prop1");
+
+        // Act
+        List<Property> properties = propertyRepository.findProperties(filter);
+
+        // Assert
+        assertEquals(1, properties.size());
+        verify(mockConnection).prepareStatement(endsWith("LIMIT ?"));
+    }
+
+    @Test
+    void testCursorRoundTrip() {
+        String cursor = PropertyRepositoryImpl.encodeCursor(TEST_CREATED_AT, "prop|with|bars");
+        assertArrayEquals(new String[]{TEST_CREATED_AT.toString(), "prop|with|bars"},
+                PropertyRepositoryImpl.decodeCursor(cursor));
+    }
+
+    // --- getPropertiesByIds Tests ---
+
+    @Test
+    void testGetPropertiesByIds_ChunksIdsIntoInLists() throws SQLException {
+        // Arrange
+        PreparedStatement tailStatement = mock(PreparedStatement.class);
+        ResultSet tailResultSet = mock(ResultSet.class);
+        when(mockConnection.prepareStatement(endsWith("IN (?)"))).thenReturn(tailStatement);
+        when(tailStatement.executeQuery()).thenReturn(tailResultSet);
+        when(mockResultSet.next()).thenReturn(true, true, false, true, false);
+        when(mockResultSet.getString("property_id")).thenReturn("p2", "p1", "p4");
+        when(tailResultSet.next()).thenReturn(false);
+
+        // Act
+        Map<String, Property> result = propertyRepository.getPropertiesByIds(
+                List.of("p1", "p2", "p3", "p4", "p5"), 2);
+
+        // Assert
+        assertEquals(List.of("p1", "p2", "p4"), new ArrayList<>(result.keySet())); // Request order, p3/p5 missing
+        verify(mockConnection, times(1)).prepareStatement(endsWith("WHERE property_id IN (?, ?)")); // Reused for both full chunks
+        verify(mockPreparedStatement, times(2)).executeQuery();
+        verify(tailStatement).setString(1, "p5");
+        verify(mockPreparedStatement).close();
+        verify(tailStatement).close();
+        verify(mockConnection, times(1)).close();
+    }
+
+    @Test
+    void testGetPropertiesByIds_DeduplicatesAndSkipsBlankIds() throws SQLException {
+        // Arrange
+        when(mockResultSet.next()).thenReturn(false);
+
+        // Act
+        propertyRepository.getPropertiesByIds(Arrays.asList("p1", null, " ", "p1", "p2"));
+
+        // Assert
+        verify(mockConnection).prepareStatement(endsWith("IN (?, ?)"));
+        verify(mockPreparedStatement).setString(1, "p1");
+        verify(mockPreparedStatement).setString(2, "p2");
+    }
+
+    @Test
+    void testGetPropertiesByIds_NoIds_DoesNotQuery() throws SQLException {
+        assertTrue(propertyRepository.getPropertiesByIds(List.of()).isEmpty());
+        assertTrue(propertyRepository.getPropertiesByIds(null).isEmpty());
+        verify(mockConnector, never()).getConnection();
+    }
+
+    @Test
+    void testGetPropertiesByIds_DatabaseError_ReturnsEmptyMap() throws SQLException {
+        // Arrange
+        when(mockPreparedStatement.executeQuery()).thenThrow(new SQLException("Connection lost"));
+
+        // Act & Assert
+        assertTrue(propertyRepository.getPropertiesByIds(List.of("p1")).isEmpty());
+        verify(mockConnection).close();
+    }
+
+    @Test
+    void testGetPropertiesByIds_InvalidChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> propertyRepository.getPropertiesByIds(List.of("p1"), 0));
+    }
+
+    // --- findPropertySummaries Tests ---
+
+    @Test
+    void testFindPropertySummaries_SelectsListColumnsOnly() throws SQLException {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setPropertyType(TEST_PROPERTY_TYPE);
+        when(mockResultSet.next()).thenReturn(true, false);
+        when(mockResultSet.getString("property_id")).thenReturn("prop1");
+        when(mockResultSet.getString("property_type")).thenReturn(TEST_PROPERTY_TYPE);
+
+        // Act
+        List<PropertySummary> summaries = propertyRepository.findPropertySummaries(filter);
+
+        // Assert
+        assertEquals(1, summaries.size());
+        assertEquals("prop1", summaries.get(0).getPropertyId());
+        assertEquals(TEST_PROPERTY_TYPE, summaries.get(0).getPropertyType());
+        verify(mockConnection).prepareStatement(argThat((String sql) ->
+                sql.startsWith("SELECT property_id, property_type, price, city, bedrooms, bathrooms, square_footage FROM")
+                        && !sql.contains("description")
+                        && sql.contains("AND property_type = ?")));
+        verify(mockPreparedStatement).setObject(1, TEST_PROPERTY_TYPE);
+        verify(mockResultSet, never()).getString("description");
+    }
+
+    @Test
+    void testFindPropertySummaries_DatabaseError_ReturnsEmptyList() throws SQLException {
+        // Arrange
+        when(mockConnector.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // Act & Assert
+        assertTrue(propertyRepository.findPropertySummaries(null).isEmpty());
+    }
+
+    // --- streamProperties Tests ---
+
+    @Test
+    void testStreamProperties_AppliesFilterAndStreams() throws SQLException {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setPropertyType(TEST_PROPERTY_TYPE);
+        when(mockConnection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(mockPreparedStatement);
+        configureMockResultSetForPageRows("prop2", "prop1");
+
+        // Act
+        List<String> ids;
+        try (Stream<Property> properties = propertyRepository.streamProperties(filter)) {
+            ids = properties.map(Property::getPropertyId).collect(Collectors.toList());
+        }
+
+        // Assert
+        assertEquals(List.of("prop2", "prop1"), ids);
+        verify(mockConnection).prepareStatement(contains("AND property_type = ?"),
+                eq(ResultSet.TYPE_FORWARD_ONLY), eq(ResultSet.CONCUR_READ_ONLY));
+        verify(mockPreparedStatement).setFetchSize(Integer.MIN_VALUE);
+        verify(mockPreparedStatement).setObject(1, TEST_PROPERTY_TYPE);
+        verify(mockConnection).close();
+    }
+
+    @Test
+    void testStreamProperties_DatabaseError_ReturnsEmptyStream() throws SQLException {
+        // Arrange
+        when(mockConnector.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // Act & Assert
+        try (Stream<Property> properties = propertyRepository.streamProperties(null)) {
+            assertEquals(0, properties.count());
+        }
+    }
+
     // --- Helper Methods Tests ---
     // Private helper methods (mapRowToProperty, setNullable*, getNullable*)
     // are tested indirectly by the public methods that use them.
@@ -0,0 +1,90 @@
+package Data.repository.impl;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Unit tests for RepositoryExecutor.
+class RepositoryExecutorTest {
+
+    @Test
+    void testConstructor_NonPositiveConcurrencyThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new RepositoryExecutor(0));
+    }
+
+    @Test
+    void testSubmit_CompletesWithResult() {
+        try (RepositoryExecutor executor = new RepositoryExecutor(2)) {
+            assertEquals("done", executor.submit(() -> "done").join());
+        }
+    }
+
+    @Test
+    void testSubmit_PropagatesCheckedException() {
+        try (RepositoryExecutor executor = new RepositoryExecutor(2)) {
+            // Act
+            CompletableFuture<Object> future = executor.submit(() -> {
+                throw new SQLException("boom");
+            });
+
+            // Assert
+            CompletionException ex = assertThrows(CompletionException.class, future::join);
+            assertTrue(ex.getCause() instanceof SQLException);
+        }
+    }
+
+    @Test
+    void testSubmit_RunsTasksConcurrently() throws Exception {
+        try (RepositoryExecutor executor = new RepositoryExecutor(3)) {
+            // Arrange: three tasks that only finish once all three have started
+            CountDownLatch started = new CountDownLatch(3);
+            List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+
+            // Act
+            for (int i = 0; i < 3; i++) {
+                futures.add(executor.submit(() -> {
+                    started.countDown();
+                    return started.await(2, TimeUnit.SECONDS);
+                }));
+            }
+
+            // Assert
+            for (CompletableFuture<Boolean> f : futures) {
+                assertTrue(f.get(5, TimeUnit.SECONDS), "Lookups should overlap rather than run one by one");
+            }
+        }
+    }
+
+    @Test
+    void testSubmit_NeverExceedsMaxConcurrency() {
+        try (RepositoryExecutor executor = new RepositoryExecutor(2)) {
+            // Arrange
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger peak = new AtomicInteger();
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+            // Act
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    int now = running.incrementAndGet();
+                    peak.accumulateAndGet(now, Math::max);
+                    Thread.sleep(10);
+                    running.decrementAndGet();
+                    return now;
+                }));
+            }
+            futures.forEach(CompletableFuture::join);
+
+            // Assert
+            assertTrue(peak.get() <= 2, "At most maxConcurrency tasks may hold a connection at once");
+        }
+    }
+}
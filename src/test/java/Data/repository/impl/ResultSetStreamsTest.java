@@ -0,0 +1,123 @@
+package Data.repository.impl;
+
+import Data.connector.IDatabaseConnector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Unit tests for ResultSetStreams using a mocked connector and JDBC objects.
+class ResultSetStreamsTest {
+
+    private static final String SQL = "SELECT name FROM things WHERE kind = ?";
+
+    private IDatabaseConnector mockConnector;
+    private Connection mockConnection;
+    private PreparedStatement mockPreparedStatement;
+    private ResultSet mockResultSet;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        mockConnector = mock(IDatabaseConnector.class);
+        mockConnection = mock(Connection.class);
+        mockPreparedStatement = mock(PreparedStatement.class);
+        mockResultSet = mock(ResultSet.class);
+        when(mockConnector.getConnection()).thenReturn(mockConnection);
+        when(mockConnection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+    }
+
+    @Test
+    void testStream_UsesForwardOnlyStreamingResultSet() throws SQLException {
+        // Arrange
+        when(mockResultSet.next()).thenReturn(false);
+
+        // Act
+        try (Stream<String> rows = ResultSetStreams.stream(mockConnector, SQL, List.of("a"), rs -> rs.getString(1))) {
+            rows.count();
+        }
+
+        // Assert
+        verify(mockConnection).prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        verify(mockPreparedStatement).setFetchSize(Integer.MIN_VALUE);
+        verify(mockPreparedStatement).setObject(1, "a");
+    }
+
+    @Test
+    void testStream_IsLazyAndMapsRows() throws SQLException {
+        // Arrange
+        when(mockResultSet.next()).thenReturn(true, true, false);
+        when(mockResultSet.getString(1)).thenReturn("first", "second");
+
+        // Act
+        Stream<String> rows = ResultSetStreams.stream(mockConnector, SQL, List.of("a"), rs -> rs.getString(1));
+        verify(mockResultSet, never()).next(); // Nothing read until a terminal operation runs
+        List<String> names = rows.collect(Collectors.toList());
+
+        // Assert
+        assertEquals(List.of("first", "second"), names);
+    }
+
+    @Test
+    void testStream_ExhaustionReleasesResources() throws SQLException {
+        // Arrange
+        when(mockResultSet.next()).thenReturn(true, false);
+
+        // Act
+        ResultSetStreams.stream(mockConnector, SQL, List.of(), rs -> "row").forEach(row -> { });
+
+        // Assert
+        verify(mockResultSet).close();
+        verify(mockPreparedStatement).close();
+        verify(mockConnection).close();
+    }
+
+    @Test
+    void testStream_CloseWithoutConsumingReleasesResourcesOnce() throws SQLException {
+        // Arrange
+        when(mockResultSet.next()).thenReturn(true, true, false);
+
+        // Act
+        try (Stream<String> rows = ResultSetStreams.stream(mockConnector, SQL, List.of(), rs -> "row")) {
+            rows.findFirst();
+        }
+
+        // Assert
+        verify(mockResultSet, times(1)).close();
+        verify(mockConnection, times(1)).close();
+    }
+
+    @Test
+    void testStream_QueryFailure_ClosesConnectionAndThrows() throws SQLException {
+        // Arrange
+        when(mockPreparedStatement.executeQuery()).thenThrow(new SQLException("Syntax error"));
+
+        // Act & Assert
+        assertThrows(SQLException.class,
+                () -> ResultSetStreams.stream(mockConnector, SQL, List.of(), rs -> "row"));
+        verify(mockPreparedStatement).close();
+        verify(mockConnection).close();
+    }
+
+    @Test
+    void testStream_RowFailure_ClosesAndRethrowsUnchecked() throws SQLException {
+        // Arrange
+        when(mockResultSet.next()).thenThrow(new SQLException("Connection lost"));
+
+        // Act
+        Stream<String> rows = ResultSetStreams.stream(mockConnector, SQL, List.of(), rs -> "row");
+
+        // Assert
+        RuntimeException ex = assertThrows(RuntimeException.class, rows::count);
+        assertInstanceOf(SQLException.class, ex.getCause());
+        verify(mockConnection).close();
+    }
+}
@@ -16,11 +16,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -704,6 +706,43 @@ class UserRepositoryImplTest {
         assertThrows(SQLException.class, () -> userRepository.getAllClients());
     }
 
+    @Test
+    @DisplayName("getUsersByIds should return users keyed by id with their subtypes")
+    void getUsersByIds_returnsSubtypesKeyedById() throws SQLException {
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true, true, false);
+        when(mockResultSet.getString("user_id")).thenReturn("c1", "l1");
+        when(mockResultSet.getString("role")).thenReturn("CLIENT", "LANDLORD");
+
+        Map<String, User> users = userRepository.getUsersByIds(List.of("l1", "c1", "missing"));
+
+        assertEquals(List.of("l1", "c1"), List.copyOf(users.keySet()));
+        assertInstanceOf(Landlord.class, users.get("l1"));
+        assertInstanceOf(Client.class, users.get("c1"));
+        verify(mockConnection).prepareStatement(endsWith("WHERE user_id IN (?, ?, ?)"));
+        verify(mockConnection).close();
+    }
+
+    @Test
+    @DisplayName("getUsersByIds should issue one query per chunk")
+    void getUsersByIds_chunksIds() throws SQLException {
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(false);
+
+        userRepository.getUsersByIds(List.of("u1", "u2", "u3", "u4"), 2);
+
+        verify(mockConnection, times(1)).prepareStatement(endsWith("IN (?, ?)"));
+        verify(mockPreparedStatement, times(2)).executeQuery();
+        verify(mockPreparedStatement).setString(1, "u3");
+    }
+
+    @Test
+    @DisplayName("getUsersByIds should throw SQLException on connection error")
+    void getUsersByIds_throwsSQLExceptionOnConnectionError() throws SQLException {
+        when(mockConnector.getConnection()).thenThrow(new SQLException("Connection failed"));
+        assertThrows(SQLException.class, () -> userRepository.getUsersByIds(List.of("u1")));
+    }
+
     // --- General SQLException handling for PreparedStatement and ResultSet ---
     @Test
     @DisplayName("getUserById should throw SQLException on prepareStatement error")
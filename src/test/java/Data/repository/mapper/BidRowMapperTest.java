@@ -0,0 +1,64 @@
+package Data.repository.mapper;
+
+import Data.domain.Bid;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+// Unit tests for BidRowMapper using a mocked ResultSet and metadata.
+class BidRowMapperTest {
+
+    @Test
+    void testMapRow_ReadsAllColumnsByOrdinal() throws SQLException {
+        // Arrange
+        ResultSet mockResultSet = mock(ResultSet.class);
+        ResultSetMetaData mockMetaData = mock(ResultSetMetaData.class);
+        String[] labels = {"bid_id", "property_id", "client_id", "amount", "status", "bid_timestamp",
+                "created_at", "updated_at"};
+        when(mockResultSet.getMetaData()).thenReturn(mockMetaData);
+        when(mockMetaData.getColumnCount()).thenReturn(labels.length);
+        for (int i = 0; i < labels.length; i++) {
+            when(mockMetaData.getColumnLabel(i + 1)).thenReturn(labels[i]);
+        }
+        Timestamp ts = Timestamp.valueOf("2024-05-06 07:08:09");
+        when(mockResultSet.getString(1)).thenReturn("b1");
+        when(mockResultSet.getString(2)).thenReturn("p1");
+        when(mockResultSet.getString(3)).thenReturn("c1");
+        when(mockResultSet.getBigDecimal(4)).thenReturn(new BigDecimal("1000.00"));
+        when(mockResultSet.getString(5)).thenReturn("PENDING");
+        when(mockResultSet.getTimestamp(6)).thenReturn(ts);
+
+        // Act
+        Bid bid = new BidRowMapper().mapRow(mockResultSet);
+
+        // Assert
+        assertEquals("b1", bid.getBidId());
+        assertEquals("p1", bid.getPropertyId());
+        assertEquals("c1", bid.getClientId());
+        assertEquals(new BigDecimal("1000.00"), bid.getAmount());
+        assertEquals("PENDING", bid.getStatus());
+        assertEquals(ts.toLocalDateTime(), bid.getBidTimestamp());
+        assertNull(bid.getCreatedAt());
+    }
+
+    @Test
+    void testMapRow_NoMetaData_ReadsByName() throws SQLException {
+        // Arrange
+        ResultSet mockResultSet = mock(ResultSet.class);
+        when(mockResultSet.getString("bid_id")).thenReturn("b1");
+        when(mockResultSet.getBigDecimal("amount")).thenReturn(BigDecimal.TEN);
+
+        // Act
+        Bid bid = new BidRowMapper().mapRow(mockResultSet);
+
+        // Assert
+        assertEquals("b1", bid.getBidId());
+        assertEquals(BigDecimal.TEN, bid.getAmount());
+    }
+}
@@ -0,0 +1,110 @@
+package Data.repository.mapper;
+
+import Data.domain.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+// Unit tests for PropertyRowMapper using a mocked ResultSet and metadata.
+class PropertyRowMapperTest {
+
+    private ResultSet mockResultSet;
+    private ResultSetMetaData mockMetaData;
+
+    @BeforeEach
+    void setUp() {
+        mockResultSet = mock(ResultSet.class);
+        mockMetaData = mock(ResultSetMetaData.class);
+    }
+
+    private void configureMetaData(String... labels) throws SQLException {
+        when(mockResultSet.getMetaData()).thenReturn(mockMetaData);
+        when(mockMetaData.getColumnCount()).thenReturn(labels.length);
+        for (int i = 0; i < labels.length; i++) {
+            when(mockMetaData.getColumnLabel(i + 1)).thenReturn(labels[i]);
+        }
+    }
+
+    @Test
+    void testMapRow_ReadsByOrdinal() throws SQLException {
+        // Arrange
+        configureMetaData("property_id", "PRICE", "bedrooms", "created_at");
+        Timestamp created = Timestamp.valueOf("2024-01-02 03:04:05");
+        when(mockResultSet.getString(1)).thenReturn("p1");
+        when(mockResultSet.getBigDecimal(2)).thenReturn(new BigDecimal("250000.00"));
+        when(mockResultSet.getInt(3)).thenReturn(3);
+        when(mockResultSet.getTimestamp(4)).thenReturn(created);
+
+        // Act
+        Property property = new PropertyRowMapper().mapRow(mockResultSet);
+
+        // Assert
+        assertEquals("p1", property.getPropertyId());
+        assertEquals(new BigDecimal("250000.00"), property.getPrice());
+        assertEquals(3, property.getBedrooms());
+        assertEquals(created.toLocalDateTime(), property.getCreatedAt());
+        assertNull(property.getCity()); // Not selected, so never read
+        verify(mockResultSet, never()).getString(anyString());
+    }
+
+    @Test
+    void testMapRow_ResolvesOrdinalsOncePerResultSet() throws SQLException {
+        // Arrange
+        configureMetaData("property_id");
+        when(mockResultSet.getString(1)).thenReturn("p1", "p2");
+        PropertyRowMapper mapper = new PropertyRowMapper();
+
+        // Act
+        Property first = mapper.mapRow(mockResultSet);
+        Property second = mapper.mapRow(mockResultSet);
+
+        // Assert
+        assertEquals("p1", first.getPropertyId());
+        assertEquals("p2", second.getPropertyId());
+        verify(mockResultSet, times(1)).getMetaData();
+        verify(mockMetaData, times(1)).getColumnCount();
+    }
+
+    @Test
+    void testMapRow_NullBedrooms_MapsToNull() throws SQLException {
+        // Arrange
+        configureMetaData("bedrooms");
+        when(mockResultSet.getInt(1)).thenReturn(0);
+        when(mockResultSet.wasNull()).thenReturn(true);
+
+        // Act
+        Property property = new PropertyRowMapper().mapRow(mockResultSet);
+
+        // Assert
+        assertNull(property.getBedrooms());
+    }
+
+    @Test
+    void testMapRow_NoMetaData_FallsBackToSelectedColumnNames() throws SQLException {
+        // Arrange
+        when(mockResultSet.getMetaData()).thenReturn(null);
+        when(mockResultSet.getString("property_id")).thenReturn("p1");
+        when(mockResultSet.getString("city")).thenReturn("Istanbul");
+
+        // Act
+        Property property = new PropertyRowMapper("property_id", "city").mapRow(mockResultSet);
+
+        // Assert
+        assertEquals("p1", property.getPropertyId());
+        assertEquals("Istanbul", property.getCity());
+        verify(mockResultSet, never()).getString("address");
+        verify(mockResultSet, never()).getBoolean("is_sold");
+    }
+
+    @Test
+    void testConstructor_UnknownColumn_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new PropertyRowMapper("no_such_column"));
+    }
+}
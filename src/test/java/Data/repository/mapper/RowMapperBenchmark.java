@@ -0,0 +1,92 @@
+package Data.repository.mapper;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Rough per-row comparison of name-based and ordinal-based property mapping.
+ * Not a unit test; run manually, e.g.
+ * {@code java -cp target/classes:target/test-classes Data.repository.mapper.RowMapperBenchmark}.
+ * <p>
+ * The in-memory ResultSet resolves labels through a case-insensitive map, as Connector/J does, so the
+ * gap shown is the column lookup cost only; real drivers add value conversion on top of both paths.
+ */
+public class RowMapperBenchmark {
+
+    private static final String[] LABELS = {
+            "property_id", "landlord_id", "address", "city", "postal_code", "property_type", "description",
+            "price", "square_footage", "bedrooms", "bathrooms", "is_active", "date_listed", "created_at", "updated_at"
+    };
+    private static final int ROWS = 200_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        for (int round = 1; round <= ROUNDS; round++) {
+            long byName = time(inMemoryResultSet(false));
+            long byOrdinal = time(inMemoryResultSet(true));
+            System.out.printf("round %d: by name %.1f ns/row, by ordinal %.1f ns/row%n",
+                    round, (double) byName / ROWS, (double) byOrdinal / ROWS);
+        }
+    }
+
+    private static long time(ResultSet rs) {
+        try {
+            PropertyRowMapper mapper = new PropertyRowMapper(LABELS);
+            long sink = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < ROWS; i++) {
+                sink += mapper.mapRow(rs).getPropertyId().length();
+            }
+            long elapsed = System.nanoTime() - start;
+            if (sink == 0) {
+                System.out.println(); // Keeps the loop from being optimised away
+            }
+            return elapsed;
+        } catch (Exception e) {
+            throw new RuntimeException("Benchmark failed", e);
+        }
+    }
+
+    /** One repeating row; with {@code withMetaData} false the mapper falls back to reading by name. */
+    private static ResultSet inMemoryResultSet(boolean withMetaData) {
+        Map<String, Integer> byLabel = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < LABELS.length; i++) {
+            byLabel.put(LABELS[i], i + 1);
+        }
+        Object[] row = {
+                "p-0001", "l-0001", "1 Main St", "Istanbul", "34000", "APARTMENT", "Sea view",
+                new BigDecimal("250000.00"), new BigDecimal("120.50"), 3, 2, true,
+                new Timestamp(0), new Timestamp(0), new Timestamp(0)
+        };
+        ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(
+                RowMapperBenchmark.class.getClassLoader(), new Class<?>[]{ResultSetMetaData.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getColumnCount": return LABELS.length;
+                        case "getColumnLabel": return LABELS[(Integer) args[0] - 1];
+                        default: throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        return (ResultSet) Proxy.newProxyInstance(
+                RowMapperBenchmark.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getMetaData")) {
+                        return withMetaData ? metaData : null;
+                    }
+                    if (method.getName().equals("wasNull")) {
+                        return false;
+                    }
+                    int index = (args[0] instanceof Integer)
+                            ? (Integer) args[0]
+                            : byLabel.get(((String) args[0]).toLowerCase(Locale.ROOT));
+                    Object value = row[index - 1];
+                    return (method.getReturnType() == int.class) ? ((Number) value).intValue() : value;
+                });
+    }
+}
@@ -0,0 +1,91 @@
+package Data.repository.mapper;
+
+import Data.domain.Client;
+import Data.domain.Landlord;
+import Data.domain.User;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// Unit tests for UserRowMapper; the mocked ResultSet has no metadata, so columns are read by name.
+class UserRowMapperTest {
+
+    private ResultSet userRow(String role) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("user_id")).thenReturn("u1");
+        when(rs.getString("name")).thenReturn("Ayse");
+        when(rs.getString("email")).thenReturn("ayse@example.com");
+        when(rs.getString("role")).thenReturn(role);
+        when(rs.getBoolean("is_verified")).thenReturn(true);
+        return rs;
+    }
+
+    @Test
+    void testMapRow_LandlordRole_ReturnsLandlord() throws SQLException {
+        // Arrange
+        ResultSet rs = userRow("LANDLORD");
+        when(rs.getString("agent_license_number")).thenReturn("LIC-1");
+
+        // Act
+        User user = new UserRowMapper().mapRow(rs);
+
+        // Assert
+        Landlord landlord = assertInstanceOf(Landlord.class, user);
+        assertEquals("LIC-1", landlord.getAgentLicenseNumber());
+        assertEquals("u1", landlord.getUserId());
+        assertTrue(landlord.isVerified());
+    }
+
+    @Test
+    void testMapRow_ClientRole_ReturnsClient() throws SQLException {
+        // Arrange
+        ResultSet rs = userRow("CLIENT");
+        when(rs.getBoolean("receives_market_updates")).thenReturn(true);
+
+        // Act
+        User user = new UserRowMapper().mapRow(rs);
+
+        // Assert
+        Client client = assertInstanceOf(Client.class, user);
+        assertTrue(client.isReceivesMarketUpdates());
+        assertEquals("ayse@example.com", client.getEmail());
+    }
+
+    @Test
+    void testMapRow_UnknownRole_ReturnsPlainUser() throws SQLException {
+        User user = new UserRowMapper().mapRow(userRow("ADMIN"));
+        assertEquals(User.class, user.getClass());
+        assertEquals("ADMIN", user.getRole());
+    }
+
+    @Test
+    void testMapClient_NullMarketUpdates_MapsToFalse() throws SQLException {
+        // Arrange
+        ResultSet rs = userRow("CLIENT");
+        when(rs.getBoolean("receives_market_updates")).thenReturn(false);
+        when(rs.wasNull()).thenReturn(true);
+
+        // Act
+        Client client = new UserRowMapper().mapClient(rs);
+
+        // Assert
+        assertFalse(client.isReceivesMarketUpdates());
+    }
+
+    @Test
+    void testMapLandlord_SelectedColumnsOnly() throws SQLException {
+        // Arrange
+        ResultSet rs = userRow("LANDLORD");
+
+        // Act
+        Landlord landlord = new UserRowMapper("user_id", "name", "role").mapLandlord(rs);
+
+        // Assert
+        assertEquals("Ayse", landlord.getName());
+        assertNull(landlord.getEmail());
+        verify(rs, never()).getString("email");
+    }
+}
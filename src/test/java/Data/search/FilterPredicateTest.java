@@ -0,0 +1,128 @@
+package Data.search;
+
+import Data.domain.Filter;
+import Data.domain.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
+// Unit tests for FilterPredicate, which must agree with the SQL built for the same Filter.
+class FilterPredicateTest {
+
+    private Property property;
+    private Filter filter;
+
+    @BeforeEach
+    void setUp() {
+        property = new Property();
+        property.setPropertyId("p1");
+        property.setPropertyType("Apartment");
+        property.setCity("South Boston");
+        property.setPostalCode("02127");
+        property.setDescription("Sunny apartment near the PARK");
+        property.setPrice(new BigDecimal("350000.00"));
+        property.setBedrooms(2);
+        property.setBathrooms(1);
+        property.setActive(true);
+        filter = new Filter();
+    }
+
+    @Test
+    void testCompile_EmptyOrNullFilterMatchesEverything() {
+        assertTrue(FilterPredicate.compile(filter).test(property));
+        assertTrue(FilterPredicate.compile(null).test(new Property()));
+        assertEquals(0, FilterPredicate.compile(filter).criteriaCount());
+    }
+
+    @Test
+    void testCompile_OnlySetCriteriaAreChecked() {
+        // Arrange
+        filter.setLocation("  ");
+        filter.setMinBedrooms(0); // Ignored, like the SQL
+        filter.setKeywords("park");
+
+        // Act
+        FilterPredicate predicate = FilterPredicate.compile(filter);
+
+        // Assert
+        assertEquals(1, predicate.criteriaCount());
+        assertTrue(predicate.test(property));
+    }
+
+    @Test
+    void testTest_AllCriteriaMatch() {
+        // Arrange
+        filter.setPropertyType("APARTMENT");
+        filter.setLocation("boston");
+        filter.setMinPrice(new BigDecimal("350000"));
+        filter.setMaxPrice(new BigDecimal("350000.00"));
+        filter.setMinBedrooms(2);
+        filter.setMinBathrooms(1);
+        filter.setKeywords("near the park");
+        filter.setMustBeActive(true);
+
+        // Act & Assert
+        assertTrue(FilterPredicate.compile(filter).test(property)); // Bounds are inclusive
+    }
+
+    @Test
+    void testTest_LocationMatchesPostalCode() {
+        filter.setLocation("0212");
+        assertTrue(FilterPredicate.compile(filter).test(property));
+        filter.setLocation("cambridge");
+        assertFalse(FilterPredicate.compile(filter).test(property));
+    }
+
+    @Test
+    void testTest_EachFailingCriterionRejects() {
+        assertRejects(f -> f.setPropertyType("House"));
+        assertRejects(f -> f.setMinPrice(new BigDecimal("350000.01")));
+        assertRejects(f -> f.setMaxPrice(new BigDecimal("349999.99")));
+        assertRejects(f -> f.setMinBedrooms(3));
+        assertRejects(f -> f.setMinBathrooms(2));
+        assertRejects(f -> f.setKeywords("garden"));
+        assertRejects(f -> f.setMustBeActive(false));
+    }
+
+    @Test
+    void testTest_NullColumnsNeverMatch() {
+        // Arrange
+        filter.setMinBedrooms(1);
+        filter.setMinPrice(BigDecimal.ONE);
+        FilterPredicate predicate = FilterPredicate.compile(filter);
+
+        // Act
+        property.setBedrooms(null);
+
+        // Assert
+        assertFalse(predicate.test(property));
+        property.setBedrooms(2);
+        property.setPrice(null);
+        assertFalse(predicate.test(property));
+    }
+
+    @Test
+    void testCompile_LaterFilterChangesNotSeen() {
+        filter.setPropertyType("Apartment");
+        FilterPredicate predicate = FilterPredicate.compile(filter);
+        filter.setPropertyType("House");
+        assertTrue(predicate.test(property));
+    }
+
+    @Test
+    void testContainsIgnoreCase() {
+        assertTrue(FilterPredicate.containsIgnoreCase("Sunny PARK", "park"));
+        assertTrue(FilterPredicate.containsIgnoreCase("abc", ""));
+        assertFalse(FilterPredicate.containsIgnoreCase("ab", "abc"));
+        assertFalse(FilterPredicate.containsIgnoreCase(null, "a"));
+    }
+
+    private void assertRejects(Consumer<Filter> criterion) {
+        Filter single = new Filter();
+        criterion.accept(single);
+        assertFalse(FilterPredicate.compile(single).test(property), single.toString());
+    }
+}
@@ -0,0 +1,105 @@
+package Data.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.BitSet;
+import java.util.List;
+
+// Unit tests for InvertedIndex tokenizing, stemming and AND/OR matching.
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex(true);
+        index.add(0, "Renovated kitchen, close to parks.");
+        index.add(1, "Parking included; quiet street");
+        index.add(2, "Quiet cul-de-sac with a big kitchen");
+    }
+
+    private static BitSet docs(int... docs) {
+        BitSet bits = new BitSet();
+        for (int doc : docs) {
+            bits.set(doc);
+        }
+        return bits;
+    }
+
+    @Test
+    void testTerms_SplitsLowercasesAndStems() {
+        assertEquals(List.of("renovat", "kitchen", "park", "studio", "city"),
+                index.terms("Renovated KITCHEN parks, parking; studios cities"));
+        assertEquals(List.of("glass", "bus"), index.terms("glass bus"));
+        assertEquals(List.of(), index.terms(null));
+    }
+
+    @Test
+    void testTerms_WithoutStemming() {
+        assertEquals(List.of("parks", "parking"), new InvertedIndex(false).terms("Parks parking PARKS"));
+    }
+
+    @Test
+    void testMatchAll_EveryTermMustOccur() {
+        assertEquals(docs(0, 2), index.matchAll("kitchen"));
+        assertEquals(docs(2), index.matchAll("quiet KITCHEN"));
+        assertEquals(docs(0, 1), index.matchAll("park"));
+        assertTrue(index.matchAll("kitchen garage").isEmpty());
+    }
+
+    @Test
+    void testMatchAny_AnyTermMayOccur() {
+        assertEquals(docs(0, 1, 2), index.matchAny("park quiet"));
+        assertEquals(docs(1), index.matchAny("garage street"));
+    }
+
+    @Test
+    void testMatch_QueryWithoutTermsReturnsNull() {
+        assertNull(index.matchAll(" ,. "));
+        assertNull(index.matchAny(null));
+    }
+
+    @Test
+    void testAdd_ReplacesPreviousText() {
+        // Act
+        index.add(0, "Garage and garden");
+
+        // Assert
+        assertEquals(docs(2), index.matchAll("kitchen"));
+        assertEquals(docs(0), index.matchAll("garden"));
+        assertEquals(docs(1), index.matchAll("park"));
+    }
+
+    @Test
+    void testRemove_DropsEmptyPostings() {
+        // Arrange
+        int before = index.termCount();
+
+        // Act
+        index.remove(1);
+        index.remove(7); // Never indexed
+
+        // Assert
+        assertEquals(docs(0), index.matchAll("park"));
+        assertTrue(index.matchAll("street").isEmpty());
+        assertEquals(before - 2, index.termCount()); // "included" and "street" are gone
+    }
+
+    @Test
+    void testClear_RemovesEverything() {
+        index.clear();
+
+        assertEquals(0, index.termCount());
+        assertTrue(index.matchAny("kitchen quiet").isEmpty());
+    }
+
+    @Test
+    void testStem_ShortWordsUnchanged() {
+        assertEquals("bus", InvertedIndex.stem("bus"));
+        assertEquals("ring", InvertedIndex.stem("ring"));
+        assertEquals("bed", InvertedIndex.stem("bed"));
+        assertEquals("bed", InvertedIndex.stem("beds"));
+    }
+}
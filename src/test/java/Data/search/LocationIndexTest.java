@@ -0,0 +1,105 @@
+package Data.search;
+
+import Data.search.LocationIndex.Field;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.BitSet;
+import java.util.List;
+
+// Unit tests for LocationIndex substring matching and type-ahead suggestions.
+class LocationIndexTest {
+
+    private LocationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new LocationIndex();
+        index.add(0, "Boston", "02118", "12 Harbor Street");
+        index.add(1, "Boston", "02120", "40 Beacon Street, Apt 2");
+        index.add(2, "South Boston", "02127", "7 Harbor Street");
+        index.add(3, "Cambridge", "02139", "1 Main Street");
+    }
+
+    private static BitSet docs(int... docs) {
+        BitSet bits = new BitSet();
+        for (int doc : docs) {
+            bits.set(doc);
+        }
+        return bits;
+    }
+
+    @Test
+    void testContaining_SubstringIgnoringCase() {
+        assertEquals(docs(0, 1, 2), index.containing("BOSTON", Field.CITY));
+        assertEquals(docs(2), index.containing("th bo", Field.CITY));
+        assertEquals(docs(0, 2), index.containing("harbor", Field.ADDRESS));
+        assertTrue(index.containing("bostonx", Field.CITY).isEmpty());
+    }
+
+    @Test
+    void testContaining_ShortNeedlesAndSeveralFields() {
+        assertEquals(docs(0, 1, 2, 3), index.containing("0", Field.POSTAL_CODE));
+        assertEquals(docs(3), index.containing("ca", Field.CITY));
+        assertEquals(docs(3), index.containing("0213", Field.POSTAL_CODE, Field.ADDRESS));
+        assertEquals(docs(1), index.containing("ea", Field.CITY, Field.ADDRESS));
+    }
+
+    @Test
+    void testRemove_AndReplace() {
+        // Act
+        index.remove(0);
+        index.add(1, "Somerville", "02143", "3 Elm Street");
+
+        // Assert
+        assertEquals(docs(2), index.containing("boston", Field.CITY));
+        assertEquals(docs(1), index.containing("somer", Field.CITY));
+        assertEquals(3, index.distinctValues(Field.CITY)); // Boston is gone
+        assertEquals(docs(2), index.containing("harbor", Field.ADDRESS));
+    }
+
+    @Test
+    void testSuggest_PrefixOfAnyWord_MostListingsFirst() {
+        assertEquals(List.of("Boston", "South Boston"), index.suggest("bos", 10));
+        assertEquals(List.of("Boston"), index.suggest("  BOS", 1));
+        assertEquals(List.of("Harbor Street"), index.suggest("harb", 10)); // House numbers dropped
+        assertEquals(List.of("Harbor Street", "Beacon Street", "Main Street"), index.suggest("street", 10));
+        assertEquals(List.of("02118", "02120", "02127"), index.suggest("021", 3));
+    }
+
+    @Test
+    void testSuggest_TracksRemovals() {
+        // Act
+        index.remove(2);
+
+        // Assert
+        assertEquals(List.of("Boston"), index.suggest("bos", 10));
+        assertEquals(List.of("Harbor Street"), index.suggest("harbor", 10)); // Still on doc 0
+        index.remove(0);
+        assertTrue(index.suggest("harbor", 10).isEmpty());
+    }
+
+    @Test
+    void testSuggest_EmptyPrefixOrLimit() {
+        assertTrue(index.suggest("", 10).isEmpty());
+        assertTrue(index.suggest(null, 10).isEmpty());
+        assertTrue(index.suggest("bos", 0).isEmpty());
+    }
+
+    @Test
+    void testClear_RemovesEverything() {
+        index.clear();
+
+        assertTrue(index.containing("boston", Field.CITY).isEmpty());
+        assertTrue(index.suggest("b", 10).isEmpty());
+    }
+
+    @Test
+    void testStreetName() {
+        assertEquals("Beacon Street", LocationIndex.streetName("40 Beacon Street, Apt 2"));
+        assertEquals("Elm Road", LocationIndex.streetName("12-14 Elm Road"));
+        assertEquals("Elm Road", LocationIndex.streetName("Elm Road"));
+        assertNull(LocationIndex.streetName(null));
+    }
+}
@@ -0,0 +1,89 @@
+package Data.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.BitSet;
+
+// Unit tests for PriceIndex range queries and incremental maintenance.
+class PriceIndexTest {
+
+    private PriceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PriceIndex();
+        index.insert(300_00, 0);
+        index.insert(500_00, 1);
+        index.insert(400_00, 2);
+        index.insert(400_00, 3);
+    }
+
+    private static BitSet docs(int... docs) {
+        BitSet bits = new BitSet();
+        for (int doc : docs) {
+            bits.set(doc);
+        }
+        return bits;
+    }
+
+    @Test
+    void testRange_BoundsAreInclusive() {
+        assertEquals(docs(0, 2, 3), index.range(300_00, 400_00));
+        assertEquals(docs(1), index.range(400_01, Long.MAX_VALUE));
+        assertEquals(3, index.count(Long.MIN_VALUE, 400_00));
+    }
+
+    @Test
+    void testRange_EmptyAndInvertedRanges() {
+        assertTrue(index.range(301_00, 399_99).isEmpty());
+        assertTrue(index.range(500_00, 300_00).isEmpty());
+        assertEquals(0, index.count(600_00, 700_00));
+    }
+
+    @Test
+    void testRemove_OnlyMatchingEntry() {
+        // Act
+        boolean removed = index.remove(400_00, 2);
+        boolean wrongPrice = index.remove(450_00, 3);
+
+        // Assert
+        assertTrue(removed);
+        assertFalse(wrongPrice);
+        assertEquals(docs(3), index.range(400_00, 400_00));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testUpdate_MovesDocument() {
+        index.update(300_00, 600_00, 0);
+        assertEquals(docs(0, 1), index.range(450_00, Long.MAX_VALUE));
+        assertTrue(index.range(0, 399_99).isEmpty());
+    }
+
+    @Test
+    void testAppend_SortedBeforeUse() {
+        // Arrange
+        PriceIndex bulk = new PriceIndex();
+        for (int doc = 0; doc < 100; doc++) {
+            bulk.append((100 - doc) * 100L, doc); // Descending prices
+        }
+
+        // Act
+        bulk.sort();
+        bulk.insert(150, 100);
+
+        // Assert
+        assertEquals(docs(99, 100, 98), bulk.range(100, 200));
+        assertTrue(bulk.remove(10_000, 0));
+        assertEquals(100, bulk.size());
+    }
+
+    @Test
+    void testClear_RemovesEverything() {
+        index.clear();
+        assertEquals(0, index.size());
+        assertTrue(index.range(Long.MIN_VALUE, Long.MAX_VALUE).isEmpty());
+    }
+}
@@ -0,0 +1,178 @@
+package Data.search;
+
+import Data.domain.Filter;
+import Data.domain.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// Unit tests for PropertyRanker scoring, top-K selection and the latency budget.
+class PropertyRankerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    private long nanos;
+    private PropertyRanker ranker;
+
+    @BeforeEach
+    void setUp() {
+        nanos = 0;
+        ranker = new PropertyRanker(Duration.ofMillis(10), () -> nanos, () -> NOW);
+    }
+
+    private static Property property(String id, String description, String price, Integer bedrooms, int daysOld) {
+        Property property = new Property();
+        property.setPropertyId(id);
+        property.setDescription(description);
+        property.setPrice(price == null ? null : new BigDecimal(price));
+        property.setBedrooms(bedrooms);
+        property.setCreatedAt(NOW.minusDays(daysOld));
+        return property;
+    }
+
+    private static List<String> ids(PropertyRanker.Ranking ranking) {
+        return ranking.getProperties().stream().map(Property::getPropertyId).toList();
+    }
+
+    @Test
+    void testRank_EmptyFilter_NewestFirst() {
+        // Arrange
+        List<Property> candidates = List.of(
+                property("p1", "a", "100", 1, 40), property("p2", "b", "100", 1, 1), property("p3", "c", "100", 1, 10));
+
+        // Act
+        PropertyRanker.Ranking ranking = ranker.rank(new Filter(), candidates, 2);
+
+        // Assert
+        assertEquals(List.of("p2", "p3"), ids(ranking));
+        assertEquals(3, ranking.getExamined());
+        assertTrue(ranking.isComplete());
+    }
+
+    @Test
+    void testRank_KeywordPhraseBeatsScatteredWords() {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setKeywords("quiet garden");
+        List<Property> candidates = List.of(
+                property("words", "Garden flat on a quiet street", "100", 1, 0),
+                property("phrase", "A quiet garden and terrace", "100", 1, 0),
+                property("none", "Busy high street", "100", 1, 0),
+                property("half", "Lovely gardens", "100", 1, 0)); // Stem "garden" matches
+
+        // Act & Assert
+        assertEquals(List.of("phrase", "words", "half", "none"), ids(ranker.rank(filter, candidates, 4)));
+    }
+
+    @Test
+    void testScore_KeywordWordsMatchAfterStemmingBothSides() {
+        // Arrange: "properties" stems to "property", which is not a substring of the description
+        Filter filter = new Filter();
+        filter.setKeywords("cozy properties");
+
+        // Act
+        double both = ranker.score(filter, property("a", "Properties that are cozy", "1", 1, 0));
+        double one = ranker.score(filter, property("b", "Cozy flat", "1", 1, 0));
+
+        // Assert
+        assertTrue(both > one);
+    }
+
+    @Test
+    void testRank_PriceClosestToRangeMidpointFirst() {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setMinPrice(new BigDecimal("200000"));
+        filter.setMaxPrice(new BigDecimal("400000"));
+        List<Property> candidates = List.of(
+                property("low", "x", "210000", 2, 0),
+                property("mid", "x", "305000", 2, 0),
+                property("high", "x", "380000", 2, 0),
+                property("unpriced", "x", null, 2, 0));
+
+        // Act & Assert
+        assertEquals(List.of("mid", "high", "low", "unpriced"), ids(ranker.rank(filter, candidates, 4)));
+    }
+
+    @Test
+    void testScore_BedroomFitPrefersRequestedCount() {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setMinBedrooms(2);
+
+        // Act
+        double exact = ranker.score(filter, property("a", "x", "1", 2, 0));
+        double larger = ranker.score(filter, property("b", "x", "1", 4, 0));
+        double unknown = ranker.score(filter, property("c", "x", "1", null, 0));
+
+        // Assert
+        assertEquals(1.0, exact, 1e-9);
+        assertTrue(exact > larger && larger > unknown);
+    }
+
+    @Test
+    void testScore_RecencyHalvesEveryHalfLife() {
+        double fresh = ranker.score(null, property("a", "x", "1", 1, 0));
+        double old = ranker.score(null, property("b", "x", "1", 1, PropertyRanker.RECENCY_HALF_LIFE_DAYS));
+        assertEquals(1.0, fresh, 1e-9);
+        assertEquals(0.5, old, 1e-9);
+    }
+
+    @Test
+    void testRank_KeepsOnlyKBestOfManyCandidates() {
+        // Arrange: the newest listing has the highest id
+        List<Property> candidates = new ArrayList<>();
+        IntStream.range(0, 1000).forEach(i -> candidates.add(property(String.format("p%04d", i), "x", "1", 1, 1000 - i)));
+
+        // Act
+        PropertyRanker.Ranking ranking = ranker.rank(null, candidates.stream(), 3);
+
+        // Assert
+        assertEquals(List.of("p0999", "p0998", "p0997"), ids(ranking));
+        assertEquals(1000, ranking.getExamined());
+    }
+
+    @Test
+    void testRank_Stream_ClosedAfterRanking() {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Property> candidates = Stream.of(property("a", "x", "1", 1, 1)).onClose(() -> closed.set(true));
+
+        // Act
+        ranker.rank(null, candidates, 1);
+
+        // Assert
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testRank_BudgetSpent_ReturnsBestSoFar() {
+        // Arrange: the clock jumps past the budget while the first batch is scored
+        List<Property> candidates = new ArrayList<>();
+        IntStream.range(0, 200).forEach(i -> candidates.add(property("p" + i, "x", "1", 1, 0)));
+        PropertyRanker slow = new PropertyRanker(Duration.ofMillis(10), () -> nanos += 20_000_000, () -> NOW);
+
+        // Act
+        PropertyRanker.Ranking ranking = slow.rank(null, candidates, 5);
+
+        // Assert
+        assertFalse(ranking.isComplete());
+        assertEquals(PropertyRanker.BUDGET_CHECK_INTERVAL, ranking.getExamined());
+        assertEquals(5, ranking.getProperties().size());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> ranker.rank(null, List.of(), 0));
+        assertThrows(IllegalArgumentException.class, () -> new PropertyRanker(Duration.ZERO));
+    }
+}
@@ -0,0 +1,408 @@
+package Data.search;
+
+import Data.connector.IDatabaseConnector;
+import Data.domain.Filter;
+import Data.domain.Property;
+import Data.domain.PropertySummary;
+import Data.domain.SortDirection;
+import Data.repository.impl.PropertyRepositoryImpl;
+import Data.repository.interfaces.IPropertyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+// Unit tests for PropertySearchEngine over a small in-memory catalogue.
+class PropertySearchEngineTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    private IPropertyRepository mockSource;
+    private PropertySearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        mockSource = mock(IPropertyRepository.class);
+        engine = new PropertySearchEngine(mockSource);
+        engine.load(Stream.of(
+                property("p1", "Apartment", "Boston", "02118", "350000.00", 2, 1, true, false, 1),
+                property("p2", "House", "Boston", "02120", "650000.00", 4, 3, true, false, 2),
+                property("p3", "Apartment", "Cambridge", "02139", "420000.00", 3, 2, true, false, 3),
+                property("p4", "Apartment", "South Boston", "02127", "390000.00", null, 1, false, false, 4),
+                property("p5", "Condo", "Boston", "02116", "300000.00", 1, 1, false, true, 5)));
+    }
+
+    static Property property(String id, String type, String city, String postalCode, String price,
+                             Integer bedrooms, Integer bathrooms, boolean active, boolean sold, int minutesAfterT0) {
+        Property property = new Property();
+        property.setPropertyId(id);
+        property.setPropertyType(type);
+        property.setCity(city);
+        property.setPostalCode(postalCode);
+        property.setAddress(id + " Harbor Street");
+        property.setDescription("Sunny " + type + " near the park");
+        property.setPrice(new BigDecimal(price));
+        property.setBedrooms(bedrooms);
+        property.setBathrooms(bathrooms);
+        property.setActive(active);
+        property.setSold(sold);
+        property.setCreatedAt(T0.plusMinutes(minutesAfterT0));
+        return property;
+    }
+
+    private static List<String> ids(List<Property> properties) {
+        return properties.stream().map(Property::getPropertyId).toList();
+    }
+
+    @Test
+    void testFindProperties_EmptyFilter_AllNewestFirst() {
+        assertEquals(List.of("p5", "p4", "p3", "p2", "p1"), ids(engine.findProperties(new Filter())));
+        assertTrue(engine.isLoaded());
+        assertEquals(5, engine.size());
+    }
+
+    @Test
+    void testFindProperties_TypeLocationAndMaxPrice() {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setPropertyType("apartment");
+        filter.setLocation("BOSTON");
+        filter.setMaxPrice(new BigDecimal("400000"));
+
+        // Act
+        List<Property> result = engine.findProperties(filter);
+
+        // Assert
+        assertEquals(List.of("p4", "p1"), ids(result)); // "South Boston" matches as a substring
+    }
+
+    @Test
+    void testFindProperties_LocationMatchesPostalCode() {
+        Filter filter = new Filter();
+        filter.setLocation("0212");
+        assertEquals(List.of("p4", "p2"), ids(engine.findProperties(filter)));
+    }
+
+    @Test
+    void testFindProperties_PriceBoundsAreInclusive() {
+        Filter filter = new Filter();
+        filter.setMinPrice(new BigDecimal("350000"));
+        filter.setMaxPrice(new BigDecimal("420000.00"));
+        assertEquals(List.of("p4", "p3", "p1"), ids(engine.findProperties(filter)));
+    }
+
+    @Test
+    void testFindProperties_PriceRangeTracksUpdates() {
+        // Arrange
+        engine.upsert(property("p2", "House", "Boston", "02120", "395000.00", 4, 3, true, false, 2));
+        Filter filter = new Filter();
+        filter.setMinPrice(new BigDecimal("390000"));
+        filter.setMaxPrice(new BigDecimal("400000"));
+
+        // Act & Assert
+        assertEquals(List.of("p4", "p2"), ids(engine.findProperties(filter)));
+        engine.remove("p4");
+        assertEquals(List.of("p2"), ids(engine.findProperties(filter)));
+    }
+
+    @Test
+    void testFindProperties_NullPriceOutsideEveryRange() {
+        Property unpriced = property("p6", "House", "Boston", "02120", "1.00", 1, 1, true, false, 6);
+        unpriced.setPrice(null);
+        engine.upsert(unpriced);
+        Filter filter = new Filter();
+        filter.setMinPrice(BigDecimal.ZERO);
+        assertFalse(ids(engine.findProperties(filter)).contains("p6"));
+        assertTrue(ids(engine.findProperties(new Filter())).contains("p6"));
+    }
+
+    @Test
+    void testFindProperties_MinBedrooms_NullBedroomsNeverMatch() {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setMinBedrooms(2);
+        filter.setMinBathrooms(2);
+
+        // Act & Assert
+        assertEquals(List.of("p3", "p2"), ids(engine.findProperties(filter)));
+        filter.setMinBedrooms(0); // Ignored, like the SQL
+        filter.setMinBathrooms(null);
+        assertEquals(5, engine.findProperties(filter).size());
+    }
+
+    @Test
+    void testFindProperties_KeywordsAndActiveFlag() {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setKeywords("APARTMENT near");
+        filter.setMustBeActive(true);
+
+        // Act & Assert
+        assertEquals(List.of("p3", "p1"), ids(engine.findProperties(filter)));
+        filter.setKeywords(null);
+        filter.setMustBeActive(false);
+        assertEquals(List.of("p5", "p4"), ids(engine.findProperties(filter)));
+    }
+
+    @Test
+    void testFindProperties_KeywordsMatchWordsInAnyOrder() {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setKeywords("parks, sunny");
+
+        // Act & Assert
+        assertEquals(5, engine.findProperties(filter).size()); // Stemmed, order-independent
+        filter.setKeywords("par");
+        assertTrue(engine.findProperties(filter).isEmpty()); // Whole words only
+        filter.setKeywords("--");
+        assertTrue(engine.findProperties(filter).isEmpty()); // No words: substring fallback
+    }
+
+    @Test
+    void testFindByKeywords_AllOrAnyTerms() {
+        assertEquals(List.of("p2"), ids(engine.findByKeywords("house garden", false)));
+        assertTrue(engine.findByKeywords("house garden", true).isEmpty());
+        assertEquals(List.of("p5", "p2"), ids(engine.findByKeywords("houses condos", false)));
+        assertTrue(engine.findByKeywords("  ", true).isEmpty());
+    }
+
+    @Test
+    void testSuggestLocations_CitiesPostalCodesAndStreets() {
+        assertEquals(List.of("Boston", "South Boston"), engine.suggestLocations("bo", 5));
+        assertEquals(List.of("02116", "02118"), engine.suggestLocations("0211", 5));
+        assertEquals(List.of("p1 Harbor Street"), engine.suggestLocations("P1 HARB", 5)); // No house number to drop
+    }
+
+    @Test
+    void testFindProperties_LocationTracksUpdates() {
+        // Arrange
+        Property moved = property("p3", "Apartment", "Somerville", "02143", "420000.00", 3, 2, true, false, 3);
+        Filter filter = new Filter();
+        filter.setLocation("cambridge");
+
+        // Act
+        engine.upsert(moved);
+
+        // Assert
+        assertTrue(engine.findProperties(filter).isEmpty());
+        filter.setLocation("somer");
+        assertEquals(List.of("p3"), ids(engine.findProperties(filter)));
+        assertTrue(engine.suggestLocations("som", 5).contains("Somerville"));
+        assertTrue(engine.suggestLocations("cam", 5).isEmpty());
+    }
+
+    @Test
+    void testFindProperties_SortAndLimit() {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setSortBy(Filter.SortField.PRICE);
+        filter.setSortDirection(SortDirection.DESC);
+        filter.setLimit(2);
+
+        // Act & Assert
+        assertEquals(List.of("p2", "p3"), ids(engine.findProperties(filter)));
+        filter.setSortDirection(null); // Cheapest first
+        assertEquals(List.of("p5", "p1"), ids(engine.findProperties(filter)));
+        filter.setSortBy(Filter.SortField.CREATED_AT);
+        filter.setSortDirection(SortDirection.ASC);
+        filter.setLimit(null);
+        assertEquals(List.of("p1", "p2", "p3", "p4", "p5"), ids(engine.findProperties(filter)));
+    }
+
+    @Test
+    void testSearchProperties_SortedAndLimited() {
+        assertEquals(List.of("p1", "p3"), ids(engine.searchProperties(null, null, null, null,
+                Filter.SortField.PRICE, null, 2)));
+        assertEquals(List.of("p3", "p2", "p1"), ids(engine.searchProperties(null, null, null, null, null, null, 0)));
+    }
+
+    @Test
+    void testRankProperties_BestMatchesOfTheFilterAsCopies() {
+        // Arrange
+        Filter filter = new Filter();
+        filter.setLocation("boston");
+        filter.setMinPrice(new BigDecimal("300000"));
+        filter.setMaxPrice(new BigDecimal("400000"));
+
+        // Act
+        PropertyRanker.Ranking ranking = engine.rankProperties(filter, 2, new PropertyRanker());
+        ranking.getProperties().get(0).setCity("Changed");
+
+        // Assert
+        assertEquals(List.of("p1", "p4"), ids(ranking.getProperties())); // 350k is the midpoint; p5 at 300k is farthest
+        assertEquals(3, ranking.getExamined());
+        assertTrue(ranking.isComplete());
+        assertTrue(engine.findProperties(filter).stream().noneMatch(p -> "Changed".equals(p.getCity())));
+    }
+
+    @Test
+    void testFindProperties_UnknownTypeMatchesNothing() {
+        Filter filter = new Filter();
+        filter.setPropertyType("Castle");
+        assertTrue(engine.findProperties(filter).isEmpty());
+    }
+
+    @Test
+    void testSearchProperties_ActiveUnsoldOnly_LocationMatchesAddress() {
+        assertEquals(List.of("p3", "p2", "p1"), ids(engine.searchProperties(null, null, null, null)));
+        assertEquals(List.of("p2"), ids(engine.searchProperties(null, null, null, "p2 harbor")));
+        assertEquals(List.of("p3", "p1"), ids(engine.searchProperties("Apartment", 300000.0, 500000.0, "")));
+    }
+
+    @Test
+    void testSearchPropertySummaries_SameRowsAsSearch() {
+        List<PropertySummary> summaries = engine.searchPropertySummaries("House", null, null, "boston");
+        assertEquals(1, summaries.size());
+        assertEquals("p2", summaries.get(0).getPropertyId());
+        assertEquals(new BigDecimal("650000.00"), summaries.get(0).getPrice());
+    }
+
+    @Test
+    void testUpsert_ReplacesIndexedVersion() {
+        // Arrange
+        Property moved = property("p1", "House", "Somerville", "02143", "500000.00", 2, 1, true, false, 1);
+
+        // Act
+        engine.upsert(moved);
+
+        // Assert
+        Filter boston = new Filter();
+        boston.setLocation("Boston");
+        assertFalse(ids(engine.findProperties(boston)).contains("p1"));
+        Filter houses = new Filter();
+        houses.setPropertyType("House");
+        assertEquals(List.of("p2", "p1"), ids(engine.findProperties(houses)));
+        assertEquals(5, engine.size());
+    }
+
+    @Test
+    void testRemove_ReusesDocumentSlot() {
+        assertTrue(engine.remove("p2"));
+        assertFalse(engine.remove("p2"));
+        engine.upsert(property("p6", "House", "Quincy", "02169", "500000.00", 3, 2, true, false, 6));
+
+        Filter houses = new Filter();
+        houses.setPropertyType("House");
+        assertEquals(List.of("p6"), ids(engine.findProperties(houses)));
+        assertEquals(5, engine.size());
+    }
+
+    @Test
+    void testPropertyWritten_RereadsFromSource() {
+        // Arrange
+        Property sold = property("p1", "Apartment", "Boston", "02118", "350000.00", 2, 1, false, true, 1);
+        when(mockSource.getPropertyById("p1")).thenReturn(sold);
+        when(mockSource.getPropertyById("p3")).thenReturn(null);
+
+        // Act
+        engine.propertyWritten("p1");
+        engine.propertyWritten("p3");
+
+        // Assert
+        assertEquals(List.of("p2"), ids(engine.searchProperties(null, null, null, null)));
+        assertEquals(4, engine.size());
+    }
+
+    @Test
+    void testPropertiesChanged_AppliesRows() {
+        engine.propertiesChanged(List.of(property("p7", "Condo", "Boston", "02115", "310000.00", 1, 1, true, false, 7)));
+        assertEquals("p7", engine.searchProperties("condo", null, null, null).get(0).getPropertyId());
+    }
+
+    @Test
+    void testFindProperties_ReturnsCopies() {
+        engine.findProperties(new Filter()).get(0).setCity("Changed");
+        assertEquals("Boston", engine.findProperties(new Filter()).get(0).getCity());
+    }
+
+    @Test
+    void testReload_StreamsEverythingFromSource() {
+        // Arrange
+        PropertySearchEngine fresh = new PropertySearchEngine(mockSource);
+        when(mockSource.streamProperties(any(Filter.class))).thenReturn(
+                Stream.of(property("p1", "House", "Boston", "02118", "1.00", 1, 1, true, false, 1)));
+
+        // Act
+        assertFalse(fresh.isLoaded());
+        fresh.reload();
+
+        // Assert
+        assertTrue(fresh.isLoaded());
+        assertEquals(1, fresh.size());
+    }
+
+    @Test
+    void testReload_WritesDuringLoadAreReadAgainAfterwards() {
+        // Arrange: the load query ran before p1 was sold and p2 was added by another instance
+        PropertySearchEngine fresh = new PropertySearchEngine(mockSource);
+        Property sold = property("p1", "House", "Boston", "02118", "1.00", 1, 1, false, true, 1);
+        Property added = property("p2", "Condo", "Boston", "02118", "2.00", 1, 1, true, false, 2);
+        when(mockSource.streamProperties(any(Filter.class))).thenAnswer(inv -> {
+            fresh.propertyWritten("p1");
+            fresh.propertiesChanged(List.of(added));
+            return Stream.of(property("p1", "House", "Boston", "02118", "1.00", 1, 1, true, false, 1));
+        });
+        when(mockSource.getPropertyById("p1")).thenReturn(sold);
+        when(mockSource.getPropertyById("p2")).thenReturn(added);
+
+        // Act
+        fresh.reload();
+
+        // Assert
+        assertEquals(2, fresh.size());
+        assertEquals(List.of("p2"), ids(fresh.searchProperties(null, null, null, null)));
+    }
+
+    @Test
+    void testReload_ThroughRepository_SoldButActiveRowExcludedFromSearch() throws SQLException {
+        // Arrange: one active listing already marked sold, read by the real repository and row mapper
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true, false, true, false);
+        when(rs.getString("property_id")).thenReturn("p1");
+        when(rs.getString("property_type")).thenReturn("House");
+        when(rs.getBoolean("is_active")).thenReturn(true);
+        when(rs.getBoolean("is_sold")).thenReturn(true);
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(T0));
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(ps.executeQuery()).thenReturn(rs);
+        Connection conn = mock(Connection.class);
+        when(conn.prepareStatement(anyString())).thenReturn(ps);
+        when(conn.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(ps);
+        IDatabaseConnector connector = mock(IDatabaseConnector.class);
+        when(connector.getConnection()).thenReturn(conn);
+        PropertySearchEngine fromDatabase = new PropertySearchEngine(new PropertyRepositoryImpl(connector));
+
+        // Act
+        fromDatabase.reload();
+        fromDatabase.propertyWritten("p1"); // Re-read by id goes through the same select list
+
+        // Assert
+        assertTrue(fromDatabase.findProperties(new Filter()).get(0).isSold());
+        assertTrue(fromDatabase.searchProperties(null, null, null, null).isEmpty());
+        assertTrue(fromDatabase.searchPropertySummaries(null, null, null, null).isEmpty());
+    }
+
+    @Test
+    void testLoad_GrowsBeyondInitialCapacity() {
+        engine.load(java.util.stream.IntStream.range(0, 3000).mapToObj(i ->
+                property("id" + i, "House", "Boston", "02118", "1000.00", 1, 1, true, false, i)));
+        Filter filter = new Filter();
+        filter.setLocation("boston");
+        assertEquals(3000, engine.findProperties(filter).size());
+    }
+
+    @Test
+    void testConstructor_NullSource() {
+        assertThrows(IllegalArgumentException.class, () -> new PropertySearchEngine(null));
+    }
+}
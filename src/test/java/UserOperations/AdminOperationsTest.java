@@ -19,6 +19,8 @@ import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -310,6 +312,50 @@ class AdminOperationsTest {
         verify(mockStatement).executeQuery("SELECT * FROM bids");
     }
 
+    @Test
+    void testStreamBids_StreamsRowsAndReleasesConnection() throws SQLException {
+        when(mockConnection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true, true, false);
+        when(mockResultSet.getString("bid_id")).thenReturn("B1", "B2");
+        when(mockResultSet.getTimestamp("bid_timestamp")).thenReturn(Timestamp.valueOf(LocalDateTime.now()));
+
+        List<String> ids;
+        try (Stream<Bid> bids = adminOperations.streamBids()) {
+            ids = bids.map(Bid::getBidId).collect(Collectors.toList());
+        }
+
+        assertEquals(List.of("B1", "B2"), ids);
+        verify(mockConnection).prepareStatement("SELECT * FROM bids", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        verify(mockPreparedStatement).setFetchSize(Integer.MIN_VALUE);
+        verify(mockConnection).close();
+    }
+
+    @Test
+    void testStreamProperties_StreamsRows() throws SQLException {
+        when(mockConnection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true, false);
+        when(mockResultSet.getString("property_id")).thenReturn("P1");
+
+        try (Stream<Property> properties = adminOperations.streamProperties()) {
+            assertEquals("P1", properties.findFirst().orElseThrow().getPropertyId());
+        }
+
+        verify(mockConnection).prepareStatement("SELECT * FROM properties", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        verify(mockConnection).close();
+    }
+
+    @Test
+    void testStreamBids_Failure_ThrowsException() throws SQLException {
+        when(mockConnection.prepareStatement(anyString(), anyInt(), anyInt())).thenThrow(new SQLException("DB error"));
+
+        Exception exception = assertThrows(RuntimeException.class, () -> adminOperations.streamBids());
+
+        assertEquals("Failed to stream bids", exception.getMessage());
+        verify(mockConnection).close();
+    }
+
     @Test
     void testGenerateReport_Success() throws SQLException {
         // Mocking the ResultSet for multiple calls to countRecords
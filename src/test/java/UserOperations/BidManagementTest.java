@@ -2,6 +2,9 @@ package UserOperations;
 
 import Data.connector.DatabaseConnectorImpl;
 import Data.domain.Bid;
+import Data.domain.BidQueryOptions;
+import Data.domain.SortDirection;
+import Data.repository.interfaces.IUserRepository;
 import UserOperations.BidManagement;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +14,7 @@ import java.math.BigDecimal;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -57,6 +61,17 @@ public class BidManagementTest {
         verify(mockPreparedStatement, times(1)).executeUpdate();
     }
 
+    @Test
+    public void testCreateBid_UnknownClient_RejectedBeforeInsert() throws Exception {
+        IUserRepository users = mock(IUserRepository.class);
+        when(users.getUserById("ghost")).thenReturn(Optional.empty());
+        BidManagement checked = new BidManagement(dbConnector, null, users);
+
+        assertThrows(RuntimeException.class, () -> checked.createBid("prop1", "ghost", 450000.00));
+
+        verify(dbConnector, never()).getConnection();
+    }
+
     @Test
     public void testUpdateBidSuccess() throws Exception {
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
@@ -130,4 +145,98 @@ public class BidManagementTest {
 
         assertTrue(ex.getMessage().contains("Bid not found"));
     }
+
+    @Test
+    public void testAcceptBid_RunsAllStepsInOneTransaction() throws Exception {
+        when(mockConnection.getAutoCommit()).thenReturn(true);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getString("property_id")).thenReturn("prop1");
+        when(mockResultSet.getString("status")).thenReturn("PENDING");
+        when(mockPreparedStatement.executeUpdate()).thenReturn(1);
+
+        boolean result = bidManagement.acceptBid("bid1", "land1");
+
+        assertTrue(result);
+        verify(dbConnector, times(1)).getConnection();
+        verify(mockConnection).prepareStatement(startsWith("UPDATE bids b"));
+        verify(mockConnection).prepareStatement(startsWith("UPDATE bids SET status = 'REJECTED'"));
+        verify(mockConnection).prepareStatement(startsWith("UPDATE properties SET is_sold = TRUE"));
+        verify(mockConnection, times(1)).commit();
+        verify(mockConnection, never()).rollback();
+    }
+
+    @Test
+    public void testAcceptBid_RollsBackWhenBidNotOwned() throws Exception {
+        when(mockConnection.getAutoCommit()).thenReturn(true);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getString("property_id")).thenReturn("prop1");
+        when(mockResultSet.getString("status")).thenReturn("PENDING");
+        when(mockPreparedStatement.executeUpdate()).thenReturn(0);
+
+        assertThrows(RuntimeException.class, () -> bidManagement.acceptBid("bid1", "landX"));
+
+        verify(mockConnection).rollback();
+        verify(mockConnection, never()).commit();
+        verify(mockConnection, never()).prepareStatement(startsWith("UPDATE properties"));
+    }
+
+    @Test
+    public void testAcceptBid_RollsBackWhenBidNoLongerPending() throws Exception {
+        when(mockConnection.getAutoCommit()).thenReturn(true);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getString("property_id")).thenReturn("prop1");
+        when(mockResultSet.getString("status")).thenReturn("REJECTED");
+
+        assertThrows(RuntimeException.class, () -> bidManagement.acceptBid("bid1", "land1"));
+
+        verify(mockConnection).rollback();
+        verify(mockConnection, never()).commit();
+        verify(mockPreparedStatement, never()).executeUpdate();
+    }
+
+    @Test
+    public void testGetBidsByLandlord_WithOptions_FiltersSortsAndLimitsInSql() throws Exception {
+        // Arrange
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(false);
+        BidQueryOptions options = new BidQueryOptions();
+        options.setStatus("PENDING");
+        options.setSortBy(BidQueryOptions.SortField.AMOUNT);
+        options.setSortDirection(SortDirection.ASC);
+        options.setLimit(20);
+
+        // Act
+        List<Bid> bids = bidManagement.getBidsByLandlord("land1", options);
+
+        // Assert
+        assertTrue(bids.isEmpty());
+        verify(mockConnection).prepareStatement(endsWith(
+                "WHERE p.landlord_id = ? AND b.status = ? ORDER BY b.amount ASC, b.bid_id ASC LIMIT ?"));
+        verify(mockPreparedStatement).setString(1, "land1");
+        verify(mockPreparedStatement).setString(2, "PENDING");
+        verify(mockPreparedStatement).setInt(3, 20);
+    }
+
+    @Test
+    public void testGetBidsByLandlord_DefaultOptions_NewestFirstUnlimited() throws Exception {
+        // Arrange
+        when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(false);
+
+        // Act
+        bidManagement.getBidsByLandlord("land1", null);
+
+        // Assert
+        verify(mockConnection).prepareStatement(endsWith(
+                "WHERE p.landlord_id = ? ORDER BY b.bid_timestamp DESC, b.bid_id DESC"));
+        verify(mockPreparedStatement, never()).setInt(anyInt(), anyInt());
+    }
 }
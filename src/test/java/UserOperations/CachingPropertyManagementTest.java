@@ -0,0 +1,141 @@
+package UserOperations;
+
+import Data.domain.Property;
+import Data.domain.PropertySummary;
+import Data.repository.interfaces.IPropertyRepository;
+import Data.search.PropertySearchEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
+
+// Unit tests for CachingPropertyManagement with a mocked delegate service.
+class CachingPropertyManagementTest {
+
+    private IPropertyManagement mockDelegate;
+    private CachingPropertyManagement service;
+
+    @BeforeEach
+    void setUp() {
+        mockDelegate = mock(IPropertyManagement.class);
+        service = new CachingPropertyManagement(mockDelegate);
+    }
+
+    private static Property property(String id) {
+        Property property = new Property();
+        property.setPropertyId(id);
+        property.setCity("Boston");
+        return property;
+    }
+
+    @Test
+    void testSearchProperties_RepeatSearchServedFromCache() {
+        // Arrange
+        when(mockDelegate.searchProperties("Apartment", null, 400000.0, "Boston")).thenReturn(List.of(property("p1")));
+
+        // Act
+        service.searchProperties("Apartment", null, 400000.0, "Boston");
+        List<Property> second = service.searchProperties("apartment", null, 400000.0, "boston");
+
+        // Assert
+        assertEquals("p1", second.get(0).getPropertyId());
+        verify(mockDelegate, times(1)).searchProperties(any(), any(), any(), any());
+        assertEquals(1, service.getSearchStats().getHits());
+    }
+
+    @Test
+    void testSearchProperties_ReturnsCopies() {
+        when(mockDelegate.searchProperties(null, null, null, null)).thenReturn(List.of(property("p1")));
+        service.searchProperties(null, null, null, null).get(0).setCity("Changed");
+        assertEquals("Boston", service.searchProperties(null, null, null, null).get(0).getCity());
+    }
+
+    @Test
+    void testSearchPropertySummaries_DifferentArgumentsNotShared() {
+        // Arrange
+        PropertySummary summary = new PropertySummary("p1", "House", BigDecimal.ONE, "Boston", 2, 1, BigDecimal.valueOf(90));
+        when(mockDelegate.searchPropertySummaries(any(), any(), any(), any())).thenReturn(List.of(summary));
+
+        // Act
+        service.searchPropertySummaries("House", null, null, null);
+        service.searchPropertySummaries("Condo", null, null, null);
+        service.getActivePropertySummaries();
+        service.getActivePropertySummaries();
+
+        // Assert
+        verify(mockDelegate, times(2)).searchPropertySummaries(any(), any(), any(), any());
+        verify(mockDelegate, times(1)).getActivePropertySummaries();
+    }
+
+    @Test
+    void testEditProperty_DropsCachedSearches() {
+        // Arrange
+        when(mockDelegate.getActiveProperties()).thenReturn(List.of(property("p1")));
+        service.getActiveProperties();
+
+        // Act
+        service.editProperty(property("p1"), "l1");
+        service.getActiveProperties();
+
+        // Assert
+        verify(mockDelegate).editProperty(any(), eq("l1"));
+        verify(mockDelegate, times(2)).getActiveProperties();
+    }
+
+    @Test
+    void testPropertyWritten_DropsCachedSearches() {
+        when(mockDelegate.getActiveProperties()).thenReturn(List.of());
+        service.getActiveProperties();
+        service.propertyWritten("p1");
+        service.getActiveProperties();
+        verify(mockDelegate, times(2)).getActiveProperties();
+    }
+
+    @Test
+    void testFailedWrite_StillDropsCachedSearches() {
+        // Arrange
+        when(mockDelegate.getActiveProperties()).thenReturn(List.of());
+        doThrow(new RuntimeException("Failed to update property")).when(mockDelegate).editProperty(any(), any());
+        service.getActiveProperties();
+
+        // Act
+        assertThrows(RuntimeException.class, () -> service.editProperty(property("p1"), "l1"));
+        service.getActiveProperties();
+
+        // Assert
+        verify(mockDelegate, times(2)).getActiveProperties();
+    }
+
+    @Test
+    void testPropertiesByLandlord_AlwaysDelegates() {
+        service.getPropertiesByLandlord("l1");
+        service.getPropertiesByLandlord("l1");
+        verify(mockDelegate, times(2)).getPropertiesByLandlord("l1");
+    }
+
+    @Test
+    void testSearchProperties_LoadedEngine_AnswersWithoutDelegate() {
+        // Arrange
+        PropertySearchEngine engine = new PropertySearchEngine(mock(IPropertyRepository.class));
+        Property listing = property("p1");
+        listing.setActive(true);
+        engine.load(Stream.of(listing));
+        CachingPropertyManagement withEngine = new CachingPropertyManagement(mockDelegate, engine);
+
+        // Act
+        List<Property> result = withEngine.searchProperties(null, null, null, "bost");
+
+        // Assert
+        assertEquals("p1", result.get(0).getPropertyId());
+        verify(mockDelegate, never()).searchProperties(any(), any(), any(), any());
+    }
+
+    @Test
+    void testConstructor_NullDelegate() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingPropertyManagement(null));
+    }
+}
@@ -2,6 +2,10 @@ package UserOperations;
 
 import Data.connector.DatabaseConnectorImpl;
 import Data.domain.Property;
+import Data.domain.PropertySummary;
+import Data.repository.impl.ActiveListingsSnapshot;
+import Data.repository.interfaces.IPropertyRepository;
+import Data.repository.interfaces.PropertyWriteListener;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -534,4 +538,121 @@ class PropertyManagementTest {
         verify(mockConnection, times(1)).close();
         verify(mockPreparedStatement, times(1)).close();
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getActivePropertySummaries_shouldSelectOnlyListColumns() throws SQLException {
+        when(mockResultSet.next()).thenReturn(true).thenReturn(false);
+        when(mockResultSet.getString("property_id")).thenReturn("p1");
+        when(mockResultSet.getString("city")).thenReturn("Anytown");
+        when(mockResultSet.getBigDecimal("price")).thenReturn(new BigDecimal("250000.00"));
+
+        List<PropertySummary> summaries = propertyManagement.getActivePropertySummaries();
+
+        assertEquals(1, summaries.size());
+        assertEquals("p1", summaries.get(0).getPropertyId());
+        assertEquals("Anytown", summaries.get(0).getCity());
+        verify(mockConnection).prepareStatement("SELECT property_id, property_type, price, city, bedrooms, bathrooms, " +
+                "square_footage FROM properties WHERE is_active = TRUE AND is_sold = FALSE");
+        verify(mockResultSet, never()).getString("description");
+        verify(mockConnection, times(1)).close();
+    }
+
+    @Test
+    void searchPropertySummaries_shouldApplyCriteria() throws SQLException {
+        when(mockResultSet.next()).thenReturn(false);
+
+        List<PropertySummary> summaries = propertyManagement.searchPropertySummaries("House", 1000.0, null, "Any");
+
+        assertTrue(summaries.isEmpty());
+        verify(mockConnection).prepareStatement(argThat(sql -> sql.startsWith("SELECT property_id, property_type")
+                && !sql.contains("description")
+                && sql.endsWith(" AND property_type = ? AND price >= ? AND (city LIKE ? OR address LIKE ?)"
+                        + " ORDER BY created_at DESC, property_id DESC")));
+        verify(mockPreparedStatement).setString(1, "House");
+        verify(mockPreparedStatement).setDouble(2, 1000.0);
+        verify(mockPreparedStatement).setString(3, "%Any%");
+        verify(mockPreparedStatement).setString(4, "%Any%");
+    }
+
+    @Test
+    void getPropertyById_shouldReturnFullProperty() throws SQLException {
+        when(mockResultSet.next()).thenReturn(true);
+        when(mockResultSet.getString("property_id")).thenReturn("p1");
+        when(mockResultSet.getString("description")).thenReturn("A nice house");
+
+        Property property = propertyManagement.getPropertyById("p1");
+
+        assertNotNull(property);
+        assertEquals("A nice house", property.getDescription());
+        verify(mockPreparedStatement).setString(1, "p1");
+    }
+
+    @Test
+    void getPropertyById_whenNotFound_shouldReturnNull() throws SQLException {
+        when(mockResultSet.next()).thenReturn(false);
+
+        assertNull(propertyManagement.getPropertyById("missing"));
+    }
+
+    @Test
+    void editProperty_shouldNotifyWriteListeners() {
+        PropertyWriteListener listener = mock(PropertyWriteListener.class);
+        propertyManagement.addWriteListener(listener);
+        Property property = new Property();
+        property.setPropertyId("p1");
+        property.setBedrooms(2);
+        property.setBathrooms(1);
+
+        propertyManagement.editProperty(property, "l1");
+
+        verify(listener).propertyWritten("p1");
+    }
+
+    @Test
+    void markPropertyAsSold_shouldNotifyWriteListeners() {
+        PropertyWriteListener listener = mock(PropertyWriteListener.class);
+        propertyManagement.addWriteListener(listener);
+
+        propertyManagement.markPropertyAsSold("p1", "l1");
+        propertyManagement.deactivateProperty("p2", "l1");
+
+        verify(listener).propertyWritten("p1");
+        verify(listener).propertyWritten("p2");
+    }
+
+    @Test
+    void failedWrite_shouldNotNotifyWriteListeners() throws SQLException {
+        PropertyWriteListener listener = mock(PropertyWriteListener.class);
+        propertyManagement.addWriteListener(listener);
+        when(mockPreparedStatement.executeUpdate()).thenThrow(new SQLException("Lock wait timeout"));
+
+        assertThrows(RuntimeException.class, () -> propertyManagement.markPropertyAsSold("p1", "l1"));
+
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    void getPropertyById_withReader_shouldNotQueryDirectly() throws SQLException {
+        IPropertyRepository reader = mock(IPropertyRepository.class);
+        Property cached = new Property();
+        when(reader.getPropertyById("p1")).thenReturn(cached);
+        PropertyManagement service = new PropertyManagement(mockDbConnector, reader);
+
+        assertSame(cached, service.getPropertyById("p1"));
+        verify(mockDbConnector, never()).getConnection();
+    }
+
+    @Test
+    void getActiveProperties_withSnapshot_shouldNotQueryDirectly() throws SQLException {
+        ActiveListingsSnapshot snapshot = mock(ActiveListingsSnapshot.class);
+        List<Property> listings = List.of(new Property());
+        when(snapshot.getActiveProperties()).thenReturn(listings);
+        PropertyManagement service = new PropertyManagement(mockDbConnector, null, snapshot);
+
+        assertSame(listings, service.getActiveProperties());
+        assertSame(listings, service.getProperties());
+        service.getActivePropertySummaries();
+        verify(snapshot).getActivePropertySummaries();
+        verify(mockDbConnector, never()).getConnection();
+    }
+}